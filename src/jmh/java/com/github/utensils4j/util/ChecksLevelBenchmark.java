@@ -0,0 +1,107 @@
+package com.github.utensils4j.util;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Shows that the debug checks of {@link Checks} are removed by the JIT
+ * compiler when disabled: the {@code *Off} benchmarks must perform as the
+ * baselines, while the {@code *Cheap} ones pay for the checks (the generated
+ * code can be compared with {@code -prof perfasm}). Run with:
+ *
+ * <pre>
+ * mvn -Pbenchmarks test-compile exec:exec -Dbenchmark=ChecksLevelBenchmark
+ * </pre>
+ *
+ * @author Andrea Binello
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChecksLevelBenchmark {
+    private int[] values;
+    private Object[] objects;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        values = new int[1024];
+        objects = new Object[1024];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1 + random.nextInt(1000);
+            objects[i] = Integer.valueOf(values[i]);
+        }
+    }
+
+    @Benchmark
+    public int baselinePositive() {
+        int sum = 0;
+        for (int value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = "-D" + CheckLevel.PROPERTY + "=OFF")
+    public int debugRequirePositiveOff() {
+        int sum = 0;
+        for (int value : values) {
+            sum += Checks.debugRequirePositive(value, "value");
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = "-D" + CheckLevel.PROPERTY + "=CHEAP")
+    public int debugRequirePositiveCheap() {
+        int sum = 0;
+        for (int value : values) {
+            sum += Checks.debugRequirePositive(value, "value");
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int baselineNotNull() {
+        int count = 0;
+        for (Object object : objects) {
+            count += object.hashCode();
+        }
+        return count;
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = "-D" + CheckLevel.PROPERTY + "=OFF")
+    public int debugRequireNotNullOff() {
+        int count = 0;
+        for (Object object : objects) {
+            count += Checks.debugRequireNotNull(object, "object").hashCode();
+        }
+        return count;
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = "-D" + CheckLevel.PROPERTY + "=CHEAP")
+    public int debugRequireNotNullCheap() {
+        int count = 0;
+        for (Object object : objects) {
+            count += Checks.debugRequireNotNull(object, "object").hashCode();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,267 @@
+package com.github.utensils4j.collect;
+
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.github.utensils4j.util.Checks;
+
+/**
+ * A scalable concurrent priority queue with <em>relaxed</em> ordering (a
+ * "MultiQueue"): the elements are distributed among many internal heaps,
+ * each one guarded by its own lock, and there is no global lock.
+ *
+ * <ul>
+ *   <li>{@link #offer(Object)} adds the element to a random heap whose lock
+ *       is free (acquired with {@code tryLock}, so a thread never waits for
+ *       another one while the other heaps are available).</li>
+ *   <li>{@link #poll()} picks two random heaps, compares their lowest elements
+ *       and removes the lower one.</li>
+ * </ul>
+ *
+ * <p>With many threads the throughput scales with the number of heaps (each
+ * heap is padded to its own cache lines, so the threads that work on
+ * different heaps don't invalidate each other's caches), in exchange of an
+ * approximate ordering: {@code poll} doesn't return necessarily the
+ * lowest element of the queue, but one that is among the lowest ones (on
+ * average among the lowest <i>O</i>(number of heaps)). With a single heap
+ * the ordering is exact. The elements are compared with a {@code Comparator},
+ * typically implemented with a {@link com.github.utensils4j.compare.Comparison}
+ * chain:
+ *
+ * <pre>{@code
+ * ConcurrentMultiQueue<Job> jobs = ConcurrentMultiQueue.create((a, b) -> Comparison.chain()
+ *         .descending(a.getPriority(), b.getPriority())
+ *         .ascending(a.getSubmitTime(), b.getSubmitTime())
+ *         .result());
+ * }</pre>
+ *
+ * <p>{@code poll} may return {@code null} when elements are being added
+ * concurrently, even if the queue was not empty at some point during the
+ * call. The {@link #size()} is exact only when there are no concurrent
+ * updates.
+ *
+ * @param  <E>  the type of the elements
+ * @author Andrea Binello
+ */
+public final class ConcurrentMultiQueue<E> {
+    /**
+     * The number of internal heaps per available processor, by default.
+     */
+    public static final int HEAPS_PER_PROCESSOR = 2;
+
+    private static final int HEAP_ARITY = 4;
+
+    private final Comparator<? super E> comparator;
+    private final Stripe<E>[] stripes;
+    private final LongAdder size = new LongAdder();
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private ConcurrentMultiQueue(Comparator<? super E> comparator, int heapCount) {
+        this.comparator = comparator;
+        stripes = new Stripe[heapCount];
+        for (int i = 0; i < heapCount; i++) {
+            stripes[i] = new Stripe<>(comparator);
+        }
+    }
+
+    /**
+     * Creates a new {@code ConcurrentMultiQueue} with
+     * {@value #HEAPS_PER_PROCESSOR} internal heaps per available processor.
+     *
+     * @param  <E>  the type of the elements
+     * @param  comparator  the {@code Comparator} that orders the elements
+     * @return the new {@code ConcurrentMultiQueue}
+     * @throws NullPointerException if {@code comparator} is {@code null}
+     */
+    public static <E> ConcurrentMultiQueue<E> create(Comparator<? super E> comparator) {
+        return create(comparator, HEAPS_PER_PROCESSOR * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new {@code ConcurrentMultiQueue} with the specified number of
+     * internal heaps. More heaps mean less contention and a more relaxed order.
+     *
+     * @param  <E>  the type of the elements
+     * @param  comparator  the {@code Comparator} that orders the elements
+     * @param  heapCount  the number of internal heaps
+     * @return the new {@code ConcurrentMultiQueue}
+     * @throws NullPointerException if {@code comparator} is {@code null}
+     * @throws IllegalArgumentException if {@code heapCount} is not positive
+     */
+    public static <E> ConcurrentMultiQueue<E> create(Comparator<? super E> comparator, int heapCount) {
+        Checks.requireNotNull(comparator, "comparator");
+        Checks.requirePositive(heapCount, "heapCount");
+        return new ConcurrentMultiQueue<>(comparator, heapCount);
+    }
+
+    /**
+     * Adds an element.
+     *
+     * @param  element  the element
+     * @throws NullPointerException if {@code element} is {@code null}
+     */
+    public void offer(E element) {
+        Checks.requireNotNull(element, "element");
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (;;) {
+            Stripe<E> stripe = stripes[random.nextInt(stripes.length)];
+            if (stripe.lock.tryLock()) {
+                try {
+                    stripe.heap.add(element);
+                    stripe.updateTop();
+                } finally {
+                    stripe.lock.unlock();
+                }
+                size.increment();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns one of the lowest elements: the lower of the
+     * lowest elements of two random internal heaps.
+     *
+     * @return the element, or {@code null} if the queue is empty
+     */
+    public E poll() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int n = stripes.length;
+
+        for (int attempt = 0; attempt < 2 * n; attempt++) {
+            Stripe<E> first = stripes[random.nextInt(n)];
+            Stripe<E> second = stripes[random.nextInt(n)];
+            E firstTop = first.top;
+            E secondTop = second.top;
+
+            Stripe<E> best;
+            if (firstTop == null) {
+                best = secondTop == null ? null : second;
+            } else {
+                best = secondTop == null || comparator.compare(firstTop, secondTop) <= 0 ? first : second;
+            }
+
+            if (best != null) {
+                E element = tryPoll(best);
+                if (element != null) {
+                    return element;
+                }
+            } else if (isEmpty()) {   // only reads the tops, doesn't touch the size counters
+                return null;
+            }
+        }
+        return pollAny();
+    }
+
+    /**
+     * Returns the number of elements. The result is exact only when there
+     * are no concurrent updates.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, size.sum()));
+    }
+
+    /**
+     * Tells whether the queue is empty (at the time each internal heap is
+     * checked).
+     *
+     * @return {@code true} if the queue is empty
+     */
+    public boolean isEmpty() {
+        for (Stripe<E> stripe : stripes) {
+            if (stripe.top != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentMultiQueue[heaps=" + stripes.length + ", size=" + size() + "]";
+    }
+
+
+    /*
+     * Scans all the heaps, when the random choices found only empty (or
+     * busy) ones.
+     */
+    private E pollAny() {
+        int start = ThreadLocalRandom.current().nextInt(stripes.length);
+
+        for (int i = 0; i < stripes.length; i++) {
+            Stripe<E> stripe = stripes[(start + i) % stripes.length];
+            if (stripe.top != null) {
+                stripe.lock.lock();
+                try {
+                    if (!stripe.heap.isEmpty()) {
+                        return removeTop(stripe);
+                    }
+                } finally {
+                    stripe.lock.unlock();
+                }
+            }
+        }
+        return null;
+    }
+
+    private E tryPoll(Stripe<E> stripe) {
+        if (stripe.lock.tryLock()) {
+            try {
+                if (!stripe.heap.isEmpty()) {
+                    return removeTop(stripe);
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return null;
+    }
+
+    private E removeTop(Stripe<E> stripe) {
+        E element = stripe.heap.poll();
+        stripe.updateTop();
+        size.decrement();
+        return element;
+    }
+
+
+    /*
+     * The fields of a stripe are surrounded by 64 bytes of padding on each
+     * side (through the class hierarchy, as the JVM doesn't reorder the
+     * fields across classes), so that the top of a heap and the state of
+     * the adjacent stripes are never in the same cache line.
+     */
+    @SuppressWarnings("unused")
+    private abstract static class StripeLeftPadding {
+        long p00, p01, p02, p03, p04, p05, p06, p07;
+    }
+
+    private abstract static class StripeFields<E> extends StripeLeftPadding {
+        final ReentrantLock lock = new ReentrantLock();
+        final DaryHeap<E> heap;
+        volatile E top;   // the lowest element, read without the lock
+
+        StripeFields(Comparator<? super E> comparator) {
+            heap = new DaryHeap<>(HEAP_ARITY, comparator);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Stripe<E> extends StripeFields<E> {
+        long p10, p11, p12, p13, p14, p15, p16, p17;
+
+        Stripe(Comparator<? super E> comparator) {
+            super(comparator);
+        }
+
+        void updateTop() {
+            top = heap.isEmpty() ? null : heap.peek();
+        }
+    }
+}
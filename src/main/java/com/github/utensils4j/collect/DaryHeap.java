@@ -0,0 +1,385 @@
+package com.github.utensils4j.collect;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+import com.github.utensils4j.util.Checks;
+
+/**
+ * A d-ary min-heap of objects ordered by a {@code Comparator}, typically
+ * implemented with a {@link com.github.utensils4j.compare.Comparison} chain:
+ *
+ * <pre>{@code
+ * DaryHeap<Task> tasks = new DaryHeap<>(4, (a, b) -> Comparison.chain()
+ *         .descending(a.getPriority(), b.getPriority())
+ *         .ascending(a.getDeadline(), b.getDeadline())
+ *         .result());
+ * int handle = tasks.add(task);
+ * ...
+ * tasks.update(handle, task);   // after a change of priority or deadline
+ * }</pre>
+ *
+ * <p>Each element added to the heap gets an {@code int} <em>handle</em>, that
+ * can be used to change its position in <i>O</i>(log<sub><i>d</i></sub>&nbsp;<i>n</i>)
+ * (see {@link #decreaseKey(int, Object)} and {@link #update(int, Object)}) or
+ * to remove it, without the linear search of {@link java.util.PriorityQueue}.
+ * The handle of an element is valid until the element is removed from the
+ * heap, after that it can be reused for another element. The arity is
+ * configurable: with an arity of 4 or 8 the heap is shallower and the children
+ * of a node are contiguous in memory, so there are fewer cache misses than
+ * with a binary heap.
+ *
+ * <p>The heap returns first the lowest element, according to the comparator.
+ * Equal elements are returned in an unspecified order.
+ *
+ * <p><strong>Note</strong>: this class is <strong>not</strong> thread-safe.
+ *
+ * @param  <E>  the type of the elements
+ * @author Andrea Binello
+ */
+public final class DaryHeap<E> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int arity;
+    private final Comparator<? super E> comparator;
+    private Object[] elements;   // by heap position
+    private int[] handles;       // by heap position
+    private int[] positions;     // by handle, -1 if the handle is free
+    private int[] freeHandles;   // stack of the free handles below handleCount
+    private int freeCount;
+    private int handleCount;
+    private int size;
+
+    /**
+     * Creates a new empty {@code DaryHeap}.
+     *
+     * @param  arity  the number of children of each node (from 2 to 64)
+     * @param  comparator  the {@code Comparator} that orders the elements
+     * @throws IllegalArgumentException if {@code arity} is out of range
+     * @throws NullPointerException if {@code comparator} is {@code null}
+     */
+    public DaryHeap(int arity, Comparator<? super E> comparator) {
+        this(arity, comparator, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty {@code DaryHeap} with an initial capacity (the
+     * capacity grows as needed).
+     *
+     * @param  arity  the number of children of each node (from 2 to 64)
+     * @param  comparator  the {@code Comparator} that orders the elements
+     * @param  initialCapacity  the initial capacity
+     * @throws IllegalArgumentException if {@code arity} is out of range or
+     *         {@code initialCapacity} is negative
+     * @throws NullPointerException if {@code comparator} is {@code null}
+     */
+    public DaryHeap(int arity, Comparator<? super E> comparator, int initialCapacity) {
+        this.arity = Checks.requireInRange(arity, 2, 64, "arity");
+        this.comparator = Checks.requireNotNull(comparator, "comparator");
+        Checks.requireNonNegative(initialCapacity, "initialCapacity");
+        elements = new Object[initialCapacity];
+        handles = new int[initialCapacity];
+        positions = new int[initialCapacity];
+        freeHandles = new int[initialCapacity];
+    }
+
+    /**
+     * Creates a new {@code DaryHeap} containing the specified elements, that
+     * get the handles from 0 to {@code elements.size() - 1} in iteration
+     * order. The heap is built in <i>O</i>(<i>n</i>), that is faster than
+     * adding the elements one by one.
+     *
+     * @param  <E>  the type of the elements
+     * @param  arity  the number of children of each node (from 2 to 64)
+     * @param  comparator  the {@code Comparator} that orders the elements
+     * @param  elements  the elements
+     * @return the new {@code DaryHeap}
+     * @throws IllegalArgumentException if {@code arity} is out of range
+     * @throws NullPointerException if {@code comparator} or {@code elements}
+     *         is {@code null}
+     */
+    public static <E> DaryHeap<E> heapify(int arity, Comparator<? super E> comparator,
+            Collection<? extends E> elements) {
+        Checks.requireNotNull(elements, "elements");
+        Object[] array = elements.toArray();
+        DaryHeap<E> heap = new DaryHeap<>(arity, comparator, array.length);
+        int n = array.length;
+
+        System.arraycopy(array, 0, heap.elements, 0, n);
+        for (int i = 0; i < n; i++) {
+            heap.handles[i] = i;
+            heap.positions[i] = i;
+        }
+        heap.handleCount = n;
+        heap.size = n;
+
+        for (int pos = (n - 2) / arity; pos >= 0 && n > 1; pos--) {
+            heap.siftDown(pos, heap.handles[pos], heap.elements[pos]);
+        }
+        return heap;
+    }
+
+    /**
+     * Adds an element.
+     *
+     * @param  element  the element
+     * @return the handle of the element
+     */
+    public int add(E element) {
+        if (size == elements.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, size * 2);
+            elements = Arrays.copyOf(elements, capacity);
+            handles = Arrays.copyOf(handles, capacity);
+        }
+
+        int handle;
+        if (freeCount > 0) {
+            handle = freeHandles[--freeCount];
+        } else {
+            if (handleCount == positions.length) {
+                int capacity = Math.max(DEFAULT_CAPACITY, handleCount * 2);
+                positions = Arrays.copyOf(positions, capacity);
+                freeHandles = Arrays.copyOf(freeHandles, capacity);
+            }
+            handle = handleCount++;
+        }
+
+        siftUp(size++, handle, element);
+        return handle;
+    }
+
+    /**
+     * Replaces the element of a handle with a lower (or equal) element, for
+     * example the same mutable element after a change that moved it forward
+     * in the order.
+     *
+     * @param  handle  the handle
+     * @param  element  the new element, not greater than the current one
+     * @throws IllegalArgumentException if the handle is not valid or the
+     *         element is greater than the current one
+     */
+    public void decreaseKey(int handle, E element) {
+        int pos = requirePosition(handle);
+
+        if (element != elements[pos] && comparator.compare(element, elementAt(pos)) > 0) {
+            throw new IllegalArgumentException("element must be not greater than the current one");
+        }
+        siftUp(pos, handle, element);
+    }
+
+    /**
+     * Replaces the element of a handle with any element, for example the
+     * same mutable element after a change that moved it forward or backward
+     * in the order.
+     *
+     * @param  handle  the handle
+     * @param  element  the new element
+     * @throws IllegalArgumentException if the handle is not valid
+     */
+    public void update(int handle, E element) {
+        int pos = requirePosition(handle);
+        reposition(pos, handle, element);
+    }
+
+    /**
+     * Removes the element of a handle, that becomes invalid.
+     *
+     * @param  handle  the handle
+     * @return the removed element
+     * @throws IllegalArgumentException if the handle is not valid
+     */
+    public E remove(int handle) {
+        int pos = requirePosition(handle);
+        E element = elementAt(pos);
+        release(handle);
+
+        int last = --size;
+        if (pos != last) {
+            reposition(pos, handles[last], elements[last]);
+        }
+        elements[last] = null;
+        return element;
+    }
+
+    /**
+     * Tells whether a handle is valid (its element is in the heap).
+     *
+     * @param  handle  the handle
+     * @return {@code true} if the handle is valid
+     */
+    public boolean contains(int handle) {
+        return position(handle) >= 0;
+    }
+
+    /**
+     * Returns the element of a handle.
+     *
+     * @param  handle  the handle
+     * @return the element
+     * @throws IllegalArgumentException if the handle is not valid
+     */
+    public E get(int handle) {
+        return elementAt(requirePosition(handle));
+    }
+
+    /**
+     * Returns the lowest element, without removing it.
+     *
+     * @return the lowest element
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public E peek() {
+        requireNotEmpty();
+        return elementAt(0);
+    }
+
+    /**
+     * Returns the handle of the lowest element.
+     *
+     * @return the handle of the lowest element
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int peekHandle() {
+        requireNotEmpty();
+        return handles[0];
+    }
+
+    /**
+     * Removes and returns the lowest element.
+     *
+     * @return the lowest element
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public E poll() {
+        requireNotEmpty();
+        E element = elementAt(0);
+        release(handles[0]);
+
+        int last = --size;
+        if (last > 0) {
+            siftDown(0, handles[last], elements[last]);
+        }
+        elements[last] = null;
+        return element;
+    }
+
+    /**
+     * Returns the number of elements in the heap.
+     *
+     * @return the size of the heap
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Tells whether the heap is empty.
+     *
+     * @return {@code true} if the heap is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all the elements from the heap, invalidating all the handles.
+     */
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+        handleCount = 0;
+        freeCount = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "DaryHeap[arity=" + arity + ", size=" + size + "]";
+    }
+
+
+    private void reposition(int pos, int handle, Object element) {
+        if (pos > 0 && compare(element, elements[(pos - 1) / arity]) < 0) {
+            siftUp(pos, handle, element);
+        } else {
+            siftDown(pos, handle, element);
+        }
+    }
+
+    private void siftUp(int pos, int handle, Object element) {
+        while (pos > 0) {
+            int parent = (pos - 1) / arity;
+            if (compare(element, elements[parent]) >= 0) {
+                break;
+            }
+            place(pos, handles[parent], elements[parent]);
+            pos = parent;
+        }
+        place(pos, handle, element);
+    }
+
+    private void siftDown(int pos, int handle, Object element) {
+        int n = size;
+        int lastParent = (n - 2) / arity;   // the children of pos are at pos * arity + 1 ...
+
+        while (n > 1 && pos <= lastParent) {
+            int first = pos * arity + 1;
+            int end = Math.min(first + arity, n);
+            int best = first;
+            Object bestElement = elements[first];
+
+            for (int child = first + 1; child < end; child++) {
+                if (compare(elements[child], bestElement) < 0) {
+                    best = child;
+                    bestElement = elements[child];
+                }
+            }
+            if (compare(bestElement, element) >= 0) {
+                break;
+            }
+            place(pos, handles[best], bestElement);
+            pos = best;
+        }
+        place(pos, handle, element);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(Object left, Object right) {
+        return comparator.compare((E) left, (E) right);
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(int pos) {
+        return (E) elements[pos];
+    }
+
+    private void place(int pos, int handle, Object element) {
+        elements[pos] = element;
+        handles[pos] = handle;
+        positions[handle] = pos;
+    }
+
+    private void release(int handle) {
+        positions[handle] = -1;
+        freeHandles[freeCount++] = handle;
+    }
+
+    private int position(int handle) {
+        return handle >= 0 && handle < handleCount ? positions[handle] : -1;
+    }
+
+    private int requirePosition(int handle) {
+        int pos = position(handle);
+        if (pos < 0) {
+            throw new IllegalArgumentException("invalid handle: " + handle);
+        }
+        return pos;
+    }
+
+    private void requireNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("heap is empty");
+        }
+    }
+}
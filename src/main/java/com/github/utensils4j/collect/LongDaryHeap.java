@@ -0,0 +1,371 @@
+package com.github.utensils4j.collect;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import com.github.utensils4j.util.Checks;
+
+/**
+ * A d-ary min-heap of {@code int} ids with {@code long} priorities, for
+ * example the nodes of a graph with their distances in the Dijkstra
+ * algorithm. The ids are non-negative integers chosen by the caller (they
+ * should be dense, since the position of each id is kept in an array indexed
+ * by id) and they act as handles for {@link #decreaseKey(int, long)},
+ * {@link #update(int, long)} and {@link #remove(int)}.
+ *
+ * <p>Compared to {@link java.util.PriorityQueue}, the priorities are not
+ * boxed (ids and priorities are stored in parallel arrays), the position of
+ * each id is tracked so that the priority can be changed in
+ * <i>O</i>(log<sub><i>d</i></sub>&nbsp;<i>n</i>), and the arity is
+ * configurable: with an arity of 4 or 8 the heap is shallower and the
+ * children of a node are contiguous in memory, that usually is faster than a
+ * binary heap, above all when there are many decrease-key operations.
+ *
+ * <p>The priorities are compared as {@code long} values: the heap returns
+ * first the id with the lowest priority. Ids with the same priority are
+ * returned in an unspecified order.
+ *
+ * <p><strong>Note</strong>: this class is <strong>not</strong> thread-safe.
+ *
+ * @author Andrea Binello
+ */
+public final class LongDaryHeap {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int arity;
+    private long[] priorities;   // by heap position
+    private int[] ids;           // by heap position
+    private int[] positions;     // by id, -1 if the id is not in the heap
+    private int size;
+
+    /**
+     * Creates a new empty {@code LongDaryHeap}.
+     *
+     * @param  arity  the number of children of each node (from 2 to 64)
+     * @throws IllegalArgumentException if {@code arity} is out of range
+     */
+    public LongDaryHeap(int arity) {
+        this(arity, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty {@code LongDaryHeap}, with an initial capacity for
+     * the ids from 0 to {@code idCapacity - 1} (the capacity grows as needed).
+     *
+     * @param  arity  the number of children of each node (from 2 to 64)
+     * @param  idCapacity  the initial capacity
+     * @throws IllegalArgumentException if {@code arity} is out of range or
+     *         {@code idCapacity} is negative
+     */
+    public LongDaryHeap(int arity, int idCapacity) {
+        this.arity = Checks.requireInRange(arity, 2, 64, "arity");
+        Checks.requireNonNegative(idCapacity, "idCapacity");
+        priorities = new long[idCapacity];
+        ids = new int[idCapacity];
+        positions = new int[idCapacity];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Creates a new {@code LongDaryHeap} containing the ids from 0 to
+     * {@code priorities.length - 1}, with the specified priorities. The heap
+     * is built in <i>O</i>(<i>n</i>), that is faster than adding the ids one
+     * by one.
+     *
+     * @param  arity  the number of children of each node (from 2 to 64)
+     * @param  priorities  the priorities, by id
+     * @return the new {@code LongDaryHeap}
+     * @throws NullPointerException if {@code priorities} is {@code null}
+     * @throws IllegalArgumentException if {@code arity} is out of range
+     */
+    public static LongDaryHeap heapify(int arity, long[] priorities) {
+        Checks.requireNotNull(priorities, "priorities");
+        LongDaryHeap heap = new LongDaryHeap(arity, priorities.length);
+        int n = priorities.length;
+
+        System.arraycopy(priorities, 0, heap.priorities, 0, n);
+        for (int i = 0; i < n; i++) {
+            heap.ids[i] = i;
+            heap.positions[i] = i;
+        }
+        heap.size = n;
+
+        for (int pos = (n - 2) / arity; pos >= 0 && n > 1; pos--) {
+            heap.siftDown(pos, heap.ids[pos], heap.priorities[pos]);
+        }
+        return heap;
+    }
+
+    /**
+     * Adds an id with a priority.
+     *
+     * @param  id  the id (non-negative)
+     * @param  priority  the priority
+     * @throws IllegalArgumentException if {@code id} is negative or it's
+     *         already in the heap
+     */
+    public void add(int id, long priority) {
+        Checks.requireNonNegative(id, "id");
+        ensureIdCapacity(id);
+        if (positions[id] >= 0) {
+            throw new IllegalArgumentException("id already in the heap: " + id);
+        }
+        if (size == ids.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, size * 2);
+            priorities = Arrays.copyOf(priorities, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+        }
+        siftUp(size++, id, priority);
+    }
+
+    /**
+     * Adds an id with a priority or, if the id is already in the heap,
+     * decreases its priority when the new one is lower (the typical
+     * "relaxation" of the Dijkstra algorithm).
+     *
+     * @param  id  the id (non-negative)
+     * @param  priority  the priority
+     * @return {@code true} if the id was added or its priority was decreased
+     * @throws IllegalArgumentException if {@code id} is negative
+     */
+    public boolean addOrDecrease(int id, long priority) {
+        int pos = position(id);
+
+        if (pos < 0) {
+            add(id, priority);
+            return true;
+        }
+        if (priority < priorities[pos]) {
+            siftUp(pos, id, priority);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Decreases the priority of an id.
+     *
+     * @param  id  the id
+     * @param  priority  the new priority, not greater than the current one
+     * @throws IllegalArgumentException if the id is not in the heap or the
+     *         priority is greater than the current one
+     */
+    public void decreaseKey(int id, long priority) {
+        int pos = requirePosition(id);
+
+        if (priority > priorities[pos]) {
+            throw new IllegalArgumentException("priority must be not greater than "
+                    + priorities[pos] + ", actual: " + priority);
+        }
+        siftUp(pos, id, priority);
+    }
+
+    /**
+     * Changes the priority of an id, that can be lower or greater than the
+     * current one.
+     *
+     * @param  id  the id
+     * @param  priority  the new priority
+     * @throws IllegalArgumentException if the id is not in the heap
+     */
+    public void update(int id, long priority) {
+        int pos = requirePosition(id);
+
+        if (priority < priorities[pos]) {
+            siftUp(pos, id, priority);
+        } else {
+            siftDown(pos, id, priority);
+        }
+    }
+
+    /**
+     * Removes an id from the heap.
+     *
+     * @param  id  the id
+     * @return {@code true} if the id was in the heap
+     */
+    public boolean remove(int id) {
+        int pos = position(id);
+        if (pos < 0) {
+            return false;
+        }
+
+        positions[id] = -1;
+        int last = --size;
+        if (pos != last) {
+            int lastId = ids[last];
+            long lastPriority = priorities[last];
+            if (pos > 0 && lastPriority < priorities[(pos - 1) / arity]) {
+                siftUp(pos, lastId, lastPriority);
+            } else {
+                siftDown(pos, lastId, lastPriority);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tells whether an id is in the heap.
+     *
+     * @param  id  the id
+     * @return {@code true} if the id is in the heap
+     */
+    public boolean contains(int id) {
+        return position(id) >= 0;
+    }
+
+    /**
+     * Returns the priority of an id.
+     *
+     * @param  id  the id
+     * @return the priority
+     * @throws IllegalArgumentException if the id is not in the heap
+     */
+    public long priority(int id) {
+        return priorities[requirePosition(id)];
+    }
+
+    /**
+     * Returns the id with the lowest priority, without removing it.
+     *
+     * @return the id with the lowest priority
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int peekId() {
+        requireNotEmpty();
+        return ids[0];
+    }
+
+    /**
+     * Returns the lowest priority.
+     *
+     * @return the lowest priority
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long peekPriority() {
+        requireNotEmpty();
+        return priorities[0];
+    }
+
+    /**
+     * Removes and returns the id with the lowest priority.
+     *
+     * @return the id with the lowest priority
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int pollId() {
+        requireNotEmpty();
+        int id = ids[0];
+        positions[id] = -1;
+
+        int last = --size;
+        if (last > 0) {
+            siftDown(0, ids[last], priorities[last]);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the number of ids in the heap.
+     *
+     * @return the size of the heap
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Tells whether the heap is empty.
+     *
+     * @return {@code true} if the heap is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all the ids from the heap.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[ids[i]] = -1;
+        }
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "LongDaryHeap[arity=" + arity + ", size=" + size + "]";
+    }
+
+
+    private void siftUp(int pos, int id, long priority) {
+        while (pos > 0) {
+            int parent = (pos - 1) / arity;
+            if (priority >= priorities[parent]) {
+                break;
+            }
+            place(pos, ids[parent], priorities[parent]);
+            pos = parent;
+        }
+        place(pos, id, priority);
+    }
+
+    private void siftDown(int pos, int id, long priority) {
+        int n = size;
+        int lastParent = (n - 2) / arity;   // the children of pos are at pos * arity + 1 ...
+
+        while (n > 1 && pos <= lastParent) {
+            int first = pos * arity + 1;
+            int end = Math.min(first + arity, n);
+            int best = first;
+            long bestPriority = priorities[first];
+
+            for (int child = first + 1; child < end; child++) {
+                if (priorities[child] < bestPriority) {
+                    best = child;
+                    bestPriority = priorities[child];
+                }
+            }
+            if (bestPriority >= priority) {
+                break;
+            }
+            place(pos, ids[best], bestPriority);
+            pos = best;
+        }
+        place(pos, id, priority);
+    }
+
+    private void place(int pos, int id, long priority) {
+        ids[pos] = id;
+        priorities[pos] = priority;
+        positions[id] = pos;
+    }
+
+    private int position(int id) {
+        return id >= 0 && id < positions.length ? positions[id] : -1;
+    }
+
+    private int requirePosition(int id) {
+        int pos = position(id);
+        if (pos < 0) {
+            throw new IllegalArgumentException("id not in the heap: " + id);
+        }
+        return pos;
+    }
+
+    private void ensureIdCapacity(int id) {
+        if (id >= positions.length) {
+            int oldLength = positions.length;
+            int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max((long) id + 1, oldLength * 2L));
+            positions = Arrays.copyOf(positions, capacity);
+            Arrays.fill(positions, oldLength, capacity, -1);
+        }
+    }
+
+    private void requireNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("heap is empty");
+        }
+    }
+}
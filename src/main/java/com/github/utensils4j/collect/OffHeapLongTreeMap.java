@@ -0,0 +1,820 @@
+package com.github.utensils4j.collect;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import com.github.utensils4j.util.Checks;
+
+/**
+ * An ordered map from {@code long} keys to {@code long} values, stored
+ * off-heap as a B+tree in pages of direct {@code ByteBuffer}s. The entries
+ * cost no objects and no GC-managed memory (for comparison, a
+ * {@code TreeMap<Long, Long>} needs about 64 bytes of heap per entry):
+ * each entry takes 16 bytes in a leaf page, plus the free space of the
+ * pages and the inner pages (a few percent).
+ *
+ * <p>The keys are ordered as {@link com.github.utensils4j.compare.Comparison#ascending(long, long)}
+ * (map created with {@link #ascending(long)}) or as
+ * {@link com.github.utensils4j.compare.Comparison#descending(long, long)}
+ * (map created with {@link #descending(long)}). The keys are stored
+ * <em>normalized</em> (complemented for the descending order), so that the
+ * searches are always a plain signed comparison. "Lower", "higher",
+ * {@linkplain #floor(long) floor} and {@linkplain #ceiling(long) ceiling}
+ * always refer to the order of the map.
+ *
+ * <p>The pages are allocated in chunks of about 1&nbsp;MiB, up to a
+ * <em>memory budget</em> fixed at creation: an insertion that needs more
+ * pages than the budget allows fails with an {@code IllegalStateException}
+ * and leaves the map unchanged. The removal of entries never merges pages,
+ * the memory is released only by {@link #clear()} (when the garbage
+ * collector frees the buffers).
+ *
+ * <p>The values can be for example indexes, offsets or handles of the
+ * data, that can live off-heap too.
+ *
+ * <p><strong>Note</strong>: this class is <strong>not</strong> thread-safe.
+ *
+ * @author Andrea Binello
+ */
+public final class OffHeapLongTreeMap {
+    /**
+     * The default size of a page, in bytes.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 4096;
+
+    private static final int CHUNK_SIZE = 1 << 20;
+    private static final int NONE = -1;
+
+    // page header
+    private static final int TYPE = 0;
+    private static final int COUNT = 4;
+    private static final int NEXT = 8;    // leaf only
+    private static final int PREV = 12;   // leaf only
+    private static final int HEADER = 16;
+
+    private static final int LEAF = 0;
+    private static final int INNER = 1;
+
+    private final boolean descending;
+    private final long memoryBudget;
+    private final int pageSize;
+    private final int leafCapacity;
+    private final int innerCapacity;
+    private final int pagesPerChunk;
+    private final int maxPages;
+
+    private ByteBuffer[] chunks = new ByteBuffer[4];
+    private int pageCount;
+    private int root = NONE;
+    private int height;   // 1 if the root is a leaf
+    private int firstLeaf = NONE;
+    private int lastLeaf = NONE;
+    private long size;
+    private int modCount;
+
+    // path of the last descent, by level (0 is the root)
+    private int[] pathPages = new int[8];
+    private int[] pathIndexes = new int[8];
+
+    // scratch space for the splits
+    private final long[] scratchKeys;
+    private final long[] scratchValues;
+    private final int[] scratchChildren;
+
+    private OffHeapLongTreeMap(boolean descending, long memoryBudget, int pageSize) {
+        this.descending = descending;
+        this.pageSize = Checks.requireInRange(pageSize, 256, CHUNK_SIZE, "pageSize");
+        this.memoryBudget = Checks.requireInRange(memoryBudget, pageSize, Long.MAX_VALUE, "memoryBudget");
+        this.leafCapacity = (pageSize - HEADER) / 16;
+        this.innerCapacity = (pageSize - HEADER - 4) / 12;
+        this.pagesPerChunk = CHUNK_SIZE / pageSize;
+        this.maxPages = (int) Math.min(memoryBudget / pageSize, Integer.MAX_VALUE - 1);
+        this.scratchKeys = new long[Math.max(leafCapacity, innerCapacity) + 1];
+        this.scratchValues = new long[leafCapacity + 1];
+        this.scratchChildren = new int[innerCapacity + 2];
+    }
+
+    /**
+     * Creates a new empty map with the keys in ascending order, with the
+     * default page size.
+     *
+     * @param  memoryBudget  the maximum number of bytes of the pages
+     * @return the new map
+     * @throws IllegalArgumentException if {@code memoryBudget} is less than the page size
+     */
+    public static OffHeapLongTreeMap ascending(long memoryBudget) {
+        return new OffHeapLongTreeMap(false, memoryBudget, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Creates a new empty map with the keys in ascending order.
+     *
+     * @param  memoryBudget  the maximum number of bytes of the pages
+     * @param  pageSize  the size of a page, in bytes (from 256 to 1 MiB)
+     * @return the new map
+     * @throws IllegalArgumentException if {@code pageSize} is out of range or
+     *         {@code memoryBudget} is less than {@code pageSize}
+     */
+    public static OffHeapLongTreeMap ascending(long memoryBudget, int pageSize) {
+        return new OffHeapLongTreeMap(false, memoryBudget, pageSize);
+    }
+
+    /**
+     * Creates a new empty map with the keys in descending order, with the
+     * default page size.
+     *
+     * @param  memoryBudget  the maximum number of bytes of the pages
+     * @return the new map
+     * @throws IllegalArgumentException if {@code memoryBudget} is less than the page size
+     */
+    public static OffHeapLongTreeMap descending(long memoryBudget) {
+        return new OffHeapLongTreeMap(true, memoryBudget, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Creates a new empty map with the keys in descending order.
+     *
+     * @param  memoryBudget  the maximum number of bytes of the pages
+     * @param  pageSize  the size of a page, in bytes (from 256 to 1 MiB)
+     * @return the new map
+     * @throws IllegalArgumentException if {@code pageSize} is out of range or
+     *         {@code memoryBudget} is less than {@code pageSize}
+     */
+    public static OffHeapLongTreeMap descending(long memoryBudget, int pageSize) {
+        return new OffHeapLongTreeMap(true, memoryBudget, pageSize);
+    }
+
+    /**
+     * A consumer of the entries of the map.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        /**
+         * Consumes an entry.
+         *
+         * @param  key  the key
+         * @param  value  the value
+         */
+        void accept(long key, long value);
+    }
+
+    /**
+     * A position on an entry of the map, that can move forward in the order
+     * of the map. A cursor is invalidated by any insertion or removal of
+     * keys (but not by {@link #setValue(long)}), after that its methods
+     * throw {@code ConcurrentModificationException}.
+     */
+    public final class Cursor {
+        private int page;
+        private int index;
+        private int expectedModCount = modCount;
+
+        Cursor(int page, int index) {
+            this.page = page;
+            this.index = index;
+        }
+
+        /**
+         * Returns the key of the current entry.
+         *
+         * @return the key
+         * @throws NoSuchElementException if the cursor moved past the last entry
+         */
+        public long key() {
+            checkValid();
+            return denormalize(leafKey(page, index));
+        }
+
+        /**
+         * Returns the value of the current entry.
+         *
+         * @return the value
+         * @throws NoSuchElementException if the cursor moved past the last entry
+         */
+        public long value() {
+            checkValid();
+            return leafValue(page, index);
+        }
+
+        /**
+         * Replaces the value of the current entry.
+         *
+         * @param  value  the new value
+         * @throws NoSuchElementException if the cursor moved past the last entry
+         */
+        public void setValue(long value) {
+            checkValid();
+            setLeafValue(page, index, value);
+        }
+
+        /**
+         * Moves to the next entry, in the order of the map.
+         *
+         * @return {@code true} if there is a next entry, {@code false} if the
+         *         cursor moved past the last entry
+         */
+        public boolean next() {
+            checkModCount();
+            if (page == NONE) {
+                return false;
+            }
+            index++;
+            while (index >= count(page)) {
+                page = nextLeaf(page);
+                index = 0;
+                if (page == NONE) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void checkValid() {
+            checkModCount();
+            if (page == NONE) {
+                throw new NoSuchElementException();
+            }
+        }
+
+        private void checkModCount() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // queries
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return the number of entries
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Tells whether the map is empty.
+     *
+     * @return {@code true} if there are no entries, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Tells whether the map contains a key.
+     *
+     * @param  key  the key
+     * @return {@code true} if the key is present, {@code false} otherwise
+     */
+    public boolean containsKey(long key) {
+        if (root == NONE) {
+            return false;
+        }
+        long k = normalize(key);
+        int leaf = findLeaf(k);
+        int index = lowerBound(leaf, k);
+        return index < count(leaf) && leafKey(leaf, index) == k;
+    }
+
+    /**
+     * Returns the value associated with a key.
+     *
+     * @param  key  the key
+     * @param  defaultValue  the value to return if the key is not present
+     * @return the value associated with {@code key}, or {@code defaultValue}
+     */
+    public long get(long key, long defaultValue) {
+        if (root == NONE) {
+            return defaultValue;
+        }
+        long k = normalize(key);
+        int leaf = findLeaf(k);
+        int index = lowerBound(leaf, k);
+        return index < count(leaf) && leafKey(leaf, index) == k ? leafValue(leaf, index) : defaultValue;
+    }
+
+    /**
+     * Returns a cursor on the first entry, in the order of the map.
+     *
+     * @return the cursor, or {@code null} if the map is empty
+     */
+    public Cursor first() {
+        return root == NONE ? null : forward(firstLeaf, 0);
+    }
+
+    /**
+     * Returns a cursor on the entry with the highest key that is lower than
+     * or equal to a key, in the order of the map.
+     *
+     * @param  key  the key
+     * @return the cursor, or {@code null} if there is no such entry
+     */
+    public Cursor floor(long key) {
+        if (root == NONE) {
+            return null;
+        }
+        long k = normalize(key);
+        int leaf = findLeaf(k);
+        int index = upperBound(leaf, k) - 1;
+        while (index < 0) {
+            leaf = prevLeaf(leaf);
+            if (leaf == NONE) {
+                return null;
+            }
+            index = count(leaf) - 1;
+        }
+        return new Cursor(leaf, index);
+    }
+
+    /**
+     * Returns a cursor on the entry with the lowest key that is higher than
+     * or equal to a key, in the order of the map.
+     *
+     * @param  key  the key
+     * @return the cursor, or {@code null} if there is no such entry
+     */
+    public Cursor ceiling(long key) {
+        if (root == NONE) {
+            return null;
+        }
+        long k = normalize(key);
+        int leaf = findLeaf(k);
+        return forward(leaf, lowerBound(leaf, k));
+    }
+
+    /**
+     * Passes to a consumer all the entries, in the order of the map.
+     *
+     * @param  consumer  the consumer of the entries
+     * @throws NullPointerException if {@code consumer} is {@code null}
+     */
+    public void forEach(EntryConsumer consumer) {
+        Checks.requireNotNull(consumer, "consumer");
+        for (int leaf = root == NONE ? NONE : firstLeaf; leaf != NONE; leaf = nextLeaf(leaf)) {
+            int count = count(leaf);
+            for (int i = 0; i < count; i++) {
+                consumer.accept(denormalize(leafKey(leaf, i)), leafValue(leaf, i));
+            }
+        }
+    }
+
+    /**
+     * Passes to a consumer the entries with the keys from {@code fromKey}
+     * (inclusive) to {@code toKey} (exclusive), in the order of the map.
+     *
+     * @param  fromKey  the lowest key of the range (inclusive)
+     * @param  toKey  the highest key of the range (exclusive)
+     * @param  consumer  the consumer of the entries
+     * @return the number of entries passed to the consumer
+     * @throws NullPointerException if {@code consumer} is {@code null}
+     */
+    public long forEach(long fromKey, long toKey, EntryConsumer consumer) {
+        Checks.requireNotNull(consumer, "consumer");
+        if (root == NONE) {
+            return 0;
+        }
+
+        long from = normalize(fromKey);
+        long to = normalize(toKey);
+        long count = 0;
+        int leaf = findLeaf(from);
+        int i = lowerBound(leaf, from);
+
+        for (; leaf != NONE; leaf = nextLeaf(leaf), i = 0) {
+            int leafCount = count(leaf);
+            for (; i < leafCount; i++) {
+                long k = leafKey(leaf, i);
+                if (k >= to) {
+                    return count;
+                }
+                consumer.accept(denormalize(k), leafValue(leaf, i));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    //-----------------------------------------------------------------------
+    // updates
+    //-----------------------------------------------------------------------
+
+    /**
+     * Associates a value with a key, replacing the previous value if the key
+     * is already present.
+     *
+     * @param  key  the key
+     * @param  value  the value
+     * @return {@code true} if the key was added, {@code false} if it was
+     *         already present
+     * @throws IllegalStateException if the insertion needs more memory than
+     *         the budget allows (the map is left unchanged)
+     */
+    public boolean put(long key, long value) {
+        long k = normalize(key);
+        if (root == NONE) {
+            requirePages(1);
+            root = allocatePage(LEAF);
+            firstLeaf = root;
+            lastLeaf = root;
+            height = 1;
+        }
+
+        int leaf = findLeaf(k);
+        int index = lowerBound(leaf, k);
+        int count = count(leaf);
+        if (index < count && leafKey(leaf, index) == k) {
+            setLeafValue(leaf, index, value);
+            return false;
+        }
+
+        if (count < leafCapacity) {
+            for (int i = count; i > index; i--) {
+                setLeafKey(leaf, i, leafKey(leaf, i - 1));
+                setLeafValue(leaf, i, leafValue(leaf, i - 1));
+            }
+            setLeafKey(leaf, index, k);
+            setLeafValue(leaf, index, value);
+            setCount(leaf, count + 1);
+        } else {
+            requirePages(height + 1);   // worst case: a split at each level and a new root
+            splitLeaf(leaf, index, k, value);
+        }
+
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes a key and its value. The pages are never merged, even if they
+     * become empty.
+     *
+     * @param  key  the key
+     * @return {@code true} if the key was removed, {@code false} if it was
+     *         not present
+     */
+    public boolean remove(long key) {
+        if (root == NONE) {
+            return false;
+        }
+        long k = normalize(key);
+        int leaf = findLeaf(k);
+        int index = lowerBound(leaf, k);
+        int count = count(leaf);
+        if (index == count || leafKey(leaf, index) != k) {
+            return false;
+        }
+
+        for (int i = index + 1; i < count; i++) {
+            setLeafKey(leaf, i - 1, leafKey(leaf, i));
+            setLeafValue(leaf, i - 1, leafValue(leaf, i));
+        }
+        setCount(leaf, count - 1);
+        size--;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes all the entries and releases all the pages.
+     */
+    public void clear() {
+        chunks = new ByteBuffer[4];
+        pageCount = 0;
+        root = NONE;
+        height = 0;
+        firstLeaf = NONE;
+        lastLeaf = NONE;
+        size = 0;
+        modCount++;
+    }
+
+    //-----------------------------------------------------------------------
+    // memory
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the memory budget, in bytes.
+     *
+     * @return the memory budget
+     */
+    public long memoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Returns the memory used by the pages, in bytes.
+     *
+     * @return the memory used
+     */
+    public long memoryUsed() {
+        return (long) pageCount * pageSize;
+    }
+
+    /**
+     * Returns the size of a page, in bytes.
+     *
+     * @return the page size
+     */
+    public int pageSize() {
+        return pageSize;
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapLongTreeMap[" + (descending ? "descending" : "ascending") + ", size=" + size
+                + ", height=" + height + ", pages=" + pageCount + ", memoryUsed=" + memoryUsed()
+                + ", memoryBudget=" + memoryBudget + "]";
+    }
+
+
+    private long normalize(long key) {
+        return descending ? ~key : key;   // ~ reverses the signed order and is its own inverse
+    }
+
+    private long denormalize(long key) {
+        return descending ? ~key : key;
+    }
+
+    /*
+     * Descends from the root to the leaf that can contain k, recording the path.
+     */
+    private int findLeaf(long k) {
+        if (pathPages.length < height) {
+            pathPages = Arrays.copyOf(pathPages, height * 2);
+            pathIndexes = Arrays.copyOf(pathIndexes, height * 2);
+        }
+
+        int page = root;
+        for (int level = 0; level < height - 1; level++) {
+            int index = innerUpperBound(page, k);
+            pathPages[level] = page;
+            pathIndexes[level] = index;
+            page = child(page, index);
+        }
+        return page;
+    }
+
+    private Cursor forward(int leaf, int index) {
+        while (index >= count(leaf)) {
+            leaf = nextLeaf(leaf);
+            if (leaf == NONE) {
+                return null;
+            }
+            index = 0;
+        }
+        return new Cursor(leaf, index);
+    }
+
+    private void splitLeaf(int leaf, int index, long k, long value) {
+        int count = count(leaf);
+        for (int i = 0, j = 0; i <= count; i++) {
+            if (i == index) {
+                scratchKeys[i] = k;
+                scratchValues[i] = value;
+            } else {
+                scratchKeys[i] = leafKey(leaf, j);
+                scratchValues[i] = leafValue(leaf, j);
+                j++;
+            }
+        }
+
+        int total = count + 1;
+        int leftCount = total / 2;
+        int right = allocatePage(LEAF);
+        for (int i = 0; i < leftCount; i++) {
+            setLeafKey(leaf, i, scratchKeys[i]);
+            setLeafValue(leaf, i, scratchValues[i]);
+        }
+        for (int i = leftCount; i < total; i++) {
+            setLeafKey(right, i - leftCount, scratchKeys[i]);
+            setLeafValue(right, i - leftCount, scratchValues[i]);
+        }
+        setCount(leaf, leftCount);
+        setCount(right, total - leftCount);
+
+        int next = nextLeaf(leaf);
+        setNextLeaf(right, next);
+        setPrevLeaf(right, leaf);
+        setNextLeaf(leaf, right);
+        if (next == NONE) {
+            lastLeaf = right;
+        } else {
+            setPrevLeaf(next, right);
+        }
+
+        insertIntoParent(height - 2, leafKey(right, 0), right);
+    }
+
+    /*
+     * Inserts a separator and the page at its right in the inner page of a
+     * level of the last path, splitting up to the root if needed.
+     */
+    private void insertIntoParent(int level, long separator, int rightChild) {
+        while (level >= 0) {
+            int page = pathPages[level];
+            int index = pathIndexes[level];   // separator goes at index, rightChild at index+1
+            int count = count(page);
+
+            if (count < innerCapacity) {
+                setChild(page, count + 1, child(page, count));
+                for (int i = count; i > index; i--) {
+                    setInnerKey(page, i, innerKey(page, i - 1));
+                    setChild(page, i, child(page, i - 1));
+                }
+                setInnerKey(page, index, separator);
+                setChild(page, index + 1, rightChild);
+                setCount(page, count + 1);
+                return;
+            }
+
+            // split: count+1 keys and count+2 children, the middle key goes up
+            scratchChildren[0] = child(page, 0);
+            for (int i = 0, j = 0; i <= count; i++) {
+                if (i == index) {
+                    scratchKeys[i] = separator;
+                    scratchChildren[i + 1] = rightChild;
+                } else {
+                    scratchKeys[i] = innerKey(page, j);
+                    scratchChildren[i + 1] = child(page, j + 1);
+                    j++;
+                }
+            }
+
+            int total = count + 1;
+            int middle = total / 2;
+            int right = allocatePage(INNER);
+            for (int i = 0; i < middle; i++) {
+                setInnerKey(page, i, scratchKeys[i]);
+                setChild(page, i, scratchChildren[i]);
+            }
+            setChild(page, middle, scratchChildren[middle]);
+            setCount(page, middle);
+
+            for (int i = middle + 1; i < total; i++) {
+                setInnerKey(right, i - middle - 1, scratchKeys[i]);
+                setChild(right, i - middle - 1, scratchChildren[i]);
+            }
+            setChild(right, total - middle - 1, scratchChildren[total]);
+            setCount(right, total - middle - 1);
+
+            separator = scratchKeys[middle];
+            rightChild = right;
+            level--;
+        }
+
+        int newRoot = allocatePage(INNER);
+        setInnerKey(newRoot, 0, separator);
+        setChild(newRoot, 0, root);
+        setChild(newRoot, 1, rightChild);
+        setCount(newRoot, 1);
+        root = newRoot;
+        height++;
+    }
+
+    private int lowerBound(int leaf, long k) {
+        int low = 0;
+        int high = count(leaf);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (leafKey(leaf, mid) < k) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(int leaf, long k) {
+        int low = 0;
+        int high = count(leaf);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (leafKey(leaf, mid) <= k) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int innerUpperBound(int page, long k) {
+        int low = 0;
+        int high = count(page);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (innerKey(page, mid) <= k) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    //-----------------------------------------------------------------------
+    // pages
+    //-----------------------------------------------------------------------
+
+    private void requirePages(int pages) {
+        if (pageCount + (long) pages > maxPages) {
+            throw new IllegalStateException("memory budget exceeded, budget: " + memoryBudget
+                    + " bytes, used: " + memoryUsed() + " bytes, required: " + (long) pages * pageSize + " more bytes");
+        }
+    }
+
+    private int allocatePage(int type) {
+        int page = pageCount;
+        int chunk = page / pagesPerChunk;
+        if (chunk == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunk * 2);
+        }
+        if (chunks[chunk] == null) {
+            int pages = Math.min(pagesPerChunk, maxPages - chunk * pagesPerChunk);
+            chunks[chunk] = ByteBuffer.allocateDirect(pages * pageSize).order(ByteOrder.nativeOrder());
+        }
+        pageCount++;
+
+        ByteBuffer buffer = chunks[chunk];
+        int base = offset(page);
+        buffer.putInt(base + TYPE, type);
+        buffer.putInt(base + COUNT, 0);
+        buffer.putInt(base + NEXT, NONE);
+        buffer.putInt(base + PREV, NONE);
+        return page;
+    }
+
+    private ByteBuffer buffer(int page) {
+        return chunks[page / pagesPerChunk];
+    }
+
+    private int offset(int page) {
+        return (page % pagesPerChunk) * pageSize;
+    }
+
+    private int count(int page) {
+        return buffer(page).getInt(offset(page) + COUNT);
+    }
+
+    private void setCount(int page, int count) {
+        buffer(page).putInt(offset(page) + COUNT, count);
+    }
+
+    private int nextLeaf(int leaf) {
+        return buffer(leaf).getInt(offset(leaf) + NEXT);
+    }
+
+    private void setNextLeaf(int leaf, int next) {
+        buffer(leaf).putInt(offset(leaf) + NEXT, next);
+    }
+
+    private int prevLeaf(int leaf) {
+        return buffer(leaf).getInt(offset(leaf) + PREV);
+    }
+
+    private void setPrevLeaf(int leaf, int prev) {
+        buffer(leaf).putInt(offset(leaf) + PREV, prev);
+    }
+
+    private long leafKey(int leaf, int index) {
+        return buffer(leaf).getLong(offset(leaf) + HEADER + 8 * index);
+    }
+
+    private void setLeafKey(int leaf, int index, long key) {
+        buffer(leaf).putLong(offset(leaf) + HEADER + 8 * index, key);
+    }
+
+    private long leafValue(int leaf, int index) {
+        return buffer(leaf).getLong(offset(leaf) + HEADER + 8 * (leafCapacity + index));
+    }
+
+    private void setLeafValue(int leaf, int index, long value) {
+        buffer(leaf).putLong(offset(leaf) + HEADER + 8 * (leafCapacity + index), value);
+    }
+
+    private long innerKey(int page, int index) {
+        return buffer(page).getLong(offset(page) + HEADER + 8 * index);
+    }
+
+    private void setInnerKey(int page, int index, long key) {
+        buffer(page).putLong(offset(page) + HEADER + 8 * index, key);
+    }
+
+    private int child(int page, int index) {
+        return buffer(page).getInt(offset(page) + HEADER + 8 * innerCapacity + 4 * index);
+    }
+
+    private void setChild(int page, int index, int child) {
+        buffer(page).putInt(offset(page) + HEADER + 8 * innerCapacity + 4 * index, child);
+    }
+}
@@ -0,0 +1,281 @@
+package com.github.utensils4j.collect;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.RandomAccess;
+
+import com.github.utensils4j.util.Checks;
+
+/**
+ * A list backed by an array, whose elements are always kept sorted according
+ * to a {@code Comparator}, typically implemented with a
+ * {@link com.github.utensils4j.compare.Comparison} chain:
+ *
+ * <pre>{@code
+ * SortedArrayList<Quote> window = new SortedArrayList<>((a, b) -> Comparison.chain()
+ *         .ascending(a.getTimestamp(), b.getTimestamp())
+ *         .ascendingNullFirst(a.getSymbol(), b.getSymbol())
+ *         .result());
+ * window.addAll(batch);   // sort of the batch + linear merge
+ * window.removeRange(0, window.lowerBound(oldest));
+ * }</pre>
+ *
+ * <p>A single element is added with a binary search of its position
+ * (<i>O</i>(log <i>n</i>) comparisons and a shift of the following
+ * elements), a batch of <i>m</i> elements is sorted and then merged with the
+ * list in a single pass (<i>O</i>(<i>m</i> log <i>m</i> + <i>n</i>)), instead
+ * of re-sorting the whole list. The elements are contiguous in memory,
+ * without the per-node overhead of a {@link java.util.TreeMap}.
+ *
+ * <p>Equal elements are kept in insertion order: a new element is placed
+ * after the existing equal ones. The {@code add(int, E)} and
+ * {@code set(int, E)} methods are not supported, as they could break the
+ * order.
+ *
+ * <p><strong>Note</strong>: this class is <strong>not</strong> thread-safe.
+ *
+ * @param  <E>  the type of the elements
+ * @author Andrea Binello
+ */
+public final class SortedArrayList<E> extends AbstractList<E> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Comparator<? super E> comparator;
+    private Object[] elements;
+    private int size;
+
+    /**
+     * Creates a new empty {@code SortedArrayList}.
+     *
+     * @param  comparator  the {@code Comparator} that orders the elements
+     * @throws NullPointerException if {@code comparator} is {@code null}
+     */
+    public SortedArrayList(Comparator<? super E> comparator) {
+        this(comparator, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty {@code SortedArrayList} with an initial capacity
+     * (the capacity grows as needed).
+     *
+     * @param  comparator  the {@code Comparator} that orders the elements
+     * @param  initialCapacity  the initial capacity
+     * @throws NullPointerException if {@code comparator} is {@code null}
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative
+     */
+    public SortedArrayList(Comparator<? super E> comparator, int initialCapacity) {
+        this.comparator = Checks.requireNotNull(comparator, "comparator");
+        this.elements = new Object[Checks.requireNonNegative(initialCapacity, "initialCapacity")];
+    }
+
+    /**
+     * Returns the {@code Comparator} that orders the elements.
+     *
+     * @return the {@code Comparator}
+     */
+    public Comparator<? super E> comparator() {
+        return comparator;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Checks.checkIndex(index, size);
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds an element in its sorted position, after the equal elements
+     * already in the list.
+     *
+     * @param  element  the element to add
+     * @return always {@code true}
+     */
+    @Override
+    public boolean add(E element) {
+        int index = upperBound(element);
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Adds all the elements of a collection in their sorted position. The
+     * elements are copied and sorted (with a stable sort) and then merged
+     * with the list, from the end, in a single pass. The new elements are
+     * placed after the equal elements already in the list.
+     *
+     * @param  collection  the elements to add
+     * @return {@code true} if the list changed ({@code collection} is not empty)
+     * @throws NullPointerException if {@code collection} is {@code null}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(Collection<? extends E> collection) {
+        Object[] batch = Checks.requireNotNull(collection, "collection").toArray();
+        int count = batch.length;
+        if (count == 0) {
+            return false;
+        }
+        if (count == 1) {
+            return add((E) batch[0]);
+        }
+
+        Arrays.sort(batch, (Comparator<Object>) comparator);
+        ensureCapacity(size + count);
+
+        int i = size - 1;    // last element of the list not yet merged
+        int j = count - 1;   // last element of the batch not yet merged
+        int k = size + count - 1;
+
+        if (size == 0 || compare(elements[i], batch[0]) <= 0) {   // the batch goes all after
+            System.arraycopy(batch, 0, elements, size, count);
+        } else {
+            while (j >= 0) {
+                // on ties the batch element goes last, after the existing equal ones
+                if (i >= 0 && compare(elements[i], batch[j]) > 0) {
+                    elements[k--] = elements[i--];
+                } else {
+                    elements[k--] = batch[j--];
+                }
+            }   // the remaining elements of the list are already in place
+        }
+
+        size += count;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes the element at a position.
+     *
+     * @param  index  the position of the element to remove
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    @Override
+    public E remove(int index) {
+        E element = get(index);
+        removeRange(index, index + 1);
+        return element;
+    }
+
+    /**
+     * Removes the elements between two positions with a single shift of the
+     * following elements.
+     *
+     * @param  fromIndex  the position of the first element to remove (inclusive)
+     * @param  toIndex  the position of the last element to remove (exclusive)
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        Checks.checkFromToIndex(fromIndex, toIndex, size);
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(elements, newSize, size, null);   // lets gc do its work
+        size = newSize;
+        modCount++;
+    }
+
+    /**
+     * Removes the elements that are greater than or equal to {@code fromKey}
+     * and less than {@code toKey}, according to the comparator.
+     *
+     * @param  fromKey  the lowest key to remove (inclusive)
+     * @param  toKey  the highest key to remove (exclusive)
+     * @return the number of removed elements
+     */
+    public int removeBetween(E fromKey, E toKey) {
+        int fromIndex = lowerBound(fromKey);
+        int toIndex = Math.max(fromIndex, lowerBound(toKey));
+        removeRange(fromIndex, toIndex);
+        return toIndex - fromIndex;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the position of the first element that is greater than or
+     * equal to a key, with a binary search.
+     *
+     * @param  key  the key
+     * @return the position of the first element not less than {@code key},
+     *         or {@link #size()} if there is none
+     */
+    public int lowerBound(E key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(elements[mid], key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the first element that is greater than a key,
+     * with a binary search.
+     *
+     * @param  key  the key
+     * @return the position of the first element greater than {@code key},
+     *         or {@link #size()} if there is none
+     */
+    public int upperBound(E key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(elements[mid], key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private int compare(Object left, Object right) {
+        return comparator.compare((E) left, (E) right);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new OutOfMemoryError("required capacity too large");
+        }
+        if (capacity > elements.length) {
+            int newCapacity = Math.max(capacity, elements.length + (elements.length >> 1) + 1);
+            elements = Arrays.copyOf(elements, newCapacity < 0 ? capacity : newCapacity);
+        }
+    }
+}
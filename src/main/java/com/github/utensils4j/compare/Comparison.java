@@ -6,6 +6,10 @@ import java.util.Comparator;
  * An utility class to create a comparison "chain", typically used in
  * {@code Comparable} or {@code Comparator} implementations.
  *
+ * <p>While a Flight Recorder recording is running, a sample of the chains
+ * is recorded as {@code com.github.utensils4j.Comparison} events, with the
+ * number of links evaluated before the order was decided.
+ *
  * @author Andrea Binello
  */
 public abstract class Comparison {
@@ -14,11 +18,11 @@ public abstract class Comparison {
     private static final Comparison GREATER = new Inactive(1);
 
     public static Comparison chain() {
-        return ACTIVE;
+        return start();
     }
 
     public static Comparison comparisonChain() {
-        return ACTIVE;
+        return start();
     }
 
     public abstract Comparison accept(int result);
@@ -58,6 +62,14 @@ public abstract class Comparison {
 
     public abstract Comparison ascendingIgnoringCaseNullLast(String left, String right);
 
+    public abstract Comparison ascendingNaturalNullFirst(String left, String right);
+
+    public abstract Comparison ascendingNaturalNullLast(String left, String right);
+
+    public abstract Comparison ascendingNaturalIgnoringCaseNullFirst(String left, String right);
+
+    public abstract Comparison ascendingNaturalIgnoringCaseNullLast(String left, String right);
+
     public abstract Comparison descending(boolean left, boolean right);
 
     public abstract Comparison descending(byte left, byte right);
@@ -86,6 +98,14 @@ public abstract class Comparison {
 
     public abstract Comparison descendingIgnoringCaseNullLast(String left, String right);
 
+    public abstract Comparison descendingNaturalNullFirst(String left, String right);
+
+    public abstract Comparison descendingNaturalNullLast(String left, String right);
+
+    public abstract Comparison descendingNaturalIgnoringCaseNullFirst(String left, String right);
+
+    public abstract Comparison descendingNaturalIgnoringCaseNullLast(String left, String right);
+
     /**
      * Returns the result of this comparison chain.
      *
@@ -101,6 +121,15 @@ public abstract class Comparison {
     public abstract int resultInverted();
 
 
+    /*
+     * The chains are sampled for the JFR ComparisonEvent only while a
+     * recording is running, otherwise it's just the read of a flag.
+     */
+    private static Comparison start() {
+        return ComparisonSampling.enabled && ComparisonSampling.sample() ? new Recording() : ACTIVE;
+    }
+
+
     private static class Active extends Comparison {
         @Override
         public Comparison accept(int result) {
@@ -177,6 +206,26 @@ public abstract class Comparison {
             return comp(Comparisons.compareIgnoringCaseNullLast(left, right));
         }
 
+        @Override
+        public Comparison ascendingNaturalNullFirst(String left, String right) {
+            return comp(Comparisons.compareNaturalNullFirst(left, right));
+        }
+
+        @Override
+        public Comparison ascendingNaturalNullLast(String left, String right) {
+            return comp(Comparisons.compareNaturalNullLast(left, right));
+        }
+
+        @Override
+        public Comparison ascendingNaturalIgnoringCaseNullFirst(String left, String right) {
+            return comp(Comparisons.compareNaturalIgnoringCaseNullFirst(left, right));
+        }
+
+        @Override
+        public Comparison ascendingNaturalIgnoringCaseNullLast(String left, String right) {
+            return comp(Comparisons.compareNaturalIgnoringCaseNullLast(left, right));
+        }
+
         @Override
         public Comparison descending(boolean left, boolean right) {
             return comp(Boolean.compare(right, left));
@@ -247,6 +296,26 @@ public abstract class Comparison {
             return comp(Comparisons.compareIgnoringCaseNullLast(right, left));
         }
 
+        @Override
+        public Comparison descendingNaturalNullFirst(String left, String right) {
+            return comp(Comparisons.compareNaturalNullFirst(right, left));
+        }
+
+        @Override
+        public Comparison descendingNaturalNullLast(String left, String right) {
+            return comp(Comparisons.compareNaturalNullLast(right, left));
+        }
+
+        @Override
+        public Comparison descendingNaturalIgnoringCaseNullFirst(String left, String right) {
+            return comp(Comparisons.compareNaturalIgnoringCaseNullFirst(right, left));
+        }
+
+        @Override
+        public Comparison descendingNaturalIgnoringCaseNullLast(String left, String right) {
+            return comp(Comparisons.compareNaturalIgnoringCaseNullLast(right, left));
+        }
+
         @Override
         public int result() {
             return 0;
@@ -257,12 +326,43 @@ public abstract class Comparison {
             return 0;
         }
 
-        private Comparison comp(int result) {
+        Comparison comp(int result) {
             return result == 0 ? this : result < 0 ? LESS : GREATER;
         }
     }
 
 
+    /*
+     * A sampled "active" chain, that counts the links until the order is decided.
+     */
+    private static final class Recording extends Active {
+        private final ComparisonSampling.Sample event = ComparisonSampling.begin();
+        private int links;
+
+        @Override
+        public int result() {
+            event.end(links, 0);
+            return 0;
+        }
+
+        @Override
+        public int resultInverted() {
+            event.end(links, 0);
+            return 0;
+        }
+
+        @Override
+        Comparison comp(int result) {
+            links++;
+            if (result == 0) {
+                return this;
+            }
+            event.end(links, result < 0 ? -1 : 1);
+            return result < 0 ? LESS : GREATER;
+        }
+    }
+
+
     private static class Inactive extends Comparison {
         private final int fixedResult;
 
@@ -345,6 +445,26 @@ public abstract class Comparison {
             return this;
         }
 
+        @Override
+        public Comparison ascendingNaturalNullFirst(String left, String right) {
+            return this;
+        }
+
+        @Override
+        public Comparison ascendingNaturalNullLast(String left, String right) {
+            return this;
+        }
+
+        @Override
+        public Comparison ascendingNaturalIgnoringCaseNullFirst(String left, String right) {
+            return this;
+        }
+
+        @Override
+        public Comparison ascendingNaturalIgnoringCaseNullLast(String left, String right) {
+            return this;
+        }
+
         @Override
         public Comparison descending(boolean left, boolean right) {
             return this;
@@ -415,6 +535,26 @@ public abstract class Comparison {
             return this;
         }
 
+        @Override
+        public Comparison descendingNaturalNullFirst(String left, String right) {
+            return this;
+        }
+
+        @Override
+        public Comparison descendingNaturalNullLast(String left, String right) {
+            return this;
+        }
+
+        @Override
+        public Comparison descendingNaturalIgnoringCaseNullFirst(String left, String right) {
+            return this;
+        }
+
+        @Override
+        public Comparison descendingNaturalIgnoringCaseNullLast(String left, String right) {
+            return this;
+        }
+
         @Override
         public int result() {
             return fixedResult;
@@ -0,0 +1,505 @@
+package com.github.utensils4j.compare;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A profiler of the {@link Comparison} chains, that records which link
+ * decided each comparison (by position and by method), how many chains ran
+ * to the end with a tie ({@code result() == 0}) and the distribution of the
+ * number of links evaluated. It's meant to find the chains where an expensive
+ * link is evaluated on most comparisons, or where a cheap and discriminating
+ * link should come earlier. The chains are created by {@link #chain()}
+ * instead of {@link Comparison#chain()}, for example:
+ *
+ * <pre>{@code
+ * ComparisonProfiler profiler = ComparisonProfiler.create("Item.byCategoryAndName");
+ * items.sort((a, b) -> profiler.chain()
+ *         .ascendingIgnoringCaseNullFirst(a.getCategory(), b.getCategory())
+ *         .ascendingNullFirst(a.getName(), b.getName())
+ *         .result());
+ * System.out.println(profiler);
+ * }</pre>
+ *
+ * <p>The statistics are aggregated in {@link LongAdder} counters, so a
+ * profiler can be shared by many threads (e.g. in a parallel sort) without
+ * contention. Each chain must be terminated with {@link Comparison#result()}
+ * or {@link Comparison#resultInverted()}, called once.
+ *
+ * @author Andrea Binello
+ */
+public final class ComparisonProfiler {
+    /**
+     * The maximum number of links tracked individually: the links after
+     * this position are counted together with the last one.
+     */
+    public static final int MAX_LINKS = 32;
+
+
+    private final String name;
+    private final LongAdder chains = new LongAdder();
+    private final LongAdder ties = new LongAdder();
+    private final LongAdder[] linksHistogram = new LongAdder[MAX_LINKS + 1];
+    // created lazily, indexed by (link position * Method.VALUES.length + method ordinal)
+    private final AtomicReferenceArray<LongAdder> decidingLinks =
+            new AtomicReferenceArray<>(MAX_LINKS * Method.VALUES.length);
+
+    private ComparisonProfiler(String name) {
+        this.name = name;
+        for (int i = 0; i < linksHistogram.length; i++) {
+            linksHistogram[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Creates a new {@code ComparisonProfiler}.
+     *
+     * @param  name  the name of the profiler, used in the report
+     * @return the new {@code ComparisonProfiler}
+     * @throws NullPointerException if {@code name} is {@code null}
+     */
+    public static ComparisonProfiler create(String name) {
+        if (name == null) {
+            throw new NullPointerException("name must be not-null");
+        }
+        return new ComparisonProfiler(name);
+    }
+
+    /**
+     * Starts a new profiled comparison chain. The chain gives exactly the
+     * same results of {@link Comparison#chain()}.
+     *
+     * @return  the profiled chain
+     */
+    public Comparison chain() {
+        return new Profiled(this);
+    }
+
+    /**
+     * Returns the name of this profiler.
+     *
+     * @return  the name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the number of completed chains.
+     *
+     * @return  the number of chains
+     */
+    public long chains() {
+        return chains.sum();
+    }
+
+    /**
+     * Returns the number of chains that ran to the end with all the links
+     * equal (result 0).
+     *
+     * @return  the number of ties
+     */
+    public long ties() {
+        return ties.sum();
+    }
+
+    /**
+     * Returns the distribution of the number of links evaluated by the
+     * chains: the element at index <i>n</i> is the number of chains that
+     * evaluated <i>n</i> links (the last element includes the longer chains).
+     *
+     * @return  a new array of {@link #MAX_LINKS} + 1 counts
+     */
+    public long[] linksHistogram() {
+        long[] histogram = new long[linksHistogram.length];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = linksHistogram[i].sum();
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns the number of comparisons decided by each link, identified by
+     * its 0-based position and the method of {@code Comparison}, in the form
+     * <code>#<i>position</i> <i>method</i></code> (e.g. {@code "#1 ascending(long)"}).
+     * The entries are in order of position.
+     *
+     * @return  a new map of the counts
+     */
+    public Map<String, Long> decidingLinks() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int i = 0; i < decidingLinks.length(); i++) {
+            LongAdder counter = decidingLinks.get(i);
+            if (counter != null) {
+                counts.put("#" + i / Method.VALUES.length + " " + Method.VALUES[i % Method.VALUES.length].label,
+                        counter.sum());
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Resets all the counters. Chains completed concurrently with the reset
+     * may be partially counted.
+     */
+    public void reset() {
+        chains.reset();
+        ties.reset();
+        for (LongAdder counter : linksHistogram) {
+            counter.reset();
+        }
+        for (int i = 0; i < decidingLinks.length(); i++) {
+            decidingLinks.set(i, null);
+        }
+    }
+
+    /**
+     * Returns a multi-line report of the statistics.
+     *
+     * @return  the report
+     */
+    @Override
+    public String toString() {
+        long total = chains();
+        StringBuilder sb = new StringBuilder();
+        sb.append("ComparisonProfiler[").append(name).append("]: chains=").append(total)
+          .append(", ties=").append(ties()).append(percentOf(ties(), total));
+
+        sb.append("\n  deciding links:");
+        decidingLinks().forEach((link, count) ->
+                sb.append("\n    ").append(link).append(" = ").append(count).append(percentOf(count, total)));
+
+        sb.append("\n  links evaluated:");
+        long[] histogram = linksHistogram();
+        for (int i = 0; i < histogram.length; i++) {
+            if (histogram[i] != 0) {
+                sb.append("\n    ").append(i).append(i == MAX_LINKS ? "+" : "").append(" = ")
+                  .append(histogram[i]).append(percentOf(histogram[i], total));
+            }
+        }
+        return sb.toString();
+    }
+
+
+    private void decided(int position, Method method, int links) {
+        int index = Math.min(position, MAX_LINKS - 1) * Method.VALUES.length + method.ordinal();
+        LongAdder counter = decidingLinks.get(index);
+
+        if (counter == null) {
+            decidingLinks.compareAndSet(index, null, new LongAdder());
+            counter = decidingLinks.get(index);
+        }
+        counter.increment();
+        completed(links);
+    }
+
+    private void tie(int links) {
+        ties.increment();
+        completed(links);
+    }
+
+    private void completed(int links) {
+        linksHistogram[Math.min(links, MAX_LINKS)].increment();
+        chains.increment();
+    }
+
+    private static String percentOf(long count, long total) {
+        return total == 0 ? "" : String.format(Locale.ROOT, " (%.1f%%)", 100.0 * count / total);
+    }
+
+
+    /*
+     * A profiled chain: the links are evaluated as Comparison.chain() does
+     * (nothing is evaluated after the deciding link).
+     */
+    private static final class Profiled extends Comparison {
+        private final ComparisonProfiler profiler;
+        private int links;
+        private int decision;
+
+        Profiled(ComparisonProfiler profiler) {
+            this.profiler = profiler;
+        }
+
+        @Override
+        public Comparison accept(int result) {
+            return decision != 0 ? this : link(Method.ACCEPT, result);
+        }
+
+        @Override
+        public Comparison ascending(boolean left, boolean right) {
+            return decision != 0 ? this : link(Method.ASCENDING_BOOLEAN, Boolean.compare(left, right));
+        }
+
+        @Override
+        public Comparison ascending(byte left, byte right) {
+            return decision != 0 ? this : link(Method.ASCENDING_BYTE, Byte.compare(left, right));
+        }
+
+        @Override
+        public Comparison ascending(char left, char right) {
+            return decision != 0 ? this : link(Method.ASCENDING_CHAR, Character.compare(left, right));
+        }
+
+        @Override
+        public Comparison ascending(short left, short right) {
+            return decision != 0 ? this : link(Method.ASCENDING_SHORT, Short.compare(left, right));
+        }
+
+        @Override
+        public Comparison ascending(int left, int right) {
+            return decision != 0 ? this : link(Method.ASCENDING_INT, Integer.compare(left, right));
+        }
+
+        @Override
+        public Comparison ascending(long left, long right) {
+            return decision != 0 ? this : link(Method.ASCENDING_LONG, Long.compare(left, right));
+        }
+
+        @Override
+        public Comparison ascending(float left, float right) {
+            return decision != 0 ? this : link(Method.ASCENDING_FLOAT, Float.compare(left, right));
+        }
+
+        @Override
+        public Comparison ascending(double left, double right) {
+            return decision != 0 ? this : link(Method.ASCENDING_DOUBLE, Double.compare(left, right));
+        }
+
+        @Override
+        public <T extends Comparable<? super T>> Comparison ascendingNullFirst(T left, T right) {
+            return decision != 0 ? this : link(Method.ASCENDING_NULL_FIRST_COMPARABLE,
+                    Comparisons.compareNullFirst(left, right));
+        }
+
+        @Override
+        public <T extends Comparable<? super T>> Comparison ascendingNullLast(T left, T right) {
+            return decision != 0 ? this : link(Method.ASCENDING_NULL_LAST_COMPARABLE,
+                    Comparisons.compareNullLast(left, right));
+        }
+
+        @Override
+        public <T> Comparison ascendingNullFirst(T left, T right, Comparator<? super T> comparator) {
+            return decision != 0 ? this : link(Method.ASCENDING_NULL_FIRST_COMPARATOR,
+                    Comparisons.compareNullFirst(left, right, comparator));
+        }
+
+        @Override
+        public <T> Comparison ascendingNullLast(T left, T right, Comparator<? super T> comparator) {
+            return decision != 0 ? this : link(Method.ASCENDING_NULL_LAST_COMPARATOR,
+                    Comparisons.compareNullLast(left, right, comparator));
+        }
+
+        @Override
+        public Comparison ascendingIgnoringCaseNullFirst(String left, String right) {
+            return decision != 0 ? this : link(Method.ASCENDING_IGNORING_CASE_NULL_FIRST,
+                    Comparisons.compareIgnoringCaseNullFirst(left, right));
+        }
+
+        @Override
+        public Comparison ascendingIgnoringCaseNullLast(String left, String right) {
+            return decision != 0 ? this : link(Method.ASCENDING_IGNORING_CASE_NULL_LAST,
+                    Comparisons.compareIgnoringCaseNullLast(left, right));
+        }
+
+        @Override
+        public Comparison ascendingNaturalNullFirst(String left, String right) {
+            return decision != 0 ? this : link(Method.ASCENDING_NATURAL_NULL_FIRST,
+                    Comparisons.compareNaturalNullFirst(left, right));
+        }
+
+        @Override
+        public Comparison ascendingNaturalNullLast(String left, String right) {
+            return decision != 0 ? this : link(Method.ASCENDING_NATURAL_NULL_LAST,
+                    Comparisons.compareNaturalNullLast(left, right));
+        }
+
+        @Override
+        public Comparison ascendingNaturalIgnoringCaseNullFirst(String left, String right) {
+            return decision != 0 ? this : link(Method.ASCENDING_NATURAL_IGNORING_CASE_NULL_FIRST,
+                    Comparisons.compareNaturalIgnoringCaseNullFirst(left, right));
+        }
+
+        @Override
+        public Comparison ascendingNaturalIgnoringCaseNullLast(String left, String right) {
+            return decision != 0 ? this : link(Method.ASCENDING_NATURAL_IGNORING_CASE_NULL_LAST,
+                    Comparisons.compareNaturalIgnoringCaseNullLast(left, right));
+        }
+
+        @Override
+        public Comparison descending(boolean left, boolean right) {
+            return decision != 0 ? this : link(Method.DESCENDING_BOOLEAN, Boolean.compare(right, left));
+        }
+
+        @Override
+        public Comparison descending(byte left, byte right) {
+            return decision != 0 ? this : link(Method.DESCENDING_BYTE, Byte.compare(right, left));
+        }
+
+        @Override
+        public Comparison descending(char left, char right) {
+            return decision != 0 ? this : link(Method.DESCENDING_CHAR, Character.compare(right, left));
+        }
+
+        @Override
+        public Comparison descending(short left, short right) {
+            return decision != 0 ? this : link(Method.DESCENDING_SHORT, Short.compare(right, left));
+        }
+
+        @Override
+        public Comparison descending(int left, int right) {
+            return decision != 0 ? this : link(Method.DESCENDING_INT, Integer.compare(right, left));
+        }
+
+        @Override
+        public Comparison descending(long left, long right) {
+            return decision != 0 ? this : link(Method.DESCENDING_LONG, Long.compare(right, left));
+        }
+
+        @Override
+        public Comparison descending(float left, float right) {
+            return decision != 0 ? this : link(Method.DESCENDING_FLOAT, Float.compare(right, left));
+        }
+
+        @Override
+        public Comparison descending(double left, double right) {
+            return decision != 0 ? this : link(Method.DESCENDING_DOUBLE, Double.compare(right, left));
+        }
+
+        @Override
+        public <T extends Comparable<? super T>> Comparison descendingNullFirst(T left, T right) {
+            return decision != 0 ? this : link(Method.DESCENDING_NULL_FIRST_COMPARABLE,
+                    Comparisons.compareNullFirst(right, left));
+        }
+
+        @Override
+        public <T extends Comparable<? super T>> Comparison descendingNullLast(T left, T right) {
+            return decision != 0 ? this : link(Method.DESCENDING_NULL_LAST_COMPARABLE,
+                    Comparisons.compareNullLast(right, left));
+        }
+
+        @Override
+        public <T> Comparison descendingNullFirst(T left, T right, Comparator<? super T> comparator) {
+            return decision != 0 ? this : link(Method.DESCENDING_NULL_FIRST_COMPARATOR,
+                    Comparisons.compareNullFirst(right, left, comparator));
+        }
+
+        @Override
+        public <T> Comparison descendingNullLast(T left, T right, Comparator<? super T> comparator) {
+            return decision != 0 ? this : link(Method.DESCENDING_NULL_LAST_COMPARATOR,
+                    Comparisons.compareNullLast(right, left, comparator));
+        }
+
+        @Override
+        public Comparison descendingIgnoringCaseNullFirst(String left, String right) {
+            return decision != 0 ? this : link(Method.DESCENDING_IGNORING_CASE_NULL_FIRST,
+                    Comparisons.compareIgnoringCaseNullFirst(right, left));
+        }
+
+        @Override
+        public Comparison descendingIgnoringCaseNullLast(String left, String right) {
+            return decision != 0 ? this : link(Method.DESCENDING_IGNORING_CASE_NULL_LAST,
+                    Comparisons.compareIgnoringCaseNullLast(right, left));
+        }
+
+        @Override
+        public Comparison descendingNaturalNullFirst(String left, String right) {
+            return decision != 0 ? this : link(Method.DESCENDING_NATURAL_NULL_FIRST,
+                    Comparisons.compareNaturalNullFirst(right, left));
+        }
+
+        @Override
+        public Comparison descendingNaturalNullLast(String left, String right) {
+            return decision != 0 ? this : link(Method.DESCENDING_NATURAL_NULL_LAST,
+                    Comparisons.compareNaturalNullLast(right, left));
+        }
+
+        @Override
+        public Comparison descendingNaturalIgnoringCaseNullFirst(String left, String right) {
+            return decision != 0 ? this : link(Method.DESCENDING_NATURAL_IGNORING_CASE_NULL_FIRST,
+                    Comparisons.compareNaturalIgnoringCaseNullFirst(right, left));
+        }
+
+        @Override
+        public Comparison descendingNaturalIgnoringCaseNullLast(String left, String right) {
+            return decision != 0 ? this : link(Method.DESCENDING_NATURAL_IGNORING_CASE_NULL_LAST,
+                    Comparisons.compareNaturalIgnoringCaseNullLast(right, left));
+        }
+
+        @Override
+        public int result() {
+            if (decision == 0) {
+                profiler.tie(links);
+            }
+            return decision;
+        }
+
+        @Override
+        public int resultInverted() {
+            return -result();
+        }
+
+        private Comparison link(Method method, int result) {
+            links++;
+            if (result != 0) {
+                decision = result < 0 ? -1 : 1;
+                profiler.decided(links - 1, method, links);
+            }
+            return this;
+        }
+    }
+
+
+    // the methods of Comparison profiled, the ordinal is the id used in decidingLinks
+    private enum Method {
+        ACCEPT("accept(int)"),
+        ASCENDING_BOOLEAN("ascending(boolean)"),
+        ASCENDING_BYTE("ascending(byte)"),
+        ASCENDING_CHAR("ascending(char)"),
+        ASCENDING_SHORT("ascending(short)"),
+        ASCENDING_INT("ascending(int)"),
+        ASCENDING_LONG("ascending(long)"),
+        ASCENDING_FLOAT("ascending(float)"),
+        ASCENDING_DOUBLE("ascending(double)"),
+        ASCENDING_NULL_FIRST_COMPARABLE("ascendingNullFirst(Comparable)"),
+        ASCENDING_NULL_LAST_COMPARABLE("ascendingNullLast(Comparable)"),
+        ASCENDING_NULL_FIRST_COMPARATOR("ascendingNullFirst(Comparator)"),
+        ASCENDING_NULL_LAST_COMPARATOR("ascendingNullLast(Comparator)"),
+        ASCENDING_IGNORING_CASE_NULL_FIRST("ascendingIgnoringCaseNullFirst"),
+        ASCENDING_IGNORING_CASE_NULL_LAST("ascendingIgnoringCaseNullLast"),
+        ASCENDING_NATURAL_NULL_FIRST("ascendingNaturalNullFirst"),
+        ASCENDING_NATURAL_NULL_LAST("ascendingNaturalNullLast"),
+        ASCENDING_NATURAL_IGNORING_CASE_NULL_FIRST("ascendingNaturalIgnoringCaseNullFirst"),
+        ASCENDING_NATURAL_IGNORING_CASE_NULL_LAST("ascendingNaturalIgnoringCaseNullLast"),
+        DESCENDING_BOOLEAN("descending(boolean)"),
+        DESCENDING_BYTE("descending(byte)"),
+        DESCENDING_CHAR("descending(char)"),
+        DESCENDING_SHORT("descending(short)"),
+        DESCENDING_INT("descending(int)"),
+        DESCENDING_LONG("descending(long)"),
+        DESCENDING_FLOAT("descending(float)"),
+        DESCENDING_DOUBLE("descending(double)"),
+        DESCENDING_NULL_FIRST_COMPARABLE("descendingNullFirst(Comparable)"),
+        DESCENDING_NULL_LAST_COMPARABLE("descendingNullLast(Comparable)"),
+        DESCENDING_NULL_FIRST_COMPARATOR("descendingNullFirst(Comparator)"),
+        DESCENDING_NULL_LAST_COMPARATOR("descendingNullLast(Comparator)"),
+        DESCENDING_IGNORING_CASE_NULL_FIRST("descendingIgnoringCaseNullFirst"),
+        DESCENDING_IGNORING_CASE_NULL_LAST("descendingIgnoringCaseNullLast"),
+        DESCENDING_NATURAL_NULL_FIRST("descendingNaturalNullFirst"),
+        DESCENDING_NATURAL_NULL_LAST("descendingNaturalNullLast"),
+        DESCENDING_NATURAL_IGNORING_CASE_NULL_FIRST("descendingNaturalIgnoringCaseNullFirst"),
+        DESCENDING_NATURAL_IGNORING_CASE_NULL_LAST("descendingNaturalIgnoringCaseNullLast");
+
+        static final Method[] VALUES = values();
+
+        final String label;
+
+        Method(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.utensils4j.compare;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides which {@link Comparison} chains are sampled for the Flight Recorder
+ * {@code ComparisonEvent}. The sampling is enabled only while a recording
+ * with the event enabled is running (tracked by the {@link Recorder}), so
+ * that when JFR is off the only cost of {@link Comparison#chain()} is the
+ * read of a {@code volatile} flag. The event is disabled by default (also in
+ * the predefined {@code .jfc} settings), it must be enabled explicitly in the
+ * recording.
+ *
+ * <p>One chain every {@value #DEFAULT_INTERVAL} (on average) is sampled by
+ * default, the interval can be changed with the system property
+ * {@value #INTERVAL_PROPERTY}. Each thread decides with its own
+ * {@link ThreadLocalRandom}, so that the sampling doesn't write any shared
+ * state.
+ *
+ * <p>The JFR classes are in a separate source root ({@code src/main/jfr}),
+ * compiled against the {@code jdk.jfr} API of the build JDK, while this class
+ * and the rest of the library are compiled against the plain Java 8 API: the
+ * recorder is loaded by name, only when JFR is available.
+ *
+ * @author Andrea Binello
+ */
+final class ComparisonSampling {
+    static final String INTERVAL_PROPERTY = "utensils4j.comparison.samplingInterval";
+    static final int DEFAULT_INTERVAL = 1024;
+    static final String RECORDER_CLASS = "com.github.utensils4j.compare.ComparisonRecorder";
+
+    // set by the recorder, never true when JFR is not available
+    static volatile boolean enabled;
+    // volatile only for the tests (see setInterval), it's read when sampling
+    private static volatile int interval = Math.max(1, Integer.getInteger(INTERVAL_PROPERTY, DEFAULT_INTERVAL));
+
+    private static final Recorder RECORDER = loadRecorder();
+
+    private ComparisonSampling() {}
+
+    static boolean sample() {
+        return ThreadLocalRandom.current().nextInt(interval) == 0;
+    }
+
+    /*
+     * Called only when enabled (so the recorder is loaded).
+     */
+    static Sample begin() {
+        return RECORDER.begin();
+    }
+
+    /*
+     * Test hook: changes the sampling interval, returns the previous one.
+     */
+    static int setInterval(int newInterval) {
+        int previous = interval;
+        interval = Math.max(1, newInterval);
+        return previous;
+    }
+
+
+    private static Recorder loadRecorder() {
+        try {
+            Class.forName("jdk.jfr.FlightRecorderListener", false, ComparisonSampling.class.getClassLoader());
+            return (Recorder) Class.forName(RECORDER_CLASS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return null;   // JFR not usable (e.g. security restrictions): no sampling
+        }
+    }
+
+
+    /*
+     * Implemented by the JFR recorder, that also keeps the enabled flag
+     * updated.
+     */
+    interface Recorder {
+        Sample begin();
+    }
+
+    /*
+     * A started event, implemented by the JFR event.
+     */
+    interface Sample {
+        void end(int links, int result);
+    }
+}
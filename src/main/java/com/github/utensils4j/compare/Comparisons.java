@@ -1,6 +1,12 @@
 package com.github.utensils4j.compare;
 
+import java.nio.ByteBuffer;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.github.utensils4j.util.Checks;
 
 /**
  * Static utility methods related to values comparison.
@@ -8,6 +14,8 @@ import java.util.Comparator;
  * @author Andrea Binello
  */
 public class Comparisons {
+    private static final int MIN_PARALLEL_CHUNK = 1 << 13;
+
     private Comparisons() {}
 
     /**
@@ -167,4 +175,764 @@ public class Comparisons {
              : left == null ? 1     // 1 means: left (null) > right (non-null)
              : String.CASE_INSENSITIVE_ORDER.compare(left, right);
     }
+
+    /**
+     * Compares two strings in a null-safe and "natural" manner.
+     *
+     * <p>The "natural" order compares the runs of ASCII digits by their
+     * numeric value (so that {@code "file9"} is less than {@code "file10"}),
+     * numbers of any length are supported. All the other characters are
+     * compared as {@link String#compareTo} does.
+     * When two strings differ only by the leading zeros of the numbers,
+     * the first number with fewer leading zeros is considered less.
+     *
+     * <p>A {@code null} is considered <strong>equal to</strong> a
+     * {@code null} and <strong>less than</strong> a non-{@code null}.
+     *
+     * @param  left  the left string
+     * @param  right  the right string
+     * @return the result of the comparison as follows:
+     *         <ul>
+     *         <li>0 if {@code left} is equal to {@code right}</li>
+     *         <li>&lt;0 if {@code left} is less than {@code right}</li>
+     *         <li>&gt;0 if {@code left} is greater than {@code right}</li>
+     *         </ul>
+     */
+    public static int compareNaturalNullFirst(String left, String right) {
+        return left == right ? 0
+             : right == null ? 1   // 1 means: left (non-null) > right (null)
+             : left == null ? -1   // -1 means: left (null) < right (non-null)
+             : compareNatural(left, right, false);
+    }
+
+    /**
+     * Compares two strings in a null-safe and "natural" manner.
+     *
+     * <p>The "natural" order compares the runs of ASCII digits by their
+     * numeric value (so that {@code "file9"} is less than {@code "file10"}),
+     * numbers of any length are supported. All the other characters are
+     * compared as {@link String#compareTo} does.
+     * When two strings differ only by the leading zeros of the numbers,
+     * the first number with fewer leading zeros is considered less.
+     *
+     * <p>A {@code null} is considered <strong>equal to</strong> a
+     * {@code null} and <strong>greater than</strong> a non-{@code null}.
+     *
+     * @param  left  the left string
+     * @param  right  the right string
+     * @return the result of the comparison as follows:
+     *         <ul>
+     *         <li>0 if {@code left} is equal to {@code right}</li>
+     *         <li>&lt;0 if {@code left} is less than {@code right}</li>
+     *         <li>&gt;0 if {@code left} is greater than {@code right}</li>
+     *         </ul>
+     */
+    public static int compareNaturalNullLast(String left, String right) {
+        return left == right ? 0
+             : right == null ? -1   // -1 means: left (non-null) < right (null)
+             : left == null ? 1     // 1 means: left (null) > right (non-null)
+             : compareNatural(left, right, false);
+    }
+
+    /**
+     * Compares two strings in a null-safe, case-insensitive and "natural" manner.
+     *
+     * <p>The "natural" order compares the runs of ASCII digits by their
+     * numeric value (so that {@code "file9"} is less than {@code "file10"}),
+     * numbers of any length are supported. All the other characters are
+     * compared ignoring the case, as {@link String#CASE_INSENSITIVE_ORDER} does.
+     * When two strings differ only by the leading zeros of the numbers,
+     * the first number with fewer leading zeros is considered less.
+     *
+     * <p>A {@code null} is considered <strong>equal to</strong> a
+     * {@code null} and <strong>less than</strong> a non-{@code null}.
+     *
+     * @param  left  the left string
+     * @param  right  the right string
+     * @return the result of the comparison as follows:
+     *         <ul>
+     *         <li>0 if {@code left} is equal to {@code right}</li>
+     *         <li>&lt;0 if {@code left} is less than {@code right}</li>
+     *         <li>&gt;0 if {@code left} is greater than {@code right}</li>
+     *         </ul>
+     */
+    public static int compareNaturalIgnoringCaseNullFirst(String left, String right) {
+        return left == right ? 0
+             : right == null ? 1   // 1 means: left (non-null) > right (null)
+             : left == null ? -1   // -1 means: left (null) < right (non-null)
+             : compareNatural(left, right, true);
+    }
+
+    /**
+     * Compares two strings in a null-safe, case-insensitive and "natural" manner.
+     *
+     * <p>The "natural" order compares the runs of ASCII digits by their
+     * numeric value (so that {@code "file9"} is less than {@code "file10"}),
+     * numbers of any length are supported. All the other characters are
+     * compared ignoring the case, as {@link String#CASE_INSENSITIVE_ORDER} does.
+     * When two strings differ only by the leading zeros of the numbers,
+     * the first number with fewer leading zeros is considered less.
+     *
+     * <p>A {@code null} is considered <strong>equal to</strong> a
+     * {@code null} and <strong>greater than</strong> a non-{@code null}.
+     *
+     * @param  left  the left string
+     * @param  right  the right string
+     * @return the result of the comparison as follows:
+     *         <ul>
+     *         <li>0 if {@code left} is equal to {@code right}</li>
+     *         <li>&lt;0 if {@code left} is less than {@code right}</li>
+     *         <li>&gt;0 if {@code left} is greater than {@code right}</li>
+     *         </ul>
+     */
+    public static int compareNaturalIgnoringCaseNullLast(String left, String right) {
+        return left == right ? 0
+             : right == null ? -1   // -1 means: left (non-null) < right (null)
+             : left == null ? 1     // 1 means: left (null) > right (non-null)
+             : compareNatural(left, right, true);
+    }
+
+    /**
+     * Compares two UTF-8 encoded strings in a null-safe manner, without
+     * decoding them to {@code String}.
+     *
+     * <p>For well-formed UTF-8 the result has the same sign of
+     * {@link String#compareTo} applied to the decoded strings (that is, the
+     * UTF-16 code units order and not the plain bytes order).
+     *
+     * <p>A {@code null} is considered <strong>equal to</strong> a
+     * {@code null} and <strong>less than</strong> a non-{@code null}.
+     *
+     * @param  left  the left bytes
+     * @param  right  the right bytes
+     * @return the result of the comparison as follows:
+     *         <ul>
+     *         <li>0 if {@code left} is equal to {@code right}</li>
+     *         <li>&lt;0 if {@code left} is less than {@code right}</li>
+     *         <li>&gt;0 if {@code left} is greater than {@code right}</li>
+     *         </ul>
+     */
+    public static int compareUtf8NullFirst(byte[] left, byte[] right) {
+        return left == right ? 0
+             : right == null ? 1   // 1 means: left (non-null) > right (null)
+             : left == null ? -1   // -1 means: left (null) < right (non-null)
+             : Utf8.compare(left, 0, left.length, right, 0, right.length);
+    }
+
+    /**
+     * Compares two UTF-8 encoded strings in a null-safe manner, without
+     * decoding them to {@code String}.
+     *
+     * <p>For well-formed UTF-8 the result has the same sign of
+     * {@link String#compareTo} applied to the decoded strings (that is, the
+     * UTF-16 code units order and not the plain bytes order).
+     *
+     * <p>A {@code null} is considered <strong>equal to</strong> a
+     * {@code null} and <strong>greater than</strong> a non-{@code null}.
+     *
+     * @param  left  the left bytes
+     * @param  right  the right bytes
+     * @return the result of the comparison as follows:
+     *         <ul>
+     *         <li>0 if {@code left} is equal to {@code right}</li>
+     *         <li>&lt;0 if {@code left} is less than {@code right}</li>
+     *         <li>&gt;0 if {@code left} is greater than {@code right}</li>
+     *         </ul>
+     */
+    public static int compareUtf8NullLast(byte[] left, byte[] right) {
+        return left == right ? 0
+             : right == null ? -1   // -1 means: left (non-null) < right (null)
+             : left == null ? 1     // 1 means: left (null) > right (non-null)
+             : Utf8.compare(left, 0, left.length, right, 0, right.length);
+    }
+
+    /**
+     * Compares two UTF-8 encoded strings held in slices of {@code byte} arrays,
+     * without decoding them to {@code String}.
+     *
+     * <p>For well-formed UTF-8 the result has the same sign of
+     * {@link String#compareTo} applied to the decoded strings (that is, the
+     * UTF-16 code units order and not the plain bytes order).
+     *
+     * @param  left  the left bytes
+     * @param  leftFromIndex  the index (inclusive) of the first byte of {@code left}
+     * @param  leftToIndex  the index (exclusive) of the last byte of {@code left}
+     * @param  right  the right bytes
+     * @param  rightFromIndex  the index (inclusive) of the first byte of {@code right}
+     * @param  rightToIndex  the index (exclusive) of the last byte of {@code right}
+     * @return the result of the comparison as follows:
+     *         <ul>
+     *         <li>0 if {@code left} is equal to {@code right}</li>
+     *         <li>&lt;0 if {@code left} is less than {@code right}</li>
+     *         <li>&gt;0 if {@code left} is greater than {@code right}</li>
+     *         </ul>
+     * @throws NullPointerException if {@code left} or {@code right} is {@code null}
+     * @throws IllegalArgumentException if a from index is greater than the
+     *         corresponding to index
+     * @throws ArrayIndexOutOfBoundsException if a from index is less than 0 or
+     *         a to index is greater than the length of the corresponding array
+     */
+    public static int compareUtf8(byte[] left, int leftFromIndex, int leftToIndex,
+            byte[] right, int rightFromIndex, int rightToIndex) {
+        rangeCheck(left.length, leftFromIndex, leftToIndex);
+        rangeCheck(right.length, rightFromIndex, rightToIndex);
+        return Utf8.compare(left, leftFromIndex, leftToIndex, right, rightFromIndex, rightToIndex);
+    }
+
+    /**
+     * Compares two UTF-8 encoded strings in a null-safe manner, without
+     * decoding them to {@code String}.
+     *
+     * <p>For well-formed UTF-8 the result has the same sign of
+     * {@link String#compareTo} applied to the decoded strings (that is, the
+     * UTF-16 code units order and not the plain bytes order).
+     *
+     * <p>The bytes between the current position and the limit of each buffer
+     * are compared; the position, limit and mark of the buffers are not modified.
+     *
+     * <p>A {@code null} is considered <strong>equal to</strong> a
+     * {@code null} and <strong>less than</strong> a non-{@code null}.
+     *
+     * @param  left  the left buffer
+     * @param  right  the right buffer
+     * @return the result of the comparison as follows:
+     *         <ul>
+     *         <li>0 if {@code left} is equal to {@code right}</li>
+     *         <li>&lt;0 if {@code left} is less than {@code right}</li>
+     *         <li>&gt;0 if {@code left} is greater than {@code right}</li>
+     *         </ul>
+     */
+    public static int compareUtf8NullFirst(ByteBuffer left, ByteBuffer right) {
+        return left == right ? 0
+             : right == null ? 1   // 1 means: left (non-null) > right (null)
+             : left == null ? -1   // -1 means: left (null) < right (non-null)
+             : Utf8.compare(left, right);
+    }
+
+    /**
+     * Compares two UTF-8 encoded strings in a null-safe manner, without
+     * decoding them to {@code String}.
+     *
+     * <p>For well-formed UTF-8 the result has the same sign of
+     * {@link String#compareTo} applied to the decoded strings (that is, the
+     * UTF-16 code units order and not the plain bytes order).
+     *
+     * <p>The bytes between the current position and the limit of each buffer
+     * are compared; the position, limit and mark of the buffers are not modified.
+     *
+     * <p>A {@code null} is considered <strong>equal to</strong> a
+     * {@code null} and <strong>greater than</strong> a non-{@code null}.
+     *
+     * @param  left  the left buffer
+     * @param  right  the right buffer
+     * @return the result of the comparison as follows:
+     *         <ul>
+     *         <li>0 if {@code left} is equal to {@code right}</li>
+     *         <li>&lt;0 if {@code left} is less than {@code right}</li>
+     *         <li>&gt;0 if {@code left} is greater than {@code right}</li>
+     *         </ul>
+     */
+    public static int compareUtf8NullLast(ByteBuffer left, ByteBuffer right) {
+        return left == right ? 0
+             : right == null ? -1   // -1 means: left (non-null) < right (null)
+             : left == null ? 1     // 1 means: left (null) > right (non-null)
+             : Utf8.compare(left, right);
+    }
+
+    /**
+     * Compares two UTF-8 encoded strings in a null-safe and case-insensitive
+     * manner, without decoding them to {@code String}.
+     *
+     * <p>On Java 16 and later the result has the same sign of
+     * {@link String#CASE_INSENSITIVE_ORDER} applied to the decoded strings.
+     * Supplementary characters are always folded as whole code points (as
+     * {@code String} does only since Java 16, before it folds one {@code char}
+     * at a time, so the result can differ on older versions) and every
+     * malformed byte is treated as the replacement character {@code U+FFFD}.
+     *
+     * <p>A {@code null} is considered <strong>equal to</strong> a
+     * {@code null} and <strong>less than</strong> a non-{@code null}.
+     *
+     * @param  left  the left bytes
+     * @param  right  the right bytes
+     * @return the result of the comparison as follows:
+     *         <ul>
+     *         <li>0 if {@code left} is equal to {@code right}</li>
+     *         <li>&lt;0 if {@code left} is less than {@code right}</li>
+     *         <li>&gt;0 if {@code left} is greater than {@code right}</li>
+     *         </ul>
+     */
+    public static int compareUtf8IgnoringCaseNullFirst(byte[] left, byte[] right) {
+        return left == right ? 0
+             : right == null ? 1   // 1 means: left (non-null) > right (null)
+             : left == null ? -1   // -1 means: left (null) < right (non-null)
+             : Utf8.compareIgnoringCase(left, 0, left.length, right, 0, right.length);
+    }
+
+    /**
+     * Compares two UTF-8 encoded strings in a null-safe and case-insensitive
+     * manner, without decoding them to {@code String}.
+     *
+     * <p>On Java 16 and later the result has the same sign of
+     * {@link String#CASE_INSENSITIVE_ORDER} applied to the decoded strings.
+     * Supplementary characters are always folded as whole code points (as
+     * {@code String} does only since Java 16, before it folds one {@code char}
+     * at a time, so the result can differ on older versions) and every
+     * malformed byte is treated as the replacement character {@code U+FFFD}.
+     *
+     * <p>A {@code null} is considered <strong>equal to</strong> a
+     * {@code null} and <strong>greater than</strong> a non-{@code null}.
+     *
+     * @param  left  the left bytes
+     * @param  right  the right bytes
+     * @return the result of the comparison as follows:
+     *         <ul>
+     *         <li>0 if {@code left} is equal to {@code right}</li>
+     *         <li>&lt;0 if {@code left} is less than {@code right}</li>
+     *         <li>&gt;0 if {@code left} is greater than {@code right}</li>
+     *         </ul>
+     */
+    public static int compareUtf8IgnoringCaseNullLast(byte[] left, byte[] right) {
+        return left == right ? 0
+             : right == null ? -1   // -1 means: left (non-null) < right (null)
+             : left == null ? 1     // 1 means: left (null) > right (non-null)
+             : Utf8.compareIgnoringCase(left, 0, left.length, right, 0, right.length);
+    }
+
+    /**
+     * Compares two UTF-8 encoded strings held in slices of {@code byte} arrays
+     * in a case-insensitive manner, without decoding them to {@code String}.
+     *
+     * <p>On Java 16 and later the result has the same sign of
+     * {@link String#CASE_INSENSITIVE_ORDER} applied to the decoded strings.
+     * Supplementary characters are always folded as whole code points (as
+     * {@code String} does only since Java 16, before it folds one {@code char}
+     * at a time, so the result can differ on older versions) and every
+     * malformed byte is treated as the replacement character {@code U+FFFD}.
+     *
+     * @param  left  the left bytes
+     * @param  leftFromIndex  the index (inclusive) of the first byte of {@code left}
+     * @param  leftToIndex  the index (exclusive) of the last byte of {@code left}
+     * @param  right  the right bytes
+     * @param  rightFromIndex  the index (inclusive) of the first byte of {@code right}
+     * @param  rightToIndex  the index (exclusive) of the last byte of {@code right}
+     * @return the result of the comparison as follows:
+     *         <ul>
+     *         <li>0 if {@code left} is equal to {@code right}</li>
+     *         <li>&lt;0 if {@code left} is less than {@code right}</li>
+     *         <li>&gt;0 if {@code left} is greater than {@code right}</li>
+     *         </ul>
+     * @throws NullPointerException if {@code left} or {@code right} is {@code null}
+     * @throws IllegalArgumentException if a from index is greater than the
+     *         corresponding to index
+     * @throws ArrayIndexOutOfBoundsException if a from index is less than 0 or
+     *         a to index is greater than the length of the corresponding array
+     */
+    public static int compareUtf8IgnoringCase(byte[] left, int leftFromIndex, int leftToIndex,
+            byte[] right, int rightFromIndex, int rightToIndex) {
+        rangeCheck(left.length, leftFromIndex, leftToIndex);
+        rangeCheck(right.length, rightFromIndex, rightToIndex);
+        return Utf8.compareIgnoringCase(left, leftFromIndex, leftToIndex, right, rightFromIndex, rightToIndex);
+    }
+
+    /**
+     * Compares two UTF-8 encoded strings in a null-safe and case-insensitive
+     * manner, without decoding them to {@code String}.
+     *
+     * <p>On Java 16 and later the result has the same sign of
+     * {@link String#CASE_INSENSITIVE_ORDER} applied to the decoded strings.
+     * Supplementary characters are always folded as whole code points (as
+     * {@code String} does only since Java 16, before it folds one {@code char}
+     * at a time, so the result can differ on older versions) and every
+     * malformed byte is treated as the replacement character {@code U+FFFD}.
+     *
+     * <p>The bytes between the current position and the limit of each buffer
+     * are compared; the position, limit and mark of the buffers are not modified.
+     *
+     * <p>A {@code null} is considered <strong>equal to</strong> a
+     * {@code null} and <strong>less than</strong> a non-{@code null}.
+     *
+     * @param  left  the left buffer
+     * @param  right  the right buffer
+     * @return the result of the comparison as follows:
+     *         <ul>
+     *         <li>0 if {@code left} is equal to {@code right}</li>
+     *         <li>&lt;0 if {@code left} is less than {@code right}</li>
+     *         <li>&gt;0 if {@code left} is greater than {@code right}</li>
+     *         </ul>
+     */
+    public static int compareUtf8IgnoringCaseNullFirst(ByteBuffer left, ByteBuffer right) {
+        return left == right ? 0
+             : right == null ? 1   // 1 means: left (non-null) > right (null)
+             : left == null ? -1   // -1 means: left (null) < right (non-null)
+             : Utf8.compareIgnoringCase(left, right);
+    }
+
+    /**
+     * Compares two UTF-8 encoded strings in a null-safe and case-insensitive
+     * manner, without decoding them to {@code String}.
+     *
+     * <p>On Java 16 and later the result has the same sign of
+     * {@link String#CASE_INSENSITIVE_ORDER} applied to the decoded strings.
+     * Supplementary characters are always folded as whole code points (as
+     * {@code String} does only since Java 16, before it folds one {@code char}
+     * at a time, so the result can differ on older versions) and every
+     * malformed byte is treated as the replacement character {@code U+FFFD}.
+     *
+     * <p>The bytes between the current position and the limit of each buffer
+     * are compared; the position, limit and mark of the buffers are not modified.
+     *
+     * <p>A {@code null} is considered <strong>equal to</strong> a
+     * {@code null} and <strong>greater than</strong> a non-{@code null}.
+     *
+     * @param  left  the left buffer
+     * @param  right  the right buffer
+     * @return the result of the comparison as follows:
+     *         <ul>
+     *         <li>0 if {@code left} is equal to {@code right}</li>
+     *         <li>&lt;0 if {@code left} is less than {@code right}</li>
+     *         <li>&gt;0 if {@code left} is greater than {@code right}</li>
+     *         </ul>
+     */
+    public static int compareUtf8IgnoringCaseNullLast(ByteBuffer left, ByteBuffer right) {
+        return left == right ? 0
+             : right == null ? -1   // -1 means: left (non-null) < right (null)
+             : left == null ? 1     // 1 means: left (null) > right (non-null)
+             : Utf8.compareIgnoringCase(left, right);
+    }
+
+    /**
+     * Tells whether an array is sorted in ascending order (that is
+     * non-descending, equal adjacent elements are allowed) according to a
+     * {@code Comparator}. Each pair of adjacent elements is compared at most
+     * once, and the scan stops at the first unsorted element.
+     *
+     * @param  <T>  the type of the elements
+     * @param  a  the array to check
+     * @param  comparator  the {@code Comparator} used to compare the elements
+     * @return {@code true} if the array is sorted, {@code false} otherwise
+     * @throws NullPointerException if {@code a} or {@code comparator} is {@code null}
+     */
+    public static <T> boolean isSorted(T[] a, Comparator<? super T> comparator) {
+        return findFirstUnsorted(a, comparator) < 0;
+    }
+
+    /**
+     * Tells whether a range of an array is sorted in ascending order (that
+     * is non-descending) according to a {@code Comparator}.
+     *
+     * @param  <T>  the type of the elements
+     * @param  a  the array to check
+     * @param  fromIndex  the index of the first element (inclusive)
+     * @param  toIndex  the index of the last element (exclusive)
+     * @param  comparator  the {@code Comparator} used to compare the elements
+     * @return {@code true} if the range is sorted, {@code false} otherwise
+     * @throws NullPointerException if {@code a} or {@code comparator} is {@code null}
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *         {@code toIndex > a.length}
+     */
+    public static <T> boolean isSorted(T[] a, int fromIndex, int toIndex, Comparator<? super T> comparator) {
+        return findFirstUnsorted(a, fromIndex, toIndex, comparator) < 0;
+    }
+
+    /**
+     * Tells whether a list is sorted in ascending order (that is
+     * non-descending) according to a {@code Comparator}. The list is
+     * traversed with its iterator, so the check is linear also for lists
+     * without random access.
+     *
+     * @param  <T>  the type of the elements
+     * @param  list  the list to check
+     * @param  comparator  the {@code Comparator} used to compare the elements
+     * @return {@code true} if the list is sorted, {@code false} otherwise
+     * @throws NullPointerException if {@code list} or {@code comparator} is {@code null}
+     */
+    public static <T> boolean isSorted(List<? extends T> list, Comparator<? super T> comparator) {
+        return findFirstUnsorted(list, comparator) < 0;
+    }
+
+    /**
+     * Returns the index of the first element of an array that is less than
+     * the previous element according to a {@code Comparator}, or -1 if the
+     * array is sorted.
+     *
+     * @param  <T>  the type of the elements
+     * @param  a  the array to check
+     * @param  comparator  the {@code Comparator} used to compare the elements
+     * @return the index of the first unsorted element, or -1
+     * @throws NullPointerException if {@code a} or {@code comparator} is {@code null}
+     */
+    public static <T> int findFirstUnsorted(T[] a, Comparator<? super T> comparator) {
+        return findFirstUnsorted(a, 0, a.length, comparator);
+    }
+
+    /**
+     * Returns the index of the first element of a range of an array that is
+     * less than the previous element according to a {@code Comparator}, or
+     * -1 if the range is sorted.
+     *
+     * @param  <T>  the type of the elements
+     * @param  a  the array to check
+     * @param  fromIndex  the index of the first element (inclusive)
+     * @param  toIndex  the index of the last element (exclusive)
+     * @param  comparator  the {@code Comparator} used to compare the elements
+     * @return the index of the first unsorted element, or -1
+     * @throws NullPointerException if {@code a} or {@code comparator} is {@code null}
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *         {@code toIndex > a.length}
+     */
+    public static <T> int findFirstUnsorted(T[] a, int fromIndex, int toIndex, Comparator<? super T> comparator) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        Checks.requireNotNull(comparator, "comparator");
+        return firstUnsorted(a, fromIndex, toIndex, comparator);
+    }
+
+    /**
+     * Returns the index of the first element of a list that is less than the
+     * previous element according to a {@code Comparator}, or -1 if the list
+     * is sorted.
+     *
+     * @param  <T>  the type of the elements
+     * @param  list  the list to check
+     * @param  comparator  the {@code Comparator} used to compare the elements
+     * @return the index of the first unsorted element, or -1
+     * @throws NullPointerException if {@code list} or {@code comparator} is {@code null}
+     */
+    public static <T> int findFirstUnsorted(List<? extends T> list, Comparator<? super T> comparator) {
+        Checks.requireNotNull(comparator, "comparator");
+        Iterator<? extends T> iterator = list.iterator();
+        if (!iterator.hasNext()) {
+            return -1;
+        }
+
+        T previous = iterator.next();
+        for (int i = 1; iterator.hasNext(); i++) {
+            T element = iterator.next();
+            if (comparator.compare(previous, element) > 0) {
+                return i;
+            }
+            previous = element;
+        }
+        return -1;
+    }
+
+    /**
+     * Tells whether an array is sorted in ascending order, as
+     * {@link #isSorted(Object[], Comparator)} does, checking chunks of a
+     * large array in parallel in the common {@code ForkJoinPool}. The
+     * {@code comparator} must be thread-safe.
+     *
+     * @param  <T>  the type of the elements
+     * @param  a  the array to check
+     * @param  comparator  the {@code Comparator} used to compare the elements
+     * @return {@code true} if the array is sorted, {@code false} otherwise
+     * @throws NullPointerException if {@code a} or {@code comparator} is {@code null}
+     */
+    public static <T> boolean parallelIsSorted(T[] a, Comparator<? super T> comparator) {
+        Checks.requireNotNull(comparator, "comparator");
+        int chunks = parallelChunks(a.length);
+        if (chunks <= 1) {
+            return firstUnsorted(a, 0, a.length, comparator) < 0;
+        }
+        return IntStream.range(0, chunks)
+                .parallel()
+                .allMatch(c -> firstUnsorted(a, chunkStart(a.length, c, chunks),
+                        chunkStart(a.length, c + 1, chunks), comparator) < 0);
+    }
+
+    /**
+     * Returns the index of the first unsorted element of an array, as
+     * {@link #findFirstUnsorted(Object[], Comparator)} does, checking chunks
+     * of a large array in parallel in the common {@code ForkJoinPool}. The
+     * {@code comparator} must be thread-safe.
+     *
+     * @param  <T>  the type of the elements
+     * @param  a  the array to check
+     * @param  comparator  the {@code Comparator} used to compare the elements
+     * @return the index of the first unsorted element, or -1
+     * @throws NullPointerException if {@code a} or {@code comparator} is {@code null}
+     */
+    public static <T> int parallelFindFirstUnsorted(T[] a, Comparator<? super T> comparator) {
+        Checks.requireNotNull(comparator, "comparator");
+        int chunks = parallelChunks(a.length);
+        if (chunks <= 1) {
+            return firstUnsorted(a, 0, a.length, comparator);
+        }
+        return IntStream.range(0, chunks)
+                .parallel()
+                .map(c -> firstUnsorted(a, chunkStart(a.length, c, chunks),
+                        chunkStart(a.length, c + 1, chunks), comparator))
+                .filter(index -> index >= 0)
+                .findFirst()   // the first in encounter order, the later chunks are cancelled
+                .orElse(-1);
+    }
+
+    /**
+     * Analyzes the structure of the <em>runs</em> of an array, according to a
+     * {@code Comparator}. See {@link #analyzeRuns(Object[], int, int, Comparator)}.
+     *
+     * @param  <T>  the type of the elements
+     * @param  a  the array to analyze
+     * @param  comparator  the {@code Comparator} used to compare the elements
+     * @return the {@code RunStructure} of the array
+     * @throws NullPointerException if {@code a} or {@code comparator} is {@code null}
+     */
+    public static <T> RunStructure analyzeRuns(T[] a, Comparator<? super T> comparator) {
+        return analyzeRuns(a, 0, a.length, comparator);
+    }
+
+    /**
+     * Analyzes the structure of the <em>runs</em> of a range of an array,
+     * according to a {@code Comparator}. The range is split, from left to
+     * right, into maximal runs that are either ascending (non-descending) or
+     * strictly descending, as {@link java.util.Arrays#sort(Object[], Comparator)}
+     * does; a single element left at the end is an ascending run. Each pair of
+     * adjacent elements is compared once.
+     *
+     * @param  <T>  the type of the elements
+     * @param  a  the array to analyze
+     * @param  fromIndex  the index of the first element (inclusive)
+     * @param  toIndex  the index of the last element (exclusive)
+     * @param  comparator  the {@code Comparator} used to compare the elements
+     * @return the {@code RunStructure} of the range
+     * @throws NullPointerException if {@code a} or {@code comparator} is {@code null}
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if {@code fromIndex < 0} or
+     *         {@code toIndex > a.length}
+     */
+    public static <T> RunStructure analyzeRuns(T[] a, int fromIndex, int toIndex, Comparator<? super T> comparator) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        Checks.requireNotNull(comparator, "comparator");
+
+        int ascendingRuns = 0;
+        int descendingRuns = 0;
+        int longestRun = 0;
+        int i = fromIndex;
+
+        while (i < toIndex) {
+            int start = i++;
+            if (i < toIndex && comparator.compare(a[i-1], a[i]) > 0) {
+                while (++i < toIndex && comparator.compare(a[i-1], a[i]) > 0) {}
+                descendingRuns++;
+            } else {
+                while (i < toIndex && comparator.compare(a[i-1], a[i]) <= 0) {
+                    i++;
+                }
+                ascendingRuns++;
+            }
+            longestRun = Math.max(longestRun, i - start);
+        }
+        return new RunStructure(toIndex - fromIndex, ascendingRuns, descendingRuns, longestRun);
+    }
+
+
+    private static <T> int firstUnsorted(T[] a, int fromIndex, int toIndex, Comparator<? super T> comparator) {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            if (comparator.compare(a[i-1], a[i]) > 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int parallelChunks(int length) {
+        return Math.min(length / MIN_PARALLEL_CHUNK, 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /*
+     * The start of chunk c, minus one for the chunks after the first so
+     * that the pair across the chunk boundary is compared too.
+     */
+    private static int chunkStart(int length, int c, int chunks) {
+        int start = (int) ((long) length * c / chunks);
+        return c == 0 || c == chunks ? start : start - 1;
+    }
+
+    private static int compareNatural(String left, String right, boolean ignoringCase) {
+        int leftLen = left.length();
+        int rightLen = right.length();
+        int i = 0;
+        int j = 0;
+        int zerosDiff = 0;   // decides only if everything else is equal
+
+        while (i < leftLen && j < rightLen) {
+            char c1 = left.charAt(i);
+            char c2 = right.charAt(j);
+
+            if (isDigit(c1) && isDigit(c2)) {
+                int leftStart = i;
+                int rightStart = j;
+                while (i < leftLen && left.charAt(i) == '0') {
+                    i++;
+                }
+                while (j < rightLen && right.charAt(j) == '0') {
+                    j++;
+                }
+
+                int leftSignificant = i;
+                int rightSignificant = j;
+                while (i < leftLen && isDigit(left.charAt(i))) {
+                    i++;
+                }
+                while (j < rightLen && isDigit(right.charAt(j))) {
+                    j++;
+                }
+
+                int digits = i - leftSignificant;
+                if (digits != j - rightSignificant) {
+                    return digits - (j - rightSignificant);   // more significant digits means greater
+                }
+                for (int k = 0; k < digits; k++) {
+                    int diff = left.charAt(leftSignificant+k) - right.charAt(rightSignificant+k);
+                    if (diff != 0) {
+                        return diff;
+                    }
+                }
+                if (zerosDiff == 0) {
+                    zerosDiff = (leftSignificant - leftStart) - (rightSignificant - rightStart);
+                }
+            } else {
+                if (c1 != c2) {
+                    int diff = ignoringCase ? compareCharIgnoringCase(c1, c2) : c1 - c2;
+                    if (diff != 0) {
+                        return diff;
+                    }
+                }
+                i++;
+                j++;
+            }
+        }
+        return i < leftLen ? 1 : j < rightLen ? -1 : zerosDiff;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int compareCharIgnoringCase(char c1, char c2) {
+        c1 = Character.toUpperCase(c1);
+        c2 = Character.toUpperCase(c2);
+        if (c1 != c2) {
+            c1 = Character.toLowerCase(c1);
+            c2 = Character.toLowerCase(c2);
+            if (c1 != c2) {
+                return c1 - c2;
+            }
+        }
+        return 0;
+    }
+
+    private static void rangeCheck(int arrayLength, int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > arrayLength) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
 }
@@ -0,0 +1,232 @@
+package com.github.utensils4j.compare;
+
+import java.util.Objects;
+
+/**
+ * An utility class to create an equality "chain", typically used in
+ * {@code equals} implementations. It's the companion of {@link Comparison}
+ * and {@link HashChain}: each link stops being evaluated as soon as a
+ * difference is found.
+ *
+ * <p>Each link is consistent with the corresponding link of
+ * {@link Comparison}, that is two values are "equal" if and only if the
+ * comparison gives 0 (for example {@code 0.0} and {@code -0.0} are
+ * <strong>not</strong> equal, while two {@code NaN}s are equal).
+ *
+ * @author Andrea Binello
+ */
+public abstract class EqualityChain {
+    private static final EqualityChain ACTIVE = new Active();
+    private static final EqualityChain NOT_EQUAL = new Inactive();
+
+    public static EqualityChain chain() {
+        return ACTIVE;
+    }
+
+    public static EqualityChain equalityChain() {
+        return ACTIVE;
+    }
+
+    public abstract EqualityChain accept(boolean equal);
+
+    /**
+     * Checks the equality of two {@code boolean} values.
+     *
+     * @param left   the left value
+     * @param right  the right value
+     */
+    public abstract EqualityChain equal(boolean left, boolean right);
+
+    public abstract EqualityChain equal(byte left, byte right);
+
+    public abstract EqualityChain equal(char left, char right);
+
+    public abstract EqualityChain equal(short left, short right);
+
+    public abstract EqualityChain equal(int left, int right);
+
+    public abstract EqualityChain equal(long left, long right);
+
+    /**
+     * Checks the equality of two {@code float} values. The predefined "active"
+     * implementation compares the bits given by {@link Float#floatToIntBits},
+     * consistently with {@link Float#compare}.
+     *
+     * @param left   the left value
+     * @param right  the right value
+     */
+    public abstract EqualityChain equal(float left, float right);
+
+    /**
+     * Checks the equality of two {@code double} values. The predefined "active"
+     * implementation compares the bits given by {@link Double#doubleToLongBits},
+     * consistently with {@link Double#compare}.
+     *
+     * @param left   the left value
+     * @param right  the right value
+     */
+    public abstract EqualityChain equal(double left, double right);
+
+    /**
+     * Checks the equality of two objects in a null-safe manner. The predefined
+     * "active" implementation uses {@link Objects#equals}, that is consistent
+     * with {@link Comparison#ascendingNullFirst(Comparable, Comparable)} when
+     * the natural ordering of the objects is consistent with {@code equals}.
+     *
+     * @param left   the left object
+     * @param right  the right object
+     */
+    public abstract EqualityChain equalNullSafe(Object left, Object right);
+
+    /**
+     * Checks the equality of two strings in a null-safe and case-insensitive
+     * manner. The predefined "active" implementation uses
+     * {@link String#equalsIgnoreCase}, that is consistent with
+     * {@link Comparison#ascendingIgnoringCaseNullFirst(String, String)}.
+     * Supplementary characters are folded as whole code points only since
+     * Java 16, before {@code String} folds one {@code char} at a time, so two
+     * strings that differ only in the case of a supplementary character
+     * (e.g. Deseret letters) are equal only on Java 16 and later.
+     *
+     * @param left   the left string
+     * @param right  the right string
+     */
+    public abstract EqualityChain equalIgnoringCaseNullSafe(String left, String right);
+
+    /**
+     * Returns the result of this equality chain.
+     *
+     * @return  {@code true} if all the links were equal, {@code false} otherwise
+     */
+    public abstract boolean result();
+
+
+    private static class Active extends EqualityChain {
+        @Override
+        public EqualityChain accept(boolean equal) {
+            return eq(equal);
+        }
+
+        @Override
+        public EqualityChain equal(boolean left, boolean right) {
+            return eq(left == right);
+        }
+
+        @Override
+        public EqualityChain equal(byte left, byte right) {
+            return eq(left == right);
+        }
+
+        @Override
+        public EqualityChain equal(char left, char right) {
+            return eq(left == right);
+        }
+
+        @Override
+        public EqualityChain equal(short left, short right) {
+            return eq(left == right);
+        }
+
+        @Override
+        public EqualityChain equal(int left, int right) {
+            return eq(left == right);
+        }
+
+        @Override
+        public EqualityChain equal(long left, long right) {
+            return eq(left == right);
+        }
+
+        @Override
+        public EqualityChain equal(float left, float right) {
+            return eq(Float.floatToIntBits(left) == Float.floatToIntBits(right));
+        }
+
+        @Override
+        public EqualityChain equal(double left, double right) {
+            return eq(Double.doubleToLongBits(left) == Double.doubleToLongBits(right));
+        }
+
+        @Override
+        public EqualityChain equalNullSafe(Object left, Object right) {
+            return eq(Objects.equals(left, right));
+        }
+
+        @Override
+        public EqualityChain equalIgnoringCaseNullSafe(String left, String right) {
+            return eq(left == right || left != null && left.equalsIgnoreCase(right));
+        }
+
+        @Override
+        public boolean result() {
+            return true;
+        }
+
+        private EqualityChain eq(boolean equal) {
+            return equal ? this : NOT_EQUAL;
+        }
+    }
+
+
+    private static class Inactive extends EqualityChain {
+        @Override
+        public EqualityChain accept(boolean equal) {
+            return this;
+        }
+
+        @Override
+        public EqualityChain equal(boolean left, boolean right) {
+            return this;
+        }
+
+        @Override
+        public EqualityChain equal(byte left, byte right) {
+            return this;
+        }
+
+        @Override
+        public EqualityChain equal(char left, char right) {
+            return this;
+        }
+
+        @Override
+        public EqualityChain equal(short left, short right) {
+            return this;
+        }
+
+        @Override
+        public EqualityChain equal(int left, int right) {
+            return this;
+        }
+
+        @Override
+        public EqualityChain equal(long left, long right) {
+            return this;
+        }
+
+        @Override
+        public EqualityChain equal(float left, float right) {
+            return this;
+        }
+
+        @Override
+        public EqualityChain equal(double left, double right) {
+            return this;
+        }
+
+        @Override
+        public EqualityChain equalNullSafe(Object left, Object right) {
+            return this;
+        }
+
+        @Override
+        public EqualityChain equalIgnoringCaseNullSafe(String left, String right) {
+            return this;
+        }
+
+        @Override
+        public boolean result() {
+            return false;
+        }
+    }
+}
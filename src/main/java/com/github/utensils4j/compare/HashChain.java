@@ -0,0 +1,277 @@
+package com.github.utensils4j.compare;
+
+/**
+ * An utility class to create a hash code "chain", typically used in
+ * {@code hashCode} implementations as a replacement of
+ * {@link java.util.Objects#hash(Object...)}. It's the companion of
+ * {@link Comparison} and {@link EqualityChain}: each link is consistent
+ * with the corresponding link of {@link EqualityChain}.
+ *
+ * <p>The result is exactly the same of {@code Objects.hash} with the same
+ * values, but there is no varargs array and no boxing of primitive values.
+ * The chain is a tiny mutable object that is meant to be used in a single
+ * expression, for example:
+ *
+ * <pre>{@code
+ * return HashChain.chain().hash(id).hashNullSafe(name).hash(active).result();
+ * }</pre>
+ *
+ * <p>so that it never escapes and the JIT compiler can usually eliminate it
+ * (scalar replacement), leaving only the arithmetic. This is not guaranteed:
+ * the interpreter, the C1 compiler, a call site that is not inlined or a
+ * chain stored in a variable that escapes allocate a small object for each
+ * chain.
+ *
+ * <p>For the hot paths (e.g. the keys of large hash maps) there are static
+ * methods that thread the hash code as an {@code int}, so they can't
+ * allocate at all, with the same result of the chain:
+ *
+ * <pre>{@code
+ * int h = HashChain.start();
+ * h = HashChain.hash(h, id);
+ * h = HashChain.hashNullSafe(h, name);
+ * return HashChain.hash(h, active);
+ * }</pre>
+ *
+ * @author Andrea Binello
+ */
+public final class HashChain {
+    private int hash = 1;
+
+    private HashChain() {}
+
+    public static HashChain chain() {
+        return new HashChain();
+    }
+
+    public static HashChain hashChain() {
+        return new HashChain();
+    }
+
+    public HashChain accept(int hashCode) {
+        return link(hashCode);
+    }
+
+    public HashChain hash(boolean value) {
+        return link(Boolean.hashCode(value));
+    }
+
+    public HashChain hash(byte value) {
+        return link(Byte.hashCode(value));
+    }
+
+    public HashChain hash(char value) {
+        return link(Character.hashCode(value));
+    }
+
+    public HashChain hash(short value) {
+        return link(Short.hashCode(value));
+    }
+
+    public HashChain hash(int value) {
+        return link(Integer.hashCode(value));
+    }
+
+    public HashChain hash(long value) {
+        return link(Long.hashCode(value));
+    }
+
+    public HashChain hash(float value) {
+        return link(Float.hashCode(value));
+    }
+
+    public HashChain hash(double value) {
+        return link(Double.hashCode(value));
+    }
+
+    /**
+     * Hashes an object in a null-safe manner: a {@code null} has hash code 0,
+     * otherwise {@link Object#hashCode} is used.
+     *
+     * @param value  the object
+     */
+    public HashChain hashNullSafe(Object value) {
+        return link(value == null ? 0 : value.hashCode());
+    }
+
+    /**
+     * Hashes a string in a null-safe and case-insensitive manner, consistently
+     * with {@link EqualityChain#equalIgnoringCaseNullSafe(String, String)}.
+     * The code points of the string are folded as {@link String#equalsIgnoreCase}
+     * does (to upper case and then to lower case) without creating any string.
+     *
+     * @param value  the string
+     */
+    public HashChain hashIgnoringCaseNullSafe(String value) {
+        return link(value == null ? 0 : hashIgnoringCase(value));
+    }
+
+    /**
+     * Returns the initial hash code for the static methods, the same of an
+     * empty chain (and of {@code Objects.hash()} with no values).
+     *
+     * @return  the initial hash code
+     */
+    public static int start() {
+        return 1;
+    }
+
+    /**
+     * Combines a hash code with the hash code of a value, as
+     * {@link #accept(int)} does.
+     *
+     * @param   hash  the hash code so far
+     * @param   hashCode  the hash code to combine
+     * @return  the combined hash code
+     */
+    public static int accept(int hash, int hashCode) {
+        return 31 * hash + hashCode;
+    }
+
+    /**
+     * Combines a hash code with the hash code of a value, as
+     * {@link #hash(boolean)} does.
+     *
+     * @param   hash  the hash code so far
+     * @param   value  the value
+     * @return  the combined hash code
+     */
+    public static int hash(int hash, boolean value) {
+        return accept(hash, Boolean.hashCode(value));
+    }
+
+    /**
+     * Combines a hash code with the hash code of a value, as
+     * {@link #hash(byte)} does.
+     *
+     * @param   hash  the hash code so far
+     * @param   value  the value
+     * @return  the combined hash code
+     */
+    public static int hash(int hash, byte value) {
+        return accept(hash, Byte.hashCode(value));
+    }
+
+    /**
+     * Combines a hash code with the hash code of a value, as
+     * {@link #hash(char)} does.
+     *
+     * @param   hash  the hash code so far
+     * @param   value  the value
+     * @return  the combined hash code
+     */
+    public static int hash(int hash, char value) {
+        return accept(hash, Character.hashCode(value));
+    }
+
+    /**
+     * Combines a hash code with the hash code of a value, as
+     * {@link #hash(short)} does.
+     *
+     * @param   hash  the hash code so far
+     * @param   value  the value
+     * @return  the combined hash code
+     */
+    public static int hash(int hash, short value) {
+        return accept(hash, Short.hashCode(value));
+    }
+
+    /**
+     * Combines a hash code with the hash code of a value, as
+     * {@link #hash(int)} does.
+     *
+     * @param   hash  the hash code so far
+     * @param   value  the value
+     * @return  the combined hash code
+     */
+    public static int hash(int hash, int value) {
+        return accept(hash, Integer.hashCode(value));
+    }
+
+    /**
+     * Combines a hash code with the hash code of a value, as
+     * {@link #hash(long)} does.
+     *
+     * @param   hash  the hash code so far
+     * @param   value  the value
+     * @return  the combined hash code
+     */
+    public static int hash(int hash, long value) {
+        return accept(hash, Long.hashCode(value));
+    }
+
+    /**
+     * Combines a hash code with the hash code of a value, as
+     * {@link #hash(float)} does.
+     *
+     * @param   hash  the hash code so far
+     * @param   value  the value
+     * @return  the combined hash code
+     */
+    public static int hash(int hash, float value) {
+        return accept(hash, Float.hashCode(value));
+    }
+
+    /**
+     * Combines a hash code with the hash code of a value, as
+     * {@link #hash(double)} does.
+     *
+     * @param   hash  the hash code so far
+     * @param   value  the value
+     * @return  the combined hash code
+     */
+    public static int hash(int hash, double value) {
+        return accept(hash, Double.hashCode(value));
+    }
+
+    /**
+     * Combines a hash code with the hash code of an object, as
+     * {@link #hashNullSafe(Object)} does.
+     *
+     * @param   hash  the hash code so far
+     * @param   value  the object
+     * @return  the combined hash code
+     */
+    public static int hashNullSafe(int hash, Object value) {
+        return accept(hash, value == null ? 0 : value.hashCode());
+    }
+
+    /**
+     * Combines a hash code with the case-insensitive hash code of a string,
+     * as {@link #hashIgnoringCaseNullSafe(String)} does.
+     *
+     * @param   hash  the hash code so far
+     * @param   value  the string
+     * @return  the combined hash code
+     */
+    public static int hashIgnoringCaseNullSafe(int hash, String value) {
+        return accept(hash, value == null ? 0 : hashIgnoringCase(value));
+    }
+
+    /**
+     * Returns the result of this hash code chain.
+     *
+     * @return  the hash code
+     */
+    public int result() {
+        return hash;
+    }
+
+
+    private HashChain link(int hashCode) {
+        hash = accept(hash, hashCode);
+        return this;
+    }
+
+    private static int hashIgnoringCase(String str) {
+        int length = str.length();
+        int h = 0;
+
+        for (int i = 0; i < length; ) {
+            int cp = str.codePointAt(i);
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(cp));
+            i += Character.charCount(cp);
+        }
+        return h;
+    }
+}
@@ -0,0 +1,144 @@
+package com.github.utensils4j.compare;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.function.Function;
+
+import com.github.utensils4j.util.Checks;
+
+/**
+ * A {@code Comparator} that compares objects by a <em>derived key</em>,
+ * computing the key of each object only once and caching it by identity of
+ * the object. It's useful when the key is expensive to compute (e.g. it's
+ * parsed or normalized from a field) and the same objects are compared many
+ * times, as during a sort (about <i>n</i>&nbsp;log&nbsp;<i>n</i> comparisons).
+ *
+ * <p>It can be used everywhere a {@code Comparator} is accepted, for example
+ * with {@link Comparisons#compareNullFirst(Object, Object, Comparator)} or
+ * {@link Comparison#ascendingNullFirst(Object, Object, Comparator)}:
+ *
+ * <pre>{@code
+ * MemoizingComparator<Item, Version> byVersion = MemoizingComparator.comparing(
+ *         item -> Version.parse(item.getVersion()), Comparisons::compareNullFirst, 100_000);
+ * items.sort((a, b) -> Comparison.chain()
+ *         .ascendingNullFirst(a, b, byVersion)
+ *         .ascending(a.getId(), b.getId())
+ *         .result());
+ * byVersion.clear();
+ * }</pre>
+ *
+ * <p>The cache is meant to live for the duration of a sort or a batch: it
+ * holds strong references to the compared objects, so it should be cleared
+ * (see {@link #clear()}) when the batch is done. The cache is bounded: when
+ * it contains {@code maxSize} keys, the keys of other objects are computed
+ * on every comparison, without being cached.
+ *
+ * <p><strong>Note</strong>: this class is <strong>not</strong> thread-safe,
+ * so it can't be used for parallel sorts.
+ *
+ * @param  <T>  the type of the compared objects
+ * @param  <K>  the type of the derived keys
+ * @author Andrea Binello
+ */
+public final class MemoizingComparator<T, K> implements Comparator<T> {
+    private static final Object NULL_KEY = new Object();
+
+    private final Function<? super T, ? extends K> keyExtractor;
+    private final Comparator<? super K> keyComparator;
+    private final int maxSize;
+    private final IdentityHashMap<T, Object> cache = new IdentityHashMap<>();
+    private long hits;
+    private long misses;
+
+    private MemoizingComparator(Function<? super T, ? extends K> keyExtractor,
+            Comparator<? super K> keyComparator, int maxSize) {
+        this.keyExtractor = keyExtractor;
+        this.keyComparator = keyComparator;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Creates a new {@code MemoizingComparator}.
+     *
+     * @param  <T>  the type of the compared objects
+     * @param  <K>  the type of the derived keys
+     * @param  keyExtractor  the function that computes the key of an object
+     * @param  keyComparator  the {@code Comparator} used to compare the keys
+     * @param  maxSize  the maximum number of cached keys
+     * @return the new {@code MemoizingComparator}
+     * @throws NullPointerException if {@code keyExtractor} or {@code keyComparator}
+     *         is {@code null}
+     * @throws IllegalArgumentException if {@code maxSize} is not positive
+     */
+    public static <T, K> MemoizingComparator<T, K> comparing(Function<? super T, ? extends K> keyExtractor,
+            Comparator<? super K> keyComparator, int maxSize) {
+        Checks.requireNotNull(keyExtractor, "keyExtractor");
+        Checks.requireNotNull(keyComparator, "keyComparator");
+        Checks.requirePositive(maxSize, "maxSize");
+        return new MemoizingComparator<>(keyExtractor, keyComparator, maxSize);
+    }
+
+    @Override
+    public int compare(T left, T right) {
+        return keyComparator.compare(key(left), key(right));
+    }
+
+    /**
+     * Returns the number of keys found in the cache.
+     *
+     * @return  the number of cache hits
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of keys that were computed.
+     *
+     * @return  the number of cache misses
+     */
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of keys currently cached.
+     *
+     * @return  the size of the cache
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes all the cached keys and resets the hits/misses counters.
+     */
+    public void clear() {
+        cache.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoizingComparator[size=" + cache.size() + ", maxSize=" + maxSize
+                + ", hits=" + hits + ", misses=" + misses + "]";
+    }
+
+    @SuppressWarnings("unchecked")
+    private K key(T obj) {
+        Object cached = cache.get(obj);
+
+        if (cached != null) {
+            hits++;
+            return cached == NULL_KEY ? null : (K) cached;
+        }
+
+        misses++;
+        K key = keyExtractor.apply(obj);
+        if (cache.size() < maxSize) {
+            cache.put(obj, key == null ? NULL_KEY : key);
+        }
+        return key;
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.utensils4j.compare;
+
+/**
+ * The structure of the <em>runs</em> of an array (or of a range of it), as
+ * returned by {@link Comparisons#analyzeRuns}: the number of maximal
+ * ascending (non-descending) and strictly descending runs, and the length
+ * of the longest run.
+ *
+ * <p>Few runs mean that the data is "almost sorted": a single ascending run
+ * is sorted data, a single descending run is data sorted in reverse order.
+ *
+ * <p>Instances of this class are immutable and thread-safe.
+ *
+ * @author Andrea Binello
+ */
+public final class RunStructure {
+    private final int length;
+    private final int ascendingRuns;
+    private final int descendingRuns;
+    private final int longestRun;
+
+    RunStructure(int length, int ascendingRuns, int descendingRuns, int longestRun) {
+        this.length = length;
+        this.ascendingRuns = ascendingRuns;
+        this.descendingRuns = descendingRuns;
+        this.longestRun = longestRun;
+    }
+
+    /**
+     * Returns the number of analyzed elements.
+     *
+     * @return the number of elements
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the number of ascending (non-descending) runs.
+     *
+     * @return the number of ascending runs
+     */
+    public int ascendingRuns() {
+        return ascendingRuns;
+    }
+
+    /**
+     * Returns the number of strictly descending runs.
+     *
+     * @return the number of descending runs
+     */
+    public int descendingRuns() {
+        return descendingRuns;
+    }
+
+    /**
+     * Returns the total number of runs.
+     *
+     * @return the number of runs
+     */
+    public int runs() {
+        return ascendingRuns + descendingRuns;
+    }
+
+    /**
+     * Returns the length of the longest run.
+     *
+     * @return the length of the longest run, 0 if there are no elements
+     */
+    public int longestRun() {
+        return longestRun;
+    }
+
+    /**
+     * Tells whether the elements are sorted in ascending order, that is they
+     * are at most one ascending run.
+     *
+     * @return {@code true} if the elements are sorted
+     */
+    public boolean isSorted() {
+        return descendingRuns == 0 && ascendingRuns <= 1;
+    }
+
+    /**
+     * Tells whether the elements are sorted in strictly descending order,
+     * that is they are a single descending run.
+     *
+     * @return {@code true} if the elements are sorted in strictly descending order
+     */
+    public boolean isStrictlyDescending() {
+        return descendingRuns == 1 && ascendingRuns == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "RunStructure[length=" + length + ", ascendingRuns=" + ascendingRuns
+                + ", descendingRuns=" + descendingRuns + ", longestRun=" + longestRun + "]";
+    }
+}
@@ -0,0 +1,266 @@
+package com.github.utensils4j.compare;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Package-private comparison routines for UTF-8 encoded strings that work
+ * directly on the encoded bytes, without decoding them to {@code String}.
+ *
+ * <p>The case-sensitive comparison relies on the fact that the UTF-8 byte
+ * order is the code point order. The only place where the code point order
+ * differs from the UTF-16 code unit order (the order of {@link String#compareTo})
+ * is between supplementary characters (lead bytes {@code F0..F4}) and the
+ * characters {@code U+E000..U+FFFF} (lead bytes {@code EE..EF}): so it's
+ * enough to compare the first different byte with a "rank" that moves the
+ * 4-bytes lead bytes just before {@code EE}.
+ *
+ * @author Andrea Binello
+ */
+final class Utf8 {
+    private static final int REPLACEMENT_CHAR = 0xFFFD;
+
+    private Utf8() {}
+
+    //-----------------------------------------------------------------------
+    // case-sensitive
+    //-----------------------------------------------------------------------
+
+    static int compare(byte[] left, int leftFrom, int leftTo, byte[] right, int rightFrom, int rightTo) {
+        int leftLen = leftTo - leftFrom;
+        int rightLen = rightTo - rightFrom;
+        int len = Math.min(leftLen, rightLen);
+
+        for (int k = 0; k < len; k++) {
+            byte b1 = left[leftFrom+k];
+            byte b2 = right[rightFrom+k];
+
+            if (b1 != b2) {
+                return rank(b1 & 0xFF) - rank(b2 & 0xFF);
+            }
+        }
+        return leftLen - rightLen;
+    }
+
+    static int compare(ByteBuffer left, ByteBuffer right) {
+        if (left.hasArray() && right.hasArray()) {
+            int leftFrom = left.arrayOffset() + left.position();
+            int rightFrom = right.arrayOffset() + right.position();
+            return compare(left.array(), leftFrom, leftFrom + left.remaining(),
+                    right.array(), rightFrom, rightFrom + right.remaining());
+        }
+
+        int leftPos = left.position();
+        int rightPos = right.position();
+        int leftLen = left.remaining();
+        int rightLen = right.remaining();
+        int len = Math.min(leftLen, rightLen);
+
+        for (int k = 0; k < len; k++) {
+            byte b1 = left.get(leftPos+k);
+            byte b2 = right.get(rightPos+k);
+
+            if (b1 != b2) {
+                return rank(b1 & 0xFF) - rank(b2 & 0xFF);
+            }
+        }
+        return leftLen - rightLen;
+    }
+
+    private static int rank(int b) {
+        return b < 0xEE ? b          // up to U+DFFF (and all continuation bytes)
+             : b < 0xF0 ? b + 0x10   // U+E000..U+FFFF after supplementary characters
+             : b - 0x02;             // supplementary characters before U+E000
+    }
+
+
+    //-----------------------------------------------------------------------
+    // case-insensitive
+    //-----------------------------------------------------------------------
+
+    static int compareIgnoringCase(byte[] left, int leftFrom, int leftTo, byte[] right, int rightFrom, int rightTo) {
+        int i = leftFrom;
+        int j = rightFrom;
+
+        while (i < leftTo && j < rightTo) {
+            int b1 = left[i];
+            int b2 = right[j];
+
+            if (b1 >= 0 && b2 >= 0) {   // both ASCII
+                if (b1 != b2) {
+                    int diff = toLowerAscii(b1) - toLowerAscii(b2);
+                    if (diff != 0) {
+                        return diff;
+                    }
+                }
+                i++;
+                j++;
+            } else {
+                int d1 = decode(left, i, leftTo);
+                int d2 = decode(right, j, rightTo);
+                int diff = compareCodePointIgnoringCase(codePoint(d1), codePoint(d2));
+                if (diff != 0) {
+                    return diff;
+                }
+                i += length(d1);
+                j += length(d2);
+            }
+        }
+        return i < leftTo ? 1 : j < rightTo ? -1 : 0;
+    }
+
+    static int compareIgnoringCase(ByteBuffer left, ByteBuffer right) {
+        if (left.hasArray() && right.hasArray()) {
+            int leftFrom = left.arrayOffset() + left.position();
+            int rightFrom = right.arrayOffset() + right.position();
+            return compareIgnoringCase(left.array(), leftFrom, leftFrom + left.remaining(),
+                    right.array(), rightFrom, rightFrom + right.remaining());
+        }
+
+        int i = left.position();
+        int j = right.position();
+        int leftTo = left.limit();
+        int rightTo = right.limit();
+
+        while (i < leftTo && j < rightTo) {
+            int b1 = left.get(i);
+            int b2 = right.get(j);
+
+            if (b1 >= 0 && b2 >= 0) {   // both ASCII
+                if (b1 != b2) {
+                    int diff = toLowerAscii(b1) - toLowerAscii(b2);
+                    if (diff != 0) {
+                        return diff;
+                    }
+                }
+                i++;
+                j++;
+            } else {
+                int d1 = decode(left, i, leftTo);
+                int d2 = decode(right, j, rightTo);
+                int diff = compareCodePointIgnoringCase(codePoint(d1), codePoint(d2));
+                if (diff != 0) {
+                    return diff;
+                }
+                i += length(d1);
+                j += length(d2);
+            }
+        }
+        return i < leftTo ? 1 : j < rightTo ? -1 : 0;
+    }
+
+    private static int toLowerAscii(int c) {
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+
+    /*
+     * Same folding of String.CASE_INSENSITIVE_ORDER since Java 16 (by code
+     * point): first to upper case and then (only if still different) to lower case.
+     */
+    private static int compareCodePointIgnoringCase(int cp1, int cp2) {
+        if (cp1 != cp2) {
+            cp1 = Character.toUpperCase(cp1);
+            cp2 = Character.toUpperCase(cp2);
+            if (cp1 != cp2) {
+                cp1 = Character.toLowerCase(cp1);
+                cp2 = Character.toLowerCase(cp2);
+                if (cp1 != cp2) {
+                    return cp1 - cp2;
+                }
+            }
+        }
+        return 0;
+    }
+
+
+    //-----------------------------------------------------------------------
+    // decoding
+    //-----------------------------------------------------------------------
+
+    /*
+     * The decoded code point and the number of consumed bytes are packed
+     * into a single int: the code point in the lower 24 bits and the length
+     * in the upper 8 bits. A malformed sequence is decoded as U+FFFD
+     * consuming a single byte.
+     */
+    private static int decode(byte[] bytes, int index, int limit) {
+        int b0 = bytes[index] & 0xFF;
+        int n = sequenceLength(b0);
+
+        if (n == 1) {
+            return pack(b0, 1);
+        } else if (n == 0 || n > limit - index) {
+            return pack(REPLACEMENT_CHAR, 1);
+        }
+
+        int b1 = bytes[index+1] & 0xFF;
+        int b2 = n > 2 ? bytes[index+2] & 0xFF : 0x80;
+        int b3 = n > 3 ? bytes[index+3] & 0xFF : 0x80;
+        return decode(b0, b1, b2, b3, n);
+    }
+
+    private static int decode(ByteBuffer bytes, int index, int limit) {
+        int b0 = bytes.get(index) & 0xFF;
+        int n = sequenceLength(b0);
+
+        if (n == 1) {
+            return pack(b0, 1);
+        } else if (n == 0 || n > limit - index) {
+            return pack(REPLACEMENT_CHAR, 1);
+        }
+
+        int b1 = bytes.get(index+1) & 0xFF;
+        int b2 = n > 2 ? bytes.get(index+2) & 0xFF : 0x80;
+        int b3 = n > 3 ? bytes.get(index+3) & 0xFF : 0x80;
+        return decode(b0, b1, b2, b3, n);
+    }
+
+    private static int decode(int b0, int b1, int b2, int b3, int n) {
+        if (!isContinuation(b1) || !isContinuation(b2) || !isContinuation(b3)) {
+            return pack(REPLACEMENT_CHAR, 1);
+        }
+
+        switch (n) {
+            case 2:
+                return pack(((b0 & 0x1F) << 6) | (b1 & 0x3F), 2);
+            case 3:
+                if (b0 == 0xE0 && b1 < 0xA0 || b0 == 0xED && b1 > 0x9F) {   // overlong or surrogate
+                    return pack(REPLACEMENT_CHAR, 1);
+                }
+                return pack(((b0 & 0x0F) << 12) | ((b1 & 0x3F) << 6) | (b2 & 0x3F), 3);
+            default:
+                if (b0 == 0xF0 && b1 < 0x90 || b0 == 0xF4 && b1 > 0x8F) {   // overlong or > U+10FFFF
+                    return pack(REPLACEMENT_CHAR, 1);
+                }
+                return pack(((b0 & 0x07) << 18) | ((b1 & 0x3F) << 12) | ((b2 & 0x3F) << 6) | (b3 & 0x3F), 4);
+        }
+    }
+
+    /*
+     * Returns the length of the sequence from the lead byte, or 0 for an
+     * invalid lead byte.
+     */
+    private static int sequenceLength(int b0) {
+        return b0 < 0x80 ? 1
+             : b0 < 0xC2 ? 0   // continuation or overlong lead byte
+             : b0 < 0xE0 ? 2
+             : b0 < 0xF0 ? 3
+             : b0 < 0xF5 ? 4
+             : 0;
+    }
+
+    private static boolean isContinuation(int b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    private static int pack(int codePoint, int length) {
+        return (length << 24) | codePoint;
+    }
+
+    private static int codePoint(int decoded) {
+        return decoded & 0xFFFFFF;
+    }
+
+    private static int length(int decoded) {
+        return decoded >>> 24;
+    }
+}
@@ -0,0 +1,163 @@
+package com.github.utensils4j.sort;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import com.github.utensils4j.compare.Comparisons;
+import com.github.utensils4j.util.Checks;
+
+/**
+ * Static utility methods to sort data that is often already sorted, or
+ * sorted in reverse order (for example records that arrive almost ordered
+ * by timestamp).
+ *
+ * <p>A single linear scan detects the two presorted cases: data already in
+ * ascending order is left untouched (without the copy of a general-purpose
+ * sort), data in strictly descending order is reversed in place. Any other
+ * data is sorted with {@link Arrays#sort(Object[], int, int, Comparator)}
+ * (or {@link Arrays#parallelSort(Object[], int, int, Comparator)}), so
+ * the scan is the only overhead.
+ *
+ * <p>The sort is <em>stable</em>: equal elements keep their relative order
+ * (a descending run with equal elements is not reversed, just sorted).
+ *
+ * @author Andrea Binello
+ */
+public class AdaptiveSorts {
+    private AdaptiveSorts() {}
+
+    /**
+     * Sorts an array according to a {@code Comparator}, returning immediately
+     * if it is already sorted and reversing it if it is in strictly
+     * descending order.
+     *
+     * @param  <T>  the type of the elements
+     * @param  a  the array to sort
+     * @param  comparator  the {@code Comparator} used to compare the elements
+     * @throws NullPointerException if {@code a} or {@code comparator} is {@code null}
+     */
+    public static <T> void sort(T[] a, Comparator<? super T> comparator) {
+        sort(a, 0, Checks.requireNotNull(a, "a").length, comparator);
+    }
+
+    /**
+     * Sorts a range of an array according to a {@code Comparator}, returning
+     * immediately if it is already sorted and reversing it if it is in
+     * strictly descending order.
+     *
+     * @param  <T>  the type of the elements
+     * @param  a  the array to sort
+     * @param  fromIndex  the index of the first element (inclusive)
+     * @param  toIndex  the index of the last element (exclusive)
+     * @param  comparator  the {@code Comparator} used to compare the elements
+     * @throws NullPointerException if {@code a} or {@code comparator} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static <T> void sort(T[] a, int fromIndex, int toIndex, Comparator<? super T> comparator) {
+        Checks.checkFromToIndex(fromIndex, toIndex, Checks.requireNotNull(a, "a").length);
+        Checks.requireNotNull(comparator, "comparator");
+
+        if (!presorted(a, fromIndex, toIndex, comparator)) {
+            Arrays.sort(a, fromIndex, toIndex, comparator);
+        }
+    }
+
+    /**
+     * Sorts an array according to a {@code Comparator}, as
+     * {@link #sort(Object[], Comparator)} does, with a parallel sort for the
+     * data that is not presorted. The check for presorted data is done in
+     * parallel too. The {@code comparator} must be thread-safe.
+     *
+     * @param  <T>  the type of the elements
+     * @param  a  the array to sort
+     * @param  comparator  the {@code Comparator} used to compare the elements
+     * @throws NullPointerException if {@code a} or {@code comparator} is {@code null}
+     */
+    public static <T> void parallelSort(T[] a, Comparator<? super T> comparator) {
+        Checks.requireNotNull(a, "a");
+        Checks.requireNotNull(comparator, "comparator");
+
+        if (Comparisons.parallelIsSorted(a, comparator)) {
+            return;
+        }
+        if (comparator.compare(a[0], a[1]) > 0 && presorted(a, 0, a.length, comparator)) {
+            return;   // was strictly descending, reversed
+        }
+        Arrays.parallelSort(a, comparator);
+    }
+
+    /**
+     * Sorts a list according to a {@code Comparator}, returning immediately if
+     * it is already sorted and reversing it if it is in strictly descending
+     * order.
+     *
+     * @param  <T>  the type of the elements
+     * @param  list  the list to sort
+     * @param  comparator  the {@code Comparator} used to compare the elements
+     * @throws NullPointerException if {@code list} or {@code comparator} is {@code null}
+     * @throws UnsupportedOperationException if the list is not modifiable
+     *         and it is not presorted in ascending order
+     */
+    public static <T> void sort(List<T> list, Comparator<? super T> comparator) {
+        Checks.requireNotNull(list, "list");
+        Checks.requireNotNull(comparator, "comparator");
+
+        int unsorted = Comparisons.findFirstUnsorted(list, comparator);
+        if (unsorted < 0) {
+            return;
+        }
+        if (unsorted == 1 && isStrictlyDescending(list, comparator)) {
+            Collections.reverse(list);
+            return;
+        }
+        list.sort(comparator);
+    }
+
+
+    /*
+     * Handles the presorted cases, returns false if the range still has to be sorted.
+     */
+    private static <T> boolean presorted(T[] a, int fromIndex, int toIndex, Comparator<? super T> comparator) {
+        if (toIndex - fromIndex < 2) {
+            return true;
+        }
+
+        int i = fromIndex + 1;
+        if (comparator.compare(a[i-1], a[i]) > 0) {
+            while (++i < toIndex && comparator.compare(a[i-1], a[i]) > 0) {}
+            if (i == toIndex) {
+                reverse(a, fromIndex, toIndex);
+                return true;
+            }
+        } else {
+            while (++i < toIndex && comparator.compare(a[i-1], a[i]) <= 0) {}
+            if (i == toIndex) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void reverse(Object[] a, int fromIndex, int toIndex) {
+        for (int i = fromIndex, j = toIndex - 1; i < j; i++, j--) {
+            Object tmp = a[i];
+            a[i] = a[j];
+            a[j] = tmp;
+        }
+    }
+
+    private static <T> boolean isStrictlyDescending(List<T> list, Comparator<? super T> comparator) {
+        T previous = null;
+        boolean first = true;
+        for (T element : list) {
+            if (!first && comparator.compare(previous, element) <= 0) {
+                return false;
+            }
+            previous = element;
+            first = false;
+        }
+        return true;
+    }
+}
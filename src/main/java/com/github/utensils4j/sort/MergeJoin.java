@@ -0,0 +1,313 @@
+package com.github.utensils4j.sort;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+
+import com.github.utensils4j.util.Checks;
+
+/**
+ * Static utility methods to <em>merge-join</em> two inputs that are both
+ * sorted by the same key, in a single pass and without building a hash
+ * table of either side. Inner, left outer and full outer joins are
+ * available, over {@code Iterator}s or arrays.
+ *
+ * <p>The key is compared across the two sides with a {@link KeyComparator},
+ * typically implemented with {@link com.github.utensils4j.compare.Comparison}:
+ *
+ * <pre>{@code
+ * long matched = MergeJoin.innerJoin(invoices.iterator(), payments.iterator(),
+ *         (invoice, payment) -> Comparison.chain()
+ *                 .ascendingNullFirst(invoice.getCustomer(), payment.getCustomer())
+ *                 .ascending(invoice.getNumber(), payment.getInvoiceNumber())
+ *                 .result(),
+ *         (invoice, payment) -> reconcile(invoice, payment));
+ * }</pre>
+ *
+ * <p>Duplicate keys are allowed on both sides: for a key present <i>m</i>
+ * times on the left and <i>n</i> times on the right, the join emits all the
+ * <i>m</i> &times; <i>n</i> pairs. With {@code Iterator}s the right
+ * elements with the current key are kept in a buffer that is reused for
+ * all the keys; with arrays no buffer is needed. No other object is
+ * allocated per element or per match.
+ *
+ * <p>For the outer joins the missing side is passed to the consumer as
+ * {@code null}, so the inputs should not contain {@code null} elements.
+ * The inputs must be sorted in ascending order of the key, consistently
+ * with the {@code KeyComparator}, otherwise the result is unspecified.
+ *
+ * @author Andrea Binello
+ */
+public class MergeJoin {
+    private MergeJoin() {}
+
+    /**
+     * A comparison of the keys of a left and a right element.
+     *
+     * @param  <L>  the type of the left elements
+     * @param  <R>  the type of the right elements
+     */
+    @FunctionalInterface
+    public interface KeyComparator<L, R> {
+        /**
+         * Compares the key of a left element with the key of a right element.
+         *
+         * @param  left  the left element
+         * @param  right  the right element
+         * @return a negative integer, zero, or a positive integer as the left
+         *         key is less than, equal to, or greater than the right key
+         */
+        int compare(L left, R right);
+    }
+
+    //-----------------------------------------------------------------------
+    // innerJoin / leftJoin / fullJoin (Iterator)
+    //-----------------------------------------------------------------------
+
+    /**
+     * Inner-joins two sorted {@code Iterator}s: the consumer receives every
+     * pair of left and right elements with the same key.
+     *
+     * @param  <L>  the type of the left elements
+     * @param  <R>  the type of the right elements
+     * @param  left  the left sorted elements
+     * @param  right  the right sorted elements
+     * @param  keyComparator  the comparison of the keys
+     * @param  consumer  the consumer of the joined pairs
+     * @return the number of pairs passed to the consumer
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static <L, R> long innerJoin(Iterator<? extends L> left, Iterator<? extends R> right,
+            KeyComparator<? super L, ? super R> keyComparator, BiConsumer<? super L, ? super R> consumer) {
+        return join(left, right, keyComparator, consumer, false, false);
+    }
+
+    /**
+     * Left-outer-joins two sorted {@code Iterator}s: the consumer receives
+     * every pair of left and right elements with the same key, plus every
+     * left element without a match, paired with {@code null}.
+     *
+     * @param  <L>  the type of the left elements
+     * @param  <R>  the type of the right elements
+     * @param  left  the left sorted elements
+     * @param  right  the right sorted elements
+     * @param  keyComparator  the comparison of the keys
+     * @param  consumer  the consumer of the joined pairs
+     * @return the number of pairs passed to the consumer
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static <L, R> long leftJoin(Iterator<? extends L> left, Iterator<? extends R> right,
+            KeyComparator<? super L, ? super R> keyComparator, BiConsumer<? super L, ? super R> consumer) {
+        return join(left, right, keyComparator, consumer, true, false);
+    }
+
+    /**
+     * Full-outer-joins two sorted {@code Iterator}s: the consumer receives
+     * every pair of left and right elements with the same key, plus every
+     * element of either side without a match, paired with {@code null}.
+     *
+     * @param  <L>  the type of the left elements
+     * @param  <R>  the type of the right elements
+     * @param  left  the left sorted elements
+     * @param  right  the right sorted elements
+     * @param  keyComparator  the comparison of the keys
+     * @param  consumer  the consumer of the joined pairs
+     * @return the number of pairs passed to the consumer
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static <L, R> long fullJoin(Iterator<? extends L> left, Iterator<? extends R> right,
+            KeyComparator<? super L, ? super R> keyComparator, BiConsumer<? super L, ? super R> consumer) {
+        return join(left, right, keyComparator, consumer, true, true);
+    }
+
+    //-----------------------------------------------------------------------
+    // innerJoin / leftJoin / fullJoin (array)
+    //-----------------------------------------------------------------------
+
+    /**
+     * Inner-joins two sorted arrays: the consumer receives every pair of
+     * left and right elements with the same key.
+     *
+     * @param  <L>  the type of the left elements
+     * @param  <R>  the type of the right elements
+     * @param  left  the left sorted elements
+     * @param  right  the right sorted elements
+     * @param  keyComparator  the comparison of the keys
+     * @param  consumer  the consumer of the joined pairs
+     * @return the number of pairs passed to the consumer
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static <L, R> long innerJoin(L[] left, R[] right,
+            KeyComparator<? super L, ? super R> keyComparator, BiConsumer<? super L, ? super R> consumer) {
+        return join(left, right, keyComparator, consumer, false, false);
+    }
+
+    /**
+     * Left-outer-joins two sorted arrays: the consumer receives every pair
+     * of left and right elements with the same key, plus every left element
+     * without a match, paired with {@code null}.
+     *
+     * @param  <L>  the type of the left elements
+     * @param  <R>  the type of the right elements
+     * @param  left  the left sorted elements
+     * @param  right  the right sorted elements
+     * @param  keyComparator  the comparison of the keys
+     * @param  consumer  the consumer of the joined pairs
+     * @return the number of pairs passed to the consumer
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static <L, R> long leftJoin(L[] left, R[] right,
+            KeyComparator<? super L, ? super R> keyComparator, BiConsumer<? super L, ? super R> consumer) {
+        return join(left, right, keyComparator, consumer, true, false);
+    }
+
+    /**
+     * Full-outer-joins two sorted arrays: the consumer receives every pair
+     * of left and right elements with the same key, plus every element of
+     * either side without a match, paired with {@code null}.
+     *
+     * @param  <L>  the type of the left elements
+     * @param  <R>  the type of the right elements
+     * @param  left  the left sorted elements
+     * @param  right  the right sorted elements
+     * @param  keyComparator  the comparison of the keys
+     * @param  consumer  the consumer of the joined pairs
+     * @return the number of pairs passed to the consumer
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static <L, R> long fullJoin(L[] left, R[] right,
+            KeyComparator<? super L, ? super R> keyComparator, BiConsumer<? super L, ? super R> consumer) {
+        return join(left, right, keyComparator, consumer, true, true);
+    }
+
+
+    private static <L, R> long join(Iterator<? extends L> left, Iterator<? extends R> right,
+            KeyComparator<? super L, ? super R> keyComparator, BiConsumer<? super L, ? super R> consumer,
+            boolean keepLeft, boolean keepRight) {
+        Checks.requireNotNull(left, "left");
+        Checks.requireNotNull(right, "right");
+        Checks.requireNotNull(keyComparator, "keyComparator");
+        Checks.requireNotNull(consumer, "consumer");
+
+        ArrayList<R> group = new ArrayList<>();   // right elements with the current key, reused
+        long count = 0;
+        boolean hasLeft = left.hasNext();
+        L l = hasLeft ? left.next() : null;
+        boolean hasRight = right.hasNext();
+        R r = hasRight ? right.next() : null;
+
+        while (hasLeft && hasRight) {
+            int c = keyComparator.compare(l, r);
+
+            if (c < 0) {
+                if (keepLeft) {
+                    consumer.accept(l, null);
+                    count++;
+                }
+                hasLeft = left.hasNext();
+                l = hasLeft ? left.next() : null;
+            } else if (c > 0) {
+                if (keepRight) {
+                    consumer.accept(null, r);
+                    count++;
+                }
+                hasRight = right.hasNext();
+                r = hasRight ? right.next() : null;
+            } else {
+                group.clear();
+                R first = r;
+                do {
+                    group.add(r);
+                    hasRight = right.hasNext();
+                    r = hasRight ? right.next() : null;
+                } while (hasRight && keyComparator.compare(l, r) == 0);
+
+                int size = group.size();
+                do {
+                    for (int i = 0; i < size; i++) {
+                        consumer.accept(l, group.get(i));
+                    }
+                    count += size;
+                    hasLeft = left.hasNext();
+                    l = hasLeft ? left.next() : null;
+                } while (hasLeft && keyComparator.compare(l, first) == 0);
+            }
+        }
+
+        if (keepLeft) {
+            while (hasLeft) {
+                consumer.accept(l, null);
+                count++;
+                hasLeft = left.hasNext();
+                l = hasLeft ? left.next() : null;
+            }
+        }
+        if (keepRight) {
+            while (hasRight) {
+                consumer.accept(null, r);
+                count++;
+                hasRight = right.hasNext();
+                r = hasRight ? right.next() : null;
+            }
+        }
+        return count;
+    }
+
+    private static <L, R> long join(L[] left, R[] right,
+            KeyComparator<? super L, ? super R> keyComparator, BiConsumer<? super L, ? super R> consumer,
+            boolean keepLeft, boolean keepRight) {
+        Checks.requireNotNull(left, "left");
+        Checks.requireNotNull(right, "right");
+        Checks.requireNotNull(keyComparator, "keyComparator");
+        Checks.requireNotNull(consumer, "consumer");
+
+        long count = 0;
+        int i = 0;
+        int j = 0;
+
+        while (i < left.length && j < right.length) {
+            int c = keyComparator.compare(left[i], right[j]);
+
+            if (c < 0) {
+                if (keepLeft) {
+                    consumer.accept(left[i], null);
+                    count++;
+                }
+                i++;
+            } else if (c > 0) {
+                if (keepRight) {
+                    consumer.accept(null, right[j]);
+                    count++;
+                }
+                j++;
+            } else {
+                int groupStart = j;
+                do {
+                    j++;
+                } while (j < right.length && keyComparator.compare(left[i], right[j]) == 0);
+
+                do {
+                    for (int k = groupStart; k < j; k++) {
+                        consumer.accept(left[i], right[k]);
+                    }
+                    count += j - groupStart;
+                    i++;
+                } while (i < left.length && keyComparator.compare(left[i], right[groupStart]) == 0);
+            }
+        }
+
+        if (keepLeft) {
+            for (; i < left.length; i++) {
+                consumer.accept(left[i], null);
+                count++;
+            }
+        }
+        if (keepRight) {
+            for (; j < right.length; j++) {
+                consumer.accept(null, right[j]);
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,164 @@
+package com.github.utensils4j.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.Collector;
+
+import com.github.utensils4j.util.Checks;
+
+/**
+ * Static utility methods to create {@code Collector}s that collect the
+ * elements of a stream in sorted order, typically with a comparator
+ * implemented with {@link com.github.utensils4j.compare.Comparison} or
+ * {@link com.github.utensils4j.compare.Comparisons}:
+ *
+ * <pre>{@code
+ * List<Item> sorted = items.parallelStream()
+ *         .filter(Item::isActive)
+ *         .collect(SortedCollectors.toSortedList((a, b) -> Comparison.chain()
+ *                 .ascendingIgnoringCaseNullFirst(a.getCategory(), b.getCategory())
+ *                 .ascending(a.getId(), b.getId())
+ *                 .result()));
+ * }</pre>
+ *
+ * <p>With a parallel stream each segment is sorted by its own thread and the
+ * sorted segments are <em>merged</em> by the combiner, in linear time, so
+ * the sort scales with the parallelism of the stream (instead of
+ * {@code sorted()} followed by {@code collect}, that sorts everything at
+ * the end). The sort is <em>stable</em>: equal elements keep their
+ * encounter order.
+ *
+ * @author Andrea Binello
+ */
+public class SortedCollectors {
+    private SortedCollectors() {}
+
+    /**
+     * Returns a {@code Collector} that collects the elements into a new
+     * {@code ArrayList}, sorted according to a {@code Comparator}.
+     *
+     * @param  <T>  the type of the elements
+     * @param  comparator  the {@code Comparator} used to sort the elements
+     * @return the {@code Collector}
+     * @throws NullPointerException if {@code comparator} is {@code null}
+     */
+    public static <T> Collector<T, ?, List<T>> toSortedList(Comparator<? super T> comparator) {
+        Checks.requireNotNull(comparator, "comparator");
+        return Collector.of(
+                SortedRun<T>::new,
+                SortedRun::add,
+                (left, right) -> left.merge(right, comparator),
+                run -> run.toList(comparator));
+    }
+
+    /**
+     * Returns a {@code Collector} that collects the elements into a new array,
+     * sorted according to a {@code Comparator}.
+     *
+     * @param  <T>  the type of the elements
+     * @param  comparator  the {@code Comparator} used to sort the elements
+     * @param  generator  a function that creates a new array of the given length
+     * @return the {@code Collector}
+     * @throws NullPointerException if {@code comparator} or {@code generator}
+     *         is {@code null}
+     */
+    public static <T> Collector<T, ?, T[]> toSortedArray(Comparator<? super T> comparator,
+            IntFunction<T[]> generator) {
+        Checks.requireNotNull(comparator, "comparator");
+        Checks.requireNotNull(generator, "generator");
+        return Collector.of(
+                SortedRun<T>::new,
+                SortedRun::add,
+                (left, right) -> left.merge(right, comparator),
+                run -> run.toArray(comparator, generator));
+    }
+
+
+    /*
+     * The elements of a segment, sorted lazily (only when merged or finished).
+     */
+    private static final class SortedRun<T> {
+        private Object[] elements = new Object[16];
+        private int size;
+        private boolean sorted = true;
+
+        void add(T element) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, size * 2);
+            }
+            elements[size++] = element;
+            sorted = size == 1;
+        }
+
+        SortedRun<T> merge(SortedRun<T> right, Comparator<? super T> comparator) {
+            if (right.size == 0) {
+                return this;
+            }
+            if (size == 0) {
+                return right;
+            }
+            sort(comparator);
+            right.sort(comparator);
+
+            Object[] merged = new Object[size + right.size];
+            Object[] a = elements;
+            Object[] b = right.elements;
+            int i = 0;
+            int j = 0;
+            int k = 0;
+
+            if (compare(comparator, a[size-1], b[0]) <= 0) {   // already in order
+                System.arraycopy(a, 0, merged, 0, size);
+                System.arraycopy(b, 0, merged, size, right.size);
+            } else {
+                while (i < size && j < right.size) {
+                    // on ties the left element comes first, for stability
+                    merged[k++] = compare(comparator, b[j], a[i]) < 0 ? b[j++] : a[i++];
+                }
+                System.arraycopy(a, i, merged, k, size - i);
+                System.arraycopy(b, j, merged, k + size - i, right.size - j);
+            }
+
+            elements = merged;
+            size = merged.length;
+            return this;
+        }
+
+        List<T> toList(Comparator<? super T> comparator) {
+            sort(comparator);
+            List<T> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(element(i));
+            }
+            return list;
+        }
+
+        T[] toArray(Comparator<? super T> comparator, IntFunction<T[]> generator) {
+            sort(comparator);
+            T[] array = generator.apply(size);
+            System.arraycopy(elements, 0, array, 0, size);
+            return array;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void sort(Comparator<? super T> comparator) {
+            if (!sorted) {
+                Arrays.sort(elements, 0, size, (Comparator<Object>) comparator);   // stable
+                sorted = true;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private T element(int index) {
+            return (T) elements[index];
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> int compare(Comparator<? super T> comparator, Object left, Object right) {
+            return comparator.compare((T) left, (T) right);
+        }
+    }
+}
@@ -0,0 +1,380 @@
+package com.github.utensils4j.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.github.utensils4j.util.Checks;
+
+/**
+ * Static utility methods to group the <em>runs</em> of equal keys of data
+ * that is already sorted, without hashing: a single pass over an
+ * {@code Iterator} or a {@code Stream}, or a search of the group
+ * boundaries in an array.
+ *
+ * <p>The key is specified with a {@code Comparator} (two elements are in
+ * the same group when the comparison gives 0) or, with the {@code ...By}
+ * methods, with an equality predicate, typically implemented with
+ * {@link com.github.utensils4j.compare.EqualityChain}:
+ *
+ * <pre>{@code
+ * Iterator<List<Event>> buckets = SortedRuns.groupsBy(sortedEvents.iterator(),
+ *         (a, b) -> EqualityChain.chain()
+ *                 .equalNullSafe(a.getSource(), b.getSource())
+ *                 .equal(a.getMinute(), b.getMinute())
+ *                 .result());
+ * }</pre>
+ *
+ * <p>The data must be sorted (or at least grouped) by the same key,
+ * otherwise the equal keys that are not adjacent end up in distinct groups.
+ *
+ * @author Andrea Binello
+ */
+public class SortedRuns {
+    private static final int MIN_PARALLEL_CHUNK = 1 << 13;
+
+    private SortedRuns() {}
+
+    //-----------------------------------------------------------------------
+    // groups / groupsBy
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns an {@code Iterator} over the groups of adjacent elements that
+     * are equal according to a {@code Comparator}. The elements are read
+     * lazily, one group at a time.
+     *
+     * @param  <T>  the type of the elements
+     * @param  sorted  the {@code Iterator} over the sorted elements
+     * @param  comparator  the {@code Comparator} of the keys
+     * @return the {@code Iterator} over the groups
+     * @throws NullPointerException if {@code sorted} or {@code comparator} is {@code null}
+     */
+    public static <T> Iterator<List<T>> groups(Iterator<? extends T> sorted, Comparator<? super T> comparator) {
+        Checks.requireNotNull(comparator, "comparator");
+        return groupsBy(sorted, (left, right) -> comparator.compare(left, right) == 0);
+    }
+
+    /**
+     * Returns an {@code Iterator} over the groups of adjacent elements that
+     * satisfy an equality predicate. The elements are read lazily, one group
+     * at a time.
+     *
+     * @param  <T>  the type of the elements
+     * @param  sorted  the {@code Iterator} over the sorted elements
+     * @param  sameKey  the predicate that tells whether two adjacent elements
+     *         have the same key
+     * @return the {@code Iterator} over the groups
+     * @throws NullPointerException if {@code sorted} or {@code sameKey} is {@code null}
+     */
+    public static <T> Iterator<List<T>> groupsBy(Iterator<? extends T> sorted,
+            BiPredicate<? super T, ? super T> sameKey) {
+        Checks.requireNotNull(sorted, "sorted");
+        Checks.requireNotNull(sameKey, "sameKey");
+        return new GroupIterator<>(sorted, sameKey);
+    }
+
+    /**
+     * Returns a sequential {@code Stream} of the groups of adjacent elements
+     * that are equal according to a {@code Comparator}. The elements are
+     * read lazily, one group at a time. Closing the returned stream closes
+     * the source stream.
+     *
+     * @param  <T>  the type of the elements
+     * @param  sorted  the {@code Stream} of the sorted elements
+     * @param  comparator  the {@code Comparator} of the keys
+     * @return the {@code Stream} of the groups
+     * @throws NullPointerException if {@code sorted} or {@code comparator} is {@code null}
+     */
+    public static <T> Stream<List<T>> groups(Stream<? extends T> sorted, Comparator<? super T> comparator) {
+        Checks.requireNotNull(comparator, "comparator");
+        return groupsBy(sorted, (left, right) -> comparator.compare(left, right) == 0);
+    }
+
+    /**
+     * Returns a sequential {@code Stream} of the groups of adjacent elements
+     * that satisfy an equality predicate. The elements are read lazily, one
+     * group at a time. Closing the returned stream closes the source stream.
+     *
+     * @param  <T>  the type of the elements
+     * @param  sorted  the {@code Stream} of the sorted elements
+     * @param  sameKey  the predicate that tells whether two adjacent elements
+     *         have the same key
+     * @return the {@code Stream} of the groups
+     * @throws NullPointerException if {@code sorted} or {@code sameKey} is {@code null}
+     */
+    public static <T> Stream<List<T>> groupsBy(Stream<? extends T> sorted,
+            BiPredicate<? super T, ? super T> sameKey) {
+        Checks.requireNotNull(sorted, "sorted");
+        Iterator<List<T>> groups = groupsBy(sorted.iterator(), sameKey);
+        Spliterator<List<T>> spliterator = Spliterators.spliteratorUnknownSize(groups,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(sorted::close);
+    }
+
+    //-----------------------------------------------------------------------
+    // boundaries / boundariesBy / parallelBoundaries
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the boundaries of the groups of equal elements of a sorted
+     * array, according to a {@code Comparator}.
+     *
+     * @param  <T>  the type of the elements
+     * @param  a  the sorted array
+     * @param  comparator  the {@code Comparator} of the keys
+     * @return the boundaries, see {@link #boundaries(Object[], int, int, Comparator)}
+     * @throws NullPointerException if {@code a} or {@code comparator} is {@code null}
+     */
+    public static <T> int[] boundaries(T[] a, Comparator<? super T> comparator) {
+        return boundaries(a, 0, Checks.requireNotNull(a, "a").length, comparator);
+    }
+
+    /**
+     * Returns the boundaries of the groups of equal elements of a range of a
+     * sorted array, according to a {@code Comparator}. The returned array
+     * contains the start index of each group followed by {@code toIndex}, so
+     * group <i>k</i> is the range [{@code b[k]}, {@code b[k+1]}) and the
+     * number of groups is {@code b.length - 1}. For example for
+     * {@code {"a", "a", "b", "c", "c", "c"}} the boundaries are
+     * {@code {0, 2, 3, 6}}.
+     *
+     * <p>The end of each group is found with an exponential ("galloping")
+     * search followed by a binary search, so a group of <i>m</i> elements
+     * costs O(log <i>m</i>) comparisons.
+     *
+     * @param  <T>  the type of the elements
+     * @param  a  the sorted array
+     * @param  fromIndex  the index of the first element (inclusive)
+     * @param  toIndex  the index of the last element (exclusive)
+     * @param  comparator  the {@code Comparator} of the keys
+     * @return the boundaries
+     * @throws NullPointerException if {@code a} or {@code comparator} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static <T> int[] boundaries(T[] a, int fromIndex, int toIndex, Comparator<? super T> comparator) {
+        Checks.checkFromToIndex(fromIndex, toIndex, Checks.requireNotNull(a, "a").length);
+        Checks.requireNotNull(comparator, "comparator");
+        return withEnd(chunkBoundaries(a, fromIndex, fromIndex, toIndex, toIndex, comparator), toIndex);
+    }
+
+    /**
+     * Returns the boundaries of the groups of adjacent elements of a sorted
+     * array that satisfy an equality predicate. Each pair of adjacent
+     * elements is tested once (an equality predicate doesn't allow a binary
+     * search). See {@link #boundaries(Object[], int, int, Comparator)} for
+     * the format of the boundaries.
+     *
+     * @param  <T>  the type of the elements
+     * @param  a  the sorted array
+     * @param  sameKey  the predicate that tells whether two adjacent elements
+     *         have the same key
+     * @return the boundaries
+     * @throws NullPointerException if {@code a} or {@code sameKey} is {@code null}
+     */
+    public static <T> int[] boundariesBy(T[] a, BiPredicate<? super T, ? super T> sameKey) {
+        Checks.requireNotNull(a, "a");
+        Checks.requireNotNull(sameKey, "sameKey");
+
+        IntList starts = new IntList();
+        for (int i = 0; i < a.length; i++) {
+            if (i == 0 || !sameKey.test(a[i-1], a[i])) {
+                starts.add(i);
+            }
+        }
+        return withEnd(starts, a.length);
+    }
+
+    /**
+     * Returns the boundaries of the groups of equal elements of a sorted
+     * array, according to a {@code Comparator}, searching them in parallel.
+     *
+     * @param  <T>  the type of the elements
+     * @param  a  the sorted array
+     * @param  comparator  the {@code Comparator} of the keys
+     * @return the boundaries, see {@link #boundaries(Object[], int, int, Comparator)}
+     * @throws NullPointerException if {@code a} or {@code comparator} is {@code null}
+     */
+    public static <T> int[] parallelBoundaries(T[] a, Comparator<? super T> comparator) {
+        return parallelBoundaries(a, 0, Checks.requireNotNull(a, "a").length, comparator);
+    }
+
+    /**
+     * Returns the boundaries of the groups of equal elements of a range of a
+     * sorted array, according to a {@code Comparator}, searching them in
+     * parallel. The range is split in chunks, each chunk is searched as
+     * {@link #boundaries(Object[], int, int, Comparator)} does by a task of
+     * the common {@code ForkJoinPool} (skipping the group that continues
+     * from the previous chunk, if any) and the results are concatenated.
+     * The {@code comparator} must be thread-safe.
+     *
+     * @param  <T>  the type of the elements
+     * @param  a  the sorted array
+     * @param  fromIndex  the index of the first element (inclusive)
+     * @param  toIndex  the index of the last element (exclusive)
+     * @param  comparator  the {@code Comparator} of the keys
+     * @return the boundaries
+     * @throws NullPointerException if {@code a} or {@code comparator} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static <T> int[] parallelBoundaries(T[] a, int fromIndex, int toIndex,
+            Comparator<? super T> comparator) {
+        Checks.checkFromToIndex(fromIndex, toIndex, Checks.requireNotNull(a, "a").length);
+        Checks.requireNotNull(comparator, "comparator");
+
+        int length = toIndex - fromIndex;
+        int chunks = Math.min(length / MIN_PARALLEL_CHUNK, 4 * Runtime.getRuntime().availableProcessors());
+        if (chunks <= 1) {
+            return boundaries(a, fromIndex, toIndex, comparator);
+        }
+
+        IntList[] results = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(c -> chunkBoundaries(a, fromIndex,
+                        fromIndex + (int) ((long) length * c / chunks),
+                        fromIndex + (int) ((long) length * (c + 1) / chunks),
+                        toIndex, comparator))
+                .toArray(IntList[]::new);
+
+        int count = 1;
+        for (IntList result : results) {
+            count += result.size;
+        }
+        int[] boundaries = new int[count];
+        int k = 0;
+        for (IntList result : results) {
+            System.arraycopy(result.values, 0, boundaries, k, result.size);
+            k += result.size;
+        }
+        boundaries[k] = toIndex;
+        return boundaries;
+    }
+
+
+    /*
+     * Returns the starts of the groups that start in [lo, hi), where rangeFrom
+     * and rangeTo are the bounds of the whole range.
+     */
+    private static <T> IntList chunkBoundaries(T[] a, int rangeFrom, int lo, int hi, int rangeTo,
+            Comparator<? super T> comparator) {
+        IntList starts = new IntList();
+        int i = lo;
+
+        if (i > rangeFrom && i < hi && comparator.compare(a[i-1], a[i]) == 0) {
+            i = gallop(a, i - 1, hi, comparator);   // continues from the previous chunk
+        }
+        while (i < hi) {
+            starts.add(i);
+            i = gallop(a, i, rangeTo, comparator);
+        }
+        return starts;
+    }
+
+    /*
+     * Returns the index of the first element in (start, limit) that is not
+     * equal to a[start], or limit.
+     */
+    private static <T> int gallop(T[] a, int start, int limit, Comparator<? super T> comparator) {
+        T key = a[start];
+        int equal = start;   // last index known to be equal
+        long step = 1;
+
+        while (step < limit - equal) {
+            int probe = (int) (equal + step);
+            if (comparator.compare(key, a[probe]) != 0) {
+                limit = probe;
+                break;
+            }
+            equal = probe;
+            step <<= 1;
+        }
+
+        int low = equal + 1;   // binary search of the first non-equal in [low, limit)
+        int high = limit;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(key, a[mid]) == 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int[] withEnd(IntList starts, int toIndex) {
+        int[] boundaries = new int[starts.size + 1];
+        System.arraycopy(starts.values, 0, boundaries, 0, starts.size);
+        boundaries[starts.size] = toIndex;
+        return boundaries;
+    }
+
+
+    private static final class IntList {
+        int[] values = new int[16];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+
+
+    private static final class GroupIterator<T> implements Iterator<List<T>> {
+        private final Iterator<? extends T> source;
+        private final BiPredicate<? super T, ? super T> sameKey;
+        private T pending;
+        private boolean hasPending;
+
+        GroupIterator(Iterator<? extends T> source, BiPredicate<? super T, ? super T> sameKey) {
+            this.source = source;
+            this.sameKey = sameKey;
+            hasPending = source.hasNext();
+            if (hasPending) {
+                pending = source.next();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasPending;
+        }
+
+        @Override
+        public List<T> next() {
+            if (!hasPending) {
+                throw new NoSuchElementException();
+            }
+
+            List<T> group = new ArrayList<>();
+            T previous = pending;
+            group.add(previous);
+
+            while (source.hasNext()) {
+                T element = source.next();
+                if (!sameKey.test(previous, element)) {
+                    pending = element;
+                    return group;
+                }
+                group.add(element);
+                previous = element;
+            }
+
+            hasPending = false;
+            pending = null;
+            return group;
+        }
+    }
+}
@@ -0,0 +1,2078 @@
+package com.github.utensils4j.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import com.github.utensils4j.util.Checks;
+
+/**
+ * Static utility methods to sort tiny arrays (up to {@value #MAX_LENGTH}
+ * elements) with hard-coded <em>sorting networks</em>: fixed sequences of
+ * compare-exchange operations, without loops and without the setup of a
+ * general-purpose sort. For many tiny sorts (e.g. buckets of 3 to 12
+ * elements) they are faster than {@link Arrays#sort} and
+ * {@link java.util.Collections#sort}, whose overhead dominates at these sizes.
+ *
+ * <p>Each network has the minimum known number of comparators for its size
+ * (e.g. 19 for 8 elements, 39 for 12, 60 for 16) and every network has been
+ * verified with the 0-1 principle. For the primitive types the
+ * compare-exchange is branch-free.
+ *
+ * <p><strong>Note</strong>: the sorting networks are <strong>not</strong>
+ * stable, equal objects can be reordered.
+ *
+ * @author Andrea Binello
+ */
+public class SortingNetworks {
+    /**
+     * The maximum number of elements that can be sorted.
+     */
+    public static final int MAX_LENGTH = 16;
+
+    private SortingNetworks() {}
+
+    //-----------------------------------------------------------------------
+    // sort(int[])
+    //-----------------------------------------------------------------------
+
+    /**
+     * Sorts a small array of {@code int} values (at most {@value #MAX_LENGTH}
+     * elements) in ascending order.
+     *
+     * @param  a  the array to sort
+     * @throws NullPointerException if {@code a} is {@code null}
+     * @throws IllegalArgumentException if the array has more than {@value #MAX_LENGTH} elements
+     */
+    public static void sort(int[] a) {
+        sort(a, 0, Checks.requireNotNull(a, "a").length);
+    }
+
+    /**
+     * Sorts a small range of an array of {@code int} values (at most
+     * {@value #MAX_LENGTH} elements) in ascending order.
+     *
+     * @param  a  the array to sort
+     * @param  fromIndex  the index of the first element (inclusive)
+     * @param  toIndex  the index of the last element (exclusive)
+     * @throws NullPointerException if {@code a} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @throws IllegalArgumentException if the range has more than {@value #MAX_LENGTH} elements
+     */
+    public static void sort(int[] a, int fromIndex, int toIndex) {
+        int n = checkRange(Checks.requireNotNull(a, "a").length, fromIndex, toIndex);
+        switch (n) {
+            case 2: sort2(a, fromIndex); break;
+            case 3: sort3(a, fromIndex); break;
+            case 4: sort4(a, fromIndex); break;
+            case 5: sort5(a, fromIndex); break;
+            case 6: sort6(a, fromIndex); break;
+            case 7: sort7(a, fromIndex); break;
+            case 8: sort8(a, fromIndex); break;
+            case 9: sort9(a, fromIndex); break;
+            case 10: sort10(a, fromIndex); break;
+            case 11: sort11(a, fromIndex); break;
+            case 12: sort12(a, fromIndex); break;
+            case 13: sort13(a, fromIndex); break;
+            case 14: sort14(a, fromIndex); break;
+            case 15: sort15(a, fromIndex); break;
+            case 16: sort16(a, fromIndex); break;
+            default: break;   // 0 or 1 element
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // sort(long[])
+    //-----------------------------------------------------------------------
+
+    /**
+     * Sorts a small array of {@code long} values (at most {@value #MAX_LENGTH}
+     * elements) in ascending order.
+     *
+     * @param  a  the array to sort
+     * @throws NullPointerException if {@code a} is {@code null}
+     * @throws IllegalArgumentException if the array has more than {@value #MAX_LENGTH} elements
+     */
+    public static void sort(long[] a) {
+        sort(a, 0, Checks.requireNotNull(a, "a").length);
+    }
+
+    /**
+     * Sorts a small range of an array of {@code long} values (at most
+     * {@value #MAX_LENGTH} elements) in ascending order.
+     *
+     * @param  a  the array to sort
+     * @param  fromIndex  the index of the first element (inclusive)
+     * @param  toIndex  the index of the last element (exclusive)
+     * @throws NullPointerException if {@code a} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @throws IllegalArgumentException if the range has more than {@value #MAX_LENGTH} elements
+     */
+    public static void sort(long[] a, int fromIndex, int toIndex) {
+        int n = checkRange(Checks.requireNotNull(a, "a").length, fromIndex, toIndex);
+        switch (n) {
+            case 2: sort2(a, fromIndex); break;
+            case 3: sort3(a, fromIndex); break;
+            case 4: sort4(a, fromIndex); break;
+            case 5: sort5(a, fromIndex); break;
+            case 6: sort6(a, fromIndex); break;
+            case 7: sort7(a, fromIndex); break;
+            case 8: sort8(a, fromIndex); break;
+            case 9: sort9(a, fromIndex); break;
+            case 10: sort10(a, fromIndex); break;
+            case 11: sort11(a, fromIndex); break;
+            case 12: sort12(a, fromIndex); break;
+            case 13: sort13(a, fromIndex); break;
+            case 14: sort14(a, fromIndex); break;
+            case 15: sort15(a, fromIndex); break;
+            case 16: sort16(a, fromIndex); break;
+            default: break;   // 0 or 1 element
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // sort(double[])
+    //-----------------------------------------------------------------------
+
+    /**
+     * Sorts a small array of {@code double} values (at most {@value #MAX_LENGTH}
+     * elements) in ascending order.
+     * The order is the one of {@link Double#compare} (and {@link Arrays#sort(double[])}):
+     * {@code -0.0} is lower than {@code 0.0} and {@code NaN} is greater than
+     * any other value.
+     *
+     * @param  a  the array to sort
+     * @throws NullPointerException if {@code a} is {@code null}
+     * @throws IllegalArgumentException if the array has more than {@value #MAX_LENGTH} elements
+     */
+    public static void sort(double[] a) {
+        sort(a, 0, Checks.requireNotNull(a, "a").length);
+    }
+
+    /**
+     * Sorts a small range of an array of {@code double} values (at most
+     * {@value #MAX_LENGTH} elements) in ascending order.
+     *
+     * @param  a  the array to sort
+     * @param  fromIndex  the index of the first element (inclusive)
+     * @param  toIndex  the index of the last element (exclusive)
+     * @throws NullPointerException if {@code a} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @throws IllegalArgumentException if the range has more than {@value #MAX_LENGTH} elements
+     */
+    public static void sort(double[] a, int fromIndex, int toIndex) {
+        int n = checkRange(Checks.requireNotNull(a, "a").length, fromIndex, toIndex);
+        switch (n) {
+            case 2: sort2(a, fromIndex); break;
+            case 3: sort3(a, fromIndex); break;
+            case 4: sort4(a, fromIndex); break;
+            case 5: sort5(a, fromIndex); break;
+            case 6: sort6(a, fromIndex); break;
+            case 7: sort7(a, fromIndex); break;
+            case 8: sort8(a, fromIndex); break;
+            case 9: sort9(a, fromIndex); break;
+            case 10: sort10(a, fromIndex); break;
+            case 11: sort11(a, fromIndex); break;
+            case 12: sort12(a, fromIndex); break;
+            case 13: sort13(a, fromIndex); break;
+            case 14: sort14(a, fromIndex); break;
+            case 15: sort15(a, fromIndex); break;
+            case 16: sort16(a, fromIndex); break;
+            default: break;   // 0 or 1 element
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // sort(T[], Comparator)
+    //-----------------------------------------------------------------------
+
+    /**
+     * Sorts a small array of objects (at most {@value #MAX_LENGTH} elements)
+     * according to a {@code Comparator}, typically implemented with a
+     * {@link com.github.utensils4j.compare.Comparison} chain. The sort is
+     * <strong>not</strong> stable.
+     *
+     * @param  <T>  the type of the elements
+     * @param  a  the array to sort
+     * @param  comparator  the {@code Comparator} used to compare the elements
+     * @throws NullPointerException if {@code a} or {@code comparator} is {@code null}
+     * @throws IllegalArgumentException if the array has more than {@value #MAX_LENGTH} elements
+     */
+    public static <T> void sort(T[] a, Comparator<? super T> comparator) {
+        sort(a, 0, Checks.requireNotNull(a, "a").length, comparator);
+    }
+
+    /**
+     * Sorts a small range of an array of objects (at most {@value #MAX_LENGTH}
+     * elements) according to a {@code Comparator}. The sort is
+     * <strong>not</strong> stable.
+     *
+     * @param  <T>  the type of the elements
+     * @param  a  the array to sort
+     * @param  fromIndex  the index of the first element (inclusive)
+     * @param  toIndex  the index of the last element (exclusive)
+     * @param  comparator  the {@code Comparator} used to compare the elements
+     * @throws NullPointerException if {@code a} or {@code comparator} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @throws IllegalArgumentException if the range has more than {@value #MAX_LENGTH} elements
+     */
+    public static <T> void sort(T[] a, int fromIndex, int toIndex, Comparator<? super T> comparator) {
+        Checks.requireNotNull(comparator, "comparator");
+        int n = checkRange(Checks.requireNotNull(a, "a").length, fromIndex, toIndex);
+        switch (n) {
+            case 2: sort2(a, fromIndex, comparator); break;
+            case 3: sort3(a, fromIndex, comparator); break;
+            case 4: sort4(a, fromIndex, comparator); break;
+            case 5: sort5(a, fromIndex, comparator); break;
+            case 6: sort6(a, fromIndex, comparator); break;
+            case 7: sort7(a, fromIndex, comparator); break;
+            case 8: sort8(a, fromIndex, comparator); break;
+            case 9: sort9(a, fromIndex, comparator); break;
+            case 10: sort10(a, fromIndex, comparator); break;
+            case 11: sort11(a, fromIndex, comparator); break;
+            case 12: sort12(a, fromIndex, comparator); break;
+            case 13: sort13(a, fromIndex, comparator); break;
+            case 14: sort14(a, fromIndex, comparator); break;
+            case 15: sort15(a, fromIndex, comparator); break;
+            case 16: sort16(a, fromIndex, comparator); break;
+            default: break;   // 0 or 1 element
+        }
+    }
+
+
+    private static int checkRange(int length, int fromIndex, int toIndex) {
+        Checks.checkFromToIndex(fromIndex, toIndex, length);
+        return Checks.requireInRange(toIndex - fromIndex, 0, MAX_LENGTH, "number of elements");
+    }
+
+    private static void cx(int[] a, int i, int j) {
+        int x = a[i];
+        int y = a[j];
+        a[i] = Math.min(x, y);   // branch-free
+        a[j] = Math.max(x, y);
+    }
+
+    private static void sort2(int[] a, int o) {
+        cx(a, o, o+1);
+    }
+
+    private static void sort3(int[] a, int o) {
+        cx(a, o, o+2);
+        cx(a, o, o+1);
+        cx(a, o+1, o+2);
+    }
+
+    private static void sort4(int[] a, int o) {
+        cx(a, o, o+2);
+        cx(a, o+1, o+3);
+        cx(a, o, o+1);
+        cx(a, o+2, o+3);
+        cx(a, o+1, o+2);
+    }
+
+    private static void sort5(int[] a, int o) {
+        cx(a, o, o+3);
+        cx(a, o+1, o+4);
+        cx(a, o, o+2);
+        cx(a, o+1, o+3);
+        cx(a, o, o+1);
+        cx(a, o+2, o+4);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+        cx(a, o+2, o+3);
+    }
+
+    private static void sort6(int[] a, int o) {
+        cx(a, o, o+5);
+        cx(a, o+1, o+3);
+        cx(a, o+2, o+4);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+        cx(a, o, o+3);
+        cx(a, o+2, o+5);
+        cx(a, o, o+1);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+    }
+
+    private static void sort7(int[] a, int o) {
+        cx(a, o, o+6);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o, o+2);
+        cx(a, o+1, o+4);
+        cx(a, o+3, o+6);
+        cx(a, o, o+1);
+        cx(a, o+2, o+5);
+        cx(a, o+3, o+4);
+        cx(a, o+1, o+2);
+        cx(a, o+4, o+6);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+    }
+
+    private static void sort8(int[] a, int o) {
+        cx(a, o, o+2);
+        cx(a, o+1, o+3);
+        cx(a, o+4, o+6);
+        cx(a, o+5, o+7);
+        cx(a, o, o+4);
+        cx(a, o+1, o+5);
+        cx(a, o+2, o+6);
+        cx(a, o+3, o+7);
+        cx(a, o, o+1);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+7);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+5);
+        cx(a, o+1, o+4);
+        cx(a, o+3, o+6);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+    }
+
+    private static void sort9(int[] a, int o) {
+        cx(a, o, o+3);
+        cx(a, o+1, o+7);
+        cx(a, o+2, o+5);
+        cx(a, o+4, o+8);
+        cx(a, o, o+7);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+8);
+        cx(a, o+5, o+6);
+        cx(a, o, o+2);
+        cx(a, o+1, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+7, o+8);
+        cx(a, o+1, o+4);
+        cx(a, o+3, o+6);
+        cx(a, o+5, o+7);
+        cx(a, o, o+1);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+5);
+        cx(a, o+6, o+8);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+7);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+    }
+
+    private static void sort10(int[] a, int o) {
+        cx(a, o, o+8);
+        cx(a, o+1, o+9);
+        cx(a, o+2, o+7);
+        cx(a, o+3, o+5);
+        cx(a, o+4, o+6);
+        cx(a, o, o+2);
+        cx(a, o+1, o+4);
+        cx(a, o+5, o+8);
+        cx(a, o+7, o+9);
+        cx(a, o, o+3);
+        cx(a, o+2, o+4);
+        cx(a, o+5, o+7);
+        cx(a, o+6, o+9);
+        cx(a, o, o+1);
+        cx(a, o+3, o+6);
+        cx(a, o+8, o+9);
+        cx(a, o+1, o+5);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+8);
+        cx(a, o+6, o+7);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+5);
+        cx(a, o+4, o+6);
+        cx(a, o+7, o+8);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+7);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+    }
+
+    private static void sort11(int[] a, int o) {
+        cx(a, o, o+9);
+        cx(a, o+1, o+6);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+7);
+        cx(a, o+5, o+8);
+        cx(a, o, o+1);
+        cx(a, o+3, o+5);
+        cx(a, o+4, o+10);
+        cx(a, o+6, o+9);
+        cx(a, o+7, o+8);
+        cx(a, o+1, o+3);
+        cx(a, o+2, o+5);
+        cx(a, o+4, o+7);
+        cx(a, o+8, o+10);
+        cx(a, o, o+4);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+7);
+        cx(a, o+5, o+9);
+        cx(a, o+6, o+8);
+        cx(a, o, o+1);
+        cx(a, o+2, o+6);
+        cx(a, o+4, o+5);
+        cx(a, o+7, o+8);
+        cx(a, o+9, o+10);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+6);
+        cx(a, o+5, o+7);
+        cx(a, o+8, o+9);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+        cx(a, o+7, o+8);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+7);
+    }
+
+    private static void sort12(int[] a, int o) {
+        cx(a, o, o+8);
+        cx(a, o+1, o+7);
+        cx(a, o+2, o+6);
+        cx(a, o+3, o+11);
+        cx(a, o+4, o+10);
+        cx(a, o+5, o+9);
+        cx(a, o, o+1);
+        cx(a, o+2, o+5);
+        cx(a, o+3, o+4);
+        cx(a, o+6, o+9);
+        cx(a, o+7, o+8);
+        cx(a, o+10, o+11);
+        cx(a, o, o+2);
+        cx(a, o+1, o+6);
+        cx(a, o+5, o+10);
+        cx(a, o+9, o+11);
+        cx(a, o, o+3);
+        cx(a, o+1, o+2);
+        cx(a, o+4, o+6);
+        cx(a, o+5, o+7);
+        cx(a, o+8, o+11);
+        cx(a, o+9, o+10);
+        cx(a, o+1, o+4);
+        cx(a, o+3, o+5);
+        cx(a, o+6, o+8);
+        cx(a, o+7, o+10);
+        cx(a, o+1, o+3);
+        cx(a, o+2, o+5);
+        cx(a, o+6, o+9);
+        cx(a, o+8, o+10);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+7);
+        cx(a, o+8, o+9);
+        cx(a, o+4, o+6);
+        cx(a, o+5, o+7);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+        cx(a, o+7, o+8);
+    }
+
+    private static void sort13(int[] a, int o) {
+        cx(a, o, o+12);
+        cx(a, o+1, o+10);
+        cx(a, o+2, o+9);
+        cx(a, o+3, o+7);
+        cx(a, o+5, o+11);
+        cx(a, o+6, o+8);
+        cx(a, o+1, o+6);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+11);
+        cx(a, o+7, o+9);
+        cx(a, o+8, o+10);
+        cx(a, o, o+4);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+6);
+        cx(a, o+7, o+8);
+        cx(a, o+9, o+10);
+        cx(a, o+11, o+12);
+        cx(a, o+4, o+6);
+        cx(a, o+5, o+9);
+        cx(a, o+8, o+11);
+        cx(a, o+10, o+12);
+        cx(a, o, o+5);
+        cx(a, o+3, o+8);
+        cx(a, o+4, o+7);
+        cx(a, o+6, o+11);
+        cx(a, o+9, o+10);
+        cx(a, o, o+1);
+        cx(a, o+2, o+5);
+        cx(a, o+6, o+9);
+        cx(a, o+7, o+8);
+        cx(a, o+10, o+11);
+        cx(a, o+1, o+3);
+        cx(a, o+2, o+4);
+        cx(a, o+5, o+6);
+        cx(a, o+9, o+10);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+7);
+        cx(a, o+6, o+8);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+7);
+        cx(a, o+8, o+9);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+    }
+
+    private static void sort14(int[] a, int o) {
+        cx(a, o, o+1);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+7);
+        cx(a, o+8, o+9);
+        cx(a, o+10, o+11);
+        cx(a, o+12, o+13);
+        cx(a, o, o+2);
+        cx(a, o+1, o+3);
+        cx(a, o+4, o+8);
+        cx(a, o+5, o+9);
+        cx(a, o+10, o+12);
+        cx(a, o+11, o+13);
+        cx(a, o, o+4);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+7);
+        cx(a, o+5, o+8);
+        cx(a, o+6, o+10);
+        cx(a, o+9, o+13);
+        cx(a, o+11, o+12);
+        cx(a, o, o+6);
+        cx(a, o+1, o+5);
+        cx(a, o+3, o+9);
+        cx(a, o+4, o+10);
+        cx(a, o+7, o+13);
+        cx(a, o+8, o+12);
+        cx(a, o+2, o+10);
+        cx(a, o+3, o+11);
+        cx(a, o+4, o+6);
+        cx(a, o+7, o+9);
+        cx(a, o+1, o+3);
+        cx(a, o+2, o+8);
+        cx(a, o+5, o+11);
+        cx(a, o+6, o+7);
+        cx(a, o+10, o+12);
+        cx(a, o+1, o+4);
+        cx(a, o+2, o+6);
+        cx(a, o+3, o+5);
+        cx(a, o+7, o+11);
+        cx(a, o+8, o+10);
+        cx(a, o+9, o+12);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+6);
+        cx(a, o+5, o+8);
+        cx(a, o+7, o+10);
+        cx(a, o+9, o+11);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+        cx(a, o+7, o+8);
+        cx(a, o+9, o+10);
+        cx(a, o+6, o+7);
+    }
+
+    private static void sort15(int[] a, int o) {
+        cx(a, o, o+13);
+        cx(a, o+1, o+12);
+        cx(a, o+3, o+14);
+        cx(a, o+4, o+8);
+        cx(a, o+5, o+6);
+        cx(a, o+7, o+11);
+        cx(a, o+9, o+10);
+        cx(a, o, o+5);
+        cx(a, o+1, o+7);
+        cx(a, o+2, o+9);
+        cx(a, o+3, o+4);
+        cx(a, o+6, o+13);
+        cx(a, o+8, o+14);
+        cx(a, o+11, o+12);
+        cx(a, o, o+1);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+8);
+        cx(a, o+7, o+9);
+        cx(a, o+10, o+11);
+        cx(a, o+12, o+13);
+        cx(a, o, o+2);
+        cx(a, o+1, o+3);
+        cx(a, o+4, o+10);
+        cx(a, o+5, o+11);
+        cx(a, o+6, o+7);
+        cx(a, o+8, o+9);
+        cx(a, o+12, o+14);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+12);
+        cx(a, o+4, o+6);
+        cx(a, o+5, o+7);
+        cx(a, o+8, o+10);
+        cx(a, o+9, o+11);
+        cx(a, o+13, o+14);
+        cx(a, o+1, o+4);
+        cx(a, o+2, o+6);
+        cx(a, o+5, o+8);
+        cx(a, o+7, o+10);
+        cx(a, o+9, o+13);
+        cx(a, o+11, o+14);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+6);
+        cx(a, o+9, o+12);
+        cx(a, o+11, o+13);
+        cx(a, o+3, o+5);
+        cx(a, o+6, o+8);
+        cx(a, o+7, o+9);
+        cx(a, o+10, o+12);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+        cx(a, o+7, o+8);
+        cx(a, o+9, o+10);
+        cx(a, o+11, o+12);
+        cx(a, o+6, o+7);
+        cx(a, o+8, o+9);
+    }
+
+    private static void sort16(int[] a, int o) {
+        cx(a, o, o+13);
+        cx(a, o+1, o+12);
+        cx(a, o+2, o+15);
+        cx(a, o+3, o+14);
+        cx(a, o+4, o+8);
+        cx(a, o+5, o+6);
+        cx(a, o+7, o+11);
+        cx(a, o+9, o+10);
+        cx(a, o, o+5);
+        cx(a, o+1, o+7);
+        cx(a, o+2, o+9);
+        cx(a, o+3, o+4);
+        cx(a, o+6, o+13);
+        cx(a, o+8, o+14);
+        cx(a, o+10, o+15);
+        cx(a, o+11, o+12);
+        cx(a, o, o+1);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+8);
+        cx(a, o+7, o+9);
+        cx(a, o+10, o+11);
+        cx(a, o+12, o+13);
+        cx(a, o+14, o+15);
+        cx(a, o, o+2);
+        cx(a, o+1, o+3);
+        cx(a, o+4, o+10);
+        cx(a, o+5, o+11);
+        cx(a, o+6, o+7);
+        cx(a, o+8, o+9);
+        cx(a, o+12, o+14);
+        cx(a, o+13, o+15);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+12);
+        cx(a, o+4, o+6);
+        cx(a, o+5, o+7);
+        cx(a, o+8, o+10);
+        cx(a, o+9, o+11);
+        cx(a, o+13, o+14);
+        cx(a, o+1, o+4);
+        cx(a, o+2, o+6);
+        cx(a, o+5, o+8);
+        cx(a, o+7, o+10);
+        cx(a, o+9, o+13);
+        cx(a, o+11, o+14);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+6);
+        cx(a, o+9, o+12);
+        cx(a, o+11, o+13);
+        cx(a, o+3, o+5);
+        cx(a, o+6, o+8);
+        cx(a, o+7, o+9);
+        cx(a, o+10, o+12);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+        cx(a, o+7, o+8);
+        cx(a, o+9, o+10);
+        cx(a, o+11, o+12);
+        cx(a, o+6, o+7);
+        cx(a, o+8, o+9);
+    }
+
+    private static void cx(long[] a, int i, int j) {
+        long x = a[i];
+        long y = a[j];
+        a[i] = Math.min(x, y);   // branch-free
+        a[j] = Math.max(x, y);
+    }
+
+    private static void sort2(long[] a, int o) {
+        cx(a, o, o+1);
+    }
+
+    private static void sort3(long[] a, int o) {
+        cx(a, o, o+2);
+        cx(a, o, o+1);
+        cx(a, o+1, o+2);
+    }
+
+    private static void sort4(long[] a, int o) {
+        cx(a, o, o+2);
+        cx(a, o+1, o+3);
+        cx(a, o, o+1);
+        cx(a, o+2, o+3);
+        cx(a, o+1, o+2);
+    }
+
+    private static void sort5(long[] a, int o) {
+        cx(a, o, o+3);
+        cx(a, o+1, o+4);
+        cx(a, o, o+2);
+        cx(a, o+1, o+3);
+        cx(a, o, o+1);
+        cx(a, o+2, o+4);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+        cx(a, o+2, o+3);
+    }
+
+    private static void sort6(long[] a, int o) {
+        cx(a, o, o+5);
+        cx(a, o+1, o+3);
+        cx(a, o+2, o+4);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+        cx(a, o, o+3);
+        cx(a, o+2, o+5);
+        cx(a, o, o+1);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+    }
+
+    private static void sort7(long[] a, int o) {
+        cx(a, o, o+6);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o, o+2);
+        cx(a, o+1, o+4);
+        cx(a, o+3, o+6);
+        cx(a, o, o+1);
+        cx(a, o+2, o+5);
+        cx(a, o+3, o+4);
+        cx(a, o+1, o+2);
+        cx(a, o+4, o+6);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+    }
+
+    private static void sort8(long[] a, int o) {
+        cx(a, o, o+2);
+        cx(a, o+1, o+3);
+        cx(a, o+4, o+6);
+        cx(a, o+5, o+7);
+        cx(a, o, o+4);
+        cx(a, o+1, o+5);
+        cx(a, o+2, o+6);
+        cx(a, o+3, o+7);
+        cx(a, o, o+1);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+7);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+5);
+        cx(a, o+1, o+4);
+        cx(a, o+3, o+6);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+    }
+
+    private static void sort9(long[] a, int o) {
+        cx(a, o, o+3);
+        cx(a, o+1, o+7);
+        cx(a, o+2, o+5);
+        cx(a, o+4, o+8);
+        cx(a, o, o+7);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+8);
+        cx(a, o+5, o+6);
+        cx(a, o, o+2);
+        cx(a, o+1, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+7, o+8);
+        cx(a, o+1, o+4);
+        cx(a, o+3, o+6);
+        cx(a, o+5, o+7);
+        cx(a, o, o+1);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+5);
+        cx(a, o+6, o+8);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+7);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+    }
+
+    private static void sort10(long[] a, int o) {
+        cx(a, o, o+8);
+        cx(a, o+1, o+9);
+        cx(a, o+2, o+7);
+        cx(a, o+3, o+5);
+        cx(a, o+4, o+6);
+        cx(a, o, o+2);
+        cx(a, o+1, o+4);
+        cx(a, o+5, o+8);
+        cx(a, o+7, o+9);
+        cx(a, o, o+3);
+        cx(a, o+2, o+4);
+        cx(a, o+5, o+7);
+        cx(a, o+6, o+9);
+        cx(a, o, o+1);
+        cx(a, o+3, o+6);
+        cx(a, o+8, o+9);
+        cx(a, o+1, o+5);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+8);
+        cx(a, o+6, o+7);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+5);
+        cx(a, o+4, o+6);
+        cx(a, o+7, o+8);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+7);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+    }
+
+    private static void sort11(long[] a, int o) {
+        cx(a, o, o+9);
+        cx(a, o+1, o+6);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+7);
+        cx(a, o+5, o+8);
+        cx(a, o, o+1);
+        cx(a, o+3, o+5);
+        cx(a, o+4, o+10);
+        cx(a, o+6, o+9);
+        cx(a, o+7, o+8);
+        cx(a, o+1, o+3);
+        cx(a, o+2, o+5);
+        cx(a, o+4, o+7);
+        cx(a, o+8, o+10);
+        cx(a, o, o+4);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+7);
+        cx(a, o+5, o+9);
+        cx(a, o+6, o+8);
+        cx(a, o, o+1);
+        cx(a, o+2, o+6);
+        cx(a, o+4, o+5);
+        cx(a, o+7, o+8);
+        cx(a, o+9, o+10);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+6);
+        cx(a, o+5, o+7);
+        cx(a, o+8, o+9);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+        cx(a, o+7, o+8);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+7);
+    }
+
+    private static void sort12(long[] a, int o) {
+        cx(a, o, o+8);
+        cx(a, o+1, o+7);
+        cx(a, o+2, o+6);
+        cx(a, o+3, o+11);
+        cx(a, o+4, o+10);
+        cx(a, o+5, o+9);
+        cx(a, o, o+1);
+        cx(a, o+2, o+5);
+        cx(a, o+3, o+4);
+        cx(a, o+6, o+9);
+        cx(a, o+7, o+8);
+        cx(a, o+10, o+11);
+        cx(a, o, o+2);
+        cx(a, o+1, o+6);
+        cx(a, o+5, o+10);
+        cx(a, o+9, o+11);
+        cx(a, o, o+3);
+        cx(a, o+1, o+2);
+        cx(a, o+4, o+6);
+        cx(a, o+5, o+7);
+        cx(a, o+8, o+11);
+        cx(a, o+9, o+10);
+        cx(a, o+1, o+4);
+        cx(a, o+3, o+5);
+        cx(a, o+6, o+8);
+        cx(a, o+7, o+10);
+        cx(a, o+1, o+3);
+        cx(a, o+2, o+5);
+        cx(a, o+6, o+9);
+        cx(a, o+8, o+10);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+7);
+        cx(a, o+8, o+9);
+        cx(a, o+4, o+6);
+        cx(a, o+5, o+7);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+        cx(a, o+7, o+8);
+    }
+
+    private static void sort13(long[] a, int o) {
+        cx(a, o, o+12);
+        cx(a, o+1, o+10);
+        cx(a, o+2, o+9);
+        cx(a, o+3, o+7);
+        cx(a, o+5, o+11);
+        cx(a, o+6, o+8);
+        cx(a, o+1, o+6);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+11);
+        cx(a, o+7, o+9);
+        cx(a, o+8, o+10);
+        cx(a, o, o+4);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+6);
+        cx(a, o+7, o+8);
+        cx(a, o+9, o+10);
+        cx(a, o+11, o+12);
+        cx(a, o+4, o+6);
+        cx(a, o+5, o+9);
+        cx(a, o+8, o+11);
+        cx(a, o+10, o+12);
+        cx(a, o, o+5);
+        cx(a, o+3, o+8);
+        cx(a, o+4, o+7);
+        cx(a, o+6, o+11);
+        cx(a, o+9, o+10);
+        cx(a, o, o+1);
+        cx(a, o+2, o+5);
+        cx(a, o+6, o+9);
+        cx(a, o+7, o+8);
+        cx(a, o+10, o+11);
+        cx(a, o+1, o+3);
+        cx(a, o+2, o+4);
+        cx(a, o+5, o+6);
+        cx(a, o+9, o+10);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+7);
+        cx(a, o+6, o+8);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+7);
+        cx(a, o+8, o+9);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+    }
+
+    private static void sort14(long[] a, int o) {
+        cx(a, o, o+1);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+7);
+        cx(a, o+8, o+9);
+        cx(a, o+10, o+11);
+        cx(a, o+12, o+13);
+        cx(a, o, o+2);
+        cx(a, o+1, o+3);
+        cx(a, o+4, o+8);
+        cx(a, o+5, o+9);
+        cx(a, o+10, o+12);
+        cx(a, o+11, o+13);
+        cx(a, o, o+4);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+7);
+        cx(a, o+5, o+8);
+        cx(a, o+6, o+10);
+        cx(a, o+9, o+13);
+        cx(a, o+11, o+12);
+        cx(a, o, o+6);
+        cx(a, o+1, o+5);
+        cx(a, o+3, o+9);
+        cx(a, o+4, o+10);
+        cx(a, o+7, o+13);
+        cx(a, o+8, o+12);
+        cx(a, o+2, o+10);
+        cx(a, o+3, o+11);
+        cx(a, o+4, o+6);
+        cx(a, o+7, o+9);
+        cx(a, o+1, o+3);
+        cx(a, o+2, o+8);
+        cx(a, o+5, o+11);
+        cx(a, o+6, o+7);
+        cx(a, o+10, o+12);
+        cx(a, o+1, o+4);
+        cx(a, o+2, o+6);
+        cx(a, o+3, o+5);
+        cx(a, o+7, o+11);
+        cx(a, o+8, o+10);
+        cx(a, o+9, o+12);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+6);
+        cx(a, o+5, o+8);
+        cx(a, o+7, o+10);
+        cx(a, o+9, o+11);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+        cx(a, o+7, o+8);
+        cx(a, o+9, o+10);
+        cx(a, o+6, o+7);
+    }
+
+    private static void sort15(long[] a, int o) {
+        cx(a, o, o+13);
+        cx(a, o+1, o+12);
+        cx(a, o+3, o+14);
+        cx(a, o+4, o+8);
+        cx(a, o+5, o+6);
+        cx(a, o+7, o+11);
+        cx(a, o+9, o+10);
+        cx(a, o, o+5);
+        cx(a, o+1, o+7);
+        cx(a, o+2, o+9);
+        cx(a, o+3, o+4);
+        cx(a, o+6, o+13);
+        cx(a, o+8, o+14);
+        cx(a, o+11, o+12);
+        cx(a, o, o+1);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+8);
+        cx(a, o+7, o+9);
+        cx(a, o+10, o+11);
+        cx(a, o+12, o+13);
+        cx(a, o, o+2);
+        cx(a, o+1, o+3);
+        cx(a, o+4, o+10);
+        cx(a, o+5, o+11);
+        cx(a, o+6, o+7);
+        cx(a, o+8, o+9);
+        cx(a, o+12, o+14);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+12);
+        cx(a, o+4, o+6);
+        cx(a, o+5, o+7);
+        cx(a, o+8, o+10);
+        cx(a, o+9, o+11);
+        cx(a, o+13, o+14);
+        cx(a, o+1, o+4);
+        cx(a, o+2, o+6);
+        cx(a, o+5, o+8);
+        cx(a, o+7, o+10);
+        cx(a, o+9, o+13);
+        cx(a, o+11, o+14);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+6);
+        cx(a, o+9, o+12);
+        cx(a, o+11, o+13);
+        cx(a, o+3, o+5);
+        cx(a, o+6, o+8);
+        cx(a, o+7, o+9);
+        cx(a, o+10, o+12);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+        cx(a, o+7, o+8);
+        cx(a, o+9, o+10);
+        cx(a, o+11, o+12);
+        cx(a, o+6, o+7);
+        cx(a, o+8, o+9);
+    }
+
+    private static void sort16(long[] a, int o) {
+        cx(a, o, o+13);
+        cx(a, o+1, o+12);
+        cx(a, o+2, o+15);
+        cx(a, o+3, o+14);
+        cx(a, o+4, o+8);
+        cx(a, o+5, o+6);
+        cx(a, o+7, o+11);
+        cx(a, o+9, o+10);
+        cx(a, o, o+5);
+        cx(a, o+1, o+7);
+        cx(a, o+2, o+9);
+        cx(a, o+3, o+4);
+        cx(a, o+6, o+13);
+        cx(a, o+8, o+14);
+        cx(a, o+10, o+15);
+        cx(a, o+11, o+12);
+        cx(a, o, o+1);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+8);
+        cx(a, o+7, o+9);
+        cx(a, o+10, o+11);
+        cx(a, o+12, o+13);
+        cx(a, o+14, o+15);
+        cx(a, o, o+2);
+        cx(a, o+1, o+3);
+        cx(a, o+4, o+10);
+        cx(a, o+5, o+11);
+        cx(a, o+6, o+7);
+        cx(a, o+8, o+9);
+        cx(a, o+12, o+14);
+        cx(a, o+13, o+15);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+12);
+        cx(a, o+4, o+6);
+        cx(a, o+5, o+7);
+        cx(a, o+8, o+10);
+        cx(a, o+9, o+11);
+        cx(a, o+13, o+14);
+        cx(a, o+1, o+4);
+        cx(a, o+2, o+6);
+        cx(a, o+5, o+8);
+        cx(a, o+7, o+10);
+        cx(a, o+9, o+13);
+        cx(a, o+11, o+14);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+6);
+        cx(a, o+9, o+12);
+        cx(a, o+11, o+13);
+        cx(a, o+3, o+5);
+        cx(a, o+6, o+8);
+        cx(a, o+7, o+9);
+        cx(a, o+10, o+12);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+        cx(a, o+7, o+8);
+        cx(a, o+9, o+10);
+        cx(a, o+11, o+12);
+        cx(a, o+6, o+7);
+        cx(a, o+8, o+9);
+    }
+
+    private static void cx(double[] a, int i, int j) {
+        double x = a[i];
+        double y = a[j];
+        if (Double.compare(x, y) > 0) {
+            a[i] = y;
+            a[j] = x;
+        }
+    }
+
+    private static void sort2(double[] a, int o) {
+        cx(a, o, o+1);
+    }
+
+    private static void sort3(double[] a, int o) {
+        cx(a, o, o+2);
+        cx(a, o, o+1);
+        cx(a, o+1, o+2);
+    }
+
+    private static void sort4(double[] a, int o) {
+        cx(a, o, o+2);
+        cx(a, o+1, o+3);
+        cx(a, o, o+1);
+        cx(a, o+2, o+3);
+        cx(a, o+1, o+2);
+    }
+
+    private static void sort5(double[] a, int o) {
+        cx(a, o, o+3);
+        cx(a, o+1, o+4);
+        cx(a, o, o+2);
+        cx(a, o+1, o+3);
+        cx(a, o, o+1);
+        cx(a, o+2, o+4);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+        cx(a, o+2, o+3);
+    }
+
+    private static void sort6(double[] a, int o) {
+        cx(a, o, o+5);
+        cx(a, o+1, o+3);
+        cx(a, o+2, o+4);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+        cx(a, o, o+3);
+        cx(a, o+2, o+5);
+        cx(a, o, o+1);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+    }
+
+    private static void sort7(double[] a, int o) {
+        cx(a, o, o+6);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o, o+2);
+        cx(a, o+1, o+4);
+        cx(a, o+3, o+6);
+        cx(a, o, o+1);
+        cx(a, o+2, o+5);
+        cx(a, o+3, o+4);
+        cx(a, o+1, o+2);
+        cx(a, o+4, o+6);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+    }
+
+    private static void sort8(double[] a, int o) {
+        cx(a, o, o+2);
+        cx(a, o+1, o+3);
+        cx(a, o+4, o+6);
+        cx(a, o+5, o+7);
+        cx(a, o, o+4);
+        cx(a, o+1, o+5);
+        cx(a, o+2, o+6);
+        cx(a, o+3, o+7);
+        cx(a, o, o+1);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+7);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+5);
+        cx(a, o+1, o+4);
+        cx(a, o+3, o+6);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+    }
+
+    private static void sort9(double[] a, int o) {
+        cx(a, o, o+3);
+        cx(a, o+1, o+7);
+        cx(a, o+2, o+5);
+        cx(a, o+4, o+8);
+        cx(a, o, o+7);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+8);
+        cx(a, o+5, o+6);
+        cx(a, o, o+2);
+        cx(a, o+1, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+7, o+8);
+        cx(a, o+1, o+4);
+        cx(a, o+3, o+6);
+        cx(a, o+5, o+7);
+        cx(a, o, o+1);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+5);
+        cx(a, o+6, o+8);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+7);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+    }
+
+    private static void sort10(double[] a, int o) {
+        cx(a, o, o+8);
+        cx(a, o+1, o+9);
+        cx(a, o+2, o+7);
+        cx(a, o+3, o+5);
+        cx(a, o+4, o+6);
+        cx(a, o, o+2);
+        cx(a, o+1, o+4);
+        cx(a, o+5, o+8);
+        cx(a, o+7, o+9);
+        cx(a, o, o+3);
+        cx(a, o+2, o+4);
+        cx(a, o+5, o+7);
+        cx(a, o+6, o+9);
+        cx(a, o, o+1);
+        cx(a, o+3, o+6);
+        cx(a, o+8, o+9);
+        cx(a, o+1, o+5);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+8);
+        cx(a, o+6, o+7);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+5);
+        cx(a, o+4, o+6);
+        cx(a, o+7, o+8);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+7);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+    }
+
+    private static void sort11(double[] a, int o) {
+        cx(a, o, o+9);
+        cx(a, o+1, o+6);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+7);
+        cx(a, o+5, o+8);
+        cx(a, o, o+1);
+        cx(a, o+3, o+5);
+        cx(a, o+4, o+10);
+        cx(a, o+6, o+9);
+        cx(a, o+7, o+8);
+        cx(a, o+1, o+3);
+        cx(a, o+2, o+5);
+        cx(a, o+4, o+7);
+        cx(a, o+8, o+10);
+        cx(a, o, o+4);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+7);
+        cx(a, o+5, o+9);
+        cx(a, o+6, o+8);
+        cx(a, o, o+1);
+        cx(a, o+2, o+6);
+        cx(a, o+4, o+5);
+        cx(a, o+7, o+8);
+        cx(a, o+9, o+10);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+6);
+        cx(a, o+5, o+7);
+        cx(a, o+8, o+9);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+        cx(a, o+7, o+8);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+7);
+    }
+
+    private static void sort12(double[] a, int o) {
+        cx(a, o, o+8);
+        cx(a, o+1, o+7);
+        cx(a, o+2, o+6);
+        cx(a, o+3, o+11);
+        cx(a, o+4, o+10);
+        cx(a, o+5, o+9);
+        cx(a, o, o+1);
+        cx(a, o+2, o+5);
+        cx(a, o+3, o+4);
+        cx(a, o+6, o+9);
+        cx(a, o+7, o+8);
+        cx(a, o+10, o+11);
+        cx(a, o, o+2);
+        cx(a, o+1, o+6);
+        cx(a, o+5, o+10);
+        cx(a, o+9, o+11);
+        cx(a, o, o+3);
+        cx(a, o+1, o+2);
+        cx(a, o+4, o+6);
+        cx(a, o+5, o+7);
+        cx(a, o+8, o+11);
+        cx(a, o+9, o+10);
+        cx(a, o+1, o+4);
+        cx(a, o+3, o+5);
+        cx(a, o+6, o+8);
+        cx(a, o+7, o+10);
+        cx(a, o+1, o+3);
+        cx(a, o+2, o+5);
+        cx(a, o+6, o+9);
+        cx(a, o+8, o+10);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+7);
+        cx(a, o+8, o+9);
+        cx(a, o+4, o+6);
+        cx(a, o+5, o+7);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+        cx(a, o+7, o+8);
+    }
+
+    private static void sort13(double[] a, int o) {
+        cx(a, o, o+12);
+        cx(a, o+1, o+10);
+        cx(a, o+2, o+9);
+        cx(a, o+3, o+7);
+        cx(a, o+5, o+11);
+        cx(a, o+6, o+8);
+        cx(a, o+1, o+6);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+11);
+        cx(a, o+7, o+9);
+        cx(a, o+8, o+10);
+        cx(a, o, o+4);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+6);
+        cx(a, o+7, o+8);
+        cx(a, o+9, o+10);
+        cx(a, o+11, o+12);
+        cx(a, o+4, o+6);
+        cx(a, o+5, o+9);
+        cx(a, o+8, o+11);
+        cx(a, o+10, o+12);
+        cx(a, o, o+5);
+        cx(a, o+3, o+8);
+        cx(a, o+4, o+7);
+        cx(a, o+6, o+11);
+        cx(a, o+9, o+10);
+        cx(a, o, o+1);
+        cx(a, o+2, o+5);
+        cx(a, o+6, o+9);
+        cx(a, o+7, o+8);
+        cx(a, o+10, o+11);
+        cx(a, o+1, o+3);
+        cx(a, o+2, o+4);
+        cx(a, o+5, o+6);
+        cx(a, o+9, o+10);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+7);
+        cx(a, o+6, o+8);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+7);
+        cx(a, o+8, o+9);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+    }
+
+    private static void sort14(double[] a, int o) {
+        cx(a, o, o+1);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+7);
+        cx(a, o+8, o+9);
+        cx(a, o+10, o+11);
+        cx(a, o+12, o+13);
+        cx(a, o, o+2);
+        cx(a, o+1, o+3);
+        cx(a, o+4, o+8);
+        cx(a, o+5, o+9);
+        cx(a, o+10, o+12);
+        cx(a, o+11, o+13);
+        cx(a, o, o+4);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+7);
+        cx(a, o+5, o+8);
+        cx(a, o+6, o+10);
+        cx(a, o+9, o+13);
+        cx(a, o+11, o+12);
+        cx(a, o, o+6);
+        cx(a, o+1, o+5);
+        cx(a, o+3, o+9);
+        cx(a, o+4, o+10);
+        cx(a, o+7, o+13);
+        cx(a, o+8, o+12);
+        cx(a, o+2, o+10);
+        cx(a, o+3, o+11);
+        cx(a, o+4, o+6);
+        cx(a, o+7, o+9);
+        cx(a, o+1, o+3);
+        cx(a, o+2, o+8);
+        cx(a, o+5, o+11);
+        cx(a, o+6, o+7);
+        cx(a, o+10, o+12);
+        cx(a, o+1, o+4);
+        cx(a, o+2, o+6);
+        cx(a, o+3, o+5);
+        cx(a, o+7, o+11);
+        cx(a, o+8, o+10);
+        cx(a, o+9, o+12);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+6);
+        cx(a, o+5, o+8);
+        cx(a, o+7, o+10);
+        cx(a, o+9, o+11);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+        cx(a, o+7, o+8);
+        cx(a, o+9, o+10);
+        cx(a, o+6, o+7);
+    }
+
+    private static void sort15(double[] a, int o) {
+        cx(a, o, o+13);
+        cx(a, o+1, o+12);
+        cx(a, o+3, o+14);
+        cx(a, o+4, o+8);
+        cx(a, o+5, o+6);
+        cx(a, o+7, o+11);
+        cx(a, o+9, o+10);
+        cx(a, o, o+5);
+        cx(a, o+1, o+7);
+        cx(a, o+2, o+9);
+        cx(a, o+3, o+4);
+        cx(a, o+6, o+13);
+        cx(a, o+8, o+14);
+        cx(a, o+11, o+12);
+        cx(a, o, o+1);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+8);
+        cx(a, o+7, o+9);
+        cx(a, o+10, o+11);
+        cx(a, o+12, o+13);
+        cx(a, o, o+2);
+        cx(a, o+1, o+3);
+        cx(a, o+4, o+10);
+        cx(a, o+5, o+11);
+        cx(a, o+6, o+7);
+        cx(a, o+8, o+9);
+        cx(a, o+12, o+14);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+12);
+        cx(a, o+4, o+6);
+        cx(a, o+5, o+7);
+        cx(a, o+8, o+10);
+        cx(a, o+9, o+11);
+        cx(a, o+13, o+14);
+        cx(a, o+1, o+4);
+        cx(a, o+2, o+6);
+        cx(a, o+5, o+8);
+        cx(a, o+7, o+10);
+        cx(a, o+9, o+13);
+        cx(a, o+11, o+14);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+6);
+        cx(a, o+9, o+12);
+        cx(a, o+11, o+13);
+        cx(a, o+3, o+5);
+        cx(a, o+6, o+8);
+        cx(a, o+7, o+9);
+        cx(a, o+10, o+12);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+        cx(a, o+7, o+8);
+        cx(a, o+9, o+10);
+        cx(a, o+11, o+12);
+        cx(a, o+6, o+7);
+        cx(a, o+8, o+9);
+    }
+
+    private static void sort16(double[] a, int o) {
+        cx(a, o, o+13);
+        cx(a, o+1, o+12);
+        cx(a, o+2, o+15);
+        cx(a, o+3, o+14);
+        cx(a, o+4, o+8);
+        cx(a, o+5, o+6);
+        cx(a, o+7, o+11);
+        cx(a, o+9, o+10);
+        cx(a, o, o+5);
+        cx(a, o+1, o+7);
+        cx(a, o+2, o+9);
+        cx(a, o+3, o+4);
+        cx(a, o+6, o+13);
+        cx(a, o+8, o+14);
+        cx(a, o+10, o+15);
+        cx(a, o+11, o+12);
+        cx(a, o, o+1);
+        cx(a, o+2, o+3);
+        cx(a, o+4, o+5);
+        cx(a, o+6, o+8);
+        cx(a, o+7, o+9);
+        cx(a, o+10, o+11);
+        cx(a, o+12, o+13);
+        cx(a, o+14, o+15);
+        cx(a, o, o+2);
+        cx(a, o+1, o+3);
+        cx(a, o+4, o+10);
+        cx(a, o+5, o+11);
+        cx(a, o+6, o+7);
+        cx(a, o+8, o+9);
+        cx(a, o+12, o+14);
+        cx(a, o+13, o+15);
+        cx(a, o+1, o+2);
+        cx(a, o+3, o+12);
+        cx(a, o+4, o+6);
+        cx(a, o+5, o+7);
+        cx(a, o+8, o+10);
+        cx(a, o+9, o+11);
+        cx(a, o+13, o+14);
+        cx(a, o+1, o+4);
+        cx(a, o+2, o+6);
+        cx(a, o+5, o+8);
+        cx(a, o+7, o+10);
+        cx(a, o+9, o+13);
+        cx(a, o+11, o+14);
+        cx(a, o+2, o+4);
+        cx(a, o+3, o+6);
+        cx(a, o+9, o+12);
+        cx(a, o+11, o+13);
+        cx(a, o+3, o+5);
+        cx(a, o+6, o+8);
+        cx(a, o+7, o+9);
+        cx(a, o+10, o+12);
+        cx(a, o+3, o+4);
+        cx(a, o+5, o+6);
+        cx(a, o+7, o+8);
+        cx(a, o+9, o+10);
+        cx(a, o+11, o+12);
+        cx(a, o+6, o+7);
+        cx(a, o+8, o+9);
+    }
+
+    private static <T> void cx(T[] a, int i, int j, Comparator<? super T> comparator) {
+        T x = a[i];
+        T y = a[j];
+        if (comparator.compare(x, y) > 0) {
+            a[i] = y;
+            a[j] = x;
+        }
+    }
+
+    private static <T> void sort2(T[] a, int o, Comparator<? super T> comparator) {
+        cx(a, o, o+1, comparator);
+    }
+
+    private static <T> void sort3(T[] a, int o, Comparator<? super T> comparator) {
+        cx(a, o, o+2, comparator);
+        cx(a, o, o+1, comparator);
+        cx(a, o+1, o+2, comparator);
+    }
+
+    private static <T> void sort4(T[] a, int o, Comparator<? super T> comparator) {
+        cx(a, o, o+2, comparator);
+        cx(a, o+1, o+3, comparator);
+        cx(a, o, o+1, comparator);
+        cx(a, o+2, o+3, comparator);
+        cx(a, o+1, o+2, comparator);
+    }
+
+    private static <T> void sort5(T[] a, int o, Comparator<? super T> comparator) {
+        cx(a, o, o+3, comparator);
+        cx(a, o+1, o+4, comparator);
+        cx(a, o, o+2, comparator);
+        cx(a, o+1, o+3, comparator);
+        cx(a, o, o+1, comparator);
+        cx(a, o+2, o+4, comparator);
+        cx(a, o+1, o+2, comparator);
+        cx(a, o+3, o+4, comparator);
+        cx(a, o+2, o+3, comparator);
+    }
+
+    private static <T> void sort6(T[] a, int o, Comparator<? super T> comparator) {
+        cx(a, o, o+5, comparator);
+        cx(a, o+1, o+3, comparator);
+        cx(a, o+2, o+4, comparator);
+        cx(a, o+1, o+2, comparator);
+        cx(a, o+3, o+4, comparator);
+        cx(a, o, o+3, comparator);
+        cx(a, o+2, o+5, comparator);
+        cx(a, o, o+1, comparator);
+        cx(a, o+2, o+3, comparator);
+        cx(a, o+4, o+5, comparator);
+        cx(a, o+1, o+2, comparator);
+        cx(a, o+3, o+4, comparator);
+    }
+
+    private static <T> void sort7(T[] a, int o, Comparator<? super T> comparator) {
+        cx(a, o, o+6, comparator);
+        cx(a, o+2, o+3, comparator);
+        cx(a, o+4, o+5, comparator);
+        cx(a, o, o+2, comparator);
+        cx(a, o+1, o+4, comparator);
+        cx(a, o+3, o+6, comparator);
+        cx(a, o, o+1, comparator);
+        cx(a, o+2, o+5, comparator);
+        cx(a, o+3, o+4, comparator);
+        cx(a, o+1, o+2, comparator);
+        cx(a, o+4, o+6, comparator);
+        cx(a, o+2, o+3, comparator);
+        cx(a, o+4, o+5, comparator);
+        cx(a, o+1, o+2, comparator);
+        cx(a, o+3, o+4, comparator);
+        cx(a, o+5, o+6, comparator);
+    }
+
+    private static <T> void sort8(T[] a, int o, Comparator<? super T> comparator) {
+        cx(a, o, o+2, comparator);
+        cx(a, o+1, o+3, comparator);
+        cx(a, o+4, o+6, comparator);
+        cx(a, o+5, o+7, comparator);
+        cx(a, o, o+4, comparator);
+        cx(a, o+1, o+5, comparator);
+        cx(a, o+2, o+6, comparator);
+        cx(a, o+3, o+7, comparator);
+        cx(a, o, o+1, comparator);
+        cx(a, o+2, o+3, comparator);
+        cx(a, o+4, o+5, comparator);
+        cx(a, o+6, o+7, comparator);
+        cx(a, o+2, o+4, comparator);
+        cx(a, o+3, o+5, comparator);
+        cx(a, o+1, o+4, comparator);
+        cx(a, o+3, o+6, comparator);
+        cx(a, o+1, o+2, comparator);
+        cx(a, o+3, o+4, comparator);
+        cx(a, o+5, o+6, comparator);
+    }
+
+    private static <T> void sort9(T[] a, int o, Comparator<? super T> comparator) {
+        cx(a, o, o+3, comparator);
+        cx(a, o+1, o+7, comparator);
+        cx(a, o+2, o+5, comparator);
+        cx(a, o+4, o+8, comparator);
+        cx(a, o, o+7, comparator);
+        cx(a, o+2, o+4, comparator);
+        cx(a, o+3, o+8, comparator);
+        cx(a, o+5, o+6, comparator);
+        cx(a, o, o+2, comparator);
+        cx(a, o+1, o+3, comparator);
+        cx(a, o+4, o+5, comparator);
+        cx(a, o+7, o+8, comparator);
+        cx(a, o+1, o+4, comparator);
+        cx(a, o+3, o+6, comparator);
+        cx(a, o+5, o+7, comparator);
+        cx(a, o, o+1, comparator);
+        cx(a, o+2, o+4, comparator);
+        cx(a, o+3, o+5, comparator);
+        cx(a, o+6, o+8, comparator);
+        cx(a, o+2, o+3, comparator);
+        cx(a, o+4, o+5, comparator);
+        cx(a, o+6, o+7, comparator);
+        cx(a, o+1, o+2, comparator);
+        cx(a, o+3, o+4, comparator);
+        cx(a, o+5, o+6, comparator);
+    }
+
+    private static <T> void sort10(T[] a, int o, Comparator<? super T> comparator) {
+        cx(a, o, o+8, comparator);
+        cx(a, o+1, o+9, comparator);
+        cx(a, o+2, o+7, comparator);
+        cx(a, o+3, o+5, comparator);
+        cx(a, o+4, o+6, comparator);
+        cx(a, o, o+2, comparator);
+        cx(a, o+1, o+4, comparator);
+        cx(a, o+5, o+8, comparator);
+        cx(a, o+7, o+9, comparator);
+        cx(a, o, o+3, comparator);
+        cx(a, o+2, o+4, comparator);
+        cx(a, o+5, o+7, comparator);
+        cx(a, o+6, o+9, comparator);
+        cx(a, o, o+1, comparator);
+        cx(a, o+3, o+6, comparator);
+        cx(a, o+8, o+9, comparator);
+        cx(a, o+1, o+5, comparator);
+        cx(a, o+2, o+3, comparator);
+        cx(a, o+4, o+8, comparator);
+        cx(a, o+6, o+7, comparator);
+        cx(a, o+1, o+2, comparator);
+        cx(a, o+3, o+5, comparator);
+        cx(a, o+4, o+6, comparator);
+        cx(a, o+7, o+8, comparator);
+        cx(a, o+2, o+3, comparator);
+        cx(a, o+4, o+5, comparator);
+        cx(a, o+6, o+7, comparator);
+        cx(a, o+3, o+4, comparator);
+        cx(a, o+5, o+6, comparator);
+    }
+
+    private static <T> void sort11(T[] a, int o, Comparator<? super T> comparator) {
+        cx(a, o, o+9, comparator);
+        cx(a, o+1, o+6, comparator);
+        cx(a, o+2, o+4, comparator);
+        cx(a, o+3, o+7, comparator);
+        cx(a, o+5, o+8, comparator);
+        cx(a, o, o+1, comparator);
+        cx(a, o+3, o+5, comparator);
+        cx(a, o+4, o+10, comparator);
+        cx(a, o+6, o+9, comparator);
+        cx(a, o+7, o+8, comparator);
+        cx(a, o+1, o+3, comparator);
+        cx(a, o+2, o+5, comparator);
+        cx(a, o+4, o+7, comparator);
+        cx(a, o+8, o+10, comparator);
+        cx(a, o, o+4, comparator);
+        cx(a, o+1, o+2, comparator);
+        cx(a, o+3, o+7, comparator);
+        cx(a, o+5, o+9, comparator);
+        cx(a, o+6, o+8, comparator);
+        cx(a, o, o+1, comparator);
+        cx(a, o+2, o+6, comparator);
+        cx(a, o+4, o+5, comparator);
+        cx(a, o+7, o+8, comparator);
+        cx(a, o+9, o+10, comparator);
+        cx(a, o+2, o+4, comparator);
+        cx(a, o+3, o+6, comparator);
+        cx(a, o+5, o+7, comparator);
+        cx(a, o+8, o+9, comparator);
+        cx(a, o+1, o+2, comparator);
+        cx(a, o+3, o+4, comparator);
+        cx(a, o+5, o+6, comparator);
+        cx(a, o+7, o+8, comparator);
+        cx(a, o+2, o+3, comparator);
+        cx(a, o+4, o+5, comparator);
+        cx(a, o+6, o+7, comparator);
+    }
+
+    private static <T> void sort12(T[] a, int o, Comparator<? super T> comparator) {
+        cx(a, o, o+8, comparator);
+        cx(a, o+1, o+7, comparator);
+        cx(a, o+2, o+6, comparator);
+        cx(a, o+3, o+11, comparator);
+        cx(a, o+4, o+10, comparator);
+        cx(a, o+5, o+9, comparator);
+        cx(a, o, o+1, comparator);
+        cx(a, o+2, o+5, comparator);
+        cx(a, o+3, o+4, comparator);
+        cx(a, o+6, o+9, comparator);
+        cx(a, o+7, o+8, comparator);
+        cx(a, o+10, o+11, comparator);
+        cx(a, o, o+2, comparator);
+        cx(a, o+1, o+6, comparator);
+        cx(a, o+5, o+10, comparator);
+        cx(a, o+9, o+11, comparator);
+        cx(a, o, o+3, comparator);
+        cx(a, o+1, o+2, comparator);
+        cx(a, o+4, o+6, comparator);
+        cx(a, o+5, o+7, comparator);
+        cx(a, o+8, o+11, comparator);
+        cx(a, o+9, o+10, comparator);
+        cx(a, o+1, o+4, comparator);
+        cx(a, o+3, o+5, comparator);
+        cx(a, o+6, o+8, comparator);
+        cx(a, o+7, o+10, comparator);
+        cx(a, o+1, o+3, comparator);
+        cx(a, o+2, o+5, comparator);
+        cx(a, o+6, o+9, comparator);
+        cx(a, o+8, o+10, comparator);
+        cx(a, o+2, o+3, comparator);
+        cx(a, o+4, o+5, comparator);
+        cx(a, o+6, o+7, comparator);
+        cx(a, o+8, o+9, comparator);
+        cx(a, o+4, o+6, comparator);
+        cx(a, o+5, o+7, comparator);
+        cx(a, o+3, o+4, comparator);
+        cx(a, o+5, o+6, comparator);
+        cx(a, o+7, o+8, comparator);
+    }
+
+    private static <T> void sort13(T[] a, int o, Comparator<? super T> comparator) {
+        cx(a, o, o+12, comparator);
+        cx(a, o+1, o+10, comparator);
+        cx(a, o+2, o+9, comparator);
+        cx(a, o+3, o+7, comparator);
+        cx(a, o+5, o+11, comparator);
+        cx(a, o+6, o+8, comparator);
+        cx(a, o+1, o+6, comparator);
+        cx(a, o+2, o+3, comparator);
+        cx(a, o+4, o+11, comparator);
+        cx(a, o+7, o+9, comparator);
+        cx(a, o+8, o+10, comparator);
+        cx(a, o, o+4, comparator);
+        cx(a, o+1, o+2, comparator);
+        cx(a, o+3, o+6, comparator);
+        cx(a, o+7, o+8, comparator);
+        cx(a, o+9, o+10, comparator);
+        cx(a, o+11, o+12, comparator);
+        cx(a, o+4, o+6, comparator);
+        cx(a, o+5, o+9, comparator);
+        cx(a, o+8, o+11, comparator);
+        cx(a, o+10, o+12, comparator);
+        cx(a, o, o+5, comparator);
+        cx(a, o+3, o+8, comparator);
+        cx(a, o+4, o+7, comparator);
+        cx(a, o+6, o+11, comparator);
+        cx(a, o+9, o+10, comparator);
+        cx(a, o, o+1, comparator);
+        cx(a, o+2, o+5, comparator);
+        cx(a, o+6, o+9, comparator);
+        cx(a, o+7, o+8, comparator);
+        cx(a, o+10, o+11, comparator);
+        cx(a, o+1, o+3, comparator);
+        cx(a, o+2, o+4, comparator);
+        cx(a, o+5, o+6, comparator);
+        cx(a, o+9, o+10, comparator);
+        cx(a, o+1, o+2, comparator);
+        cx(a, o+3, o+4, comparator);
+        cx(a, o+5, o+7, comparator);
+        cx(a, o+6, o+8, comparator);
+        cx(a, o+2, o+3, comparator);
+        cx(a, o+4, o+5, comparator);
+        cx(a, o+6, o+7, comparator);
+        cx(a, o+8, o+9, comparator);
+        cx(a, o+3, o+4, comparator);
+        cx(a, o+5, o+6, comparator);
+    }
+
+    private static <T> void sort14(T[] a, int o, Comparator<? super T> comparator) {
+        cx(a, o, o+1, comparator);
+        cx(a, o+2, o+3, comparator);
+        cx(a, o+4, o+5, comparator);
+        cx(a, o+6, o+7, comparator);
+        cx(a, o+8, o+9, comparator);
+        cx(a, o+10, o+11, comparator);
+        cx(a, o+12, o+13, comparator);
+        cx(a, o, o+2, comparator);
+        cx(a, o+1, o+3, comparator);
+        cx(a, o+4, o+8, comparator);
+        cx(a, o+5, o+9, comparator);
+        cx(a, o+10, o+12, comparator);
+        cx(a, o+11, o+13, comparator);
+        cx(a, o, o+4, comparator);
+        cx(a, o+1, o+2, comparator);
+        cx(a, o+3, o+7, comparator);
+        cx(a, o+5, o+8, comparator);
+        cx(a, o+6, o+10, comparator);
+        cx(a, o+9, o+13, comparator);
+        cx(a, o+11, o+12, comparator);
+        cx(a, o, o+6, comparator);
+        cx(a, o+1, o+5, comparator);
+        cx(a, o+3, o+9, comparator);
+        cx(a, o+4, o+10, comparator);
+        cx(a, o+7, o+13, comparator);
+        cx(a, o+8, o+12, comparator);
+        cx(a, o+2, o+10, comparator);
+        cx(a, o+3, o+11, comparator);
+        cx(a, o+4, o+6, comparator);
+        cx(a, o+7, o+9, comparator);
+        cx(a, o+1, o+3, comparator);
+        cx(a, o+2, o+8, comparator);
+        cx(a, o+5, o+11, comparator);
+        cx(a, o+6, o+7, comparator);
+        cx(a, o+10, o+12, comparator);
+        cx(a, o+1, o+4, comparator);
+        cx(a, o+2, o+6, comparator);
+        cx(a, o+3, o+5, comparator);
+        cx(a, o+7, o+11, comparator);
+        cx(a, o+8, o+10, comparator);
+        cx(a, o+9, o+12, comparator);
+        cx(a, o+2, o+4, comparator);
+        cx(a, o+3, o+6, comparator);
+        cx(a, o+5, o+8, comparator);
+        cx(a, o+7, o+10, comparator);
+        cx(a, o+9, o+11, comparator);
+        cx(a, o+3, o+4, comparator);
+        cx(a, o+5, o+6, comparator);
+        cx(a, o+7, o+8, comparator);
+        cx(a, o+9, o+10, comparator);
+        cx(a, o+6, o+7, comparator);
+    }
+
+    private static <T> void sort15(T[] a, int o, Comparator<? super T> comparator) {
+        cx(a, o, o+13, comparator);
+        cx(a, o+1, o+12, comparator);
+        cx(a, o+3, o+14, comparator);
+        cx(a, o+4, o+8, comparator);
+        cx(a, o+5, o+6, comparator);
+        cx(a, o+7, o+11, comparator);
+        cx(a, o+9, o+10, comparator);
+        cx(a, o, o+5, comparator);
+        cx(a, o+1, o+7, comparator);
+        cx(a, o+2, o+9, comparator);
+        cx(a, o+3, o+4, comparator);
+        cx(a, o+6, o+13, comparator);
+        cx(a, o+8, o+14, comparator);
+        cx(a, o+11, o+12, comparator);
+        cx(a, o, o+1, comparator);
+        cx(a, o+2, o+3, comparator);
+        cx(a, o+4, o+5, comparator);
+        cx(a, o+6, o+8, comparator);
+        cx(a, o+7, o+9, comparator);
+        cx(a, o+10, o+11, comparator);
+        cx(a, o+12, o+13, comparator);
+        cx(a, o, o+2, comparator);
+        cx(a, o+1, o+3, comparator);
+        cx(a, o+4, o+10, comparator);
+        cx(a, o+5, o+11, comparator);
+        cx(a, o+6, o+7, comparator);
+        cx(a, o+8, o+9, comparator);
+        cx(a, o+12, o+14, comparator);
+        cx(a, o+1, o+2, comparator);
+        cx(a, o+3, o+12, comparator);
+        cx(a, o+4, o+6, comparator);
+        cx(a, o+5, o+7, comparator);
+        cx(a, o+8, o+10, comparator);
+        cx(a, o+9, o+11, comparator);
+        cx(a, o+13, o+14, comparator);
+        cx(a, o+1, o+4, comparator);
+        cx(a, o+2, o+6, comparator);
+        cx(a, o+5, o+8, comparator);
+        cx(a, o+7, o+10, comparator);
+        cx(a, o+9, o+13, comparator);
+        cx(a, o+11, o+14, comparator);
+        cx(a, o+2, o+4, comparator);
+        cx(a, o+3, o+6, comparator);
+        cx(a, o+9, o+12, comparator);
+        cx(a, o+11, o+13, comparator);
+        cx(a, o+3, o+5, comparator);
+        cx(a, o+6, o+8, comparator);
+        cx(a, o+7, o+9, comparator);
+        cx(a, o+10, o+12, comparator);
+        cx(a, o+3, o+4, comparator);
+        cx(a, o+5, o+6, comparator);
+        cx(a, o+7, o+8, comparator);
+        cx(a, o+9, o+10, comparator);
+        cx(a, o+11, o+12, comparator);
+        cx(a, o+6, o+7, comparator);
+        cx(a, o+8, o+9, comparator);
+    }
+
+    private static <T> void sort16(T[] a, int o, Comparator<? super T> comparator) {
+        cx(a, o, o+13, comparator);
+        cx(a, o+1, o+12, comparator);
+        cx(a, o+2, o+15, comparator);
+        cx(a, o+3, o+14, comparator);
+        cx(a, o+4, o+8, comparator);
+        cx(a, o+5, o+6, comparator);
+        cx(a, o+7, o+11, comparator);
+        cx(a, o+9, o+10, comparator);
+        cx(a, o, o+5, comparator);
+        cx(a, o+1, o+7, comparator);
+        cx(a, o+2, o+9, comparator);
+        cx(a, o+3, o+4, comparator);
+        cx(a, o+6, o+13, comparator);
+        cx(a, o+8, o+14, comparator);
+        cx(a, o+10, o+15, comparator);
+        cx(a, o+11, o+12, comparator);
+        cx(a, o, o+1, comparator);
+        cx(a, o+2, o+3, comparator);
+        cx(a, o+4, o+5, comparator);
+        cx(a, o+6, o+8, comparator);
+        cx(a, o+7, o+9, comparator);
+        cx(a, o+10, o+11, comparator);
+        cx(a, o+12, o+13, comparator);
+        cx(a, o+14, o+15, comparator);
+        cx(a, o, o+2, comparator);
+        cx(a, o+1, o+3, comparator);
+        cx(a, o+4, o+10, comparator);
+        cx(a, o+5, o+11, comparator);
+        cx(a, o+6, o+7, comparator);
+        cx(a, o+8, o+9, comparator);
+        cx(a, o+12, o+14, comparator);
+        cx(a, o+13, o+15, comparator);
+        cx(a, o+1, o+2, comparator);
+        cx(a, o+3, o+12, comparator);
+        cx(a, o+4, o+6, comparator);
+        cx(a, o+5, o+7, comparator);
+        cx(a, o+8, o+10, comparator);
+        cx(a, o+9, o+11, comparator);
+        cx(a, o+13, o+14, comparator);
+        cx(a, o+1, o+4, comparator);
+        cx(a, o+2, o+6, comparator);
+        cx(a, o+5, o+8, comparator);
+        cx(a, o+7, o+10, comparator);
+        cx(a, o+9, o+13, comparator);
+        cx(a, o+11, o+14, comparator);
+        cx(a, o+2, o+4, comparator);
+        cx(a, o+3, o+6, comparator);
+        cx(a, o+9, o+12, comparator);
+        cx(a, o+11, o+13, comparator);
+        cx(a, o+3, o+5, comparator);
+        cx(a, o+6, o+8, comparator);
+        cx(a, o+7, o+9, comparator);
+        cx(a, o+10, o+12, comparator);
+        cx(a, o+3, o+4, comparator);
+        cx(a, o+5, o+6, comparator);
+        cx(a, o+7, o+8, comparator);
+        cx(a, o+9, o+10, comparator);
+        cx(a, o+11, o+12, comparator);
+        cx(a, o+6, o+7, comparator);
+        cx(a, o+8, o+9, comparator);
+    }
+}
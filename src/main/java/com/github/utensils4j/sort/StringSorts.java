@@ -0,0 +1,273 @@
+package com.github.utensils4j.sort;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+
+import com.github.utensils4j.compare.Comparisons;
+
+/**
+ * Static utility methods to sort strings using "abbreviated keys".
+ *
+ * <p>Before sorting, the first 4 {@code char}s of every string are packed
+ * into a {@code long} (the <em>abbreviated key</em>) in a way that preserves
+ * the order of the strings: comparing two abbreviated keys is a single
+ * primitive comparison and, only when the abbreviated keys are equal, the
+ * strings are compared with the full comparison of {@link Comparisons}. Since
+ * most comparisons are decided by the first few characters, this avoids the
+ * majority of the accesses to the {@code String} objects during the sort.
+ *
+ * <p>All the sorts are <em>stable</em>: equal strings are not reordered.
+ *
+ * @author Andrea Binello
+ */
+public class StringSorts {
+    private static final int INSERTION_SORT_THRESHOLD = 7;
+
+    private StringSorts() {}
+
+    //-----------------------------------------------------------------------
+    // sortNullFirst / sortNullLast
+    //-----------------------------------------------------------------------
+
+    /**
+     * Sorts an array of strings in the order of
+     * {@link Comparisons#compareNullFirst(Comparable, Comparable)}.
+     *
+     * @param  array  the array to sort
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public static void sortNullFirst(String[] array) {
+        sort(array, true, false);
+    }
+
+    /**
+     * Sorts an array of strings in the order of
+     * {@link Comparisons#compareNullLast(Comparable, Comparable)}.
+     *
+     * @param  array  the array to sort
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public static void sortNullLast(String[] array) {
+        sort(array, false, false);
+    }
+
+    /**
+     * Sorts a list of strings in the order of
+     * {@link Comparisons#compareNullFirst(Comparable, Comparable)}.
+     *
+     * @param  list  the list to sort
+     * @throws NullPointerException if {@code list} is {@code null}
+     * @throws UnsupportedOperationException if the list's list-iterator does
+     *         not support the {@code set} operation
+     */
+    public static void sortNullFirst(List<String> list) {
+        sort(list, true, false);
+    }
+
+    /**
+     * Sorts a list of strings in the order of
+     * {@link Comparisons#compareNullLast(Comparable, Comparable)}.
+     *
+     * @param  list  the list to sort
+     * @throws NullPointerException if {@code list} is {@code null}
+     * @throws UnsupportedOperationException if the list's list-iterator does
+     *         not support the {@code set} operation
+     */
+    public static void sortNullLast(List<String> list) {
+        sort(list, false, false);
+    }
+
+
+    //-----------------------------------------------------------------------
+    // sortIgnoringCaseNullFirst / sortIgnoringCaseNullLast
+    //-----------------------------------------------------------------------
+
+    /**
+     * Sorts an array of strings in the order of
+     * {@link Comparisons#compareIgnoringCaseNullFirst(String, String)}.
+     *
+     * @param  array  the array to sort
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public static void sortIgnoringCaseNullFirst(String[] array) {
+        sort(array, true, true);
+    }
+
+    /**
+     * Sorts an array of strings in the order of
+     * {@link Comparisons#compareIgnoringCaseNullLast(String, String)}.
+     *
+     * @param  array  the array to sort
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public static void sortIgnoringCaseNullLast(String[] array) {
+        sort(array, false, true);
+    }
+
+    /**
+     * Sorts a list of strings in the order of
+     * {@link Comparisons#compareIgnoringCaseNullFirst(String, String)}.
+     *
+     * @param  list  the list to sort
+     * @throws NullPointerException if {@code list} is {@code null}
+     * @throws UnsupportedOperationException if the list's list-iterator does
+     *         not support the {@code set} operation
+     */
+    public static void sortIgnoringCaseNullFirst(List<String> list) {
+        sort(list, true, true);
+    }
+
+    /**
+     * Sorts a list of strings in the order of
+     * {@link Comparisons#compareIgnoringCaseNullLast(String, String)}.
+     *
+     * @param  list  the list to sort
+     * @throws NullPointerException if {@code list} is {@code null}
+     * @throws UnsupportedOperationException if the list's list-iterator does
+     *         not support the {@code set} operation
+     */
+    public static void sortIgnoringCaseNullLast(List<String> list) {
+        sort(list, false, true);
+    }
+
+
+    //-----------------------------------------------------------------------
+    // abbreviated keys
+    //-----------------------------------------------------------------------
+
+    /*
+     * Packs the first 4 chars in a long (missing chars are 0). The sign bit
+     * is flipped so that the signed comparison of two keys gives the unsigned
+     * order of the packed chars.
+     */
+    static long abbreviate(String str) {
+        int len = Math.min(str.length(), 4);
+        long key = 0;
+
+        for (int i = 0; i < 4; i++) {
+            key = (key << 16) | (i < len ? str.charAt(i) : 0);
+        }
+        return key ^ Long.MIN_VALUE;
+    }
+
+    /*
+     * Packs the first 4 chars folded as String.CASE_INSENSITIVE_ORDER does
+     * (upper case and then lower case). The folding of a char below U+D800
+     * is always below U+D800, while surrogates (that since Java 16 are
+     * folded as whole code points) and the other chars from U+D800 are all
+     * "greater": so from the first of such chars the key is just saturated
+     * and the decision is left to the full comparison.
+     */
+    static long abbreviateIgnoringCase(String str) {
+        int len = Math.min(str.length(), 4);
+        long key = 0;
+
+        for (int i = 0; i < 4; i++) {
+            int c = i < len ? str.charAt(i) : 0;
+
+            if (c >= Character.MIN_SURROGATE) {
+                key = (key << 16) | Character.MIN_SURROGATE;
+                key = ((key + 1) << (16 * (3 - i))) - 1;   // all remaining chars as 0xFFFF
+                break;
+            }
+            key = (key << 16) | Character.toLowerCase(Character.toUpperCase((char) c));
+        }
+        return key ^ Long.MIN_VALUE;
+    }
+
+
+    //-----------------------------------------------------------------------
+    // sort implementation
+    //-----------------------------------------------------------------------
+
+    private static void sort(List<String> list, boolean nullFirst, boolean ignoringCase) {
+        String[] array = list.toArray(new String[0]);
+        sort(array, nullFirst, ignoringCase);
+
+        ListIterator<String> iterator = list.listIterator();
+        for (String str : array) {
+            iterator.next();
+            iterator.set(str);
+        }
+    }
+
+    private static void sort(String[] array, boolean nullFirst, boolean ignoringCase) {
+        int length = array.length;
+        String[] values = new String[length];
+        int nonNullCount = 0;
+
+        for (String str : array) {
+            if (str != null) {
+                values[nonNullCount++] = str;
+            }
+        }
+
+        long[] keys = new long[nonNullCount];
+        for (int i = 0; i < nonNullCount; i++) {
+            keys[i] = ignoringCase ? abbreviateIgnoringCase(values[i]) : abbreviate(values[i]);
+        }
+
+        String[] auxValues = Arrays.copyOf(values, nonNullCount);
+        long[] auxKeys = keys.clone();
+        mergeSort(auxKeys, auxValues, keys, values, 0, nonNullCount, ignoringCase);
+
+        int offset = nullFirst ? length - nonNullCount : 0;
+        Arrays.fill(array, nullFirst ? 0 : nonNullCount, nullFirst ? offset : length, null);
+        System.arraycopy(values, 0, array, offset, nonNullCount);
+    }
+
+    /*
+     * Sorts src[low..high) into dst[low..high); both must initially hold
+     * the same elements (as the "legacy" merge sort of Arrays).
+     */
+    private static void mergeSort(long[] srcKeys, String[] src, long[] dstKeys, String[] dst,
+            int low, int high, boolean ignoringCase) {
+        int length = high - low;
+
+        if (length < INSERTION_SORT_THRESHOLD) {
+            for (int i = low + 1; i < high; i++) {
+                long key = dstKeys[i];
+                String value = dst[i];
+                int j = i - 1;
+
+                while (j >= low && compare(dstKeys[j], dst[j], key, value, ignoringCase) > 0) {
+                    dstKeys[j+1] = dstKeys[j];
+                    dst[j+1] = dst[j];
+                    j--;
+                }
+                dstKeys[j+1] = key;
+                dst[j+1] = value;
+            }
+            return;
+        }
+
+        int mid = (low + high) >>> 1;
+        mergeSort(dstKeys, dst, srcKeys, src, low, mid, ignoringCase);
+        mergeSort(dstKeys, dst, srcKeys, src, mid, high, ignoringCase);
+
+        if (compare(srcKeys[mid-1], src[mid-1], srcKeys[mid], src[mid], ignoringCase) <= 0) {
+            System.arraycopy(srcKeys, low, dstKeys, low, length);
+            System.arraycopy(src, low, dst, low, length);
+            return;
+        }
+
+        for (int i = low, p = low, q = mid; i < high; i++) {
+            if (q >= high || p < mid && compare(srcKeys[p], src[p], srcKeys[q], src[q], ignoringCase) <= 0) {
+                dstKeys[i] = srcKeys[p];
+                dst[i] = src[p++];
+            } else {
+                dstKeys[i] = srcKeys[q];
+                dst[i] = src[q++];
+            }
+        }
+    }
+
+    private static int compare(long leftKey, String left, long rightKey, String right, boolean ignoringCase) {
+        if (leftKey != rightKey) {
+            return leftKey < rightKey ? -1 : 1;
+        }
+        return ignoringCase ? Comparisons.compareIgnoringCaseNullFirst(left, right)
+                            : Comparisons.compareNullFirst(left, right);
+    }
+}
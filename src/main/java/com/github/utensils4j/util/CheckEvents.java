@@ -0,0 +1,49 @@
+package com.github.utensils4j.util;
+
+/**
+ * Emits the Flight Recorder events of {@link Checks} only when the JFR API is
+ * available, so that this library keeps working on runtimes without JFR.
+ *
+ * <p>The event class ({@code CheckFailureEvent}) is in a separate source
+ * root ({@code src/main/jfr}), compiled against the {@code jdk.jfr} API of the
+ * build JDK, while this class and the rest of the library are compiled
+ * against the plain Java 8 API: the emitter is loaded by name and used
+ * through the {@link Emitter} interface.
+ *
+ * @author Andrea Binello
+ */
+final class CheckEvents {
+    static final String EMITTER_CLASS = "com.github.utensils4j.util.CheckFailureEvent$JfrEmitter";
+
+    private static final Emitter EMITTER = loadEmitter();
+
+    private CheckEvents() {}
+
+    static void failed(CheckType type, Object key) {
+        if (EMITTER != null) {
+            EMITTER.failed(type, key);
+        }
+    }
+
+    static boolean isJfrAvailable() {
+        return EMITTER != null;
+    }
+
+
+    private static Emitter loadEmitter() {
+        try {
+            Class.forName("jdk.jfr.Event", false, CheckEvents.class.getClassLoader());
+            return (Emitter) Class.forName(EMITTER_CLASS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return null;   // JFR (or the event class) not available: no events
+        }
+    }
+
+
+    /*
+     * Implemented by the JFR event class.
+     */
+    interface Emitter {
+        void failed(CheckType type, Object key);
+    }
+}
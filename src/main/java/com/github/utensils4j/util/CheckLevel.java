@@ -0,0 +1,49 @@
+package com.github.utensils4j.util;
+
+/**
+ * The level of the "debug" checks of {@link Checks} (the {@code debugRequireX}
+ * methods), that are meant for internal invariants that can be disabled in
+ * production without paying any cost.
+ *
+ * <p>The level is read only once from the system property
+ * {@value #PROPERTY} (default {@link #FULL}) and kept in {@code static final}
+ * fields: when the debug checks are disabled, the JIT compiler removes them
+ * entirely (the condition is a constant).
+ *
+ * @author Andrea Binello
+ */
+public enum CheckLevel {
+    /**
+     * No debug check is performed.
+     */
+    OFF,
+
+    /**
+     * Only the "cheap" (constant time) debug checks are performed.
+     */
+    CHEAP,
+
+    /**
+     * All the debug checks are performed, including the expensive ones
+     * (e.g. linear time) guarded by {@link Checks#isFullDebugEnabled()}.
+     */
+    FULL;
+
+    /**
+     * The name of the system property that sets the level of the debug checks.
+     */
+    public static final String PROPERTY = "utensils4j.checks.level";
+
+    static CheckLevel fromSystemProperty() {
+        String value = System.getProperty(PROPERTY);
+
+        if (value != null) {
+            for (CheckLevel level : values()) {
+                if (level.name().equalsIgnoreCase(value.trim())) {
+                    return level;
+                }
+            }
+        }
+        return FULL;
+    }
+}
@@ -0,0 +1,224 @@
+package com.github.utensils4j.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Optional counters of the failures of the checks of {@link Checks}, by
+ * check type and by <em>key</em>: the key is the {@code valueName} (or the
+ * array/collection name) for the checks that have one, the message template
+ * for the {@code WithMsg} checks and the class of the supplier for the checks
+ * with a {@code Supplier<String>} message (for a lambda expression, the class
+ * that declares it).
+ *
+ * <p>The keys of each check type are at most {@value #MAX_KEYS}, so that
+ * messages built at runtime can't make the counters grow without bounds:
+ * once the limit is reached, the failures with new keys are counted under
+ * the {@value #OTHER_KEY} key.
+ *
+ * <p>The metrics are disabled by default and can be enabled with the system
+ * property {@value #ENABLED_PROPERTY} set to {@code true}, with
+ * {@link #setEnabled(boolean)} or through JMX (see {@link #registerMBean()}).
+ * They are updated only when a check fails, with {@link LongAdder} counters
+ * that don't suffer of contention across threads, so the cost for the checks
+ * that pass is nil.
+ *
+ * @author Andrea Binello
+ */
+public final class CheckMetrics {
+    /**
+     * The name of the system property that enables the metrics at startup.
+     */
+    public static final String ENABLED_PROPERTY = "utensils4j.checks.metrics";
+
+    /**
+     * The JMX name of the MBean registered by {@link #registerMBean()}.
+     */
+    public static final String MBEAN_NAME = "com.github.utensils4j:type=CheckMetrics";
+
+    /**
+     * The maximum number of keys counted for each check type (approximate,
+     * concurrent failures can exceed it by a few keys).
+     */
+    public static final int MAX_KEYS = 1024;
+
+    /**
+     * The key of the failures counted after {@value #MAX_KEYS} keys.
+     */
+    public static final String OTHER_KEY = "(other)";
+
+    // one map of counters for each check type, created once and never replaced
+    private static final Map<CheckType, ConcurrentHashMap<String, LongAdder>> COUNTERS = new EnumMap<>(CheckType.class);
+
+    static {
+        for (CheckType type : CheckType.values()) {
+            COUNTERS.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private CheckMetrics() {}
+
+    /**
+     * Tells whether the failures are counted.
+     *
+     * @return  {@code true} if the metrics are enabled
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables the counting of the failures. The counters are
+     * kept when the metrics are disabled.
+     *
+     * @param  enabled  {@code true} to enable the metrics
+     */
+    public static void setEnabled(boolean enabled) {
+        CheckMetrics.enabled = enabled;
+    }
+
+    /**
+     * Returns the number of failures of a check type for a key.
+     *
+     * @param   type  the check type
+     * @param   key  the key (e.g. the {@code valueName})
+     * @return  the number of failures
+     * @throws  NullPointerException if {@code type} is {@code null}
+     */
+    public static long failures(CheckType type, String key) {
+        LongAdder counter = COUNTERS.get(type).get(String.valueOf(key));
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * Returns the total number of failures.
+     *
+     * @return  the total number of failures
+     */
+    public static long totalFailures() {
+        long total = 0;
+        for (ConcurrentHashMap<String, LongAdder> counters : COUNTERS.values()) {
+            for (LongAdder counter : counters.values()) {
+                total += counter.sum();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns a snapshot of the failures of a check type, by key (sorted).
+     *
+     * @param   type  the check type
+     * @return  a new map of the failure counts
+     * @throws  NullPointerException if {@code type} is {@code null}
+     */
+    public static Map<String, Long> snapshot(CheckType type) {
+        Map<String, Long> snapshot = new TreeMap<>();
+        COUNTERS.get(type).forEach((key, counter) -> snapshot.put(key, counter.sum()));
+        return snapshot;
+    }
+
+    /**
+     * Returns a snapshot of the failures of all the check types that
+     * failed at least once.
+     *
+     * @return  a new map of the failure counts, by check type and by key
+     */
+    public static Map<CheckType, Map<String, Long>> snapshot() {
+        Map<CheckType, Map<String, Long>> snapshot = new EnumMap<>(CheckType.class);
+        for (CheckType type : COUNTERS.keySet()) {
+            Map<String, Long> counts = snapshot(type);
+            if (!counts.isEmpty()) {
+                snapshot.put(type, counts);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Resets all the counters. Failures counted concurrently with the reset
+     * may be lost.
+     */
+    public static void reset() {
+        for (ConcurrentHashMap<String, LongAdder> counters : COUNTERS.values()) {
+            counters.clear();
+        }
+    }
+
+    /**
+     * Registers the {@link CheckMetricsMXBean} in the platform MBean server,
+     * under the name {@value #MBEAN_NAME}.
+     *
+     * @return  {@code true} if the MBean was registered, {@code false} if it
+     *          was already registered
+     * @throws  IllegalStateException if the registration fails
+     */
+    public static boolean registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBean(), new ObjectName(MBEAN_NAME));
+            return true;
+        } catch (InstanceAlreadyExistsException e) {
+            return false;
+        } catch (JMException e) {
+            throw new IllegalStateException("cannot register " + MBEAN_NAME, e);
+        }
+    }
+
+    /*
+     * Called by Checks when a check fails.
+     */
+    static void failed(CheckType type, Object key) {
+        if (enabled) {
+            ConcurrentHashMap<String, LongAdder> counters = COUNTERS.get(type);
+            String name = String.valueOf(key);
+            LongAdder counter = counters.get(name);   // lock-free in the common case
+
+            if (counter == null) {
+                String bounded = counters.size() < MAX_KEYS ? name : OTHER_KEY;
+                counter = counters.computeIfAbsent(bounded, k -> new LongAdder());
+            }
+            counter.increment();
+        }
+    }
+
+
+    private static final class MXBean implements CheckMetricsMXBean {
+        @Override
+        public boolean isEnabled() {
+            return CheckMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            CheckMetrics.setEnabled(enabled);
+        }
+
+        @Override
+        public Map<String, Long> getFailureCounts() {
+            Map<String, Long> counts = new TreeMap<>();
+            snapshot().forEach((type, byKey) ->
+                    byKey.forEach((key, count) -> counts.put(type + ":" + key, count)));
+            return counts;
+        }
+
+        @Override
+        public long getTotalFailures() {
+            return totalFailures();
+        }
+
+        @Override
+        public void reset() {
+            CheckMetrics.reset();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.utensils4j.util;
+
+import java.util.Map;
+
+/**
+ * The management interface of {@link CheckMetrics}, registered with
+ * {@link CheckMetrics#registerMBean()} under the name
+ * {@value CheckMetrics#MBEAN_NAME}.
+ *
+ * @author Andrea Binello
+ */
+public interface CheckMetricsMXBean {
+    /**
+     * Tells whether the failures are counted.
+     *
+     * @return  {@code true} if the metrics are enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * Enables or disables the counting of the failures.
+     *
+     * @param  enabled  {@code true} to enable the metrics
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Returns the number of failures for each check type and key, with keys
+     * in the form <code><i>TYPE</i>:<i>key</i></code> (e.g. {@code "POSITIVE:quantity"}).
+     *
+     * @return  the failure counts
+     */
+    Map<String, Long> getFailureCounts();
+
+    /**
+     * Returns the total number of failures.
+     *
+     * @return  the total number of failures
+     */
+    long getTotalFailures();
+
+    /**
+     * Resets all the counters.
+     */
+    void reset();
+}
@@ -0,0 +1,78 @@
+package com.github.utensils4j.util;
+
+/**
+ * Options for the checks of {@link Checks}, about the exceptions thrown when
+ * a check fails.
+ *
+ * <p>In the <strong>stackless</strong> mode the exceptions don't fill in their
+ * stack trace, that is by far the most expensive part of the creation of an
+ * exception. It's useful when the checks are used as a sort of control flow
+ * (e.g. to reject invalid records in a parser that processes millions of
+ * records per second) and the stack trace is not needed.
+ *
+ * <p>The stackless mode can be enabled globally, for all the checks, with
+ * the system property {@value #STACKLESS_PROPERTY} set to {@code true} (read
+ * only once, when this class is initialized), or for specific calls passing
+ * {@link #stackless()} to the {@code Checks} methods that accept a
+ * {@code CheckOptions}.
+ *
+ * @author Andrea Binello
+ */
+public final class CheckOptions {
+    /**
+     * The name of the system property that enables globally the stackless mode.
+     */
+    public static final String STACKLESS_PROPERTY = "utensils4j.checks.stackless";
+
+    private static final CheckOptions WITH_STACK_TRACE = new CheckOptions(false);
+    private static final CheckOptions STACKLESS = new CheckOptions(true);
+    private static final CheckOptions DEFAULTS = Boolean.getBoolean(STACKLESS_PROPERTY) ? STACKLESS : WITH_STACK_TRACE;
+
+    private final boolean stackless;
+
+    private CheckOptions(boolean stackless) {
+        this.stackless = stackless;
+    }
+
+    /**
+     * Returns the global options, as configured by the system properties.
+     *
+     * @return  the global options
+     */
+    public static CheckOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Returns the options for the stackless mode.
+     *
+     * @return  the stackless options
+     */
+    public static CheckOptions stackless() {
+        return STACKLESS;
+    }
+
+    /**
+     * Returns the options for exceptions with the stack trace, regardless
+     * of the global options.
+     *
+     * @return  the options with stack trace
+     */
+    public static CheckOptions withStackTrace() {
+        return WITH_STACK_TRACE;
+    }
+
+    /**
+     * Tells whether the exceptions are created without stack trace.
+     *
+     * @return  {@code true} for the stackless mode, {@code false} otherwise
+     */
+    public boolean isStackless() {
+        return stackless;
+    }
+
+    @Override
+    public String toString() {
+        return "CheckOptions[stackless=" + stackless + "]";
+    }
+}
@@ -0,0 +1,162 @@
+package com.github.utensils4j.util;
+
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.List;
+import java.util.MissingFormatArgumentException;
+
+/**
+ * A precompiled message template for the checks of {@link Checks}.
+ *
+ * <p>A template is parsed only once, when it's created, and then formatting
+ * a message is a simple sequence of appends, without the full parsing of
+ * {@link java.util.Formatter} done by {@link String#format} every time.
+ * Only the following subset of the {@code Formatter} syntax is supported:<ul>
+ *   <li>{@code %}<i>n</i>{@code $s} the <i>n</i>-th argument (1-based)</li>
+ *   <li>{@code %s} the next "ordinary" argument</li>
+ *   <li>{@code %%} a literal {@code %}</li>
+ *   <li>{@code %n} the platform line separator</li>
+ * </ul>
+ *
+ * <p>The arguments are formatted as {@code String.format} does for the
+ * {@code s} conversion ({@code "null"} for a {@code null} argument).
+ *
+ * <p>Instances of this class are immutable and thread-safe.
+ *
+ * @author Andrea Binello
+ */
+public final class CheckTemplate {
+    private final String template;
+    private final String[] literals;   // one more than the arguments
+    private final int[] argIndexes;    // 0-based
+
+    private CheckTemplate(String template, String[] literals, int[] argIndexes) {
+        this.template = template;
+        this.literals = literals;
+        this.argIndexes = argIndexes;
+    }
+
+    /**
+     * Parses and returns a {@code CheckTemplate}.
+     *
+     * @param  template  the message template
+     * @return the new {@code CheckTemplate}
+     * @throws NullPointerException if {@code template} is {@code null}
+     * @throws IllegalArgumentException if {@code template} contains a format
+     *         specifier that is not supported
+     */
+    public static CheckTemplate of(String template) {
+        if (template == null) {
+            throw new NullPointerException("template must be not-null");
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<Integer> argIndexes = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int ordinaryIndex = 0;
+        int length = template.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = template.charAt(i);
+
+            if (c != '%') {
+                literal.append(c);
+                continue;
+            }
+
+            int start = i++;
+            int index = 0;
+            while (i < length && template.charAt(i) >= '0' && template.charAt(i) <= '9') {
+                index = index * 10 + (template.charAt(i++) - '0');
+                if (index > 9999) {
+                    throw unsupported(template, start);
+                }
+            }
+
+            if (i > start + 1) {   // "%n$s"
+                if (index == 0 || i + 1 >= length || template.charAt(i) != '$' || template.charAt(i+1) != 's') {
+                    throw unsupported(template, start);
+                }
+                i++;
+            } else if (i < length && template.charAt(i) == 's') {
+                index = ++ordinaryIndex;
+            } else if (i < length && template.charAt(i) == '%') {
+                literal.append('%');
+                continue;
+            } else if (i < length && template.charAt(i) == 'n') {
+                literal.append(System.lineSeparator());
+                continue;
+            } else {
+                throw unsupported(template, start);
+            }
+
+            literals.add(literal.toString());
+            argIndexes.add(index - 1);
+            literal.setLength(0);
+        }
+        literals.add(literal.toString());
+
+        int[] indexes = new int[argIndexes.size()];
+        for (int k = 0; k < indexes.length; k++) {
+            indexes[k] = argIndexes.get(k);
+        }
+        return new CheckTemplate(template, literals.toArray(new String[0]), indexes);
+    }
+
+    /**
+     * Formats a message using the specified arguments.
+     *
+     * @param  args  the arguments referenced by the template
+     * @return the formatted message
+     * @throws MissingFormatArgumentException if the template references an
+     *         argument that is not available
+     */
+    public String format(Object... args) {
+        int count = argIndexes.length;
+        if (count == 0) {
+            return literals[0];
+        }
+
+        StringBuilder sb = new StringBuilder(template.length() + 16 * count);
+        sb.append(literals[0]);
+
+        for (int k = 0; k < count; k++) {
+            int index = argIndexes[k];
+            if (args == null || index >= args.length) {
+                throw new MissingFormatArgumentException("%" + (index + 1) + "$s");
+            }
+            appendArg(sb, args[index]);
+            sb.append(literals[k+1]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the original message template.
+     *
+     * @return  the message template
+     */
+    public String template() {
+        return template;
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+
+
+    private static void appendArg(StringBuilder sb, Object arg) {
+        if (arg instanceof Formattable) {
+            sb.append(String.format("%s", arg));   // rare, let Formatter handle it
+        } else {
+            sb.append(arg);
+        }
+    }
+
+    private static IllegalArgumentException unsupported(String template, int index) {
+        String specifier = template.substring(index, Math.min(index + 4, template.length()));
+        return new IllegalArgumentException("unsupported format specifier at index "
+                + index + " (" + specifier + "...) in template: " + template);
+    }
+}
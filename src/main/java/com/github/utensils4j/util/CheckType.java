@@ -0,0 +1,44 @@
+package com.github.utensils4j.util;
+
+/**
+ * The types of the checks of {@link Checks}, used to classify the failures
+ * counted by {@link CheckMetrics}.
+ *
+ * @author Andrea Binello
+ */
+public enum CheckType {
+    /**
+     * {@code requireNotNull}, {@code requireNotNullWithMsg}, {@code requireAllNotNull}.
+     */
+    NOT_NULL,
+
+    /**
+     * {@code requirePositive}, {@code requirePositiveWithMsg}, {@code requireAllPositive}.
+     */
+    POSITIVE,
+
+    /**
+     * {@code requireNonNegative}.
+     */
+    NON_NEGATIVE,
+
+    /**
+     * {@code requireInRange}.
+     */
+    IN_RANGE,
+
+    /**
+     * {@code checkIndex}, {@code checkFromToIndex}, {@code checkFromIndexSize}.
+     */
+    INDEX,
+
+    /**
+     * {@code requireSorted}.
+     */
+    SORTED,
+
+    /**
+     * {@code requireDistinct}.
+     */
+    DISTINCT
+}
@@ -1,11 +1,49 @@
 package com.github.utensils4j.util;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
 public class Checks {
     private static final String REQUIRE_NOT_NULL_MSG = "%1$s must be not-null";
     private static final String REQUIRE_POSITIVE_MSG = "%2$s must be positive, actual: %1$s";
+    private static final String REQUIRE_NON_NEGATIVE_MSG = "%2$s must be non-negative, actual: %1$s";
+    private static final String REQUIRE_IN_RANGE_MSG = "%2$s must be in range [%3$s, %4$s], actual: %1$s";
+    private static final String REQUIRE_ELEMENT_NOT_NULL_MSG = "%2$s[%1$s] must be not-null";
+    private static final String REQUIRE_ELEMENT_POSITIVE_MSG = "%2$s[%3$s] must be positive, actual: %1$s";
+    private static final String REQUIRE_SORTED_MSG = "%2$s must be sorted, out of order at index: %1$s";
+    private static final String REQUIRE_DISTINCT_MSG = "%2$s must be distinct, duplicate at index: %1$s";
+    private static final String CHECK_INDEX_MSG = "%3$s must be in range [0, %2$s), actual: %1$s";
+    private static final String CHECK_FROM_TO_INDEX_MSG =
+            "%4$s [fromIndex, toIndex) must be within [0, %3$s), actual: [%1$s, %2$s)";
+    private static final String CHECK_FROM_INDEX_SIZE_MSG =
+            "%4$s [fromIndex, fromIndex + size) must be within [0, %3$s), actual: fromIndex %1$s, size %2$s";
+    private static final String DEFAULT_INDEX_NAME = "index";
+    private static final String DEFAULT_RANGE_NAME = "range";
+
+    // precompiled built-in messages (the package-private ones are used by Violations too)
+    static final CheckTemplate REQUIRE_NOT_NULL_TEMPLATE = CheckTemplate.of(REQUIRE_NOT_NULL_MSG);
+    static final CheckTemplate REQUIRE_POSITIVE_TEMPLATE = CheckTemplate.of(REQUIRE_POSITIVE_MSG);
+    static final CheckTemplate REQUIRE_NON_NEGATIVE_TEMPLATE = CheckTemplate.of(REQUIRE_NON_NEGATIVE_MSG);
+    static final CheckTemplate REQUIRE_IN_RANGE_TEMPLATE = CheckTemplate.of(REQUIRE_IN_RANGE_MSG);
+    private static final CheckTemplate REQUIRE_ELEMENT_NOT_NULL_TEMPLATE = CheckTemplate.of(REQUIRE_ELEMENT_NOT_NULL_MSG);
+    private static final CheckTemplate REQUIRE_ELEMENT_POSITIVE_TEMPLATE = CheckTemplate.of(REQUIRE_ELEMENT_POSITIVE_MSG);
+    private static final CheckTemplate REQUIRE_SORTED_TEMPLATE = CheckTemplate.of(REQUIRE_SORTED_MSG);
+    private static final CheckTemplate REQUIRE_DISTINCT_TEMPLATE = CheckTemplate.of(REQUIRE_DISTINCT_MSG);
+    private static final CheckTemplate CHECK_INDEX_TEMPLATE = CheckTemplate.of(CHECK_INDEX_MSG);
+    private static final CheckTemplate CHECK_FROM_TO_INDEX_TEMPLATE = CheckTemplate.of(CHECK_FROM_TO_INDEX_MSG);
+    private static final CheckTemplate CHECK_FROM_INDEX_SIZE_TEMPLATE = CheckTemplate.of(CHECK_FROM_INDEX_SIZE_MSG);
 
     private static final Object[] EMPTY_ARGS = new Object[0];
 
+    // read only once, so that disabled debug checks are constant-folded by the JIT
+    private static final CheckLevel LEVEL = CheckLevel.fromSystemProperty();
+    private static final boolean CHEAP_DEBUG = LEVEL != CheckLevel.OFF;
+    private static final boolean FULL_DEBUG = LEVEL == CheckLevel.FULL;
+
     private Checks() {}
 
     //-----------------------------------------------------------------------
@@ -14,13 +52,35 @@ public class Checks {
 
     public static <T> T requireNotNull(T value, String valueName) {
         if (value == null) {
-            throw npe(REQUIRE_NOT_NULL_MSG, valueName);
+            failed(CheckType.NOT_NULL, valueName);
+            throw npe(REQUIRE_NOT_NULL_TEMPLATE, valueName);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value is not {@code null}, as {@link #requireNotNull(Object, String)}
+     * does, but with explicit options for the exception thrown when the
+     * check fails.
+     *
+     * @param   <T>  the type of the value
+     * @param   value  the value to check
+     * @param   valueName  the name of the value
+     * @param   options  the options (e.g. {@link CheckOptions#stackless()})
+     * @return  the value that was validated
+     * @throws  NullPointerException if the value is {@code null}
+     */
+    public static <T> T requireNotNull(T value, String valueName, CheckOptions options) {
+        if (value == null) {
+            failed(CheckType.NOT_NULL, valueName);
+            throw npe(options, REQUIRE_NOT_NULL_TEMPLATE, valueName);
         }
         return value;
     }
 
     public static <T> T requireNotNullWithMsg(T value, String errorMessage) {
         if (value == null) {
+            failed(CheckType.NOT_NULL, errorMessage);
             throw npe(errorMessage, EMPTY_ARGS);
         }
         return value;
@@ -28,6 +88,370 @@ public class Checks {
 
     public static <T> T requireNotNullWithMsg(T value, String errorMessage, Object... args) {
         if (value == null) {
+            failed(CheckType.NOT_NULL, errorMessage);
+            throw npe(errorMessage, args);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value is not {@code null}. If the check fails, the
+     * exception {@link NullPointerException} is thrown with a <strong>custom</strong>
+     * detail message formatted using {@link String#format} where:<ul>
+     *   <li>{@code %1$} is the <strong>{@code arg1}</strong> parameter</li>
+     * </ul>
+     *
+     * <p>Unlike the "varargs" version, this method doesn't allocate a varargs
+     * array when the check succeeds. For arguments of type {@code int} or
+     * {@code long} the overloads with primitive parameters are selected, that
+     * don't box them either.
+     *
+     * @param   <T>  the type of the value
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   arg1  the 1° custom argument
+     * @return  the value that was validated
+     * @throws  NullPointerException if the value is {@code null}
+     */
+    public static <T> T requireNotNullWithMsg(T value, String errorMessage, Object arg1) {
+        if (value == null) {
+            failed(CheckType.NOT_NULL, errorMessage);
+            throw npe(errorMessage, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value is not {@code null}. If the check fails, the
+     * exception {@link NullPointerException} is thrown with a <strong>custom</strong>
+     * detail message formatted using {@link String#format} where:<ul>
+     *   <li>{@code %1$} is the <strong>{@code arg1}</strong> parameter</li>
+     *   <li>{@code %2$} is the <strong>{@code arg2}</strong> parameter</li>
+     * </ul>
+     *
+     * <p>Unlike the "varargs" version, this method doesn't allocate a varargs
+     * array when the check succeeds. For arguments of type {@code int} or
+     * {@code long} the overloads with primitive parameters are selected, that
+     * don't box them either.
+     *
+     * @param   <T>  the type of the value
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   arg1  the 1° custom argument
+     * @param   arg2  the 2° custom argument
+     * @return  the value that was validated
+     * @throws  NullPointerException if the value is {@code null}
+     */
+    public static <T> T requireNotNullWithMsg(T value, String errorMessage, Object arg1, Object arg2) {
+        if (value == null) {
+            failed(CheckType.NOT_NULL, errorMessage);
+            throw npe(errorMessage, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value is not {@code null}. If the check fails, the
+     * exception {@link NullPointerException} is thrown with a <strong>custom</strong>
+     * detail message formatted using {@link String#format} where:<ul>
+     *   <li>{@code %1$} is the <strong>{@code arg1}</strong> parameter</li>
+     *   <li>{@code %2$} is the <strong>{@code arg2}</strong> parameter</li>
+     *   <li>{@code %3$} is the <strong>{@code arg3}</strong> parameter</li>
+     * </ul>
+     *
+     * <p>Unlike the "varargs" version, this method doesn't allocate a varargs
+     * array when the check succeeds. For arguments of type {@code int} or
+     * {@code long} the overloads with primitive parameters are selected, that
+     * don't box them either.
+     *
+     * @param   <T>  the type of the value
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   arg1  the 1° custom argument
+     * @param   arg2  the 2° custom argument
+     * @param   arg3  the 3° custom argument
+     * @return  the value that was validated
+     * @throws  NullPointerException if the value is {@code null}
+     */
+    public static <T> T requireNotNullWithMsg(T value, String errorMessage, Object arg1, Object arg2, Object arg3) {
+        if (value == null) {
+            failed(CheckType.NOT_NULL, errorMessage);
+            throw npe(errorMessage, arg1, arg2, arg3);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value is not {@code null}, as
+     * {@link #requireNotNullWithMsg(Object, String, Object)} does, but
+     * with {@code int} arguments, that are boxed only when the check fails:
+     * the check that succeeds doesn't allocate anything.
+     *
+     * @param   <T>  the type of the value
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   arg1  the 1° custom argument
+     * @return  the value that was validated
+     * @throws  NullPointerException if the value is {@code null}
+     */
+    public static <T> T requireNotNullWithMsg(T value, String errorMessage, int arg1) {
+        if (value == null) {
+            failed(CheckType.NOT_NULL, errorMessage);
+            throw npe(errorMessage, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value is not {@code null}, as
+     * {@link #requireNotNullWithMsg(Object, String, Object)} does, but
+     * with {@code long} arguments, that are boxed only when the check fails:
+     * the check that succeeds doesn't allocate anything.
+     *
+     * @param   <T>  the type of the value
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   arg1  the 1° custom argument
+     * @return  the value that was validated
+     * @throws  NullPointerException if the value is {@code null}
+     */
+    public static <T> T requireNotNullWithMsg(T value, String errorMessage, long arg1) {
+        if (value == null) {
+            failed(CheckType.NOT_NULL, errorMessage);
+            throw npe(errorMessage, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value is not {@code null}, as
+     * {@link #requireNotNullWithMsg(Object, String, Object)} does, but
+     * with {@code char} arguments, that are boxed only when the check fails:
+     * the check that succeeds doesn't allocate anything.
+     *
+     * @param   <T>  the type of the value
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   arg1  the 1° custom argument
+     * @return  the value that was validated
+     * @throws  NullPointerException if the value is {@code null}
+     */
+    public static <T> T requireNotNullWithMsg(T value, String errorMessage, char arg1) {
+        if (value == null) {
+            failed(CheckType.NOT_NULL, errorMessage);
+            throw npe(errorMessage, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value is not {@code null}, as
+     * {@link #requireNotNullWithMsg(Object, String, Object, Object)} does, but
+     * with {@code int} arguments, that are boxed only when the check fails:
+     * the check that succeeds doesn't allocate anything. Arguments of type
+     * {@code byte}, {@code short} and {@code char} are widened to {@code int}
+     * (a {@code char} is formatted as a number, pass a {@code Character} to
+     * format it as a character).
+     *
+     * @param   <T>  the type of the value
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   arg1  the 1° custom argument
+     * @param   arg2  the 2° custom argument
+     * @return  the value that was validated
+     * @throws  NullPointerException if the value is {@code null}
+     */
+    public static <T> T requireNotNullWithMsg(T value, String errorMessage, int arg1, int arg2) {
+        if (value == null) {
+            failed(CheckType.NOT_NULL, errorMessage);
+            throw npe(errorMessage, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value is not {@code null}, as
+     * {@link #requireNotNullWithMsg(Object, String, Object, Object)} does, but
+     * with {@code long} arguments, that are boxed only when the check fails:
+     * the check that succeeds doesn't allocate anything.
+     *
+     * @param   <T>  the type of the value
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   arg1  the 1° custom argument
+     * @param   arg2  the 2° custom argument
+     * @return  the value that was validated
+     * @throws  NullPointerException if the value is {@code null}
+     */
+    public static <T> T requireNotNullWithMsg(T value, String errorMessage, long arg1, long arg2) {
+        if (value == null) {
+            failed(CheckType.NOT_NULL, errorMessage);
+            throw npe(errorMessage, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value is not {@code null}, as
+     * {@link #requireNotNullWithMsg(Object, String, Object, Object, Object)} does, but
+     * with {@code int} arguments, that are boxed only when the check fails:
+     * the check that succeeds doesn't allocate anything. Arguments of type
+     * {@code byte}, {@code short} and {@code char} are widened to {@code int}
+     * (a {@code char} is formatted as a number, pass a {@code Character} to
+     * format it as a character).
+     *
+     * @param   <T>  the type of the value
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   arg1  the 1° custom argument
+     * @param   arg2  the 2° custom argument
+     * @param   arg3  the 3° custom argument
+     * @return  the value that was validated
+     * @throws  NullPointerException if the value is {@code null}
+     */
+    public static <T> T requireNotNullWithMsg(T value, String errorMessage, int arg1, int arg2, int arg3) {
+        if (value == null) {
+            failed(CheckType.NOT_NULL, errorMessage);
+            throw npe(errorMessage, arg1, arg2, arg3);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value is not {@code null}, as
+     * {@link #requireNotNullWithMsg(Object, String, Object, Object, Object)} does, but
+     * with {@code long} arguments, that are boxed only when the check fails:
+     * the check that succeeds doesn't allocate anything.
+     *
+     * @param   <T>  the type of the value
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   arg1  the 1° custom argument
+     * @param   arg2  the 2° custom argument
+     * @param   arg3  the 3° custom argument
+     * @return  the value that was validated
+     * @throws  NullPointerException if the value is {@code null}
+     */
+    public static <T> T requireNotNullWithMsg(T value, String errorMessage, long arg1, long arg2, long arg3) {
+        if (value == null) {
+            failed(CheckType.NOT_NULL, errorMessage);
+            throw npe(errorMessage, arg1, arg2, arg3);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value is not {@code null}. If the check fails, the
+     * exception {@link NullPointerException} is thrown with the detail
+     * message given by {@code messageSupplier}, that is invoked only when
+     * the check fails.
+     *
+     * @param   <T>  the type of the value
+     * @param   value  the value to check
+     * @param   messageSupplier  the supplier of the error message
+     * @return  the value that was validated
+     * @throws  NullPointerException if the value is {@code null}
+     */
+    public static <T> T requireNotNullWithMsg(T value, Supplier<String> messageSupplier) {
+        if (value == null) {
+            failed(CheckType.NOT_NULL, supplierKey(messageSupplier));
+            throw npe(CheckOptions.defaults(), messageSupplier.get());
+        }
+        return value;
+    }
+
+    /**
+     * Same as {@link #requireNotNullWithMsg(Object, String)}
+     * but with a precompiled {@link CheckTemplate}.
+     *
+     * @param   <T>  the type of the value
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @return  the value that was validated
+     * @throws  NullPointerException if the value is {@code null}
+     */
+    public static <T> T requireNotNullWithMsg(T value, CheckTemplate errorMessage) {
+        if (value == null) {
+            failed(CheckType.NOT_NULL, errorMessage);
+            throw npe(errorMessage, EMPTY_ARGS);
+        }
+        return value;
+    }
+
+    /**
+     * Same as {@link #requireNotNullWithMsg(Object, String, Object)}
+     * but with a precompiled {@link CheckTemplate}.
+     *
+     * @param   <T>  the type of the value
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   arg1  the 1° custom argument
+     * @return  the value that was validated
+     * @throws  NullPointerException if the value is {@code null}
+     */
+    public static <T> T requireNotNullWithMsg(T value, CheckTemplate errorMessage, Object arg1) {
+        if (value == null) {
+            failed(CheckType.NOT_NULL, errorMessage);
+            throw npe(errorMessage, arg1);
+        }
+        return value;
+    }
+
+    /**
+     * Same as {@link #requireNotNullWithMsg(Object, String, Object, Object)}
+     * but with a precompiled {@link CheckTemplate}.
+     *
+     * @param   <T>  the type of the value
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   arg1  the 1° custom argument
+     * @param   arg2  the 2° custom argument
+     * @return  the value that was validated
+     * @throws  NullPointerException if the value is {@code null}
+     */
+    public static <T> T requireNotNullWithMsg(T value, CheckTemplate errorMessage, Object arg1, Object arg2) {
+        if (value == null) {
+            failed(CheckType.NOT_NULL, errorMessage);
+            throw npe(errorMessage, arg1, arg2);
+        }
+        return value;
+    }
+
+    /**
+     * Same as {@link #requireNotNullWithMsg(Object, String, Object, Object, Object)}
+     * but with a precompiled {@link CheckTemplate}.
+     *
+     * @param   <T>  the type of the value
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   arg1  the 1° custom argument
+     * @param   arg2  the 2° custom argument
+     * @param   arg3  the 3° custom argument
+     * @return  the value that was validated
+     * @throws  NullPointerException if the value is {@code null}
+     */
+    public static <T> T requireNotNullWithMsg(T value, CheckTemplate errorMessage, Object arg1, Object arg2, Object arg3) {
+        if (value == null) {
+            failed(CheckType.NOT_NULL, errorMessage);
+            throw npe(errorMessage, arg1, arg2, arg3);
+        }
+        return value;
+    }
+
+    /**
+     * Same as {@link #requireNotNullWithMsg(Object, String, Object...)}
+     * but with a precompiled {@link CheckTemplate}.
+     *
+     * @param   <T>  the type of the value
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   args  the custom arguments
+     * @return  the value that was validated
+     * @throws  NullPointerException if the value is {@code null}
+     */
+    public static <T> T requireNotNullWithMsg(T value, CheckTemplate errorMessage, Object... args) {
+        if (value == null) {
+            failed(CheckType.NOT_NULL, errorMessage);
             throw npe(errorMessage, args);
         }
         return value;
@@ -58,7 +482,27 @@ public class Checks {
      */
     public static int requirePositive(int value, String valueName) {
         if (value <= 0) {
-            throw iae(REQUIRE_POSITIVE_MSG, value, valueName);
+            failed(CheckType.POSITIVE, valueName);
+            throw iae(REQUIRE_POSITIVE_TEMPLATE, value, valueName);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value of type {@code int} is "positive" (value &gt; 0),
+     * as {@link #requirePositive(int, String)} does, but with explicit options
+     * for the exception thrown when the check fails.
+     *
+     * @param   value  the value to check
+     * @param   valueName  the name of the value
+     * @param   options  the options (e.g. {@link CheckOptions#stackless()})
+     * @return  the value that was validated
+     * @throws  IllegalArgumentException if the value is not positive
+     */
+    public static int requirePositive(int value, String valueName, CheckOptions options) {
+        if (value <= 0) {
+            failed(CheckType.POSITIVE, valueName);
+            throw iae(options, REQUIRE_POSITIVE_TEMPLATE, value, valueName);
         }
         return value;
     }
@@ -78,6 +522,7 @@ public class Checks {
      */
     public static int requirePositiveWithMsg(int value, String errorMessage) {
         if (value <= 0) {
+            failed(CheckType.POSITIVE, errorMessage);
             throw iae(errorMessage, value);
         }
         return value;
@@ -102,24 +547,1078 @@ public class Checks {
      */
     public static int requirePositiveWithMsg(int value, String errorMessage, Object... otherArgs) {
         if (value <= 0) {
+            failed(CheckType.POSITIVE, errorMessage);
             throw iae(errorMessage, arrayOf(value, otherArgs));
         }
         return value;
     }
 
-
-    private static Object[] arrayOf(Object arg1, Object[] otherArgs) {
-        Object[] args = new Object[otherArgs.length+1];
-        args[0] = arg1;
-        System.arraycopy(otherArgs, 0, args, 1, otherArgs.length);
-        return args;
+    /**
+     * Checks that a value of type {@code int} is "positive" (value &gt; 0).
+     * If the check fails, the exception {@link IllegalArgumentException}
+     * is thrown with a <strong>custom</strong> detail message formatted
+     * using {@link String#format} where:<ul>
+     *   <li>{@code %1$} is the <strong>{@code value}</strong> parameter</li>
+     *   <li>{@code %2$} is the <strong>{@code otherArg1}</strong> parameter</li>
+     * </ul>
+     *
+     * <p>Unlike the "varargs" version, this method doesn't allocate a varargs
+     * array when the check succeeds and the value is boxed only when the
+     * check fails. For other arguments of type {@code int} or {@code long}
+     * the overloads with primitive parameters are selected, that don't box
+     * them either.
+     *
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   otherArg1  the 1° other custom argument
+     * @return  the value that was validated
+     * @throws  IllegalArgumentException if the value is not positive
+     */
+    public static int requirePositiveWithMsg(int value, String errorMessage, Object otherArg1) {
+        if (value <= 0) {
+            failed(CheckType.POSITIVE, errorMessage);
+            throw iae(errorMessage, value, otherArg1);
+        }
+        return value;
     }
 
-    private static IllegalArgumentException iae(String template, Object... args) {
-        return new IllegalArgumentException(String.format(template, args));
+    /**
+     * Checks that a value of type {@code int} is "positive" (value &gt; 0).
+     * If the check fails, the exception {@link IllegalArgumentException}
+     * is thrown with a <strong>custom</strong> detail message formatted
+     * using {@link String#format} where:<ul>
+     *   <li>{@code %1$} is the <strong>{@code value}</strong> parameter</li>
+     *   <li>{@code %2$} is the <strong>{@code otherArg1}</strong> parameter</li>
+     *   <li>{@code %3$} is the <strong>{@code otherArg2}</strong> parameter</li>
+     * </ul>
+     *
+     * <p>Unlike the "varargs" version, this method doesn't allocate a varargs
+     * array when the check succeeds and the value is boxed only when the
+     * check fails. For other arguments of type {@code int} or {@code long}
+     * the overloads with primitive parameters are selected, that don't box
+     * them either.
+     *
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   otherArg1  the 1° other custom argument
+     * @param   otherArg2  the 2° other custom argument
+     * @return  the value that was validated
+     * @throws  IllegalArgumentException if the value is not positive
+     */
+    public static int requirePositiveWithMsg(int value, String errorMessage, Object otherArg1, Object otherArg2) {
+        if (value <= 0) {
+            failed(CheckType.POSITIVE, errorMessage);
+            throw iae(errorMessage, value, otherArg1, otherArg2);
+        }
+        return value;
     }
 
-    private static NullPointerException npe(String template, Object... args) {
-        return new NullPointerException(String.format(template, args));
+    /**
+     * Checks that a value of type {@code int} is "positive" (value &gt; 0).
+     * If the check fails, the exception {@link IllegalArgumentException}
+     * is thrown with a <strong>custom</strong> detail message formatted
+     * using {@link String#format} where:<ul>
+     *   <li>{@code %1$} is the <strong>{@code value}</strong> parameter</li>
+     *   <li>{@code %2$} is the <strong>{@code otherArg1}</strong> parameter</li>
+     *   <li>{@code %3$} is the <strong>{@code otherArg2}</strong> parameter</li>
+     *   <li>{@code %4$} is the <strong>{@code otherArg3}</strong> parameter</li>
+     * </ul>
+     *
+     * <p>Unlike the "varargs" version, this method doesn't allocate a varargs
+     * array when the check succeeds and the value is boxed only when the
+     * check fails. For other arguments of type {@code int} or {@code long}
+     * the overloads with primitive parameters are selected, that don't box
+     * them either.
+     *
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   otherArg1  the 1° other custom argument
+     * @param   otherArg2  the 2° other custom argument
+     * @param   otherArg3  the 3° other custom argument
+     * @return  the value that was validated
+     * @throws  IllegalArgumentException if the value is not positive
+     */
+    public static int requirePositiveWithMsg(int value, String errorMessage, Object otherArg1, Object otherArg2, Object otherArg3) {
+        if (value <= 0) {
+            failed(CheckType.POSITIVE, errorMessage);
+            throw iae(errorMessage, value, otherArg1, otherArg2, otherArg3);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value of type {@code int} is "positive" (value &gt; 0),
+     * as {@link #requirePositiveWithMsg(int, String, Object)} does, but
+     * with {@code int} other arguments, that are boxed (as the value) only
+     * when the check fails: the check that succeeds doesn't allocate anything.
+     *
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   otherArg1  the 1° other custom argument
+     * @return  the value that was validated
+     * @throws  IllegalArgumentException if the value is not positive
+     */
+    public static int requirePositiveWithMsg(int value, String errorMessage, int otherArg1) {
+        if (value <= 0) {
+            failed(CheckType.POSITIVE, errorMessage);
+            throw iae(errorMessage, value, otherArg1);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value of type {@code int} is "positive" (value &gt; 0),
+     * as {@link #requirePositiveWithMsg(int, String, Object)} does, but
+     * with {@code long} other arguments, that are boxed (as the value) only
+     * when the check fails: the check that succeeds doesn't allocate anything.
+     *
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   otherArg1  the 1° other custom argument
+     * @return  the value that was validated
+     * @throws  IllegalArgumentException if the value is not positive
+     */
+    public static int requirePositiveWithMsg(int value, String errorMessage, long otherArg1) {
+        if (value <= 0) {
+            failed(CheckType.POSITIVE, errorMessage);
+            throw iae(errorMessage, value, otherArg1);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value of type {@code int} is "positive" (value &gt; 0),
+     * as {@link #requirePositiveWithMsg(int, String, Object)} does, but
+     * with {@code char} other arguments, that are boxed (as the value) only
+     * when the check fails: the check that succeeds doesn't allocate anything.
+     *
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   otherArg1  the 1° other custom argument
+     * @return  the value that was validated
+     * @throws  IllegalArgumentException if the value is not positive
+     */
+    public static int requirePositiveWithMsg(int value, String errorMessage, char otherArg1) {
+        if (value <= 0) {
+            failed(CheckType.POSITIVE, errorMessage);
+            throw iae(errorMessage, value, otherArg1);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value of type {@code int} is "positive" (value &gt; 0),
+     * as {@link #requirePositiveWithMsg(int, String, Object, Object)} does, but
+     * with {@code int} other arguments, that are boxed (as the value) only
+     * when the check fails: the check that succeeds doesn't allocate anything.
+     * Arguments of type {@code byte}, {@code short} and {@code char} are
+     * widened to {@code int} (a {@code char} is formatted as a number, pass a
+     * {@code Character} to format it as a character).
+     *
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   otherArg1  the 1° other custom argument
+     * @param   otherArg2  the 2° other custom argument
+     * @return  the value that was validated
+     * @throws  IllegalArgumentException if the value is not positive
+     */
+    public static int requirePositiveWithMsg(int value, String errorMessage, int otherArg1, int otherArg2) {
+        if (value <= 0) {
+            failed(CheckType.POSITIVE, errorMessage);
+            throw iae(errorMessage, value, otherArg1, otherArg2);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value of type {@code int} is "positive" (value &gt; 0),
+     * as {@link #requirePositiveWithMsg(int, String, Object, Object)} does, but
+     * with {@code long} other arguments, that are boxed (as the value) only
+     * when the check fails: the check that succeeds doesn't allocate anything.
+     *
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   otherArg1  the 1° other custom argument
+     * @param   otherArg2  the 2° other custom argument
+     * @return  the value that was validated
+     * @throws  IllegalArgumentException if the value is not positive
+     */
+    public static int requirePositiveWithMsg(int value, String errorMessage, long otherArg1, long otherArg2) {
+        if (value <= 0) {
+            failed(CheckType.POSITIVE, errorMessage);
+            throw iae(errorMessage, value, otherArg1, otherArg2);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value of type {@code int} is "positive" (value &gt; 0),
+     * as {@link #requirePositiveWithMsg(int, String, Object, Object, Object)} does, but
+     * with {@code int} other arguments, that are boxed (as the value) only
+     * when the check fails: the check that succeeds doesn't allocate anything.
+     * Arguments of type {@code byte}, {@code short} and {@code char} are
+     * widened to {@code int} (a {@code char} is formatted as a number, pass a
+     * {@code Character} to format it as a character).
+     *
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   otherArg1  the 1° other custom argument
+     * @param   otherArg2  the 2° other custom argument
+     * @param   otherArg3  the 3° other custom argument
+     * @return  the value that was validated
+     * @throws  IllegalArgumentException if the value is not positive
+     */
+    public static int requirePositiveWithMsg(int value, String errorMessage, int otherArg1, int otherArg2, int otherArg3) {
+        if (value <= 0) {
+            failed(CheckType.POSITIVE, errorMessage);
+            throw iae(errorMessage, value, otherArg1, otherArg2, otherArg3);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value of type {@code int} is "positive" (value &gt; 0),
+     * as {@link #requirePositiveWithMsg(int, String, Object, Object, Object)} does, but
+     * with {@code long} other arguments, that are boxed (as the value) only
+     * when the check fails: the check that succeeds doesn't allocate anything.
+     *
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   otherArg1  the 1° other custom argument
+     * @param   otherArg2  the 2° other custom argument
+     * @param   otherArg3  the 3° other custom argument
+     * @return  the value that was validated
+     * @throws  IllegalArgumentException if the value is not positive
+     */
+    public static int requirePositiveWithMsg(int value, String errorMessage, long otherArg1, long otherArg2, long otherArg3) {
+        if (value <= 0) {
+            failed(CheckType.POSITIVE, errorMessage);
+            throw iae(errorMessage, value, otherArg1, otherArg2, otherArg3);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value of type {@code int} is "positive" (value &gt; 0).
+     * If the check fails, the exception {@link IllegalArgumentException}
+     * is thrown with the detail message given by {@code messageSupplier},
+     * that is invoked only when the check fails.
+     *
+     * @param   value  the value to check
+     * @param   messageSupplier  the supplier of the error message
+     * @return  the value that was validated
+     * @throws  IllegalArgumentException if the value is not positive
+     */
+    public static int requirePositiveWithMsg(int value, Supplier<String> messageSupplier) {
+        if (value <= 0) {
+            failed(CheckType.POSITIVE, supplierKey(messageSupplier));
+            throw iae(CheckOptions.defaults(), messageSupplier.get());
+        }
+        return value;
+    }
+
+    /**
+     * Same as {@link #requirePositiveWithMsg(int, String)}
+     * but with a precompiled {@link CheckTemplate}.
+     *
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @return  the value that was validated
+     * @throws  IllegalArgumentException if the value is not positive
+     */
+    public static int requirePositiveWithMsg(int value, CheckTemplate errorMessage) {
+        if (value <= 0) {
+            failed(CheckType.POSITIVE, errorMessage);
+            throw iae(errorMessage, value);
+        }
+        return value;
+    }
+
+    /**
+     * Same as {@link #requirePositiveWithMsg(int, String, Object)}
+     * but with a precompiled {@link CheckTemplate}.
+     *
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   otherArg1  the 1° other custom argument
+     * @return  the value that was validated
+     * @throws  IllegalArgumentException if the value is not positive
+     */
+    public static int requirePositiveWithMsg(int value, CheckTemplate errorMessage, Object otherArg1) {
+        if (value <= 0) {
+            failed(CheckType.POSITIVE, errorMessage);
+            throw iae(errorMessage, value, otherArg1);
+        }
+        return value;
+    }
+
+    /**
+     * Same as {@link #requirePositiveWithMsg(int, String, Object, Object)}
+     * but with a precompiled {@link CheckTemplate}.
+     *
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   otherArg1  the 1° other custom argument
+     * @param   otherArg2  the 2° other custom argument
+     * @return  the value that was validated
+     * @throws  IllegalArgumentException if the value is not positive
+     */
+    public static int requirePositiveWithMsg(int value, CheckTemplate errorMessage, Object otherArg1, Object otherArg2) {
+        if (value <= 0) {
+            failed(CheckType.POSITIVE, errorMessage);
+            throw iae(errorMessage, value, otherArg1, otherArg2);
+        }
+        return value;
+    }
+
+    /**
+     * Same as {@link #requirePositiveWithMsg(int, String, Object, Object, Object)}
+     * but with a precompiled {@link CheckTemplate}.
+     *
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   otherArg1  the 1° other custom argument
+     * @param   otherArg2  the 2° other custom argument
+     * @param   otherArg3  the 3° other custom argument
+     * @return  the value that was validated
+     * @throws  IllegalArgumentException if the value is not positive
+     */
+    public static int requirePositiveWithMsg(int value, CheckTemplate errorMessage, Object otherArg1, Object otherArg2, Object otherArg3) {
+        if (value <= 0) {
+            failed(CheckType.POSITIVE, errorMessage);
+            throw iae(errorMessage, value, otherArg1, otherArg2, otherArg3);
+        }
+        return value;
+    }
+
+    /**
+     * Same as {@link #requirePositiveWithMsg(int, String, Object...)}
+     * but with a precompiled {@link CheckTemplate}.
+     *
+     * @param   value  the value to check
+     * @param   errorMessage  the custom error message template
+     * @param   otherArgs  other custom arguments
+     * @return  the value that was validated
+     * @throws  IllegalArgumentException if the value is not positive
+     */
+    public static int requirePositiveWithMsg(int value, CheckTemplate errorMessage, Object... otherArgs) {
+        if (value <= 0) {
+            failed(CheckType.POSITIVE, errorMessage);
+            throw iae(errorMessage, arrayOf(value, otherArgs));
+        }
+        return value;
+    }
+
+
+    //-----------------------------------------------------------------------
+    // requireNonNegative / requireInRange
+    //-----------------------------------------------------------------------
+
+    /**
+     * Checks that a value of type {@code int} is "non-negative" (value &gt;= 0).
+     * If the check fails, the exception {@link IllegalArgumentException}
+     * is thrown with the following detail message:
+     *
+     * <blockquote><code>%2$s must be non-negative, actual: %1$s</code></blockquote>
+     *
+     * where:<ul>
+     *   <li>{@code %1$} is the <strong>{@code value}</strong> parameter</li>
+     *   <li>{@code %2$} is the <strong>{@code valueName}</strong> parameter</li>
+     * </ul>
+     *
+     * @param   value  the value to check
+     * @param   valueName  the name of the value
+     * @return  the value that was validated
+     * @throws  IllegalArgumentException if the value is negative
+     */
+    public static int requireNonNegative(int value, String valueName) {
+        if (value < 0) {
+            failed(CheckType.NON_NEGATIVE, valueName);
+            throw iae(REQUIRE_NON_NEGATIVE_TEMPLATE, value, valueName);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value of type {@code long} is "non-negative" (value &gt;= 0),
+     * as {@link #requireNonNegative(int, String)} does.
+     *
+     * @param   value  the value to check
+     * @param   valueName  the name of the value
+     * @return  the value that was validated
+     * @throws  IllegalArgumentException if the value is negative
+     */
+    public static long requireNonNegative(long value, String valueName) {
+        if (value < 0) {
+            failed(CheckType.NON_NEGATIVE, valueName);
+            throw iae(REQUIRE_NON_NEGATIVE_TEMPLATE, value, valueName);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value of type {@code double} is "non-negative" (value &gt;= 0),
+     * as {@link #requireNonNegative(int, String)} does. {@code NaN} is
+     * <strong>not</strong> non-negative, while {@code -0.0} is.
+     *
+     * @param   value  the value to check
+     * @param   valueName  the name of the value
+     * @return  the value that was validated
+     * @throws  IllegalArgumentException if the value is negative or {@code NaN}
+     */
+    public static double requireNonNegative(double value, String valueName) {
+        if (!(value >= 0)) {
+            failed(CheckType.NON_NEGATIVE, valueName);
+            throw iae(REQUIRE_NON_NEGATIVE_TEMPLATE, value, valueName);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value of type {@code int} is in the range
+     * [{@code min}, {@code max}] (both inclusive). If the check fails, the
+     * exception {@link IllegalArgumentException} is thrown with the following
+     * detail message:
+     *
+     * <blockquote><code>%2$s must be in range [%3$s, %4$s], actual: %1$s</code></blockquote>
+     *
+     * where:<ul>
+     *   <li>{@code %1$} is the <strong>{@code value}</strong> parameter</li>
+     *   <li>{@code %2$} is the <strong>{@code valueName}</strong> parameter</li>
+     *   <li>{@code %3$} is the <strong>{@code min}</strong> parameter</li>
+     *   <li>{@code %4$} is the <strong>{@code max}</strong> parameter</li>
+     * </ul>
+     *
+     * @param   value  the value to check
+     * @param   min  the minimum value (inclusive)
+     * @param   max  the maximum value (inclusive)
+     * @param   valueName  the name of the value
+     * @return  the value that was validated
+     * @throws  IllegalArgumentException if the value is out of range
+     */
+    public static int requireInRange(int value, int min, int max, String valueName) {
+        if (value < min || value > max) {
+            failed(CheckType.IN_RANGE, valueName);
+            throw iae(REQUIRE_IN_RANGE_TEMPLATE, value, valueName, min, max);
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a value of type {@code long} is in the range
+     * [{@code min}, {@code max}] (both inclusive), as
+     * {@link #requireInRange(int, int, int, String)} does.
+     *
+     * @param   value  the value to check
+     * @param   min  the minimum value (inclusive)
+     * @param   max  the maximum value (inclusive)
+     * @param   valueName  the name of the value
+     * @return  the value that was validated
+     * @throws  IllegalArgumentException if the value is out of range
+     */
+    public static long requireInRange(long value, long min, long max, String valueName) {
+        if (value < min || value > max) {
+            failed(CheckType.IN_RANGE, valueName);
+            throw iae(REQUIRE_IN_RANGE_TEMPLATE, value, valueName, min, max);
+        }
+        return value;
+    }
+
+    //-----------------------------------------------------------------------
+    // requireAllNotNull / requireAllPositive / requireSorted / requireDistinct
+    //-----------------------------------------------------------------------
+
+    /**
+     * Checks that an array and all its elements are not {@code null}. If the
+     * check fails, the exception {@link NullPointerException} is thrown with
+     * the following detail message:
+     *
+     * <blockquote><code>%2$s[%1$s] must be not-null</code></blockquote>
+     *
+     * where:<ul>
+     *   <li>{@code %1$} is the index of the first {@code null} element</li>
+     *   <li>{@code %2$} is the <strong>{@code arrayName}</strong> parameter</li>
+     * </ul>
+     *
+     * or with the message of {@link #requireNotNull(Object, String)} if the
+     * array itself is {@code null}.
+     *
+     * @param   <T>  the type of the elements
+     * @param   array  the array to check
+     * @param   arrayName  the name of the array
+     * @return  the array that was validated
+     * @throws  NullPointerException if the array or an element is {@code null}
+     */
+    public static <T> T[] requireAllNotNull(T[] array, String arrayName) {
+        requireNotNull(array, arrayName);
+
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == null) {
+                failed(CheckType.NOT_NULL, arrayName);
+                throw npe(REQUIRE_ELEMENT_NOT_NULL_TEMPLATE, i, arrayName);
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Checks that a collection and all its elements are not {@code null}, as
+     * {@link #requireAllNotNull(Object[], String)} does. The index in the
+     * message is the position of the element in the iteration order.
+     *
+     * @param   <C>  the type of the collection
+     * @param   collection  the collection to check
+     * @param   collectionName  the name of the collection
+     * @return  the collection that was validated
+     * @throws  NullPointerException if the collection or an element is {@code null}
+     */
+    public static <C extends Collection<?>> C requireAllNotNull(C collection, String collectionName) {
+        requireNotNull(collection, collectionName);
+
+        int index = 0;
+        for (Object element : collection) {
+            if (element == null) {
+                failed(CheckType.NOT_NULL, collectionName);
+                throw npe(REQUIRE_ELEMENT_NOT_NULL_TEMPLATE, index, collectionName);
+            }
+            index++;
+        }
+        return collection;
+    }
+
+    /**
+     * Checks that an array is not {@code null} and all its elements are
+     * "positive" (value &gt; 0). If the check fails, the exception
+     * {@link IllegalArgumentException} is thrown with the following detail
+     * message:
+     *
+     * <blockquote><code>%2$s[%3$s] must be positive, actual: %1$s</code></blockquote>
+     *
+     * where:<ul>
+     *   <li>{@code %1$} is the first element that is not positive</li>
+     *   <li>{@code %2$} is the <strong>{@code arrayName}</strong> parameter</li>
+     *   <li>{@code %3$} is the index of the element</li>
+     * </ul>
+     *
+     * <p>The whole array is scanned with a branch-free loop, that the JIT
+     * compiler can vectorize, and the offending element is searched only
+     * when the check fails.
+     *
+     * @param   array  the array to check
+     * @param   arrayName  the name of the array
+     * @return  the array that was validated
+     * @throws  NullPointerException if the array is {@code null}
+     * @throws  IllegalArgumentException if an element is not positive
+     */
+    public static int[] requireAllPositive(int[] array, String arrayName) {
+        requireNotNull(array, arrayName);
+
+        // the sign bit of (v | (v - 1)) is set only for v <= 0
+        int bits = 0;
+        for (int i = 0; i < array.length; i++) {
+            int value = array[i];
+            bits |= value | (value - 1);
+        }
+
+        if (bits < 0) {
+            for (int i = 0; i < array.length; i++) {
+                if (array[i] <= 0) {
+                    failed(CheckType.POSITIVE, arrayName);
+                    throw iae(REQUIRE_ELEMENT_POSITIVE_TEMPLATE, array[i], arrayName, i);
+                }
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Checks that an array is not {@code null} and all its elements are
+     * "positive" (value &gt; 0), as {@link #requireAllPositive(int[], String)}
+     * does.
+     *
+     * @param   array  the array to check
+     * @param   arrayName  the name of the array
+     * @return  the array that was validated
+     * @throws  NullPointerException if the array is {@code null}
+     * @throws  IllegalArgumentException if an element is not positive
+     */
+    public static long[] requireAllPositive(long[] array, String arrayName) {
+        requireNotNull(array, arrayName);
+
+        // the sign bit of (v | (v - 1)) is set only for v <= 0
+        long bits = 0;
+        for (int i = 0; i < array.length; i++) {
+            long value = array[i];
+            bits |= value | (value - 1);
+        }
+
+        if (bits < 0) {
+            for (int i = 0; i < array.length; i++) {
+                if (array[i] <= 0) {
+                    failed(CheckType.POSITIVE, arrayName);
+                    throw iae(REQUIRE_ELEMENT_POSITIVE_TEMPLATE, array[i], arrayName, i);
+                }
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Checks that an array is not {@code null} and it's sorted (in
+     * non-descending order) according to a {@code Comparator}. If the check
+     * fails, the exception {@link IllegalArgumentException} is thrown with the
+     * following detail message:
+     *
+     * <blockquote><code>%2$s must be sorted, out of order at index: %1$s</code></blockquote>
+     *
+     * where:<ul>
+     *   <li>{@code %1$} is the index of the first element that is less than
+     *       the previous one</li>
+     *   <li>{@code %2$} is the <strong>{@code arrayName}</strong> parameter</li>
+     * </ul>
+     *
+     * @param   <T>  the type of the elements
+     * @param   array  the array to check
+     * @param   comparator  the {@code Comparator} used to compare the elements
+     * @param   arrayName  the name of the array
+     * @return  the array that was validated
+     * @throws  NullPointerException if the array or the comparator is {@code null}
+     * @throws  IllegalArgumentException if the array is not sorted
+     */
+    public static <T> T[] requireSorted(T[] array, Comparator<? super T> comparator, String arrayName) {
+        requireNotNull(array, arrayName);
+        requireNotNull(comparator, "comparator");
+
+        for (int i = 1; i < array.length; i++) {
+            if (comparator.compare(array[i-1], array[i]) > 0) {
+                failed(CheckType.SORTED, arrayName);
+                throw iae(REQUIRE_SORTED_TEMPLATE, i, arrayName);
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Checks that an array is not {@code null} and its elements are distinct
+     * according to {@link Object#equals} (at most one {@code null} element is
+     * allowed). If the check fails, the exception {@link IllegalArgumentException}
+     * is thrown with the following detail message:
+     *
+     * <blockquote><code>%2$s must be distinct, duplicate at index: %1$s</code></blockquote>
+     *
+     * where:<ul>
+     *   <li>{@code %1$} is the index of the first element equal to a previous one</li>
+     *   <li>{@code %2$} is the <strong>{@code arrayName}</strong> parameter</li>
+     * </ul>
+     *
+     * @param   <T>  the type of the elements
+     * @param   array  the array to check
+     * @param   arrayName  the name of the array
+     * @return  the array that was validated
+     * @throws  NullPointerException if the array is {@code null}
+     * @throws  IllegalArgumentException if the array contains duplicates
+     */
+    public static <T> T[] requireDistinct(T[] array, String arrayName) {
+        requireNotNull(array, arrayName);
+
+        if (array.length > 1) {
+            Set<Object> seen = newSeenSet(array.length);
+            for (int i = 0; i < array.length; i++) {
+                if (!seen.add(array[i])) {
+                    failed(CheckType.DISTINCT, arrayName);
+                    throw iae(REQUIRE_DISTINCT_TEMPLATE, i, arrayName);
+                }
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Checks that a collection is not {@code null} and its elements are
+     * distinct, as {@link #requireDistinct(Object[], String)} does. The index
+     * in the message is the position of the element in the iteration order.
+     * A {@link HashSet} or {@link LinkedHashSet} (exactly these classes, that
+     * use {@link Object#equals} too) is distinct by construction and it's not
+     * scanned; other sets (e.g. identity-based or comparator-based) are.
+     *
+     * @param   <C>  the type of the collection
+     * @param   collection  the collection to check
+     * @param   collectionName  the name of the collection
+     * @return  the collection that was validated
+     * @throws  NullPointerException if the collection is {@code null}
+     * @throws  IllegalArgumentException if the collection contains duplicates
+     */
+    public static <C extends Collection<?>> C requireDistinct(C collection, String collectionName) {
+        requireNotNull(collection, collectionName);
+
+        if (!isEqualsBasedSet(collection) && collection.size() > 1) {
+            Set<Object> seen = newSeenSet(collection.size());
+            int index = 0;
+            for (Object element : collection) {
+                if (!seen.add(element)) {
+                    failed(CheckType.DISTINCT, collectionName);
+                    throw iae(REQUIRE_DISTINCT_TEMPLATE, index, collectionName);
+                }
+                index++;
+            }
+        }
+        return collection;
+    }
+
+    //-----------------------------------------------------------------------
+    // checkIndex / checkFromToIndex / checkFromIndexSize
+    //-----------------------------------------------------------------------
+
+    /**
+     * Checks that {@code index} is in the range [0, {@code length}), as
+     * {@code Objects.checkIndex} (Java 9+) does, with a plain comparison (no
+     * JDK exception is created and discarded). If the check fails, the
+     * exception {@link IndexOutOfBoundsException} is thrown (once, like the
+     * other checks: lazily formatted and stackless in the stackless mode,
+     * see {@link CheckOptions}) with the following detail message:
+     *
+     * <blockquote><code>index must be in range [0, %2$s), actual: %1$s</code></blockquote>
+     *
+     * where {@code %1$} is the {@code index} and {@code %2$} is the {@code length}.
+     *
+     * @param   index  the index
+     * @param   length  the upper bound (exclusive) of the range
+     * @return  the index that was validated
+     * @throws  IndexOutOfBoundsException if the index is out of bounds
+     */
+    public static int checkIndex(int index, int length) {
+        return checkIndex(index, length, DEFAULT_INDEX_NAME, CheckOptions.defaults());
+    }
+
+    /**
+     * Checks that {@code index} is in the range [0, {@code length}), as
+     * {@link #checkIndex(int, int)} does, but with the name of the index in
+     * the detail message:
+     *
+     * <blockquote><code>%3$s must be in range [0, %2$s), actual: %1$s</code></blockquote>
+     *
+     * where {@code %3$} is the {@code valueName}.
+     *
+     * @param   index  the index
+     * @param   length  the upper bound (exclusive) of the range
+     * @param   valueName  the name of the index
+     * @return  the index that was validated
+     * @throws  IndexOutOfBoundsException if the index is out of bounds
+     */
+    public static int checkIndex(int index, int length, String valueName) {
+        return checkIndex(index, length, valueName, CheckOptions.defaults());
+    }
+
+    /**
+     * Checks that {@code index} is in the range [0, {@code length}), as
+     * {@link #checkIndex(int, int, String)} does, but with explicit options
+     * for the exception thrown when the check fails.
+     *
+     * @param   index  the index
+     * @param   length  the upper bound (exclusive) of the range
+     * @param   valueName  the name of the index
+     * @param   options  the options (e.g. {@link CheckOptions#stackless()})
+     * @return  the index that was validated
+     * @throws  IndexOutOfBoundsException if the index is out of bounds
+     */
+    public static int checkIndex(int index, int length, String valueName, CheckOptions options) {
+        if (index < 0 || index >= length) {
+            failed(CheckType.INDEX, valueName);
+            throw ioobe(options, CHECK_INDEX_TEMPLATE, index, length, valueName);
+        }
+        return index;
+    }
+
+    /**
+     * Checks that the sub-range [{@code fromIndex}, {@code toIndex}) is within
+     * the range [0, {@code length}), as {@code Objects.checkFromToIndex}
+     * (Java 9+) does (see {@link #checkIndex(int, int)}). If the check fails,
+     * the exception
+     * {@link IndexOutOfBoundsException} is thrown with the following detail
+     * message:
+     *
+     * <blockquote><code>range [fromIndex, toIndex) must be within [0, %3$s), actual: [%1$s, %2$s)</code></blockquote>
+     *
+     * @param   fromIndex  the lower bound (inclusive) of the sub-range
+     * @param   toIndex  the upper bound (exclusive) of the sub-range
+     * @param   length  the upper bound (exclusive) of the range
+     * @return  the {@code fromIndex} that was validated
+     * @throws  IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    public static int checkFromToIndex(int fromIndex, int toIndex, int length) {
+        return checkFromToIndex(fromIndex, toIndex, length, DEFAULT_RANGE_NAME, CheckOptions.defaults());
+    }
+
+    /**
+     * Checks that the sub-range [{@code fromIndex}, {@code toIndex}) is within
+     * the range [0, {@code length}), as {@link #checkFromToIndex(int, int, int)}
+     * does, but with the name of the sub-range in the detail message:
+     *
+     * <blockquote><code>%4$s [fromIndex, toIndex) must be within [0, %3$s), actual: [%1$s, %2$s)</code></blockquote>
+     *
+     * where {@code %4$} is the {@code valueName}.
+     *
+     * @param   fromIndex  the lower bound (inclusive) of the sub-range
+     * @param   toIndex  the upper bound (exclusive) of the sub-range
+     * @param   length  the upper bound (exclusive) of the range
+     * @param   valueName  the name of the sub-range
+     * @return  the {@code fromIndex} that was validated
+     * @throws  IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    public static int checkFromToIndex(int fromIndex, int toIndex, int length, String valueName) {
+        return checkFromToIndex(fromIndex, toIndex, length, valueName, CheckOptions.defaults());
+    }
+
+    /**
+     * Checks that the sub-range [{@code fromIndex}, {@code toIndex}) is within
+     * the range [0, {@code length}), as
+     * {@link #checkFromToIndex(int, int, int, String)} does, but with explicit
+     * options for the exception thrown when the check fails.
+     *
+     * @param   fromIndex  the lower bound (inclusive) of the sub-range
+     * @param   toIndex  the upper bound (exclusive) of the sub-range
+     * @param   length  the upper bound (exclusive) of the range
+     * @param   valueName  the name of the sub-range
+     * @param   options  the options (e.g. {@link CheckOptions#stackless()})
+     * @return  the {@code fromIndex} that was validated
+     * @throws  IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    public static int checkFromToIndex(int fromIndex, int toIndex, int length, String valueName, CheckOptions options) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > length) {
+            failed(CheckType.INDEX, valueName);
+            throw ioobe(options, CHECK_FROM_TO_INDEX_TEMPLATE, fromIndex, toIndex, length, valueName);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Checks that the sub-range [{@code fromIndex}, {@code fromIndex + size})
+     * is within the range [0, {@code length}), as
+     * {@code Objects.checkFromIndexSize} (Java 9+) does (see
+     * {@link #checkIndex(int, int)}). If the check fails, the
+     * exception {@link IndexOutOfBoundsException} is thrown with the following
+     * detail message:
+     *
+     * <blockquote><code>range [fromIndex, fromIndex + size) must be within [0, %3$s), actual: fromIndex %1$s, size %2$s</code></blockquote>
+     *
+     * @param   fromIndex  the lower bound (inclusive) of the sub-range
+     * @param   size  the size of the sub-range
+     * @param   length  the upper bound (exclusive) of the range
+     * @return  the {@code fromIndex} that was validated
+     * @throws  IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    public static int checkFromIndexSize(int fromIndex, int size, int length) {
+        return checkFromIndexSize(fromIndex, size, length, DEFAULT_RANGE_NAME, CheckOptions.defaults());
+    }
+
+    /**
+     * Checks that the sub-range [{@code fromIndex}, {@code fromIndex + size})
+     * is within the range [0, {@code length}), as
+     * {@link #checkFromIndexSize(int, int, int)} does, but with the name of the
+     * sub-range in the detail message:
+     *
+     * <blockquote><code>%4$s [fromIndex, fromIndex + size) must be within [0, %3$s), actual: fromIndex %1$s, size %2$s</code></blockquote>
+     *
+     * where {@code %4$} is the {@code valueName}.
+     *
+     * @param   fromIndex  the lower bound (inclusive) of the sub-range
+     * @param   size  the size of the sub-range
+     * @param   length  the upper bound (exclusive) of the range
+     * @param   valueName  the name of the sub-range
+     * @return  the {@code fromIndex} that was validated
+     * @throws  IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    public static int checkFromIndexSize(int fromIndex, int size, int length, String valueName) {
+        return checkFromIndexSize(fromIndex, size, length, valueName, CheckOptions.defaults());
+    }
+
+    /**
+     * Checks that the sub-range [{@code fromIndex}, {@code fromIndex + size})
+     * is within the range [0, {@code length}), as
+     * {@link #checkFromIndexSize(int, int, int, String)} does, but with
+     * explicit options for the exception thrown when the check fails.
+     *
+     * @param   fromIndex  the lower bound (inclusive) of the sub-range
+     * @param   size  the size of the sub-range
+     * @param   length  the upper bound (exclusive) of the range
+     * @param   valueName  the name of the sub-range
+     * @param   options  the options (e.g. {@link CheckOptions#stackless()})
+     * @return  the {@code fromIndex} that was validated
+     * @throws  IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    public static int checkFromIndexSize(int fromIndex, int size, int length, String valueName, CheckOptions options) {
+        if ((length | fromIndex | size) < 0 || size > length - fromIndex) {
+            failed(CheckType.INDEX, valueName);
+            throw ioobe(options, CHECK_FROM_INDEX_SIZE_TEMPLATE, fromIndex, size, length, valueName);
+        }
+        return fromIndex;
+    }
+
+    //-----------------------------------------------------------------------
+    // debugRequireNotNull / debugRequirePositive
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the level of the debug checks, set by the system property
+     * {@value CheckLevel#PROPERTY}.
+     *
+     * @return  the level of the debug checks
+     */
+    public static CheckLevel debugLevel() {
+        return LEVEL;
+    }
+
+    /**
+     * Tells whether the "cheap" debug checks are enabled (level
+     * {@link CheckLevel#CHEAP} or {@link CheckLevel#FULL}).
+     *
+     * @return  {@code true} if the cheap debug checks are enabled
+     */
+    public static boolean isCheapDebugEnabled() {
+        return CHEAP_DEBUG;
+    }
+
+    /**
+     * Tells whether all the debug checks are enabled (level {@link CheckLevel#FULL}).
+     * It's meant to guard expensive invariant checks, for example:
+     *
+     * <pre>{@code
+     * if (Checks.isFullDebugEnabled()) {
+     *     // ... expensive check ...
+     * }
+     * }</pre>
+     *
+     * <p>that are removed by the JIT compiler when not enabled.
+     *
+     * @return  {@code true} if all the debug checks are enabled
+     */
+    public static boolean isFullDebugEnabled() {
+        return FULL_DEBUG;
+    }
+
+    /**
+     * Same as {@link #requireNotNull(Object, String)} but performed only
+     * when the "cheap" debug checks are enabled (see {@link CheckLevel}),
+     * otherwise it does nothing.
+     *
+     * @param   <T>  the type of the value
+     * @param   value  the value to check
+     * @param   valueName  the name of the value
+     * @return  the value (validated only if the debug checks are enabled)
+     * @throws  NullPointerException if the check is enabled and the value is {@code null}
+     */
+    public static <T> T debugRequireNotNull(T value, String valueName) {
+        if (CHEAP_DEBUG && value == null) {
+            failed(CheckType.NOT_NULL, valueName);
+            throw npe(REQUIRE_NOT_NULL_TEMPLATE, valueName);
+        }
+        return value;
+    }
+
+    /**
+     * Same as {@link #requirePositive(int, String)} but performed only
+     * when the "cheap" debug checks are enabled (see {@link CheckLevel}),
+     * otherwise it does nothing.
+     *
+     * @param   value  the value to check
+     * @param   valueName  the name of the value
+     * @return  the value (validated only if the debug checks are enabled)
+     * @throws  IllegalArgumentException if the check is enabled and the value
+     *          is not positive
+     */
+    public static int debugRequirePositive(int value, String valueName) {
+        if (CHEAP_DEBUG && value <= 0) {
+            failed(CheckType.POSITIVE, valueName);
+            throw iae(REQUIRE_POSITIVE_TEMPLATE, value, valueName);
+        }
+        return value;
+    }
+
+    /*
+     * Called on every failure, before throwing the exception.
+     */
+    private static void failed(CheckType type, Object key) {
+        CheckMetrics.failed(type, key);
+        CheckEvents.failed(type, key);
+    }
+
+    /*
+     * The class of a lambda expression has a synthetic name that may change
+     * at every run: the class that declares the lambda is used instead.
+     */
+    private static String supplierKey(Supplier<String> messageSupplier) {
+        String name = messageSupplier.getClass().getName();
+        int lambda = name.indexOf("$$Lambda");
+        return lambda < 0 ? name : name.substring(0, lambda);
+    }
+
+    private static Object[] arrayOf(Object arg1, Object[] otherArgs) {
+        Object[] args = new Object[otherArgs.length+1];
+        args[0] = arg1;
+        System.arraycopy(otherArgs, 0, args, 1, otherArgs.length);
+        return args;
+    }
+
+    private static boolean isEqualsBasedSet(Collection<?> collection) {
+        Class<?> type = collection.getClass();
+        return type == HashSet.class || type == LinkedHashSet.class;
+    }
+
+    private static Set<Object> newSeenSet(int size) {
+        /* no resize for size elements, computed in long not to overflow */
+        return new HashSet<>((int) Math.min(size * 4L / 3 + 1, 1 << 30));
+    }
+
+    /*
+     * The message is formatted only when (and if) it's requested.
+     */
+    private static IllegalArgumentException iae(String template, Object... args) {
+        return CheckOptions.defaults().isStackless()
+                ? new LazyIllegalArgumentException.Stackless(template, args)
+                : new LazyIllegalArgumentException(template, args);
+    }
+
+    private static IllegalArgumentException iae(CheckTemplate template, Object... args) {
+        return iae(CheckOptions.defaults(), template, args);
+    }
+
+    private static IllegalArgumentException iae(CheckOptions options, CheckTemplate template, Object... args) {
+        return options.isStackless()
+                ? new LazyIllegalArgumentException.Stackless(template, args)
+                : new LazyIllegalArgumentException(template, args);
+    }
+
+    private static IllegalArgumentException iae(CheckOptions options, String message) {
+        return options.isStackless()
+                ? new LazyIllegalArgumentException.Stackless(message)
+                : new LazyIllegalArgumentException(message);
+    }
+
+    private static IndexOutOfBoundsException ioobe(CheckOptions options, CheckTemplate template, Object... args) {
+        return options.isStackless()
+                ? new LazyIndexOutOfBoundsException.Stackless(template, args)
+                : new LazyIndexOutOfBoundsException(template, args);
+    }
+
+    private static NullPointerException npe(String template, Object... args) {
+        return CheckOptions.defaults().isStackless()
+                ? new LazyNullPointerException.Stackless(template, args)
+                : new LazyNullPointerException(template, args);
+    }
+
+    private static NullPointerException npe(CheckTemplate template, Object... args) {
+        return npe(CheckOptions.defaults(), template, args);
+    }
+
+    private static NullPointerException npe(CheckOptions options, CheckTemplate template, Object... args) {
+        return options.isStackless()
+                ? new LazyNullPointerException.Stackless(template, args)
+                : new LazyNullPointerException(template, args);
+    }
+
+    private static NullPointerException npe(CheckOptions options, String message) {
+        return options.isStackless()
+                ? new LazyNullPointerException.Stackless(message)
+                : new LazyNullPointerException(message);
     }
 }
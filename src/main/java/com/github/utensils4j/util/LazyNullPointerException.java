@@ -0,0 +1,101 @@
+package com.github.utensils4j.util;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.IllegalFormatException;
+
+/**
+ * A {@link NullPointerException} whose detail message is formatted
+ * lazily, the first time that {@link #getMessage()} is invoked, and then
+ * cached. It's thrown by the checks of {@link Checks}, so that the cost of
+ * {@link String#format} (or {@link CheckTemplate#format}) is not paid when
+ * the caller catches the exception without ever reading the message.
+ *
+ * <p>As the message is formatted when it's first read, it reflects the state
+ * of the (mutable) arguments at that time, not at the time of the failed
+ * check. If the template doesn't match the arguments, the message is the
+ * template followed by the arguments, instead of an
+ * {@link IllegalFormatException} thrown by {@code getMessage()}.
+ *
+ * <p>When the "stackless" mode is enabled (see {@link CheckOptions}) the
+ * exception doesn't fill in its stack trace.
+ *
+ * @author Andrea Binello
+ */
+public class LazyNullPointerException extends NullPointerException {
+    private static final long serialVersionUID = 1L;
+
+    private final transient String template;
+    private final transient CheckTemplate checkTemplate;
+    private final transient Object[] args;
+    private String message;
+
+    LazyNullPointerException(String message) {
+        this.template = null;
+        this.checkTemplate = null;
+        this.args = null;
+        this.message = message;
+    }
+
+    LazyNullPointerException(String template, Object[] args) {
+        this.template = template;
+        this.checkTemplate = null;
+        this.args = args;
+    }
+
+    LazyNullPointerException(CheckTemplate checkTemplate, Object[] args) {
+        this.template = null;
+        this.checkTemplate = checkTemplate;
+        this.args = args;
+    }
+
+    @Override
+    public String getMessage() {
+        String msg = message;
+        if (msg == null) {
+            try {
+                if (checkTemplate != null) {
+                    msg = checkTemplate.format(args);
+                } else if (template != null) {
+                    msg = String.format(template, args);
+                }
+            } catch (IllegalFormatException e) {
+                msg = (checkTemplate != null ? checkTemplate.template() : template) + " " + Arrays.toString(args);
+            }
+            message = msg;
+        }
+        return msg;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getMessage();   // the template and the arguments are not serialized
+        out.defaultWriteObject();
+    }
+
+
+    /*
+     * Variant that doesn't fill in the stack trace (the override is effective
+     * also during the construction, unlike a flag in a field).
+     */
+    static final class Stackless extends LazyNullPointerException {
+        private static final long serialVersionUID = 1L;
+
+        Stackless(String message) {
+            super(message);
+        }
+
+        Stackless(String template, Object[] args) {
+            super(template, args);
+        }
+
+        Stackless(CheckTemplate checkTemplate, Object[] args) {
+            super(checkTemplate, args);
+        }
+
+        @Override
+        public Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.github.utensils4j.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A non-throwing accumulator of validation failures, with the same rules and
+ * the same messages of the corresponding checks of {@link Checks}. It's
+ * meant for bulk validations where all the problems of a record must be
+ * reported, for example:
+ *
+ * <pre>{@code
+ * Violations violations = new Violations();
+ * for (Record record : records) {
+ *     violations.clear();
+ *     violations.requireNotNull(record.getName(), "name");
+ *     violations.requirePositive(record.getQuantity(), "quantity");
+ *     if (!violations.isEmpty()) {
+ *         report(record, violations.messages());
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p>No exception is created: each failure is recorded as a compact entry
+ * (a code, the value name and the numeric arguments in primitive arrays) and
+ * the messages are formatted only when requested. After {@link #clear()} the
+ * same instance can be reused without allocations, unless it must grow to
+ * contain more failures than ever before.
+ *
+ * <p><strong>Note</strong>: this class is <strong>not</strong> thread-safe.
+ *
+ * @author Andrea Binello
+ */
+public final class Violations {
+    private static final int NOT_NULL = 0;
+    private static final int POSITIVE = 1;
+    private static final int NON_NEGATIVE = 2;
+    private static final int NON_NEGATIVE_DOUBLE = 3;
+    private static final int IN_RANGE = 4;
+    private static final int CUSTOM = 5;
+
+    private static final int STRIDE = 3;   // numbers per entry: value, min, max
+
+    private int[] codes;
+    private String[] names;                // the value name, or the message for CUSTOM
+    private long[] numbers;
+    private int size;
+
+    /**
+     * Creates a new {@code Violations} with a default initial capacity.
+     */
+    public Violations() {
+        this(8);
+    }
+
+    /**
+     * Creates a new {@code Violations} with the specified initial capacity.
+     *
+     * @param  initialCapacity  the initial number of failures that can be
+     *         recorded without growing
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative
+     */
+    public Violations(int initialCapacity) {
+        Checks.requireNonNegative(initialCapacity, "initialCapacity");
+        codes = new int[initialCapacity];
+        names = new String[initialCapacity];
+        numbers = new long[initialCapacity * STRIDE];
+    }
+
+    /**
+     * Checks that a value is not {@code null}, as
+     * {@link Checks#requireNotNull(Object, String)} does, recording a failure
+     * instead of throwing an exception.
+     *
+     * @param   value  the value to check
+     * @param   valueName  the name of the value
+     * @return  {@code true} if the check passed, {@code false} otherwise
+     */
+    public boolean requireNotNull(Object value, String valueName) {
+        if (value == null) {
+            add(NOT_NULL, valueName, 0, 0, 0);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks that a value of type {@code int} is "positive" (value &gt; 0), as
+     * {@link Checks#requirePositive(int, String)} does, recording a failure
+     * instead of throwing an exception.
+     *
+     * @param   value  the value to check
+     * @param   valueName  the name of the value
+     * @return  {@code true} if the check passed, {@code false} otherwise
+     */
+    public boolean requirePositive(int value, String valueName) {
+        if (value <= 0) {
+            add(POSITIVE, valueName, value, 0, 0);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks that a value of type {@code long} is "non-negative" (value &gt;= 0),
+     * as {@link Checks#requireNonNegative(long, String)} does, recording a
+     * failure instead of throwing an exception.
+     *
+     * @param   value  the value to check
+     * @param   valueName  the name of the value
+     * @return  {@code true} if the check passed, {@code false} otherwise
+     */
+    public boolean requireNonNegative(long value, String valueName) {
+        if (value < 0) {
+            add(NON_NEGATIVE, valueName, value, 0, 0);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks that a value of type {@code double} is "non-negative" (value &gt;= 0),
+     * as {@link Checks#requireNonNegative(double, String)} does, recording a
+     * failure instead of throwing an exception.
+     *
+     * @param   value  the value to check
+     * @param   valueName  the name of the value
+     * @return  {@code true} if the check passed, {@code false} otherwise
+     */
+    public boolean requireNonNegative(double value, String valueName) {
+        if (!(value >= 0)) {
+            add(NON_NEGATIVE_DOUBLE, valueName, Double.doubleToRawLongBits(value), 0, 0);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks that a value of type {@code long} is in the range
+     * [{@code min}, {@code max}], as
+     * {@link Checks#requireInRange(long, long, long, String)} does, recording
+     * a failure instead of throwing an exception.
+     *
+     * @param   value  the value to check
+     * @param   min  the minimum value (inclusive)
+     * @param   max  the maximum value (inclusive)
+     * @param   valueName  the name of the value
+     * @return  {@code true} if the check passed, {@code false} otherwise
+     */
+    public boolean requireInRange(long value, long min, long max, String valueName) {
+        if (value < min || value > max) {
+            add(IN_RANGE, valueName, value, min, max);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Records a failure with an explicit message.
+     *
+     * @param  message  the message of the failure
+     */
+    public void add(String message) {
+        add(CUSTOM, message, 0, 0, 0);
+    }
+
+    /**
+     * Returns the number of recorded failures.
+     *
+     * @return  the number of failures
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Tells whether no failure was recorded.
+     *
+     * @return  {@code true} if there are no failures
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the name of the value of a failure, or {@code null} for a
+     * failure added with {@link #add(String)}.
+     *
+     * @param   index  the index of the failure
+     * @return  the name of the value
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public String valueName(int index) {
+        Checks.checkIndex(index, size);
+        return codes[index] == CUSTOM ? null : names[index];
+    }
+
+    /**
+     * Formats and returns the message of a failure.
+     *
+     * @param   index  the index of the failure
+     * @return  the message
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public String message(int index) {
+        Checks.checkIndex(index, size);
+        String name = names[index];
+        int n = index * STRIDE;
+
+        switch (codes[index]) {
+            case NOT_NULL:
+                return Checks.REQUIRE_NOT_NULL_TEMPLATE.format(name);
+            case POSITIVE:
+                return Checks.REQUIRE_POSITIVE_TEMPLATE.format((int) numbers[n], name);
+            case NON_NEGATIVE:
+                return Checks.REQUIRE_NON_NEGATIVE_TEMPLATE.format(numbers[n], name);
+            case NON_NEGATIVE_DOUBLE:
+                return Checks.REQUIRE_NON_NEGATIVE_TEMPLATE.format(Double.longBitsToDouble(numbers[n]), name);
+            case IN_RANGE:
+                return Checks.REQUIRE_IN_RANGE_TEMPLATE.format(numbers[n], name, numbers[n+1], numbers[n+2]);
+            default:
+                return name;
+        }
+    }
+
+    /**
+     * Formats and returns the messages of all the failures.
+     *
+     * @return  a new list of messages
+     */
+    public List<String> messages() {
+        List<String> messages = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            messages.add(message(i));
+        }
+        return messages;
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} if any failure was recorded,
+     * with all the messages separated by {@code "; "}.
+     *
+     * @throws  IllegalArgumentException if there are failures
+     */
+    public void throwIfAny() {
+        if (size > 0) {
+            throw new IllegalArgumentException(toString());
+        }
+    }
+
+    /**
+     * Removes all the failures, so that this instance can be reused.
+     */
+    public void clear() {
+        Arrays.fill(names, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Returns the messages of all the failures, separated by {@code "; "}.
+     *
+     * @return  the messages
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append("; ");
+            }
+            sb.append(message(i));
+        }
+        return sb.toString();
+    }
+
+
+    private void add(int code, String name, long value, long min, long max) {
+        if (size == codes.length) {
+            int capacity = Math.max(8, size * 2);
+            codes = Arrays.copyOf(codes, capacity);
+            names = Arrays.copyOf(names, capacity);
+            numbers = Arrays.copyOf(numbers, capacity * STRIDE);
+        }
+
+        int n = size * STRIDE;
+        codes[size] = code;
+        names[size] = name;
+        numbers[n] = value;
+        numbers[n+1] = min;
+        numbers[n+2] = max;
+        size++;
+    }
+}
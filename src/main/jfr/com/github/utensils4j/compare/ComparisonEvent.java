@@ -0,0 +1,50 @@
+package com.github.utensils4j.compare;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Flight Recorder event for a sampled {@link Comparison} chain: the
+ * duration is the time from {@link Comparison#chain()} to the link that
+ * decided the order (or to {@link Comparison#result()} when all the links
+ * are equal). It's disabled by default, as the comparisons are the hottest
+ * path of the library: it must be enabled explicitly in the recording
+ * settings ({@code com.github.utensils4j.Comparison#enabled=true}).
+ *
+ * <p>This class is compiled separately from the rest of the library (it
+ * needs the {@code jdk.jfr} API) and must be loaded only when JFR is
+ * available (see {@link ComparisonSampling}).
+ *
+ * @author Andrea Binello
+ */
+@Name(ComparisonEvent.NAME)
+@Label("Comparison Chain")
+@Description("A sampled comparison chain, with the number of links evaluated before the order was decided")
+@Category({ "utensils4j", "Comparison" })
+@StackTrace(true)
+@Enabled(false)
+final class ComparisonEvent extends jdk.jfr.Event implements ComparisonSampling.Sample {
+    static final String NAME = "com.github.utensils4j.Comparison";
+
+    @Label("Links")
+    @Description("The number of links evaluated, including the deciding one")
+    int links;
+
+    @Label("Result")
+    @Description("The result of the chain: -1, 0 or 1")
+    int result;
+
+    @Override
+    public void end(int links, int result) {
+        end();
+        if (shouldCommit()) {
+            this.links = links;
+            this.result = result;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.utensils4j.compare;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * The JFR side of {@link ComparisonSampling}: it creates the
+ * {@link ComparisonEvent}s and keeps {@link ComparisonSampling#enabled}
+ * updated with a {@link FlightRecorderListener}.
+ *
+ * <p>This class is compiled separately from the rest of the library (it
+ * needs the {@code jdk.jfr} API) and is loaded by name by
+ * {@link ComparisonSampling}, only when JFR is available.
+ *
+ * @author Andrea Binello
+ */
+final class ComparisonRecorder implements ComparisonSampling.Recorder, FlightRecorderListener {
+    ComparisonRecorder() {
+        if (FlightRecorder.isAvailable()) {
+            FlightRecorder.addListener(this);
+        }
+    }
+
+    @Override
+    public ComparisonSampling.Sample begin() {
+        ComparisonEvent event = new ComparisonEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void recorderInitialized(FlightRecorder recorder) {
+        update(recorder);
+    }
+
+    @Override
+    public void recordingStateChanged(Recording recording) {
+        update(FlightRecorder.getFlightRecorder());
+    }
+
+
+    private static void update(FlightRecorder recorder) {
+        boolean on = false;
+
+        for (Recording recording : recorder.getRecordings()) {
+            if (recording.getState() == RecordingState.RUNNING) {
+                // the event is @Enabled(false), so it's on only when configured
+                String setting = recording.getSettings().get(ComparisonEvent.NAME + "#enabled");
+                on |= Boolean.parseBoolean(setting);
+            }
+        }
+        ComparisonSampling.enabled = on;
+    }
+}
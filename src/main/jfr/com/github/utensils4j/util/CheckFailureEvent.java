@@ -0,0 +1,56 @@
+package com.github.utensils4j.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Flight Recorder event for a failed check of {@link Checks}. The thread
+ * and the stack trace are recorded by JFR itself.
+ *
+ * <p>This class is compiled separately from the rest of the library (it
+ * needs the {@code jdk.jfr} API) and must be loaded only when JFR is
+ * available (see {@link CheckEvents}).
+ *
+ * @author Andrea Binello
+ */
+@Name(CheckFailureEvent.NAME)
+@Label("Check Failure")
+@Description("A check of Checks that failed")
+@Category({ "utensils4j", "Checks" })
+@StackTrace(true)
+final class CheckFailureEvent extends jdk.jfr.Event {
+    static final String NAME = "com.github.utensils4j.CheckFailure";
+
+    private static final EventType TYPE = EventType.getEventType(CheckFailureEvent.class);
+
+    @Label("Check Type")
+    String checkType;
+
+    @Label("Value Name")
+    @Description("The value name, or the message template for the checks with an explicit message")
+    String valueName;
+
+    static void emit(CheckType type, Object key) {
+        if (TYPE.isEnabled()) {   // no event allocated when no recording wants it
+            CheckFailureEvent event = new CheckFailureEvent();
+            event.checkType = type.name();
+            event.valueName = String.valueOf(key);
+            event.commit();
+        }
+    }
+
+
+    /*
+     * Loaded by name by CheckEvents.
+     */
+    static final class JfrEmitter implements CheckEvents.Emitter {
+        @Override
+        public void failed(CheckType type, Object key) {
+            emit(type, key);
+        }
+    }
+}
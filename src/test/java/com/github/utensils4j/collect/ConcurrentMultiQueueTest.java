@@ -0,0 +1,119 @@
+package com.github.utensils4j.collect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentMultiQueueTest {
+    @Test
+    @DisplayName("a single heap gives the exact order")
+    public void testSingleHeap() {
+        ConcurrentMultiQueue<Integer> queue = ConcurrentMultiQueue.create(Comparator.naturalOrder(), 1);
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(i % 37);
+        }
+        Collections.shuffle(values);
+        values.forEach(queue::offer);
+
+        assertThat(queue.size()).isEqualTo(1000);
+        Collections.sort(values);
+        for (Integer expected : values) {
+            assertThat(queue.poll()).isEqualTo(expected);
+        }
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("many heaps: all the elements, in a relaxed order")
+    public void testManyHeaps() {
+        ConcurrentMultiQueue<Integer> queue = ConcurrentMultiQueue.create(Comparator.naturalOrder(), 8);
+        for (int i = 9_999; i >= 0; i--) {
+            queue.offer(i);
+        }
+
+        List<Integer> polled = new ArrayList<>();
+        for (Integer value; (value = queue.poll()) != null; ) {
+            polled.add(value);
+        }
+        assertThat(polled).hasSize(10_000);
+
+        // the first polled elements are among the lowest ones
+        assertThat(polled.subList(0, 100)).allMatch(value -> value < 1000);
+        Collections.sort(polled);
+        for (int i = 0; i < polled.size(); i++) {
+            assertThat(polled.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @DisplayName("concurrent offers and polls")
+    public void testConcurrent() throws Exception {
+        ConcurrentMultiQueue<Integer> queue = ConcurrentMultiQueue.create(Comparator.naturalOrder());
+        ConcurrentLinkedQueue<Integer> polled = new ConcurrentLinkedQueue<>();
+        int threads = 4;
+        int perThread = 20_000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int base = t * perThread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        queue.offer(base + i);
+                        if (i % 2 == 0) {
+                            Integer value = queue.poll();
+                            if (value != null) {
+                                polled.add(value);
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        for (Integer value; (value = queue.poll()) != null; ) {
+            polled.add(value);
+        }
+        List<Integer> all = new ArrayList<>(polled);
+        Collections.sort(all);
+        assertThat(all).hasSize(threads * perThread);
+        for (int i = 0; i < all.size(); i++) {
+            assertThat(all.get(i)).isEqualTo(i);
+        }
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("errors")
+    public void testErrors() {
+        assertThatThrownBy(() -> ConcurrentMultiQueue.create(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> ConcurrentMultiQueue.create(Comparator.naturalOrder(), 0))
+                .hasMessage("heapCount must be positive, actual: 0");
+        assertThatThrownBy(() -> ConcurrentMultiQueue.create(Comparator.naturalOrder()).offer(null))
+                .hasMessage("element must be not-null");
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.utensils4j.collect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.github.utensils4j.compare.Comparison;
+
+public class DaryHeapTest {
+    private static final Comparator<int[]> BY_KEY_AND_ID = (a, b) -> Comparison.chain()
+            .ascending(a[0], b[0])
+            .ascending(a[1], b[1])
+            .result();
+
+    @ParameterizedTest(name = "arity {0}")
+    @ValueSource(ints = { 2, 4, 5, 8 })
+    @DisplayName("random operations, compared with a map of handles")
+    public void testRandomOperations(int arity) {
+        Random random = new Random(arity);
+        DaryHeap<int[]> heap = new DaryHeap<>(arity, BY_KEY_AND_ID, 0);
+        Map<Integer, int[]> expected = new HashMap<>();
+        int nextId = 0;
+
+        for (int op = 0; op < 20_000; op++) {
+            List<Integer> handles = new ArrayList<>(expected.keySet());
+            Integer handle = handles.isEmpty() ? null : handles.get(random.nextInt(handles.size()));
+            int key = random.nextInt(1000);
+
+            switch (random.nextInt(5)) {
+                case 0:
+                case 1:
+                    int[] element = { key, nextId++ };
+                    int added = heap.add(element);
+                    assertThat(expected.put(added, element)).isNull();
+                    break;
+                case 2:
+                    if (handle != null) {
+                        int[] current = heap.get(handle);
+                        assertThat(current).isSameAs(expected.get(handle));
+                        current[0] = key;   // mutated in place
+                        heap.update(handle, current);
+                    }
+                    break;
+                case 3:
+                    if (handle != null) {
+                        assertThat(heap.remove(handle)).isSameAs(expected.remove(handle));
+                        assertThat(heap.contains(handle)).isFalse();
+                    }
+                    break;
+                default:
+                    if (handle != null) {
+                        int[] min = expected.values().stream().min(BY_KEY_AND_ID).get();
+                        int minHandle = heap.peekHandle();
+                        assertThat(heap.poll()).isSameAs(min);
+                        assertThat(expected.remove(minHandle)).isSameAs(min);
+                    }
+            }
+            assertThat(heap.size()).isEqualTo(expected.size());
+        }
+
+        int[] previous = { Integer.MIN_VALUE, 0 };
+        while (!heap.isEmpty()) {
+            int[] element = heap.poll();
+            assertThat(BY_KEY_AND_ID.compare(previous, element)).isNegative();
+            previous = element;
+        }
+    }
+
+    @Test
+    @DisplayName("heapify and decreaseKey")
+    public void testHeapify() {
+        DaryHeap<String> heap = DaryHeap.heapify(4, Comparator.naturalOrder(),
+                Arrays.asList("pear", "fig", "apple", "kiwi", "banana"));
+
+        assertThat(heap.get(3)).isEqualTo("kiwi");
+        heap.decreaseKey(3, "avocado");
+        assertThat(heap.poll()).isEqualTo("apple");
+        assertThat(heap.peekHandle()).isEqualTo(3);
+        assertThat(heap.poll()).isEqualTo("avocado");
+        assertThat(heap.poll()).isEqualTo("banana");
+        assertThat(heap.add("cherry")).isEqualTo(4);   // the handle of "banana" is reused
+    }
+
+    @Test
+    @DisplayName("errors")
+    public void testErrors() {
+        DaryHeap<String> heap = new DaryHeap<>(8, Comparator.naturalOrder());
+        int handle = heap.add("b");
+
+        assertThatThrownBy(() -> new DaryHeap<String>(65, Comparator.naturalOrder()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> heap.decreaseKey(handle, "c"))
+                .hasMessage("element must be not greater than the current one");
+        assertThatThrownBy(() -> heap.get(handle + 1)).hasMessage("invalid handle: 1");
+
+        heap.clear();
+        assertThat(heap.contains(handle)).isFalse();
+        assertThatThrownBy(heap::peek).isInstanceOf(NoSuchElementException.class);
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.utensils4j.collect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class LongDaryHeapTest {
+    @ParameterizedTest(name = "arity {0}")
+    @ValueSource(ints = { 2, 3, 4, 8 })
+    @DisplayName("random operations, compared with a map")
+    public void testRandomOperations(int arity) {
+        Random random = new Random(arity);
+        LongDaryHeap heap = new LongDaryHeap(arity, 0);
+        Map<Integer, Long> expected = new HashMap<>();
+
+        for (int op = 0; op < 20_000; op++) {
+            int id = random.nextInt(300);
+            long priority = random.nextInt(1000) - 500;
+
+            switch (random.nextInt(6)) {
+                case 0:
+                case 1:
+                    if (!expected.containsKey(id)) {
+                        heap.add(id, priority);
+                        expected.put(id, priority);
+                    }
+                    break;
+                case 2:
+                    boolean changed = !expected.containsKey(id) || priority < expected.get(id);
+                    assertThat(heap.addOrDecrease(id, priority)).isEqualTo(changed);
+                    expected.merge(id, priority, Math::min);
+                    break;
+                case 3:
+                    if (expected.containsKey(id)) {
+                        heap.update(id, priority);
+                        expected.put(id, priority);
+                    }
+                    break;
+                case 4:
+                    assertThat(heap.remove(id)).isEqualTo(expected.remove(id) != null);
+                    break;
+                default:
+                    if (!expected.isEmpty()) {
+                        long min = expected.values().stream().min(Long::compare).get();
+                        assertThat(heap.peekPriority()).isEqualTo(min);
+                        int polled = heap.pollId();
+                        assertThat(expected.remove(polled)).isEqualTo(min);
+                    }
+            }
+            assertThat(heap.size()).isEqualTo(expected.size());
+        }
+
+        long previous = Long.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            long priority = heap.peekPriority();
+            assertThat(priority).isGreaterThanOrEqualTo(previous);
+            assertThat(expected.remove(heap.pollId())).isEqualTo(priority);
+            previous = priority;
+        }
+        assertThat(expected).isEmpty();
+    }
+
+    @Test
+    @DisplayName("heapify")
+    public void testHeapify() {
+        long[] priorities = { 5, 3, 9, 1, 7, 3, 0 };
+        LongDaryHeap heap = LongDaryHeap.heapify(4, priorities);
+
+        assertThat(heap.priority(2)).isEqualTo(9);
+        heap.decreaseKey(2, -1);
+        assertThat(heap.pollId()).isEqualTo(2);
+        assertThat(heap.pollId()).isEqualTo(6);
+        assertThat(heap.pollId()).isEqualTo(3);
+        assertThat(heap.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("errors")
+    public void testErrors() {
+        LongDaryHeap heap = new LongDaryHeap(4);
+        heap.add(3, 10);
+
+        assertThatThrownBy(() -> new LongDaryHeap(1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> heap.add(3, 1)).hasMessage("id already in the heap: 3");
+        assertThatThrownBy(() -> heap.add(-1, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> heap.decreaseKey(3, 11)).hasMessage("priority must be not greater than 10, actual: 11");
+        assertThatThrownBy(() -> heap.priority(4)).hasMessage("id not in the heap: 4");
+
+        heap.clear();
+        assertThat(heap.contains(3)).isFalse();
+        assertThatThrownBy(heap::pollId).isInstanceOf(NoSuchElementException.class);
+    }
+}
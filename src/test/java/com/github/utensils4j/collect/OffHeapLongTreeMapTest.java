@@ -0,0 +1,177 @@
+package com.github.utensils4j.collect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.github.utensils4j.compare.Comparison;
+
+public class OffHeapLongTreeMapTest {
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    @DisplayName("put/get/remove/floor/ceiling/forEach, same results of a TreeMap")
+    public void testAgainstTreeMap(boolean descending) {
+        Comparator<Long> order = descending
+                ? (a, b) -> Comparison.chain().descending(a.longValue(), b.longValue()).result()
+                : (a, b) -> Comparison.chain().ascending(a.longValue(), b.longValue()).result();
+        NavigableMap<Long, Long> expected = new TreeMap<>(order);
+        OffHeapLongTreeMap map = descending
+                ? OffHeapLongTreeMap.descending(64L << 20, 256)   // small pages, many levels
+                : OffHeapLongTreeMap.ascending(64L << 20, 256);
+        Random random = new Random(42);
+
+        for (int op = 0; op < 200_000; op++) {
+            long key = randomKey(random);
+            switch (random.nextInt(10)) {
+                case 0:
+                case 1:
+                    assertThat(map.remove(key)).isEqualTo(expected.remove(key) != null);
+                    break;
+                case 2:
+                    assertThat(map.get(key, -1)).isEqualTo(expected.getOrDefault(key, -1L));
+                    assertThat(map.containsKey(key)).isEqualTo(expected.containsKey(key));
+                    break;
+                case 3:
+                    assertCursor(map.floor(key), expected.floorEntry(key));
+                    assertCursor(map.ceiling(key), expected.ceilingEntry(key));
+                    break;
+                default:
+                    long value = random.nextLong();
+                    assertThat(map.put(key, value)).isEqualTo(expected.put(key, value) == null);
+                    break;
+            }
+            assertThat(map.size()).isEqualTo(expected.size());
+        }
+
+        List<Long> keys = new ArrayList<>();
+        map.forEach((key, value) -> {
+            assertThat(value).isEqualTo(expected.get(key));
+            keys.add(key);
+        });
+        assertThat(keys).containsExactlyElementsOf(expected.keySet());
+
+        for (int round = 0; round < 100; round++) {
+            long from = randomKey(random);
+            long to = randomKey(random);
+            List<Long> range = new ArrayList<>();
+            long count = map.forEach(from, to, (key, value) -> range.add(key));
+
+            List<Long> expectedRange = order.compare(from, to) <= 0
+                    ? new ArrayList<>(expected.subMap(from, true, to, false).keySet())
+                    : new ArrayList<>();
+            assertThat(range).isEqualTo(expectedRange);
+            assertThat(count).isEqualTo(expectedRange.size());
+        }
+
+        OffHeapLongTreeMap.Cursor cursor = map.first();
+        for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+            assertThat(cursor.key()).isEqualTo(entry.getKey());
+            assertThat(cursor.value()).isEqualTo(entry.getValue());
+            cursor.next();
+        }
+    }
+
+    @Test
+    @DisplayName("extreme keys, in ascending and descending order")
+    public void testExtremeKeys() {
+        OffHeapLongTreeMap ascending = OffHeapLongTreeMap.ascending(1 << 20);
+        OffHeapLongTreeMap descending = OffHeapLongTreeMap.descending(1 << 20);
+        for (long key : new long[] { 0, Long.MIN_VALUE, -1, Long.MAX_VALUE, 1 }) {
+            ascending.put(key, key);
+            descending.put(key, key);
+        }
+
+        List<Long> keys = new ArrayList<>();
+        ascending.forEach((key, value) -> keys.add(key));
+        assertThat(keys).containsExactly(Long.MIN_VALUE, -1L, 0L, 1L, Long.MAX_VALUE);
+
+        keys.clear();
+        descending.forEach((key, value) -> keys.add(key));
+        assertThat(keys).containsExactly(Long.MAX_VALUE, 1L, 0L, -1L, Long.MIN_VALUE);
+
+        assertThat(descending.floor(5).key()).isEqualTo(Long.MAX_VALUE);
+        assertThat(descending.ceiling(5).key()).isEqualTo(1);
+        assertThat(descending.ceiling(Long.MIN_VALUE).key()).isEqualTo(Long.MIN_VALUE);
+        assertThat(ascending.floor(Long.MIN_VALUE).key()).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    @DisplayName("memory budget, the failed insertion leaves the map unchanged")
+    public void testMemoryBudget() {
+        OffHeapLongTreeMap map = OffHeapLongTreeMap.ascending(8 * 256, 256);
+        long added = 0;
+
+        try {
+            for (long key = 0; ; key++) {
+                map.put(key, -key);
+                added++;
+            }
+        } catch (IllegalStateException e) {
+            assertThat(e).hasMessageStartingWith("memory budget exceeded");
+        }
+
+        assertThat(map.size()).isEqualTo(added);
+        assertThat(map.memoryUsed()).isLessThanOrEqualTo(map.memoryBudget());
+        for (long key = 0; key < added; key++) {
+            assertThat(map.get(key, 1)).isEqualTo(-key);
+        }
+        assertThat(map.put(0, 5)).isFalse();   // replacing a value needs no memory
+
+        map.clear();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.memoryUsed()).isEqualTo(0);
+        assertThat(map.first()).isNull();
+        assertThat(map.put(1, 1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Cursor, setValue and fail-fast")
+    public void testCursor() {
+        OffHeapLongTreeMap map = OffHeapLongTreeMap.ascending(1 << 20);
+        map.put(1, 10);
+        map.put(2, 20);
+
+        OffHeapLongTreeMap.Cursor cursor = map.ceiling(2);
+        cursor.setValue(21);
+        assertThat(map.get(2, 0)).isEqualTo(21);
+        assertThat(cursor.next()).isFalse();
+        assertThatThrownBy(cursor::key).isInstanceOf(NoSuchElementException.class);
+
+        OffHeapLongTreeMap.Cursor first = map.first();
+        map.put(3, 30);
+        assertThatThrownBy(first::value).isInstanceOf(ConcurrentModificationException.class);
+
+        assertThatThrownBy(() -> OffHeapLongTreeMap.ascending(100))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OffHeapLongTreeMap.ascending(1 << 20, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+
+    private static long randomKey(Random random) {
+        return random.nextInt(4) == 0 ? random.nextLong() : random.nextInt(20_000) - 10_000;
+    }
+
+    private static void assertCursor(OffHeapLongTreeMap.Cursor cursor, Map.Entry<Long, Long> entry) {
+        if (entry == null) {
+            assertThat(cursor).isNull();
+        } else {
+            assertThat(cursor.key()).isEqualTo(entry.getKey());
+            assertThat(cursor.value()).isEqualTo(entry.getValue());
+        }
+    }
+}
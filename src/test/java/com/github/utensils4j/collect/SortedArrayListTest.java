@@ -0,0 +1,109 @@
+package com.github.utensils4j.collect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.utensils4j.compare.Comparison;
+
+public class SortedArrayListTest {
+    // compares only the key (element[0]), element[1] is the insertion order
+    private static final Comparator<int[]> BY_KEY = (a, b) -> Comparison.chain().ascending(a[0], b[0]).result();
+
+    @Test
+    @DisplayName("add/addAll, sorted and stable, same result of a stable sort")
+    public void testAddAndAddAll() {
+        Random random = new Random(42);
+        SortedArrayList<int[]> list = new SortedArrayList<>(BY_KEY, 0);
+        List<int[]> expected = new ArrayList<>();
+        int order = 0;
+
+        for (int round = 0; round < 200; round++) {
+            if (random.nextBoolean()) {
+                int[] element = { random.nextInt(100), order++ };
+                list.add(element);
+                expected.add(element);
+            } else {
+                List<int[]> batch = new ArrayList<>();
+                int count = random.nextInt(50);
+                int base = random.nextInt(4) == 0 ? 100 : 0;   // sometimes all after the current elements
+                for (int i = 0; i < count; i++) {
+                    batch.add(new int[] { base + random.nextInt(100), order++ });
+                }
+                assertThat(list.addAll(batch)).isEqualTo(count > 0);
+                expected.addAll(batch);
+            }
+
+            expected.sort(BY_KEY);   // stable, the insertion order decides the ties
+            assertThat(list).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("lowerBound/upperBound")
+    public void testBounds() {
+        SortedArrayList<Integer> list = new SortedArrayList<>(Integer::compare);
+        list.addAll(Arrays.asList(5, 1, 3, 3, 3, 7));
+
+        assertThat(list).containsExactly(1, 3, 3, 3, 5, 7);
+        assertThat(list.lowerBound(3)).isEqualTo(1);
+        assertThat(list.upperBound(3)).isEqualTo(4);
+        assertThat(list.lowerBound(4)).isEqualTo(4);
+        assertThat(list.upperBound(4)).isEqualTo(4);
+        assertThat(list.lowerBound(0)).isEqualTo(0);
+        assertThat(list.upperBound(9)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("remove/removeRange/removeBetween/clear")
+    public void testRemove() {
+        SortedArrayList<Integer> list = new SortedArrayList<>(Integer::compare);
+        list.addAll(Arrays.asList(9, 8, 7, 6, 5, 4, 3, 2, 1, 0));
+
+        assertThat(list.remove(0)).isEqualTo(0);
+        list.removeRange(0, 2);
+        assertThat(list).containsExactly(3, 4, 5, 6, 7, 8, 9);
+        assertThat(list.removeBetween(5, 8)).isEqualTo(3);
+        assertThat(list).containsExactly(3, 4, 8, 9);
+        assertThat(list.removeBetween(8, 5)).isEqualTo(0);
+        assertThat(list.remove(Integer.valueOf(4))).isTrue();
+        list.subList(0, 1).clear();
+        assertThat(list).containsExactly(8, 9);
+        list.clear();
+        assertThat(list).isEmpty();
+
+        assertThatThrownBy(() -> list.removeRange(0, 1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.get(0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("add(int, E)/set are not supported, iterators are fail-fast")
+    public void testUnsupported() {
+        SortedArrayList<Integer> list = new SortedArrayList<>(Integer::compare);
+        list.addAll(Arrays.asList(2, 1));
+
+        assertThatThrownBy(() -> list.add(0, 3)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> list.set(0, 3)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> Collections.sort(list)).isInstanceOf(UnsupportedOperationException.class);
+
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.add(0);
+        assertThatThrownBy(iterator::next).isInstanceOf(ConcurrentModificationException.class);
+
+        assertThatThrownBy(() -> new SortedArrayList<Integer>(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("comparator must be not-null");
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.utensils4j.compare;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class ComparisonEventTest {
+    @Test
+    @DisplayName("sampled chains are recorded by JFR only while recording")
+    public void testRecorded() throws Exception {
+        int savedInterval = ComparisonSampling.setInterval(1);
+        Path file = Files.createTempFile("comparison", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            assertThat(Comparison.chain().ascending(1, 2).result()).isEqualTo(-1);
+            assertThat(ComparisonSampling.enabled).isFalse();
+
+            recording.enable(ComparisonEvent.NAME);
+            recording.start();
+            assertThat(ComparisonSampling.enabled).isTrue();
+            assertThat(Comparison.chain().ascending(1, 1).ascendingNullFirst("a", "b").result()).isEqualTo(-1);
+            assertThat(Comparison.chain().ascending(1, 1).descending(2L, 2L).result()).isEqualTo(0);
+            assertThat(Comparison.chain().descending(1, 2).ascending(3, 3).resultInverted()).isEqualTo(-1);
+            recording.stop();
+            assertThat(ComparisonSampling.enabled).isFalse();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals(ComparisonEvent.NAME))
+                    .collect(Collectors.toList());
+
+            assertThat(events).extracting(e -> e.getInt("links") + "/" + e.getInt("result"))
+                    .containsExactly("2/-1", "2/0", "1/1");
+        } finally {
+            ComparisonSampling.setInterval(savedInterval);
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("the event is not enabled by the predefined settings")
+    public void testDisabledByDefault() throws Exception {
+        try (Recording recording = new Recording(Configuration.getConfiguration("default"))) {
+            recording.start();
+            assertThat(ComparisonSampling.enabled).isFalse();
+            recording.stop();
+        }
+    }
+}
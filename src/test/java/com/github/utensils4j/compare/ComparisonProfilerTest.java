@@ -0,0 +1,119 @@
+package com.github.utensils4j.compare;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ComparisonProfilerTest {
+    @Test
+    @DisplayName("deciding links, ties and links histogram")
+    public void testStatistics() {
+        ComparisonProfiler profiler = ComparisonProfiler.create("test");
+        AtomicInteger expensive = new AtomicInteger();
+
+        assertThat(compare(profiler, expensive, 1, "a", 0L)).isEqualTo(-1);
+        assertThat(compare(profiler, expensive, 1, "a", 0L)).isEqualTo(-1);
+        assertThat(compare(profiler, expensive, 2, "b", 1L)).isEqualTo(1);
+        assertThat(compare(profiler, expensive, 1, "A", 1L)).isEqualTo(0);
+        assertThat(expensive.get()).isEqualTo(3);   // not evaluated after the deciding link
+
+        assertThat(profiler.name()).isEqualTo("test");
+        assertThat(profiler.chains()).isEqualTo(4);
+        assertThat(profiler.ties()).isEqualTo(1);
+        assertThat(profiler.decidingLinks()).containsExactly(
+                entry("#0 descending(int)", 1L),
+                entry("#2 ascendingNullFirst(Comparator)", 2L));
+        assertThat(profiler.linksHistogram()).startsWith(0, 1, 0, 2, 1);
+        assertThat(profiler.toString())
+                .startsWith("ComparisonProfiler[test]: chains=4, ties=1 (25.0%)")
+                .contains("#2 ascendingNullFirst(Comparator) = 2 (50.0%)");
+
+        profiler.reset();
+        assertThat(profiler.chains()).isZero();
+        assertThat(profiler.decidingLinks()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("same results of Comparison.chain()")
+    public void testSameResults() {
+        ComparisonProfiler profiler = ComparisonProfiler.create("test");
+
+        assertThat(profiler.chain().ascending(1.0, 2.0).resultInverted()).isEqualTo(1);
+        assertThat(profiler.chain().descendingNaturalNullFirst("a2", "a10").result())
+                .isEqualTo(Comparison.chain().descendingNaturalNullFirst("a2", "a10").result());
+        assertThat(profiler.chain().accept(5).result()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("deciding link reported with the method called")
+    public void testMethodNames() {
+        Comparator<String> comparator = Comparator.naturalOrder();
+
+        assertDecidedBy(c -> c.accept(1), "accept(int)");
+        assertDecidedBy(c -> c.ascending(false, true), "ascending(boolean)");
+        assertDecidedBy(c -> c.ascending((byte) 1, (byte) 2), "ascending(byte)");
+        assertDecidedBy(c -> c.ascending('a', 'b'), "ascending(char)");
+        assertDecidedBy(c -> c.ascending((short) 1, (short) 2), "ascending(short)");
+        assertDecidedBy(c -> c.ascending(1, 2), "ascending(int)");
+        assertDecidedBy(c -> c.ascending(1L, 2L), "ascending(long)");
+        assertDecidedBy(c -> c.ascending(1.0f, 2.0f), "ascending(float)");
+        assertDecidedBy(c -> c.ascending(1.0, 2.0), "ascending(double)");
+        assertDecidedBy(c -> c.ascendingNullFirst("a", "b"), "ascendingNullFirst(Comparable)");
+        assertDecidedBy(c -> c.ascendingNullLast("a", "b"), "ascendingNullLast(Comparable)");
+        assertDecidedBy(c -> c.ascendingNullFirst("a", "b", comparator), "ascendingNullFirst(Comparator)");
+        assertDecidedBy(c -> c.ascendingNullLast("a", "b", comparator), "ascendingNullLast(Comparator)");
+        assertDecidedBy(c -> c.ascendingIgnoringCaseNullFirst("a", "B"), "ascendingIgnoringCaseNullFirst");
+        assertDecidedBy(c -> c.ascendingIgnoringCaseNullLast("a", "B"), "ascendingIgnoringCaseNullLast");
+        assertDecidedBy(c -> c.ascendingNaturalNullFirst("a2", "a10"), "ascendingNaturalNullFirst");
+        assertDecidedBy(c -> c.ascendingNaturalNullLast("a2", "a10"), "ascendingNaturalNullLast");
+        assertDecidedBy(c -> c.ascendingNaturalIgnoringCaseNullFirst("a2", "A10"),
+                "ascendingNaturalIgnoringCaseNullFirst");
+        assertDecidedBy(c -> c.ascendingNaturalIgnoringCaseNullLast("a2", "A10"),
+                "ascendingNaturalIgnoringCaseNullLast");
+        assertDecidedBy(c -> c.descending(false, true), "descending(boolean)");
+        assertDecidedBy(c -> c.descending((byte) 1, (byte) 2), "descending(byte)");
+        assertDecidedBy(c -> c.descending('a', 'b'), "descending(char)");
+        assertDecidedBy(c -> c.descending((short) 1, (short) 2), "descending(short)");
+        assertDecidedBy(c -> c.descending(1, 2), "descending(int)");
+        assertDecidedBy(c -> c.descending(1L, 2L), "descending(long)");
+        assertDecidedBy(c -> c.descending(1.0f, 2.0f), "descending(float)");
+        assertDecidedBy(c -> c.descending(1.0, 2.0), "descending(double)");
+        assertDecidedBy(c -> c.descendingNullFirst("a", "b"), "descendingNullFirst(Comparable)");
+        assertDecidedBy(c -> c.descendingNullLast("a", "b"), "descendingNullLast(Comparable)");
+        assertDecidedBy(c -> c.descendingNullFirst("a", "b", comparator), "descendingNullFirst(Comparator)");
+        assertDecidedBy(c -> c.descendingNullLast("a", "b", comparator), "descendingNullLast(Comparator)");
+        assertDecidedBy(c -> c.descendingIgnoringCaseNullFirst("a", "B"), "descendingIgnoringCaseNullFirst");
+        assertDecidedBy(c -> c.descendingIgnoringCaseNullLast("a", "B"), "descendingIgnoringCaseNullLast");
+        assertDecidedBy(c -> c.descendingNaturalNullFirst("a2", "a10"), "descendingNaturalNullFirst");
+        assertDecidedBy(c -> c.descendingNaturalNullLast("a2", "a10"), "descendingNaturalNullLast");
+        assertDecidedBy(c -> c.descendingNaturalIgnoringCaseNullFirst("a2", "A10"),
+                "descendingNaturalIgnoringCaseNullFirst");
+        assertDecidedBy(c -> c.descendingNaturalIgnoringCaseNullLast("a2", "A10"),
+                "descendingNaturalIgnoringCaseNullLast");
+    }
+
+
+    private static int compare(ComparisonProfiler profiler, AtomicInteger expensive, int x, String name, long y) {
+        return profiler.chain()
+                .descending(1, x)
+                .ascendingIgnoringCaseNullFirst("a", name)
+                .ascendingNullFirst(String.valueOf(y), "1", (l, r) -> {
+                    expensive.incrementAndGet();
+                    return l.compareTo(r);
+                })
+                .ascending(true, true)
+                .result();
+    }
+
+    private static void assertDecidedBy(UnaryOperator<Comparison> link, String method) {
+        ComparisonProfiler profiler = ComparisonProfiler.create("test");
+        link.apply(profiler.chain().accept(0)).result();
+        assertThat(profiler.decidingLinks()).containsExactly(entry("#1 " + method, 1L));
+    }
+}
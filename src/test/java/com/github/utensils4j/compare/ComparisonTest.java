@@ -369,6 +369,124 @@ public class ComparisonTest {
     }
 
 
+    //-----------------------------------------------------------------------
+    // ascendingNaturalNullFirst
+    //-----------------------------------------------------------------------
+    static Arguments[] testAscendingNaturalNullFirstProvider() {
+        return new Arguments[] {
+                arguments(null, equal, null),
+                arguments(null, less, "file1"),
+                arguments("file1", greater, null),
+                arguments("file10", equal, "file10"),
+                arguments("file9", less, "file10"),
+                arguments("file10", greater, "file9"),
+                arguments("file10b", less, "file10c"),
+                arguments("file007", greater, "file7"),
+                arguments("v1.10.2", greater, "v1.9.12"),
+                arguments("12345678901234567890123", less, "12345678901234567890124"),
+                arguments("FILE10", less, "file10"),
+        };
+    }
+
+    @DisplayName("ascendingNaturalNullFirst(String, String)")
+    @ParameterizedTest(name = "{0} {1} {2}")
+    @MethodSource("testAscendingNaturalNullFirstProvider")
+    public void testAscendingNaturalNullFirst(String left, Asserter asserter, String right) {
+        asserter.assertResult(chain()
+                .ascendingNaturalNullFirst(left, right)
+                .ascendingNaturalNullFirst("", ""));
+    }
+
+
+    //-----------------------------------------------------------------------
+    // ascendingNaturalNullLast
+    //-----------------------------------------------------------------------
+    static Arguments[] testAscendingNaturalNullLastProvider() {
+        return new Arguments[] {
+                arguments(null, equal, null),
+                arguments(null, greater, "file1"),
+                arguments("file1", less, null),
+                arguments("file10", equal, "file10"),
+                arguments("file9", less, "file10"),
+                arguments("file10", greater, "file9"),
+                arguments("file10b", less, "file10c"),
+                arguments("file007", greater, "file7"),
+                arguments("v1.10.2", greater, "v1.9.12"),
+                arguments("12345678901234567890123", less, "12345678901234567890124"),
+                arguments("FILE10", less, "file10"),
+        };
+    }
+
+    @DisplayName("ascendingNaturalNullLast(String, String)")
+    @ParameterizedTest(name = "{0} {1} {2}")
+    @MethodSource("testAscendingNaturalNullLastProvider")
+    public void testAscendingNaturalNullLast(String left, Asserter asserter, String right) {
+        asserter.assertResult(chain()
+                .ascendingNaturalNullLast(left, right)
+                .ascendingNaturalNullLast("", ""));
+    }
+
+
+    //-----------------------------------------------------------------------
+    // ascendingNaturalIgnoringCaseNullFirst
+    //-----------------------------------------------------------------------
+    static Arguments[] testAscendingNaturalIgnoringCaseNullFirstProvider() {
+        return new Arguments[] {
+                arguments(null, equal, null),
+                arguments(null, less, "file1"),
+                arguments("file1", greater, null),
+                arguments("file10", equal, "file10"),
+                arguments("file9", less, "file10"),
+                arguments("file10", greater, "file9"),
+                arguments("file10b", less, "file10c"),
+                arguments("file007", greater, "file7"),
+                arguments("v1.10.2", greater, "v1.9.12"),
+                arguments("12345678901234567890123", less, "12345678901234567890124"),
+                arguments("FILE10", equal, "file10"),
+                arguments("FILE9", less, "file10"),
+        };
+    }
+
+    @DisplayName("ascendingNaturalIgnoringCaseNullFirst(String, String)")
+    @ParameterizedTest(name = "{0} {1} {2}")
+    @MethodSource("testAscendingNaturalIgnoringCaseNullFirstProvider")
+    public void testAscendingNaturalIgnoringCaseNullFirst(String left, Asserter asserter, String right) {
+        asserter.assertResult(chain()
+                .ascendingNaturalIgnoringCaseNullFirst(left, right)
+                .ascendingNaturalIgnoringCaseNullFirst("", ""));
+    }
+
+
+    //-----------------------------------------------------------------------
+    // ascendingNaturalIgnoringCaseNullLast
+    //-----------------------------------------------------------------------
+    static Arguments[] testAscendingNaturalIgnoringCaseNullLastProvider() {
+        return new Arguments[] {
+                arguments(null, equal, null),
+                arguments(null, greater, "file1"),
+                arguments("file1", less, null),
+                arguments("file10", equal, "file10"),
+                arguments("file9", less, "file10"),
+                arguments("file10", greater, "file9"),
+                arguments("file10b", less, "file10c"),
+                arguments("file007", greater, "file7"),
+                arguments("v1.10.2", greater, "v1.9.12"),
+                arguments("12345678901234567890123", less, "12345678901234567890124"),
+                arguments("FILE10", equal, "file10"),
+                arguments("FILE9", less, "file10"),
+        };
+    }
+
+    @DisplayName("ascendingNaturalIgnoringCaseNullLast(String, String)")
+    @ParameterizedTest(name = "{0} {1} {2}")
+    @MethodSource("testAscendingNaturalIgnoringCaseNullLastProvider")
+    public void testAscendingNaturalIgnoringCaseNullLast(String left, Asserter asserter, String right) {
+        asserter.assertResult(chain()
+                .ascendingNaturalIgnoringCaseNullLast(left, right)
+                .ascendingNaturalIgnoringCaseNullLast("", ""));
+    }
+
+
     //***********************************************************************
 
 
@@ -669,6 +787,124 @@ public class ComparisonTest {
     }
 
 
+    //-----------------------------------------------------------------------
+    // descendingNaturalNullFirst
+    //-----------------------------------------------------------------------
+    static Arguments[] testDescendingNaturalNullFirstProvider() {
+        return new Arguments[] {
+                arguments(null, equal, null),
+                arguments(null, greater, "file1"),
+                arguments("file1", less, null),
+                arguments("file10", equal, "file10"),
+                arguments("file9", greater, "file10"),
+                arguments("file10", less, "file9"),
+                arguments("file10b", greater, "file10c"),
+                arguments("file007", less, "file7"),
+                arguments("v1.10.2", less, "v1.9.12"),
+                arguments("12345678901234567890123", greater, "12345678901234567890124"),
+                arguments("FILE10", greater, "file10"),
+        };
+    }
+
+    @DisplayName("descendingNaturalNullFirst(String, String)")
+    @ParameterizedTest(name = "{0} {1} {2}")
+    @MethodSource("testDescendingNaturalNullFirstProvider")
+    public void testDescendingNaturalNullFirst(String left, Asserter asserter, String right) {
+        asserter.assertResult(chain()
+                .descendingNaturalNullFirst(left, right)
+                .descendingNaturalNullFirst("", ""));
+    }
+
+
+    //-----------------------------------------------------------------------
+    // descendingNaturalNullLast
+    //-----------------------------------------------------------------------
+    static Arguments[] testDescendingNaturalNullLastProvider() {
+        return new Arguments[] {
+                arguments(null, equal, null),
+                arguments(null, less, "file1"),
+                arguments("file1", greater, null),
+                arguments("file10", equal, "file10"),
+                arguments("file9", greater, "file10"),
+                arguments("file10", less, "file9"),
+                arguments("file10b", greater, "file10c"),
+                arguments("file007", less, "file7"),
+                arguments("v1.10.2", less, "v1.9.12"),
+                arguments("12345678901234567890123", greater, "12345678901234567890124"),
+                arguments("FILE10", greater, "file10"),
+        };
+    }
+
+    @DisplayName("descendingNaturalNullLast(String, String)")
+    @ParameterizedTest(name = "{0} {1} {2}")
+    @MethodSource("testDescendingNaturalNullLastProvider")
+    public void testDescendingNaturalNullLast(String left, Asserter asserter, String right) {
+        asserter.assertResult(chain()
+                .descendingNaturalNullLast(left, right)
+                .descendingNaturalNullLast("", ""));
+    }
+
+
+    //-----------------------------------------------------------------------
+    // descendingNaturalIgnoringCaseNullFirst
+    //-----------------------------------------------------------------------
+    static Arguments[] testDescendingNaturalIgnoringCaseNullFirstProvider() {
+        return new Arguments[] {
+                arguments(null, equal, null),
+                arguments(null, greater, "file1"),
+                arguments("file1", less, null),
+                arguments("file10", equal, "file10"),
+                arguments("file9", greater, "file10"),
+                arguments("file10", less, "file9"),
+                arguments("file10b", greater, "file10c"),
+                arguments("file007", less, "file7"),
+                arguments("v1.10.2", less, "v1.9.12"),
+                arguments("12345678901234567890123", greater, "12345678901234567890124"),
+                arguments("FILE10", equal, "file10"),
+                arguments("FILE9", greater, "file10"),
+        };
+    }
+
+    @DisplayName("descendingNaturalIgnoringCaseNullFirst(String, String)")
+    @ParameterizedTest(name = "{0} {1} {2}")
+    @MethodSource("testDescendingNaturalIgnoringCaseNullFirstProvider")
+    public void testDescendingNaturalIgnoringCaseNullFirst(String left, Asserter asserter, String right) {
+        asserter.assertResult(chain()
+                .descendingNaturalIgnoringCaseNullFirst(left, right)
+                .descendingNaturalIgnoringCaseNullFirst("", ""));
+    }
+
+
+    //-----------------------------------------------------------------------
+    // descendingNaturalIgnoringCaseNullLast
+    //-----------------------------------------------------------------------
+    static Arguments[] testDescendingNaturalIgnoringCaseNullLastProvider() {
+        return new Arguments[] {
+                arguments(null, equal, null),
+                arguments(null, less, "file1"),
+                arguments("file1", greater, null),
+                arguments("file10", equal, "file10"),
+                arguments("file9", greater, "file10"),
+                arguments("file10", less, "file9"),
+                arguments("file10b", greater, "file10c"),
+                arguments("file007", less, "file7"),
+                arguments("v1.10.2", less, "v1.9.12"),
+                arguments("12345678901234567890123", greater, "12345678901234567890124"),
+                arguments("FILE10", equal, "file10"),
+                arguments("FILE9", greater, "file10"),
+        };
+    }
+
+    @DisplayName("descendingNaturalIgnoringCaseNullLast(String, String)")
+    @ParameterizedTest(name = "{0} {1} {2}")
+    @MethodSource("testDescendingNaturalIgnoringCaseNullLastProvider")
+    public void testDescendingNaturalIgnoringCaseNullLast(String left, Asserter asserter, String right) {
+        asserter.assertResult(chain()
+                .descendingNaturalIgnoringCaseNullLast(left, right)
+                .descendingNaturalIgnoringCaseNullLast("", ""));
+    }
+
+
     private static String s(String str) {
         return new String(str);
     }
@@ -0,0 +1,283 @@
+package com.github.utensils4j.compare;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class ComparisonsTest {
+    private static final String[] SAMPLES = {
+            "", "a", "A", "b", "ab", "aB", "Ab", "abc", "\u00e8", "\u00c8",
+            "\u03b1", "\u0391", "\u0430", "\u0410", "K", "k", "\u212a",
+            "\ud7ff", "\ue000", "\uff21", "\uff41", "\uffff",
+            "\ud800\udc00", "\ud801\udc00", "\ud801\udc28", "\udbff\udfff",
+    };
+
+    //-----------------------------------------------------------------------
+    // compareUtf8
+    //-----------------------------------------------------------------------
+    static Arguments[] testCompareUtf8Provider() {
+        return new Arguments[] {
+                arguments(null, 0, null),
+                arguments(null, -1, "flag"),
+                arguments("flag", 1, null),
+                arguments("flag", 0, "flag"),
+                arguments("flag", -1, "flash"),
+                arguments("flash", 1, "flag"),
+                arguments("fla", -1, "flag"),
+                arguments("\uffff", 1, "\ud800\udc00"),
+                arguments("\ud7ff", -1, "\ud800\udc00"),
+        };
+    }
+
+    @DisplayName("compareUtf8NullFirst(byte[], byte[])")
+    @ParameterizedTest(name = "{0} {1} {2}")
+    @MethodSource("testCompareUtf8Provider")
+    public void testCompareUtf8NullFirst(String left, int expected, String right) {
+        assertThat(Integer.signum(Comparisons.compareUtf8NullFirst(bytes(left), bytes(right))))
+                .isEqualTo(expected);
+        assertThat(Integer.signum(Comparisons.compareUtf8NullFirst(direct(left), direct(right))))
+                .isEqualTo(expected);
+    }
+
+    @DisplayName("compareUtf8NullLast(byte[], byte[])")
+    @ParameterizedTest(name = "{0} {1} {2}")
+    @MethodSource("testCompareUtf8Provider")
+    public void testCompareUtf8NullLast(String left, int expected, String right) {
+        int expectedNullLast = left == null || right == null ? -expected : expected;
+        assertThat(Integer.signum(Comparisons.compareUtf8NullLast(bytes(left), bytes(right))))
+                .isEqualTo(expectedNullLast);
+        assertThat(Integer.signum(Comparisons.compareUtf8NullLast(direct(left), direct(right))))
+                .isEqualTo(expectedNullLast);
+    }
+
+    @Test
+    @DisplayName("compareUtf8 is consistent with String.compareTo")
+    public void testCompareUtf8ConsistentWithString() {
+        for (String left : samples()) {
+            for (String right : samples()) {
+                int expected = Integer.signum(left.compareTo(right));
+                assertThat(Integer.signum(Comparisons.compareUtf8NullFirst(bytes(left), bytes(right))))
+                        .as("%s vs %s", left, right).isEqualTo(expected);
+                assertThat(Integer.signum(Comparisons.compareUtf8NullFirst(direct(left), direct(right))))
+                        .as("%s vs %s", left, right).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("compareUtf8IgnoringCase is consistent with a code point case folding")
+    public void testCompareUtf8IgnoringCaseConsistentWithCodePoints() {
+        // String.CASE_INSENSITIVE_ORDER folds by code point only since Java 16,
+        // so the reference is a fixed code point folding
+        for (String left : samples()) {
+            for (String right : samples()) {
+                int expected = Integer.signum(compareIgnoringCaseByCodePoint(left, right));
+                assertThat(Integer.signum(Comparisons.compareUtf8IgnoringCaseNullFirst(bytes(left), bytes(right))))
+                        .as("%s vs %s", left, right).isEqualTo(expected);
+                assertThat(Integer.signum(Comparisons.compareUtf8IgnoringCaseNullLast(direct(left), direct(right))))
+                        .as("%s vs %s", left, right).isEqualTo(expected);
+            }
+        }
+    }
+
+    static Arguments[] testCompareUtf8IgnoringCaseSupplementaryProvider() {
+        return new Arguments[] {
+                arguments("\ud801\udc00", 0, "\ud801\udc28"),   // DESERET CAPITAL/SMALL LONG I
+                arguments("a\ud801\udc28b", 0, "A\ud801\udc00B"),
+                arguments("\ud801\udc00", -1, "\ud801\udc29"),
+                arguments("\uffff", -1, "\ud800\udc00"),        // code point order, not chars order
+                arguments("\uff21", -1, "\ud800\udc00"),
+                arguments("\udbff\udfff", 1, "\ud800\udc00"),
+        };
+    }
+
+    @DisplayName("compareUtf8IgnoringCase, supplementary characters folded as code points")
+    @ParameterizedTest(name = "{0} {1} {2}")
+    @MethodSource("testCompareUtf8IgnoringCaseSupplementaryProvider")
+    public void testCompareUtf8IgnoringCaseSupplementary(String left, int expected, String right) {
+        assertThat(Integer.signum(Comparisons.compareUtf8IgnoringCaseNullFirst(bytes(left), bytes(right))))
+                .isEqualTo(expected);
+        assertThat(Integer.signum(Comparisons.compareUtf8IgnoringCaseNullLast(direct(left), direct(right))))
+                .isEqualTo(expected);
+        assertThat(Integer.signum(compareIgnoringCaseByCodePoint(left, right))).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("compareUtf8IgnoringCase is consistent with String.CASE_INSENSITIVE_ORDER (BMP only)")
+    public void testCompareUtf8IgnoringCaseConsistentWithString() {
+        // without supplementary characters the result doesn't depend on the Java version
+        for (String left : samples()) {
+            for (String right : samples()) {
+                if (hasSurrogates(left) || hasSurrogates(right)) {
+                    continue;
+                }
+                int expected = Integer.signum(String.CASE_INSENSITIVE_ORDER.compare(left, right));
+                assertThat(Integer.signum(Comparisons.compareUtf8IgnoringCaseNullFirst(bytes(left), bytes(right))))
+                        .as("%s vs %s", left, right).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("compareUtf8(byte[], int, int, byte[], int, int)")
+    public void testCompareUtf8Slices() {
+        byte[] left = bytes("xxFLAGxx");
+        byte[] right = bytes("yflashy");
+
+        assertThat(Comparisons.compareUtf8(left, 2, 6, right, 1, 6)).isLessThan(0);
+        assertThat(Comparisons.compareUtf8IgnoringCase(left, 2, 5, right, 1, 4)).isEqualTo(0);
+        assertThat(Comparisons.compareUtf8IgnoringCase(left, 2, 6, right, 1, 5)).isLessThan(0);
+        assertThatThrownBy(() -> Comparisons.compareUtf8(left, 3, 2, right, 0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Comparisons.compareUtf8(left, 0, 9, right, 0, 1))
+                .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("isSorted/findFirstUnsorted, array, range and List")
+    public void testIsSorted() {
+        Integer[] sorted = { 1, 2, 2, 5 };
+        Integer[] unsorted = { 1, 3, 2, 5, 4 };
+
+        assertThat(Comparisons.isSorted(sorted, Integer::compare)).isTrue();
+        assertThat(Comparisons.isSorted(new Integer[0], Integer::compare)).isTrue();
+        assertThat(Comparisons.isSorted(unsorted, Integer::compare)).isFalse();
+        assertThat(Comparisons.isSorted(unsorted, 2, 4, Integer::compare)).isTrue();
+        assertThat(Comparisons.findFirstUnsorted(unsorted, Integer::compare)).isEqualTo(2);
+        assertThat(Comparisons.findFirstUnsorted(unsorted, 2, 5, Integer::compare)).isEqualTo(4);
+        assertThat(Comparisons.findFirstUnsorted(sorted, Integer::compare)).isEqualTo(-1);
+        assertThat(Comparisons.isSorted(new LinkedList<>(Arrays.asList(sorted)), Integer::compare)).isTrue();
+        assertThat(Comparisons.findFirstUnsorted(Arrays.asList(unsorted), Integer::compare)).isEqualTo(2);
+        assertThatThrownBy(() -> Comparisons.isSorted(sorted, 3, 2, Integer::compare))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("parallelIsSorted/parallelFindFirstUnsorted, consistent with the sequential ones")
+    public void testParallelIsSorted() {
+        Integer[] a = new Integer[300_000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = i / 3;
+        }
+
+        assertThat(Comparisons.parallelIsSorted(a, Integer::compare)).isTrue();
+        assertThat(Comparisons.parallelFindFirstUnsorted(a, Integer::compare)).isEqualTo(-1);
+
+        Random random = new Random(42);
+        for (int round = 0; round < 20; round++) {
+            Integer[] b = a.clone();
+            int index = 1 + random.nextInt(b.length - 1);
+            b[index] = -1;
+            if (round % 2 == 0) {
+                b[index + (b.length - index) / 2] = -2;   // a later one too
+            }
+
+            assertThat(Comparisons.parallelIsSorted(b, Integer::compare)).isFalse();
+            assertThat(Comparisons.parallelFindFirstUnsorted(b, Integer::compare))
+                    .isEqualTo(Comparisons.findFirstUnsorted(b, Integer::compare))
+                    .isEqualTo(index);
+        }
+    }
+
+    @Test
+    @DisplayName("analyzeRuns")
+    public void testAnalyzeRuns() {
+        RunStructure runs = Comparisons.analyzeRuns(new Integer[] { 1, 2, 2, 5, 4, 3, 1, 7, 7 }, Integer::compare);
+
+        assertThat(runs.length()).isEqualTo(9);
+        assertThat(runs.ascendingRuns()).isEqualTo(2);   // 1 2 2 5 | 7 7
+        assertThat(runs.descendingRuns()).isEqualTo(1);  // 4 3 1
+        assertThat(runs.runs()).isEqualTo(3);
+        assertThat(runs.longestRun()).isEqualTo(4);
+        assertThat(runs.isSorted()).isFalse();
+
+        assertThat(Comparisons.analyzeRuns(new Integer[] { 3, 2, 1 }, Integer::compare).isStrictlyDescending()).isTrue();
+        assertThat(Comparisons.analyzeRuns(new Integer[] { 3, 2, 2 }, Integer::compare).isStrictlyDescending()).isFalse();
+        assertThat(Comparisons.analyzeRuns(new Integer[] { 3, 2, 2 }, 1, 3, Integer::compare).isSorted()).isTrue();
+        assertThat(Comparisons.analyzeRuns(new Integer[0], Integer::compare))
+                .hasToString("RunStructure[length=0, ascendingRuns=0, descendingRuns=0, longestRun=0]");
+    }
+
+
+    private static String[] samples() {
+        Random random = new Random(42);
+        String[] samples = new String[SAMPLES.length + 200];
+        System.arraycopy(SAMPLES, 0, samples, 0, SAMPLES.length);
+
+        for (int i = SAMPLES.length; i < samples.length; i++) {
+            StringBuilder sb = new StringBuilder();
+            int len = random.nextInt(4);
+            for (int k = 0; k < len; k++) {
+                sb.append(SAMPLES[random.nextInt(SAMPLES.length)]);
+            }
+            samples[i] = sb.toString();
+        }
+        return samples;
+    }
+
+    /*
+     * The folding of String.CASE_INSENSITIVE_ORDER since Java 16: whole code
+     * points, first to upper case and then (only if still different) to lower case.
+     */
+    private static int compareIgnoringCaseByCodePoint(String left, String right) {
+        int i = 0;
+        int j = 0;
+        while (i < left.length() && j < right.length()) {
+            int cp1 = left.codePointAt(i);
+            int cp2 = right.codePointAt(j);
+            i += Character.charCount(cp1);
+            j += Character.charCount(cp2);
+            if (cp1 != cp2) {
+                cp1 = Character.toUpperCase(cp1);
+                cp2 = Character.toUpperCase(cp2);
+                if (cp1 != cp2) {
+                    cp1 = Character.toLowerCase(cp1);
+                    cp2 = Character.toLowerCase(cp2);
+                    if (cp1 != cp2) {
+                        return cp1 - cp2;
+                    }
+                }
+            }
+        }
+        return i < left.length() ? 1 : j < right.length() ? -1 : 0;
+    }
+
+    private static boolean hasSurrogates(String str) {
+        for (int i = 0; i < str.length(); i++) {
+            if (Character.isSurrogate(str.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] bytes(String str) {
+        return str == null ? null : str.getBytes(UTF_8);
+    }
+
+    private static ByteBuffer direct(String str) {
+        if (str == null) {
+            return null;
+        }
+        byte[] bytes = str.getBytes(UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 2);
+        buffer.put((byte) 'x').put(bytes).put((byte) 'x');
+        Buffer view = buffer;   // Buffer methods, to be binary compatible with Java 8
+        view.limit(1 + bytes.length);
+        view.position(1);
+        return buffer;
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.utensils4j.compare;
+
+import static com.github.utensils4j.compare.EqualityChain.chain;
+import static com.github.utensils4j.compare.EqualityChain.equalityChain;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class EqualityChainTest {
+    @Test
+    @DisplayName("equalityChain")
+    public void testEqualityChain() {
+        assertThat(chain()).isSameAs(equalityChain());
+    }
+
+    @Test
+    @DisplayName("primitives")
+    public void testPrimitives() {
+        assertThat(chain().equal(true, true).equal((byte) 1, (byte) 1).equal('a', 'a')
+                .equal((short) 2, (short) 2).equal(3, 3).equal(4L, 4L)
+                .equal(5f, 5f).equal(6.0, 6.0).result()).isTrue();
+        assertThat(chain().equal(3, 3).equal(4L, 5L).equal(6.0, 6.0).result()).isFalse();
+        assertThat(chain().equal(false, true).equal(3, 3).result()).isFalse();
+    }
+
+    @Test
+    @DisplayName("equal(float/double) is consistent with Comparison")
+    public void testFloatingPoint() {
+        assertThat(chain().equal(0.0, -0.0).result()).isFalse();
+        assertThat(chain().equal(0.0f, -0.0f).result()).isFalse();
+        assertThat(chain().equal(Double.NaN, Double.NaN).result()).isTrue();
+        assertThat(chain().equal(Float.NaN, Float.NaN).result()).isTrue();
+        assertThat(Comparison.chain().ascending(0.0, -0.0).result()).isNotZero();
+        assertThat(Comparison.chain().ascending(Double.NaN, Double.NaN).result()).isZero();
+    }
+
+    static Arguments[] testEqualNullSafeProvider() {
+        return new Arguments[] {
+                arguments(null, true, null),
+                arguments(null, false, "flag"),
+                arguments("flag", false, null),
+                arguments("flag", true, new String("flag")),
+                arguments("flag", false, "FLAG"),
+        };
+    }
+
+    @DisplayName("equalNullSafe(Object, Object)")
+    @ParameterizedTest(name = "{0} {1} {2}")
+    @MethodSource("testEqualNullSafeProvider")
+    public void testEqualNullSafe(String left, boolean expected, String right) {
+        assertThat(chain().equalNullSafe(left, right).equal(1, 1).result()).isEqualTo(expected);
+    }
+
+    static Arguments[] testEqualIgnoringCaseNullSafeProvider() {
+        return new Arguments[] {
+                arguments(null, true, null),
+                arguments(null, false, "flag"),
+                arguments("flag", false, null),
+                arguments("flag", true, "FLAG"),
+                arguments("flag", false, "flash"),
+                arguments("\u00e8t\u00e9", true, "\u00c8T\u00c9"),
+        };
+    }
+
+    @DisplayName("equalIgnoringCaseNullSafe(String, String)")
+    @ParameterizedTest(name = "{0} {1} {2}")
+    @MethodSource("testEqualIgnoringCaseNullSafeProvider")
+    public void testEqualIgnoringCaseNullSafe(String left, boolean expected, String right) {
+        assertThat(chain().equalIgnoringCaseNullSafe(left, right).result()).isEqualTo(expected);
+        assertThat(Comparisons.compareIgnoringCaseNullFirst(left, right) == 0).isEqualTo(expected);
+        if (expected) {
+            assertThat(HashChain.chain().hashIgnoringCaseNullSafe(left).result())
+                    .isEqualTo(HashChain.chain().hashIgnoringCaseNullSafe(right).result());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.utensils4j.compare;
+
+import static com.github.utensils4j.compare.HashChain.chain;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Objects;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class HashChainTest {
+    @Test
+    @DisplayName("same result of Objects.hash")
+    public void testSameAsObjectsHash() {
+        assertThat(chain().result()).isEqualTo(Objects.hash());
+        assertThat(chain().hash(true).hash((byte) 1).hash('a').hash((short) 2).hash(3)
+                .hash(4L).hash(5.5f).hash(6.5).hashNullSafe("flag").hashNullSafe(null).result())
+                .isEqualTo(Objects.hash(true, (byte) 1, 'a', (short) 2, 3, 4L, 5.5f, 6.5, "flag", null));
+        assertThat(chain().hash(Long.MIN_VALUE).hash(-0.0).result())
+                .isEqualTo(Objects.hash(Long.MIN_VALUE, -0.0));
+    }
+
+    @Test
+    @DisplayName("static methods, same result of the chain")
+    public void testStatic() {
+        int h = HashChain.start();
+        h = HashChain.hash(h, true);
+        h = HashChain.hash(h, (byte) 1);
+        h = HashChain.hash(h, 'a');
+        h = HashChain.hash(h, (short) 2);
+        h = HashChain.hash(h, 3);
+        h = HashChain.hash(h, 4L);
+        h = HashChain.hash(h, 5.5f);
+        h = HashChain.hash(h, 6.5);
+        h = HashChain.hashNullSafe(h, "flag");
+        h = HashChain.hashNullSafe(h, null);
+        h = HashChain.hashIgnoringCaseNullSafe(h, "Flag");
+        h = HashChain.accept(h, 42);
+
+        assertThat(HashChain.start()).isEqualTo(Objects.hash());
+        assertThat(h).isEqualTo(chain().hash(true).hash((byte) 1).hash('a').hash((short) 2).hash(3)
+                .hash(4L).hash(5.5f).hash(6.5).hashNullSafe("flag").hashNullSafe(null)
+                .hashIgnoringCaseNullSafe("fLAG").accept(42).result());
+    }
+
+    @Test
+    @DisplayName("hashIgnoringCaseNullSafe")
+    public void testHashIgnoringCaseNullSafe() {
+        assertThat(chain().hashIgnoringCaseNullSafe(null).result()).isEqualTo(chain().hash(0).result());
+        assertThat(chain().hashIgnoringCaseNullSafe("Flag").result())
+                .isEqualTo(chain().hashIgnoringCaseNullSafe("fLAG").result());
+        assertThat(chain().hashIgnoringCaseNullSafe("\u212a").result())
+                .isEqualTo(chain().hashIgnoringCaseNullSafe("k").result());
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.utensils4j.compare;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class MemoizingComparatorTest {
+    @Test
+    @DisplayName("keys are computed once per object")
+    public void testKeysComputedOnce() {
+        AtomicInteger computations = new AtomicInteger();
+        MemoizingComparator<String, Integer> comparator = MemoizingComparator.comparing(s -> {
+            computations.incrementAndGet();
+            return s.isEmpty() ? null : Integer.valueOf(s);
+        }, Comparisons::compareNullFirst, 100);
+
+        List<String> list = new ArrayList<>(Arrays.asList("10", "9", "", "100", "1", "55", "7", new String(""), "3"));
+        list.sort((a, b) -> Comparison.chain().ascendingNullFirst(a, b, comparator).result());
+
+        assertThat(list).containsExactly("", "", "1", "3", "7", "9", "10", "55", "100");
+        assertThat(computations.get()).isEqualTo(9);
+        assertThat(comparator.misses()).isEqualTo(9);
+        assertThat(comparator.hits()).isPositive();
+        assertThat(comparator.size()).isEqualTo(9);
+
+        comparator.clear();
+        assertThat(comparator.size()).isZero();
+        assertThat(comparator.hits()).isZero();
+        assertThat(comparator.misses()).isZero();
+    }
+
+    @Test
+    @DisplayName("cache is bounded")
+    public void testBounded() {
+        MemoizingComparator<String, Integer> comparator = MemoizingComparator.comparing(
+                String::length, Comparisons::compareNullFirst, 2);
+
+        List<String> list = new ArrayList<>(Arrays.asList("ccc", "a", "bb", "dddd"));
+        list.sort(comparator);
+
+        assertThat(list).containsExactly("a", "bb", "ccc", "dddd");
+        assertThat(comparator.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("invalid arguments")
+    public void testInvalidArguments() {
+        assertThatThrownBy(() -> MemoizingComparator.<String, Integer>comparing(null, Comparisons::compareNullFirst, 2))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("keyExtractor must be not-null");
+        assertThatThrownBy(() -> MemoizingComparator.comparing(String::length, null, 2))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("keyComparator must be not-null");
+        assertThatThrownBy(() -> MemoizingComparator.comparing(String::length, Comparisons::compareNullFirst, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxSize must be positive, actual: 0");
+    }
+}
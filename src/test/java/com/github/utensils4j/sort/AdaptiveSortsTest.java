@@ -0,0 +1,100 @@
+package com.github.utensils4j.sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.utensils4j.compare.Comparison;
+
+public class AdaptiveSortsTest {
+    // compares only the key (element[0]), element[1] is the original position
+    private static final Comparator<int[]> BY_KEY = (a, b) -> Comparison.chain().ascending(a[0], b[0]).result();
+
+    @Test
+    @DisplayName("sort/parallelSort, presorted arrays are not touched, descending ones are reversed")
+    public void testPresorted() {
+        Integer[] sorted = { 1, 2, 2, 3 };
+        Integer[] copy = sorted.clone();
+        AdaptiveSorts.sort(sorted, (a, b) -> {
+            assertThat(a).isNotNull();
+            return Integer.compare(a, b);
+        });
+        for (int i = 0; i < sorted.length; i++) {
+            assertThat(sorted[i]).isSameAs(copy[i]);
+        }
+
+        Integer[] descending = { 9, 7, 5, 1 };
+        AdaptiveSorts.sort(descending, Integer::compare);
+        assertThat(descending).containsExactly(1, 5, 7, 9);
+
+        Integer[] large = new Integer[100_000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = large.length - i;
+        }
+        AdaptiveSorts.parallelSort(large, Integer::compare);
+        assertThat(Arrays.asList(large)).isSorted();
+
+        List<Integer> list = new LinkedList<>(Arrays.asList(4, 3, 2));
+        AdaptiveSorts.sort(list, Integer::compare);
+        assertThat(list).containsExactly(2, 3, 4);
+
+        List<Integer> unmodifiable = Collections.unmodifiableList(Arrays.asList(1, 2, 3));
+        AdaptiveSorts.sort(unmodifiable, Integer::compare);   // sorted, no modification attempted
+    }
+
+    @Test
+    @DisplayName("sort/parallelSort, stable, same result of Arrays.sort")
+    public void testStable() {
+        Random random = new Random(42);
+
+        for (int shape = 0; shape < 4; shape++) {
+            int[][] a = new int[50_000][];
+            for (int i = 0; i < a.length; i++) {
+                int key = shape == 0 ? random.nextInt(100)   // random
+                        : shape == 1 ? i / 10                 // sorted with ties
+                        : shape == 2 ? (a.length - i) / 10    // descending with ties
+                        : i + (random.nextInt(20) == 0 ? 1000 : 0);   // almost sorted
+                a[i] = new int[] { key, i };
+            }
+
+            int[][] expected = a.clone();
+            Arrays.sort(expected, BY_KEY);
+
+            int[][] sequential = a.clone();
+            AdaptiveSorts.sort(sequential, BY_KEY);
+            assertThat(sequential).as("shape %d", shape).isEqualTo(expected);
+
+            int[][] parallel = a.clone();
+            AdaptiveSorts.parallelSort(parallel, BY_KEY);
+            assertThat(parallel).as("shape %d", shape).isEqualTo(expected);
+
+            List<int[]> list = new ArrayList<>(Arrays.asList(a));
+            AdaptiveSorts.sort(list, BY_KEY);
+            assertThat(list).as("shape %d", shape).isEqualTo(Arrays.asList(expected));
+        }
+    }
+
+    @Test
+    @DisplayName("sort, range and invalid arguments")
+    public void testRange() {
+        Integer[] a = { 9, 3, 2, 1, 0 };
+        AdaptiveSorts.sort(a, 1, 4, Integer::compare);
+        assertThat(a).containsExactly(9, 1, 2, 3, 0);
+
+        assertThatThrownBy(() -> AdaptiveSorts.sort((Integer[]) null, Integer::compare))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("a must be not-null");
+        assertThatThrownBy(() -> AdaptiveSorts.sort(a, 3, 6, Integer::compare))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
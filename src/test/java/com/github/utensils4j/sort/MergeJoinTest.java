@@ -0,0 +1,155 @@
+package com.github.utensils4j.sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.github.utensils4j.compare.Comparison;
+
+public class MergeJoinTest {
+    // left elements are { key, index }, right elements are { key, index }
+    private static final MergeJoin.KeyComparator<int[], long[]> BY_KEY = (l, r) -> Comparison.chain()
+            .ascending((long) l[0], r[0])
+            .result();
+
+    public static Stream<Arguments> sizes() {
+        return Stream.of(
+                Arguments.of(0, 0, 5),
+                Arguments.of(0, 10, 5),
+                Arguments.of(10, 0, 5),
+                Arguments.of(1, 1, 1),
+                Arguments.of(50, 70, 10),
+                Arguments.of(200, 100, 20),
+                Arguments.of(300, 300, 500));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sizes")
+    @DisplayName("innerJoin/leftJoin/fullJoin, Iterator and array, against nested loops")
+    public void testJoins(int leftSize, int rightSize, int keys) {
+        Random random = new Random(leftSize * 31 + rightSize);
+        int[][] left = new int[leftSize][];
+        long[][] right = new long[rightSize][];
+        for (int i = 0; i < leftSize; i++) {
+            left[i] = new int[] { random.nextInt(keys), i };
+        }
+        for (int j = 0; j < rightSize; j++) {
+            right[j] = new long[] { random.nextInt(keys), j };
+        }
+        Arrays.sort(left, (a, b) -> Integer.compare(a[0], b[0]));
+        Arrays.sort(right, (a, b) -> Long.compare(a[0], b[0]));
+
+        for (int type = 0; type < 3; type++) {
+            List<String> expected = expected(left, right, type >= 1, type == 2);
+            List<String> fromIterators = new ArrayList<>();
+            List<String> fromArrays = new ArrayList<>();
+            long iteratorCount;
+            long arrayCount;
+
+            switch (type) {
+                case 0:
+                    iteratorCount = MergeJoin.innerJoin(Arrays.asList(left).iterator(), Arrays.asList(right).iterator(),
+                            BY_KEY, (l, r) -> fromIterators.add(pair(l, r)));
+                    arrayCount = MergeJoin.innerJoin(left, right, BY_KEY, (l, r) -> fromArrays.add(pair(l, r)));
+                    break;
+                case 1:
+                    iteratorCount = MergeJoin.leftJoin(Arrays.asList(left).iterator(), Arrays.asList(right).iterator(),
+                            BY_KEY, (l, r) -> fromIterators.add(pair(l, r)));
+                    arrayCount = MergeJoin.leftJoin(left, right, BY_KEY, (l, r) -> fromArrays.add(pair(l, r)));
+                    break;
+                default:
+                    iteratorCount = MergeJoin.fullJoin(Arrays.asList(left).iterator(), Arrays.asList(right).iterator(),
+                            BY_KEY, (l, r) -> fromIterators.add(pair(l, r)));
+                    arrayCount = MergeJoin.fullJoin(left, right, BY_KEY, (l, r) -> fromArrays.add(pair(l, r)));
+                    break;
+            }
+
+            assertThat(fromIterators).as("type %d", type).containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(fromArrays).as("type %d", type).isEqualTo(fromIterators);
+            assertThat(iteratorCount).isEqualTo(expected.size());
+            assertThat(arrayCount).isEqualTo(expected.size());
+        }
+    }
+
+    @Test
+    @DisplayName("innerJoin, duplicate keys on both sides")
+    public void testDuplicateKeys() {
+        Integer[] left = { 1, 2, 2, 3 };
+        String[] right = { "2a", "2b", "3a", "4a" };
+        List<String> pairs = new ArrayList<>();
+
+        long count = MergeJoin.innerJoin(left, right,
+                (l, r) -> Comparison.chain().ascending(l.intValue(), r.charAt(0) - '0').result(),
+                (l, r) -> pairs.add(l + "-" + r));
+
+        assertThat(count).isEqualTo(5);
+        assertThat(pairs).containsExactly("2-2a", "2-2b", "2-2a", "2-2b", "3-3a");
+    }
+
+    @Test
+    @DisplayName("fullJoin, order and unmatched elements")
+    public void testFullJoinOrder() {
+        Integer[] left = { 1, 3, 3, 5 };
+        Integer[] right = { 2, 3, 6 };
+        List<String> pairs = new ArrayList<>();
+
+        MergeJoin.fullJoin(Arrays.asList(left).iterator(), Arrays.asList(right).iterator(),
+                Integer::compare, (l, r) -> pairs.add(l + "-" + r));
+
+        assertThat(pairs).containsExactly("1-null", "null-2", "3-3", "3-3", "5-null", "null-6");
+    }
+
+    @Test
+    @DisplayName("join, invalid arguments")
+    public void testInvalidArguments() {
+        assertThatThrownBy(() -> MergeJoin.innerJoin((Integer[]) null, new Integer[0], Integer::compare, (l, r) -> {}))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("left must be not-null");
+        assertThatThrownBy(() -> MergeJoin.leftJoin(new Integer[0], new Integer[0], null, (l, r) -> {}))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("keyComparator must be not-null");
+    }
+
+
+    private static List<String> expected(int[][] left, long[][] right, boolean keepLeft, boolean keepRight) {
+        List<String> expected = new ArrayList<>();
+        boolean[] rightMatched = new boolean[right.length];
+
+        for (int[] l : left) {
+            boolean matched = false;
+            for (int j = 0; j < right.length; j++) {
+                if (l[0] == right[j][0]) {
+                    expected.add(pair(l, right[j]));
+                    matched = true;
+                    rightMatched[j] = true;
+                }
+            }
+            if (!matched && keepLeft) {
+                expected.add(pair(l, null));
+            }
+        }
+        if (keepRight) {
+            for (int j = 0; j < right.length; j++) {
+                if (!rightMatched[j]) {
+                    expected.add(pair(null, right[j]));
+                }
+            }
+        }
+        return expected;
+    }
+
+    private static String pair(int[] l, long[] r) {
+        return (l == null ? "-" : Integer.toString(l[1])) + ":" + (r == null ? "-" : Long.toString(r[1]));
+    }
+}
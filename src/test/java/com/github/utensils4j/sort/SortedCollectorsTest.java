@@ -0,0 +1,55 @@
+package com.github.utensils4j.sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.utensils4j.compare.Comparison;
+
+public class SortedCollectorsTest {
+    // compares only the key (element[0]), element[1] is the encounter order
+    private static final Comparator<int[]> BY_KEY = (a, b) -> Comparison.chain().ascending(a[0], b[0]).result();
+
+    @Test
+    @DisplayName("toSortedList, sequential and parallel, stable")
+    public void testToSortedList() {
+        Random random = new Random(42);
+
+        for (int size : new int[] { 0, 1, 2, 100, 10_000, 100_000 }) {
+            List<int[]> elements = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                elements.add(new int[] { random.nextInt(size / 10 + 1), i });
+            }
+
+            List<int[]> expected = new ArrayList<>(elements);
+            expected.sort(BY_KEY);   // stable
+
+            assertThat(elements.stream().collect(SortedCollectors.toSortedList(BY_KEY)))
+                    .containsExactlyElementsOf(expected);
+            assertThat(elements.parallelStream().collect(SortedCollectors.toSortedList(BY_KEY)))
+                    .containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("toSortedArray")
+    public void testToSortedArray() {
+        String[] array = IntStream.range(0, 50_000)
+                .parallel()
+                .map(i -> 49_999 - i)
+                .mapToObj(Integer::toString)
+                .collect(SortedCollectors.toSortedArray(Comparator.naturalOrder(), String[]::new));
+
+        List<String> expected = IntStream.range(0, 50_000).mapToObj(Integer::toString).sorted()
+                .collect(Collectors.toList());
+        assertThat(array).containsExactlyElementsOf(expected);
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.utensils4j.sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.utensils4j.compare.Comparison;
+import com.github.utensils4j.compare.EqualityChain;
+
+public class SortedRunsTest {
+    private static final Comparator<String> BY_FIRST_CHAR = (s1, s2) -> Comparison.chain()
+            .ascending(s1.charAt(0), s2.charAt(0))
+            .result();
+
+    @Test
+    @DisplayName("groups/groupsBy, Iterator and Stream")
+    public void testGroups() {
+        List<String> sorted = Arrays.asList("a1", "a2", "b1", "c1", "c2", "c3");
+        List<List<String>> expected = Arrays.asList(
+                Arrays.asList("a1", "a2"),
+                Arrays.asList("b1"),
+                Arrays.asList("c1", "c2", "c3"));
+
+        List<List<String>> groups = new ArrayList<>();
+        SortedRuns.groups(sorted.iterator(), BY_FIRST_CHAR).forEachRemaining(groups::add);
+        assertThat(groups).isEqualTo(expected);
+
+        assertThat(SortedRuns.groupsBy(sorted.stream(), (s1, s2) -> EqualityChain.chain()
+                .equal(s1.charAt(0), s2.charAt(0))
+                .result()).collect(Collectors.toList()))
+                .isEqualTo(expected);
+
+        Iterator<List<String>> empty = SortedRuns.groups(Collections.<String>emptyIterator(), BY_FIRST_CHAR);
+        assertThat(empty.hasNext()).isFalse();
+        assertThatThrownBy(empty::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    @DisplayName("groups(Stream), close propagated")
+    public void testGroupsStreamClose() {
+        AtomicBoolean closed = new AtomicBoolean();
+
+        try (Stream<List<String>> groups = SortedRuns.groups(Stream.of("a", "b").onClose(() -> closed.set(true)),
+                BY_FIRST_CHAR)) {
+            assertThat(groups.count()).isEqualTo(2);
+        }
+
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("boundaries/boundariesBy")
+    public void testBoundaries() {
+        String[] a = { "a", "a", "b", "c", "c", "c" };
+
+        assertThat(SortedRuns.boundaries(a, BY_FIRST_CHAR)).containsExactly(0, 2, 3, 6);
+        assertThat(SortedRuns.boundaries(a, 1, 5, BY_FIRST_CHAR)).containsExactly(1, 2, 3, 5);
+        assertThat(SortedRuns.boundaries(a, 3, 3, BY_FIRST_CHAR)).containsExactly(3);
+        assertThat(SortedRuns.boundariesBy(a, String::equals)).containsExactly(0, 2, 3, 6);
+        assertThat(SortedRuns.boundariesBy(new String[0], String::equals)).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("boundaries/parallelBoundaries, random group sizes")
+    public void testBoundariesRandom() {
+        Random random = new Random(42);
+
+        for (int maxGroup : new int[] { 1, 3, 100, 100_000 }) {
+            List<Integer> values = new ArrayList<>();
+            List<Integer> expected = new ArrayList<>();
+            int key = 0;
+            while (values.size() < 200_000) {
+                expected.add(values.size());
+                int size = 1 + random.nextInt(maxGroup);
+                for (int i = 0; i < size; i++) {
+                    values.add(key);
+                }
+                key += 1 + random.nextInt(3);
+            }
+            expected.add(values.size());
+            Integer[] a = values.toArray(new Integer[0]);
+            int[] expectedArray = expected.stream().mapToInt(Integer::intValue).toArray();
+
+            assertThat(SortedRuns.boundaries(a, Comparator.naturalOrder())).isEqualTo(expectedArray);
+            assertThat(SortedRuns.parallelBoundaries(a, Comparator.naturalOrder())).isEqualTo(expectedArray);
+            assertThat(SortedRuns.boundariesBy(a, Integer::equals)).isEqualTo(expectedArray);
+        }
+    }
+
+    @Test
+    @DisplayName("boundaries, invalid arguments")
+    public void testInvalidArguments() {
+        assertThatThrownBy(() -> SortedRuns.boundaries(null, BY_FIRST_CHAR))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("a must be not-null");
+        assertThatThrownBy(() -> SortedRuns.parallelBoundaries(new String[3], null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("comparator must be not-null");
+        assertThatThrownBy(() -> SortedRuns.boundaries(new String[3], 2, 4, BY_FIRST_CHAR))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> SortedRuns.groupsBy((Iterator<String>) null, String::equals))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("sorted must be not-null");
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.utensils4j.sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.github.utensils4j.compare.Comparison;
+
+public class SortingNetworksTest {
+    private static final Comparator<String> BY_LENGTH_THEN_NATURAL = (s1, s2) -> Comparison.chain()
+            .ascending(s1.length(), s2.length())
+            .ascendingNaturalNullFirst(s1, s2)
+            .result();
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 })
+    @DisplayName("sort(int[]), all the 0-1 inputs (0-1 principle)")
+    public void testZeroOnePrinciple(int n) {
+        int[] a = new int[n + 2];
+
+        for (int bits = 0; bits < (1 << n); bits++) {
+            int ones = Integer.bitCount(bits);
+            a[0] = -1;   // guards, must not be touched
+            a[n+1] = -1;
+            for (int i = 0; i < n; i++) {
+                a[i+1] = (bits >>> i) & 1;
+            }
+
+            SortingNetworks.sort(a, 1, n + 1);
+
+            for (int i = 0; i < n; i++) {
+                assertThat(a[i+1]).as("n=%d, bits=%d", n, bits).isEqualTo(i < n - ones ? 0 : 1);
+            }
+            assertThat(a[0]).isEqualTo(-1);
+            assertThat(a[n+1]).isEqualTo(-1);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 })
+    @DisplayName("sort(int[]/long[]/T[]), random arrays")
+    public void testRandom(int n) {
+        Random random = new Random(n);
+
+        for (int round = 0; round < 200; round++) {
+            int[] ints = random.ints(n, -5, 5).toArray();
+            int[] expectedInts = ints.clone();
+            Arrays.sort(expectedInts);
+            SortingNetworks.sort(ints);
+            assertThat(ints).containsExactly(expectedInts);
+
+            long[] longs = random.longs(n).toArray();
+            long[] expectedLongs = longs.clone();
+            Arrays.sort(expectedLongs);
+            SortingNetworks.sort(longs);
+            assertThat(longs).containsExactly(expectedLongs);
+
+            String[] strings = new String[n];
+            for (int i = 0; i < n; i++) {
+                strings[i] = Integer.toString(random.nextInt(200));
+            }
+            String[] expectedStrings = strings.clone();
+            Arrays.sort(expectedStrings, BY_LENGTH_THEN_NATURAL);
+            SortingNetworks.sort(strings, BY_LENGTH_THEN_NATURAL);
+            assertThat(strings).containsExactly(expectedStrings);
+        }
+    }
+
+    @Test
+    @DisplayName("sort(double[]), same order of Arrays.sort (-0.0, NaN)")
+    public void testDoubleSpecialValues() {
+        double[] special = { Double.NaN, 0.0, -0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 1.5, -1.5 };
+        Random random = new Random(42);
+
+        for (int n = 0; n <= SortingNetworks.MAX_LENGTH; n++) {
+            for (int round = 0; round < 200; round++) {
+                double[] a = new double[n];
+                for (int i = 0; i < n; i++) {
+                    a[i] = special[random.nextInt(special.length)];
+                }
+                double[] expected = a.clone();
+                Arrays.sort(expected);
+
+                SortingNetworks.sort(a);
+
+                for (int i = 0; i < n; i++) {
+                    assertThat(Double.doubleToRawLongBits(a[i])).isEqualTo(Double.doubleToRawLongBits(expected[i]));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("sort, range")
+    public void testRange() {
+        int[] a = { 9, 8, 7, 6, 5, 4, 3, 2, 1, 0 };
+
+        SortingNetworks.sort(a, 2, 7);
+
+        assertThat(a).containsExactly(9, 8, 3, 4, 5, 6, 7, 2, 1, 0);
+    }
+
+    @Test
+    @DisplayName("sort, invalid arguments")
+    public void testInvalidArguments() {
+        assertThatThrownBy(() -> SortingNetworks.sort((int[]) null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("a must be not-null");
+        assertThatThrownBy(() -> SortingNetworks.sort(new String[2], null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("comparator must be not-null");
+        assertThatThrownBy(() -> SortingNetworks.sort(new long[17]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("number of elements");
+        assertThatThrownBy(() -> SortingNetworks.sort(new double[20], 2, 19))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SortingNetworks.sort(new int[4], 3, 5))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> SortingNetworks.sort(new int[4], 3, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
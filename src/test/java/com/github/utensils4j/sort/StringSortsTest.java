@@ -0,0 +1,83 @@
+package com.github.utensils4j.sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.utensils4j.compare.Comparisons;
+
+public class StringSortsTest {
+    private static final String[] PIECES = {
+            "a", "A", "b", "B", "z", "\u00e8", "\u00c8", "\u0131", "I", "\u212a", "k",
+            "\u0000", "\ud7ff", "\ue000", "\uffff", "\ud801\udc00", "\ud801\udc28", "\ud800",
+    };
+
+    @Test
+    @DisplayName("sortNullFirst")
+    public void testSortNullFirst() {
+        assertSortedAs(StringSorts::sortNullFirst, Comparisons::compareNullFirst);
+    }
+
+    @Test
+    @DisplayName("sortNullLast")
+    public void testSortNullLast() {
+        assertSortedAs(StringSorts::sortNullLast, Comparisons::compareNullLast);
+    }
+
+    @Test
+    @DisplayName("sortIgnoringCaseNullFirst")
+    public void testSortIgnoringCaseNullFirst() {
+        assertSortedAs(StringSorts::sortIgnoringCaseNullFirst, Comparisons::compareIgnoringCaseNullFirst);
+    }
+
+    @Test
+    @DisplayName("sortIgnoringCaseNullLast")
+    public void testSortIgnoringCaseNullLast() {
+        assertSortedAs(StringSorts::sortIgnoringCaseNullLast, Comparisons::compareIgnoringCaseNullLast);
+    }
+
+    @Test
+    @DisplayName("sortIgnoringCaseNullFirst(List)")
+    public void testSortList() {
+        List<String> list = new ArrayList<>(Arrays.asList("flash", null, "FLAG", "flag", "Flag"));
+        StringSorts.sortIgnoringCaseNullFirst(list);
+        assertThat(list).containsExactly(null, "FLAG", "flag", "Flag", "flash");
+    }
+
+
+    private static void assertSortedAs(Consumer<String[]> sorter, Comparator<String> comparator) {
+        Random random = new Random(42);
+
+        for (int round = 0; round < 200; round++) {
+            String[] array = new String[random.nextInt(100)];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = randomString(random);
+            }
+
+            String[] expected = array.clone();
+            Arrays.sort(expected, comparator);   // stable as well
+            sorter.accept(array);
+            assertThat(array).containsExactly(expected);
+        }
+    }
+
+    private static String randomString(Random random) {
+        if (random.nextInt(20) == 0) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        int len = random.nextInt(7);
+        for (int k = 0; k < len; k++) {
+            sb.append(PIECES[random.nextInt(PIECES.length)]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.utensils4j.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class CheckFailureEventTest {
+    @Test
+    @DisplayName("failed checks are recorded by JFR")
+    public void testRecorded() throws Exception {
+        Path file = Files.createTempFile("checks", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CheckFailureEvent.NAME);
+            recording.start();
+            Checks.requirePositive(1, "quantity");
+            catchThrowable(() -> Checks.requirePositive(0, "quantity"));
+            catchThrowable(() -> Checks.requireAllNotNull(new Object[] { null }, "items"));
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals(CheckFailureEvent.NAME))
+                    .collect(Collectors.toList());
+
+            assertThat(events).extracting(e -> e.getString("checkType") + ":" + e.getString("valueName"))
+                    .containsExactly("POSITIVE:quantity", "NOT_NULL:items");
+            assertThat(events.get(0).getThread().getJavaName()).isEqualTo(Thread.currentThread().getName());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
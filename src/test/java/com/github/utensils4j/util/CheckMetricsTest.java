@@ -0,0 +1,94 @@
+package com.github.utensils4j.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CheckMetricsTest {
+    @BeforeEach
+    public void enable() {
+        CheckMetrics.reset();
+        CheckMetrics.setEnabled(true);
+    }
+
+    @AfterEach
+    public void disable() {
+        CheckMetrics.setEnabled(false);
+        CheckMetrics.reset();
+    }
+
+    @Test
+    @DisplayName("failures are counted by check type and key")
+    public void testFailures() {
+        Checks.requireNotNull("flag", "name");
+        catchThrowable(() -> Checks.requireNotNull(null, "name"));
+        catchThrowable(() -> Checks.requireNotNull(null, "name"));
+        catchThrowable(() -> Checks.requirePositiveWithMsg(0, "%s is bad"));
+        catchThrowable(() -> Checks.requireAllPositive(new int[] { 1, -1 }, "sizes"));
+        catchThrowable(() -> Checks.checkIndex(5, 3));
+
+        assertThat(CheckMetrics.failures(CheckType.NOT_NULL, "name")).isEqualTo(2);
+        assertThat(CheckMetrics.failures(CheckType.POSITIVE, "age")).isZero();
+        assertThat(CheckMetrics.snapshot(CheckType.POSITIVE))
+                .containsOnlyKeys("%s is bad", "sizes")
+                .containsValues(1L, 1L);
+        assertThat(CheckMetrics.snapshot()).containsOnlyKeys(CheckType.NOT_NULL, CheckType.POSITIVE, CheckType.INDEX);
+        assertThat(CheckMetrics.failures(CheckType.INDEX, "index")).isEqualTo(1);
+        assertThat(CheckMetrics.totalFailures()).isEqualTo(5);
+
+        CheckMetrics.reset();
+        assertThat(CheckMetrics.totalFailures()).isZero();
+    }
+
+    @Test
+    @DisplayName("the keys are bounded, lambda suppliers are counted by declaring class")
+    public void testBoundedKeys() {
+        for (int i = 0; i < CheckMetrics.MAX_KEYS + 10; i++) {
+            String template = "value " + i + " must be positive";
+            catchThrowable(() -> Checks.requirePositiveWithMsg(0, template));
+        }
+        assertThat(CheckMetrics.snapshot(CheckType.POSITIVE)).hasSize(CheckMetrics.MAX_KEYS + 1);
+        assertThat(CheckMetrics.failures(CheckType.POSITIVE, CheckMetrics.OTHER_KEY)).isEqualTo(10);
+
+        catchThrowable(() -> Checks.requireNotNullWithMsg(null, () -> "missing"));
+        catchThrowable(() -> Checks.requireNotNullWithMsg(null, () -> "still missing"));
+        assertThat(CheckMetrics.failures(CheckType.NOT_NULL, CheckMetricsTest.class.getName())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("nothing is counted when disabled")
+    public void testDisabled() {
+        CheckMetrics.setEnabled(false);
+        catchThrowable(() -> Checks.requireNotNull(null, "name"));
+        assertThat(CheckMetrics.totalFailures()).isZero();
+    }
+
+    @Test
+    @DisplayName("MBean")
+    public void testMBean() throws Exception {
+        CheckMetrics.registerMBean();
+        assertThat(CheckMetrics.registerMBean()).isFalse();
+        catchThrowable(() -> Checks.requireNonNegative(-1, "offset"));
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(CheckMetrics.MBEAN_NAME);
+        assertThat(server.getAttribute(name, "TotalFailures")).isEqualTo(1L);
+        assertThat(server.getAttribute(name, "Enabled")).isEqualTo(true);
+
+        CheckMetricsMXBean proxy = JMX.newMXBeanProxy(server, name, CheckMetricsMXBean.class);
+        Map<String, Long> counts = proxy.getFailureCounts();
+        assertThat(counts).containsExactly(entry("NON_NEGATIVE:offset", 1L));
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.utensils4j.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.MissingFormatArgumentException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class CheckTemplateTest {
+    static Arguments[] testFormatProvider() {
+        return new Arguments[] {
+                arguments("", new Object[0]),
+                arguments("no arguments", new Object[0]),
+                arguments("%1$s must be not-null", new Object[] { "name" }),
+                arguments("%2$s must be positive, actual: %1$s", new Object[] { -1, "size" }),
+                arguments("%s and %s, then %1$s", new Object[] { "a", "b" }),
+                arguments("100%% of %s%n", new Object[] { null }),
+                arguments("%10$s", new Object[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 }),
+        };
+    }
+
+    @DisplayName("format is the same of String.format")
+    @ParameterizedTest(name = "[{index}] {0}")
+    @MethodSource("testFormatProvider")
+    public void testFormat(String template, Object[] args) {
+        assertThat(CheckTemplate.of(template).format(args)).isEqualTo(String.format(template, args));
+    }
+
+    @DisplayName("unsupported format specifiers")
+    @ParameterizedTest(name = "[{index}] {0}")
+    @ValueSource(strings = { "%d", "%1$d", "%0$s", "%-5s", "%1s", "trailing %", "%1$" })
+    public void testUnsupported(String template) {
+        assertThatThrownBy(() -> CheckTemplate.of(template))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("missing arguments")
+    public void testMissingArgument() {
+        assertThatThrownBy(() -> CheckTemplate.of("%2$s").format("only one"))
+                .isInstanceOf(MissingFormatArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Checks with CheckTemplate")
+    public void testChecks() {
+        CheckTemplate template = CheckTemplate.of("%2$s must be positive, found %1$s (%3$s)");
+
+        assertThat(Checks.requirePositiveWithMsg(3, template, "size", "ctx")).isEqualTo(3);
+        assertThatThrownBy(() -> Checks.requirePositiveWithMsg(-3, template, "size", "ctx"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("size must be positive, found -3 (ctx)");
+        assertThatThrownBy(() -> Checks.requireNotNullWithMsg(null, CheckTemplate.of("%s is missing"), "name"))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("name is missing");
+    }
+}
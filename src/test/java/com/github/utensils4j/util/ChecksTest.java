@@ -0,0 +1,465 @@
+package com.github.utensils4j.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+public class ChecksTest {
+    //-----------------------------------------------------------------------
+    // requireNotNull / requireNotNullWithMsg
+    //-----------------------------------------------------------------------
+
+    @Test
+    @DisplayName("requireNotNull")
+    public void testRequireNotNull() {
+        assertThat(Checks.requireNotNull("flag", "name")).isEqualTo("flag");
+        assertThatThrownBy(() -> Checks.requireNotNull(null, "name"))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("name must be not-null");
+    }
+
+    @Test
+    @DisplayName("requireNotNullWithMsg")
+    public void testRequireNotNullWithMsg() {
+        assertThat(Checks.requireNotNullWithMsg("flag", "%s %s %s", 1, 2, 3)).isEqualTo("flag");
+        assertThatThrownBy(() -> Checks.requireNotNullWithMsg(null, "no %s", "name"))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("no name");
+        assertThatThrownBy(() -> Checks.requireNotNullWithMsg(null, "%s-%s", 1, 2))
+                .hasMessage("1-2");
+        assertThatThrownBy(() -> Checks.requireNotNullWithMsg(null, "%s-%s-%s", 1, 2, 3))
+                .hasMessage("1-2-3");
+        assertThatThrownBy(() -> Checks.requireNotNullWithMsg(null, "%s-%s-%s-%s", 1, 2, 3, 4))
+                .hasMessage("1-2-3-4");
+        assertThatThrownBy(() -> Checks.requireNotNullWithMsg(null, () -> "supplied"))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("supplied");
+    }
+
+
+    @Test
+    @DisplayName("requireNotNullWithMsg/requirePositiveWithMsg, primitive arguments")
+    public void testWithMsgPrimitiveArgs() {
+        assertThatThrownBy(() -> Checks.requireNotNullWithMsg(null, "%d", 1000))
+                .hasMessage("1000");
+        assertThatThrownBy(() -> Checks.requireNotNullWithMsg(null, "%s", 'c'))
+                .hasMessage("c");
+        assertThatThrownBy(() -> Checks.requireNotNullWithMsg(null, "%d/%d", 1, 2L))
+                .hasMessage("1/2");
+        assertThatThrownBy(() -> Checks.requireNotNullWithMsg(null, "%x/%x/%x", 10L, 11L, 12L))
+                .hasMessage("a/b/c");
+        assertThatThrownBy(() -> Checks.requirePositiveWithMsg(0, "%d/%d", 1000))
+                .hasMessage("0/1000");
+        assertThatThrownBy(() -> Checks.requirePositiveWithMsg(0, "%d/%d/%d/%d", 1, 2, 3))
+                .hasMessage("0/1/2/3");
+        assertThatThrownBy(() -> Checks.requirePositiveWithMsg(0, "%d/%d/%d", Long.MAX_VALUE, 2L))
+                .hasMessage("0/9223372036854775807/2");
+    }
+
+    @Test
+    @DisplayName("requireNotNullWithMsg/requirePositiveWithMsg, no allocation when the check succeeds")
+    public void testWithMsgPrimitiveArgsNoAllocation() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean);
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int round = 0; round < 3; round++) {   // the first rounds may load classes
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 1000; i < 11_000; i++) {
+                Checks.requireNotNullWithMsg("flag", "%d %d %d", i, i, i);
+                Checks.requirePositiveWithMsg(i, "%d %d", (long) i, (long) i);
+            }
+            long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+            if (round == 2) {
+                assertThat(allocated).isLessThan(10_000);   // boxing would be about 800 KB
+            }
+        }
+    }
+
+
+    //-----------------------------------------------------------------------
+    // requirePositive / requirePositiveWithMsg
+    //-----------------------------------------------------------------------
+
+    @Test
+    @DisplayName("requirePositive")
+    public void testRequirePositive() {
+        assertThat(Checks.requirePositive(1, "size")).isEqualTo(1);
+        assertThatThrownBy(() -> Checks.requirePositive(0, "size"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("size must be positive, actual: 0");
+    }
+
+    @Test
+    @DisplayName("requirePositiveWithMsg")
+    public void testRequirePositiveWithMsg() {
+        assertThat(Checks.requirePositiveWithMsg(5, "%s %s", "x")).isEqualTo(5);
+        assertThatThrownBy(() -> Checks.requirePositiveWithMsg(-1, "bad %s"))
+                .hasMessage("bad -1");
+        assertThatThrownBy(() -> Checks.requirePositiveWithMsg(-1, "%2$s is %1$s", "size"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("size is -1");
+        assertThatThrownBy(() -> Checks.requirePositiveWithMsg(-1, "%s/%s/%s", "a", "b"))
+                .hasMessage("-1/a/b");
+        assertThatThrownBy(() -> Checks.requirePositiveWithMsg(-1, "%s/%s/%s/%s", "a", "b", "c"))
+                .hasMessage("-1/a/b/c");
+        assertThatThrownBy(() -> Checks.requirePositiveWithMsg(-1, "%s/%s/%s/%s/%s", "a", "b", "c", "d"))
+                .hasMessage("-1/a/b/c/d");
+        assertThatThrownBy(() -> Checks.requirePositiveWithMsg(0, () -> "supplied"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("supplied");
+    }
+
+
+    //-----------------------------------------------------------------------
+    // requireNonNegative / requireInRange
+    //-----------------------------------------------------------------------
+
+    @Test
+    @DisplayName("requireNonNegative")
+    public void testRequireNonNegative() {
+        assertThat(Checks.requireNonNegative(0, "size")).isEqualTo(0);
+        assertThat(Checks.requireNonNegative(5L, "size")).isEqualTo(5L);
+        assertThat(Checks.requireNonNegative(-0.0, "size")).isEqualTo(-0.0);
+        assertThatThrownBy(() -> Checks.requireNonNegative(-1, "size"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("size must be non-negative, actual: -1");
+        assertThatThrownBy(() -> Checks.requireNonNegative(Long.MIN_VALUE, "size"))
+                .hasMessage("size must be non-negative, actual: -9223372036854775808");
+        assertThatThrownBy(() -> Checks.requireNonNegative(Double.NaN, "ratio"))
+                .hasMessage("ratio must be non-negative, actual: NaN");
+    }
+
+    @Test
+    @DisplayName("requireInRange")
+    public void testRequireInRange() {
+        assertThat(Checks.requireInRange(1, 1, 3, "level")).isEqualTo(1);
+        assertThat(Checks.requireInRange(3L, 1L, 3L, "level")).isEqualTo(3L);
+        assertThatThrownBy(() -> Checks.requireInRange(4, 1, 3, "level"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("level must be in range [1, 3], actual: 4");
+        assertThatThrownBy(() -> Checks.requireInRange(0L, 1L, 3L, "level"))
+                .hasMessage("level must be in range [1, 3], actual: 0");
+    }
+
+    //-----------------------------------------------------------------------
+    // requireAllNotNull / requireAllPositive / requireSorted / requireDistinct
+    //-----------------------------------------------------------------------
+
+    @Test
+    @DisplayName("requireAllNotNull")
+    public void testRequireAllNotNull() {
+        String[] array = { "a", "b" };
+        List<String> list = Arrays.asList("a", "b");
+        assertThat(Checks.requireAllNotNull(array, "names")).isSameAs(array);
+        assertThat(Checks.requireAllNotNull(list, "names")).isSameAs(list);
+
+        assertThatThrownBy(() -> Checks.requireAllNotNull(new String[] { "a", null }, "names"))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("names[1] must be not-null");
+        assertThatThrownBy(() -> Checks.requireAllNotNull(Arrays.asList(null, "b"), "names"))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("names[0] must be not-null");
+        assertThatThrownBy(() -> Checks.requireAllNotNull((String[]) null, "names"))
+                .hasMessage("names must be not-null");
+    }
+
+    @Test
+    @DisplayName("requireAllPositive")
+    public void testRequireAllPositive() {
+        int[] ints = { 1, 2, Integer.MAX_VALUE };
+        long[] longs = { 1, 2, Long.MAX_VALUE };
+        assertThat(Checks.requireAllPositive(ints, "sizes")).isSameAs(ints);
+        assertThat(Checks.requireAllPositive(longs, "sizes")).isSameAs(longs);
+        assertThat(Checks.requireAllPositive(new int[0], "sizes")).isEmpty();
+
+        assertThatThrownBy(() -> Checks.requireAllPositive(new int[] { 1, 0, -1 }, "sizes"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("sizes[1] must be positive, actual: 0");
+        assertThatThrownBy(() -> Checks.requireAllPositive(new int[] { 1, 2, Integer.MIN_VALUE }, "sizes"))
+                .hasMessage("sizes[2] must be positive, actual: -2147483648");
+        assertThatThrownBy(() -> Checks.requireAllPositive(new long[] { Long.MIN_VALUE }, "sizes"))
+                .hasMessage("sizes[0] must be positive, actual: -9223372036854775808");
+    }
+
+    @Test
+    @DisplayName("requireSorted")
+    public void testRequireSorted() {
+        Integer[] array = { 1, 1, 2 };
+        assertThat(Checks.requireSorted(array, Comparator.naturalOrder(), "ids")).isSameAs(array);
+        assertThatThrownBy(() -> Checks.requireSorted(new Integer[] { 1, 3, 2 }, Comparator.naturalOrder(), "ids"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("ids must be sorted, out of order at index: 2");
+    }
+
+    @Test
+    @DisplayName("requireDistinct")
+    public void testRequireDistinct() {
+        String[] array = { "a", null, "b" };
+        assertThat(Checks.requireDistinct(array, "names")).isSameAs(array);
+        assertThatThrownBy(() -> Checks.requireDistinct(new String[] { null, "a", null }, "names"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("names must be distinct, duplicate at index: 2");
+        assertThatThrownBy(() -> Checks.requireDistinct(Arrays.asList("a", "b", "a"), "names"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("names must be distinct, duplicate at index: 2");
+
+        Set<String> set = new LinkedHashSet<>(Arrays.asList("a", "b"));
+        assertThat(Checks.requireDistinct(set, "names")).isSameAs(set);
+        Set<String> identitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+        identitySet.add("a");
+        identitySet.add(new String("a"));
+        assertThatThrownBy(() -> Checks.requireDistinct(identitySet, "names"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("names must be distinct, duplicate at index: 1");
+    }
+
+    //-----------------------------------------------------------------------
+    // checkIndex / checkFromToIndex / checkFromIndexSize
+    //-----------------------------------------------------------------------
+
+    @Test
+    @DisplayName("checkIndex")
+    public void testCheckIndex() {
+        assertThat(Checks.checkIndex(2, 3)).isEqualTo(2);
+        assertThatThrownBy(() -> Checks.checkIndex(3, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .hasMessage("index must be in range [0, 3), actual: 3");
+        assertThatThrownBy(() -> Checks.checkIndex(-1, 3))
+                .hasMessage("index must be in range [0, 3), actual: -1");
+    }
+
+    @Test
+    @DisplayName("checkFromToIndex")
+    public void testCheckFromToIndex() {
+        assertThat(Checks.checkFromToIndex(1, 3, 3)).isEqualTo(1);
+        assertThatThrownBy(() -> Checks.checkFromToIndex(2, 1, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .hasMessage("range [fromIndex, toIndex) must be within [0, 3), actual: [2, 1)");
+    }
+
+    @Test
+    @DisplayName("checkFromIndexSize")
+    public void testCheckFromIndexSize() {
+        assertThat(Checks.checkFromIndexSize(1, 2, 3)).isEqualTo(1);
+        assertThatThrownBy(() -> Checks.checkFromIndexSize(1, Integer.MAX_VALUE, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .hasMessage("range [fromIndex, fromIndex + size) must be within [0, 3), actual: fromIndex 1, size 2147483647");
+    }
+
+    @Test
+    @DisplayName("index checks with valueName, lazy and stackless exceptions")
+    public void testIndexChecksNamed() {
+        assertThat(Checks.checkIndex(0, 1, "row")).isZero();
+        IndexOutOfBoundsException ioobe = catchThrowable(() -> Checks.checkIndex(5, 3, "row"));
+        assertThat(ioobe).isInstanceOf(LazyIndexOutOfBoundsException.class)
+                .hasMessage("row must be in range [0, 3), actual: 5");
+        assertThat(ioobe.getStackTrace()).isNotEmpty();
+
+        assertThatThrownBy(() -> Checks.checkFromToIndex(2, 4, 3, "slice"))
+                .isInstanceOf(LazyIndexOutOfBoundsException.class)
+                .hasMessage("slice [fromIndex, toIndex) must be within [0, 3), actual: [2, 4)");
+        assertThatThrownBy(() -> Checks.checkFromIndexSize(-1, 1, 3, "slice"))
+                .isInstanceOf(LazyIndexOutOfBoundsException.class)
+                .hasMessage("slice [fromIndex, fromIndex + size) must be within [0, 3), actual: fromIndex -1, size 1");
+
+        ioobe = catchThrowable(() -> Checks.checkFromToIndex(0, 4, 3, "slice", CheckOptions.stackless()));
+        assertThat(ioobe).isInstanceOf(LazyIndexOutOfBoundsException.class);
+        assertThat(ioobe.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("index checks, edge values (same outcome of a reference in long arithmetic)")
+    public void testIndexChecksEdgeValues() {
+        int[] values = { Integer.MIN_VALUE, -2, -1, 0, 1, 2, 3, 4, Integer.MAX_VALUE - 1, Integer.MAX_VALUE };
+
+        for (int a : values) {
+            for (int b : values) {
+                boolean validIndex = a >= 0 && b >= 0 && a < b;
+                assertSameOutcome(() -> validIndex ? a : fail(), () -> Checks.checkIndex(a, b));
+                for (int c : values) {
+                    boolean validFromTo = a >= 0 && a <= b && b <= c;
+                    boolean validFromSize = a >= 0 && b >= 0 && c >= 0 && (long) a + b <= c;
+                    assertSameOutcome(() -> validFromTo ? a : fail(), () -> Checks.checkFromToIndex(a, b, c));
+                    assertSameOutcome(() -> validFromSize ? a : fail(), () -> Checks.checkFromIndexSize(a, b, c));
+                }
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // lazy messages
+    //-----------------------------------------------------------------------
+
+    @Test
+    @DisplayName("messages are formatted lazily and once")
+    public void testLazyMessage() {
+        AtomicInteger formats = new AtomicInteger();
+        Object arg = new Object() {
+            @Override
+            public String toString() {
+                formats.incrementAndGet();
+                return "name";
+            }
+        };
+
+        NullPointerException npe = catchThrowable(() -> Checks.requireNotNullWithMsg(null, "%s must be not-null", arg));
+        assertThat(npe).isInstanceOf(LazyNullPointerException.class);
+        assertThat(formats.get()).isZero();
+        assertThat(npe.getMessage()).isEqualTo("name must be not-null");
+        assertThat(npe.getMessage()).isEqualTo("name must be not-null");
+        assertThat(formats.get()).isEqualTo(1);
+
+        IllegalArgumentException iae = catchThrowable(() -> Checks.requirePositiveWithMsg(0, "%2$s", arg));
+        assertThat(iae).isInstanceOf(LazyIllegalArgumentException.class);
+        assertThat(formats.get()).isEqualTo(1);
+        assertThat(iae).hasMessage("name");
+    }
+
+    @Test
+    @DisplayName("a template that doesn't match the arguments doesn't make getMessage fail")
+    public void testLazyMessageBadTemplate() {
+        NullPointerException npe = catchThrowable(() -> Checks.requireNotNullWithMsg(null, "%s and %s", "name"));
+        assertThat(npe).hasMessage("%s and %s [name]");
+
+        IllegalArgumentException iae = catchThrowable(() -> Checks.requirePositiveWithMsg(0, "%2$d", "name"));
+        assertThat(iae).hasMessage("%2$d [0, name]");
+
+        IllegalArgumentException withTemplate = catchThrowable(() ->
+                Checks.requirePositiveWithMsg(0, CheckTemplate.of("%3$s"), "name"));
+        assertThat(withTemplate).hasMessage("%3$s [0, name]");
+    }
+
+    @Test
+    @DisplayName("lazy exceptions are serialized with the formatted message")
+    public void testLazySerialization() throws Exception {
+        Object arg = new Object() {   // not serializable
+            @Override
+            public String toString() {
+                return "name";
+            }
+        };
+        IllegalArgumentException iae = catchThrowable(() -> Checks.requirePositiveWithMsg(-5, "%2$s: %1$s", arg));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(iae);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat((Throwable) in.readObject()).hasMessage("name: -5");
+        }
+    }
+
+
+    //-----------------------------------------------------------------------
+    // stackless mode
+    //-----------------------------------------------------------------------
+
+    @Test
+    @DisplayName("stackless exceptions")
+    public void testStackless() {
+        NullPointerException npe = catchThrowable(() ->
+                Checks.requireNotNull(null, "name", CheckOptions.stackless()));
+        assertThat(npe).isInstanceOf(LazyNullPointerException.class).hasMessage("name must be not-null");
+        assertThat(npe.getStackTrace()).isEmpty();
+
+        IllegalArgumentException iae = catchThrowable(() ->
+                Checks.requirePositive(0, "size", CheckOptions.stackless()));
+        assertThat(iae).isInstanceOf(LazyIllegalArgumentException.class).hasMessage("size must be positive, actual: 0");
+        assertThat(iae.getStackTrace()).isEmpty();
+
+        iae = catchThrowable(() -> Checks.requirePositive(0, "size", CheckOptions.withStackTrace()));
+        assertThat(iae.getStackTrace()).isNotEmpty();
+    }
+
+    //-----------------------------------------------------------------------
+    // debug checks
+    //-----------------------------------------------------------------------
+
+    @Test
+    @DisplayName("debug checks (default level)")
+    public void testDebugChecks() {
+        assertThat(Checks.debugLevel()).isEqualTo(CheckLevel.FULL);
+        assertThat(Checks.isCheapDebugEnabled()).isTrue();
+        assertThat(Checks.isFullDebugEnabled()).isTrue();
+
+        assertThat(Checks.debugRequireNotNull("flag", "name")).isEqualTo("flag");
+        assertThatThrownBy(() -> Checks.debugRequireNotNull(null, "name"))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("name must be not-null");
+
+        assertThat(Checks.debugRequirePositive(1, "size")).isEqualTo(1);
+        assertThatThrownBy(() -> Checks.debugRequirePositive(-1, "size"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("size must be positive, actual: -1");
+    }
+
+    @Test
+    @DisplayName("CheckLevel.fromSystemProperty")
+    public void testCheckLevelFromSystemProperty() {
+        String saved = System.getProperty(CheckLevel.PROPERTY);
+        try {
+            System.setProperty(CheckLevel.PROPERTY, " cheap ");
+            assertThat(CheckLevel.fromSystemProperty()).isEqualTo(CheckLevel.CHEAP);
+            System.setProperty(CheckLevel.PROPERTY, "OFF");
+            assertThat(CheckLevel.fromSystemProperty()).isEqualTo(CheckLevel.OFF);
+            System.setProperty(CheckLevel.PROPERTY, "unknown");
+            assertThat(CheckLevel.fromSystemProperty()).isEqualTo(CheckLevel.FULL);
+        } finally {
+            if (saved == null) {
+                System.clearProperty(CheckLevel.PROPERTY);
+            } else {
+                System.setProperty(CheckLevel.PROPERTY, saved);
+            }
+        }
+    }
+
+    private static int fail() {
+        throw new IndexOutOfBoundsException();
+    }
+
+    private static void assertSameOutcome(IntSupplier expected, IntSupplier actual) {
+        Integer expectedResult;
+        try {
+            expectedResult = expected.getAsInt();
+        } catch (IndexOutOfBoundsException e) {
+            expectedResult = null;
+        }
+
+        if (expectedResult == null) {
+            assertThatThrownBy(actual::getAsInt).isInstanceOf(IndexOutOfBoundsException.class);
+        } else {
+            assertThat(actual.getAsInt()).isEqualTo(expectedResult);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <X extends Throwable> X catchThrowable(Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (Throwable t) {
+            return (X) t;
+        }
+        throw new AssertionError("no exception thrown");
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.utensils4j.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ViolationsTest {
+    @Test
+    @DisplayName("all the failures are collected, with the messages of Checks")
+    public void testMessages() {
+        Violations violations = new Violations(1);
+
+        assertThat(violations.requireNotNull("flag", "name")).isTrue();
+        assertThat(violations.requirePositive(1, "quantity")).isTrue();
+        assertThat(violations.isEmpty()).isTrue();
+
+        assertThat(violations.requireNotNull(null, "name")).isFalse();
+        assertThat(violations.requirePositive(0, "quantity")).isFalse();
+        assertThat(violations.requireNonNegative(-1L, "offset")).isFalse();
+        assertThat(violations.requireNonNegative(Double.NaN, "ratio")).isFalse();
+        assertThat(violations.requireInRange(7, 1, 5, "level")).isFalse();
+        violations.add("custom failure");
+
+        assertThat(violations.size()).isEqualTo(6);
+        assertThat(violations.messages()).containsExactly(
+                "name must be not-null",
+                "quantity must be positive, actual: 0",
+                "offset must be non-negative, actual: -1",
+                "ratio must be non-negative, actual: NaN",
+                "level must be in range [1, 5], actual: 7",
+                "custom failure");
+        assertThat(violations.valueName(1)).isEqualTo("quantity");
+        assertThat(violations.valueName(5)).isNull();
+
+        assertThatThrownBy(() -> Checks.requirePositive(0, "quantity")).hasMessage(violations.message(1));
+        assertThatThrownBy(violations::throwIfAny)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("name must be not-null; quantity must be positive");
+        assertThatThrownBy(() -> violations.message(6)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("clear")
+    public void testClear() {
+        Violations violations = new Violations();
+        violations.requireNotNull(null, "name");
+        violations.clear();
+
+        assertThat(violations.isEmpty()).isTrue();
+        assertThat(violations.messages()).isEmpty();
+        violations.throwIfAny();
+
+        violations.requirePositive(-2, "quantity");
+        assertThat(violations.toString()).isEqualTo("quantity must be positive, actual: -2");
+    }
+}